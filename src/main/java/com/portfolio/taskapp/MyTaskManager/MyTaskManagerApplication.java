@@ -4,12 +4,14 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @OpenAPIDefinition(info = @Info(
     title = "タスク管理システム",
     description = "個人タスクを管理するためのシステムです。"
 ))
 @SpringBootApplication
+@EnableScheduling
 public class MyTaskManagerApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,38 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Set;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 更新系の HTTP メソッドのリクエストについて、リクエストユーザーの更新を ReadYourWritesTracker に記録するインターセプター。
+ * <p>
+ * 処理開始時に記録することで、処理中に例外となった場合も含めてレスポンスへ Cookie を設定します。<br>
+ * 処理に時間がかかった場合に固定期間がコミット前に経過しないよう、ハンドラーの処理完了時には
+ * ReadYourWritesResponseAdvice が固定期間を数え直します。
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+  private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final ReadYourWritesTracker tracker;
+
+  public ReadYourWritesInterceptor(ReadYourWritesTracker tracker) {
+    this.tracker = tracker;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (isWriteRequest(request)) {
+      tracker.recordWriteByCurrentUser(request, response);
+    }
+    return true;
+  }
+
+  static boolean isWriteRequest(HttpServletRequest request) {
+    return !READ_METHODS.contains(request.getMethod());
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 更新系の HTTP メソッドのリクエストについて、ハンドラーの処理完了時に ReadYourWritesTracker の記録を更新するクラス。
+ * <p>
+ * 更新のコミット後、レスポンスが確定する前に固定解除時刻を数え直すため、固定期間はハンドラーの処理完了から数えます。
+ * ReplicaRoutingConfig と同じく app.datasource.replica.enabled=true の場合のみ有効になります。
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  private final ReadYourWritesTracker tracker;
+
+  public ReadYourWritesResponseAdvice(ReadYourWritesTracker tracker) {
+    this.tracker = tracker;
+  }
+
+  @Override
+  public boolean supports(MethodParameter returnType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType,
+      MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request, ServerHttpResponse response) {
+    if (request instanceof ServletServerHttpRequest servletRequest
+        && response instanceof ServletServerHttpResponse servletResponse
+        && ReadYourWritesInterceptor.isWriteRequest(servletRequest.getServletRequest())) {
+      tracker.recordWriteByCurrentUser(servletRequest.getServletRequest(),
+          servletResponse.getServletResponse());
+    }
+    return body;
+  }
+
+}
@@ -0,0 +1,183 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import com.portfolio.taskapp.MyTaskManager.auth.details.UserAccountDetails;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * ユーザーの直近の更新を記録し、更新直後の参照を更新系に固定するかを判定するクラス。
+ * <p>
+ * レプリカへの反映遅延により、ユーザーが自身の更新内容を参照できない状態を防ぐために使用します。 対象ユーザーは認証済みユーザーの内部IDで識別します。<br>
+ * 固定を解除する時刻は署名付きの Cookie(COOKIE_NAME)でクライアントに保持させるため、リクエストがどのアプリノードに振り分けられても判定できます。
+ * 署名の鍵は全ノードで同じ値を設定してください。
+ */
+public class ReadYourWritesTracker {
+
+  static final String COOKIE_NAME = "RYW_PIN";
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  // 同一リクエスト内で記録した固定解除時刻(エポックミリ秒)を保持するリクエスト属性名
+  private static final String PINNED_UNTIL_ATTRIBUTE =
+      ReadYourWritesTracker.class.getName() + ".PINNED_UNTIL";
+
+  private final Duration window;
+  private final SecretKeySpec signingKey;
+  private final Clock clock;
+
+  public ReadYourWritesTracker(Duration window, String signingSecret) {
+    this(window, signingSecret, Clock.systemUTC());
+  }
+
+  ReadYourWritesTracker(Duration window, String signingSecret, Clock clock) {
+    if (signingSecret == null || signingSecret.isBlank()) {
+      throw new IllegalStateException("read-your-writes signing secret is not configured");
+    }
+    this.window = window;
+    this.signingKey = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8),
+        HMAC_ALGORITHM);
+    this.clock = clock;
+  }
+
+  /**
+   * 現在の認証済みユーザーが更新を行ったことを記録し、固定を解除する時刻を署名付きの Cookie としてレスポンスに設定します。
+   * <p>
+   * 未認証の場合は何もしません。レスポンスが確定済みの場合は、同一リクエスト内の判定にのみ反映します。<br>
+   * 同一リクエスト内で再度記録した場合は、固定解除時刻を記録時点から数え直し、設定済みの Cookie を置き換えます。
+   *
+   * @param request  更新リクエスト
+   * @param response 更新リクエストのレスポンス
+   */
+  public void recordWriteByCurrentUser(HttpServletRequest request, HttpServletResponse response) {
+    Optional<Integer> userId = currentUserId();
+    if (userId.isEmpty()) {
+      return;
+    }
+    long until = clock.millis() + window.toMillis();
+    request.setAttribute(PINNED_UNTIL_ATTRIBUTE, until);
+    if (response.isCommitted()) {
+      return;
+    }
+
+    String payload = userId.get() + "." + until;
+    ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, payload + "." + sign(payload))
+        .path("/")
+        .maxAge(window.toSeconds() + 1)
+        .httpOnly(true)
+        .secure(request.isSecure())
+        .sameSite("Lax")
+        .build();
+    replacePinCookie(response, cookie.toString());
+  }
+
+  /**
+   * 現在の認証済みユーザーが、直近の更新から一定期間内であるかを判定します。
+   * <p>
+   * 現在のリクエストで記録した更新、またはリクエストの Cookie のうち署名と内部IDが一致するものを判定に使用します。
+   *
+   * @return 更新後の一定期間内であれば true、未認証・リクエスト外・期間外の場合は false
+   */
+  public boolean isCurrentUserWithinWindow() {
+    Optional<Integer> userId = currentUserId();
+    Optional<HttpServletRequest> request = currentRequest();
+    if (userId.isEmpty() || request.isEmpty()) {
+      return false;
+    }
+    Object recorded = request.get().getAttribute(PINNED_UNTIL_ATTRIBUTE);
+    Long until = recorded instanceof Long value
+        ? value
+        : pinnedUntilFromCookie(request.get(), userId.get());
+    return until != null && until > clock.millis();
+  }
+
+  private Long pinnedUntilFromCookie(HttpServletRequest request, Integer userId) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return null;
+    }
+    for (Cookie cookie : cookies) {
+      if (COOKIE_NAME.equals(cookie.getName())) {
+        return verify(cookie.getValue(), userId);
+      }
+    }
+    return null;
+  }
+
+  // "内部ID.固定解除時刻.署名" の形式で、署名と内部IDが一致する場合のみ固定解除時刻を返す
+  private Long verify(String value, Integer userId) {
+    int signatureSeparator = value.lastIndexOf('.');
+    if (signatureSeparator < 0) {
+      return null;
+    }
+    String payload = value.substring(0, signatureSeparator);
+    byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+    byte[] actual = value.substring(signatureSeparator + 1).getBytes(StandardCharsets.US_ASCII);
+    if (!MessageDigest.isEqual(expected, actual)) {
+      return null;
+    }
+
+    String[] parts = payload.split("\\.");
+    if (parts.length != 2 || !parts[0].equals(String.valueOf(userId))) {
+      return null;
+    }
+    try {
+      return Long.parseLong(parts[1]);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  // 設定済みの COOKIE_NAME の Set-Cookie ヘッダーを除き、他の Set-Cookie ヘッダーは維持する
+  private void replacePinCookie(HttpServletResponse response, String pinCookie) {
+    List<String> others = response.getHeaders(HttpHeaders.SET_COOKIE).stream()
+        .filter(header -> !header.startsWith(COOKIE_NAME + "="))
+        .toList();
+    response.setHeader(HttpHeaders.SET_COOKIE, pinCookie);
+    others.forEach(header -> response.addHeader(HttpHeaders.SET_COOKIE, header));
+  }
+
+  private String sign(String payload) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(signingKey);
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("failed to sign read-your-writes cookie", e);
+    }
+  }
+
+  private Optional<Integer> currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !(authentication.getPrincipal() instanceof UserAccountDetails details)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(details.getAccount().getId());
+  }
+
+  private Optional<HttpServletRequest> currentRequest() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+      return Optional.of(attributes.getRequest());
+    }
+    return Optional.empty();
+  }
+
+}
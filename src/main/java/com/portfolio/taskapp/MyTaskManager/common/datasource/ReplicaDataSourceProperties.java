@@ -0,0 +1,57 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 参照用レプリカへの振り分けに関する設定値。
+ * <p>
+ * app.datasource.replica.enabled が true の場合のみ有効になります。更新系の接続先は spring.datasource.* の設定を使用します。
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+  /**
+   * レプリカへの振り分けを有効にする場合は true
+   */
+  private boolean enabled;
+
+  /**
+   * 参照用レプリカの接続情報の一覧
+   */
+  private List<Replica> members = new ArrayList<>();
+
+  /**
+   * ユーザー自身の更新後に、そのユーザーの参照を更新系に固定する期間（更新リクエストの処理時間とレプリカの反映遅延の合計より長く設定してください）
+   */
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+  /**
+   * 参照を更新系に固定する期間を保持する Cookie の署名鍵（複数のアプリノードで稼働する場合は全ノードで同じ値を設定してください）
+   */
+  private String readYourWritesSecret;
+
+  /**
+   * 参照用レプリカ1台分の接続情報。
+   */
+  @Getter
+  @Setter
+  public static class Replica {
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName;
+
+  }
+
+}
@@ -0,0 +1,72 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 参照用レプリカへの振り分けを行うデータソースの設定クラス。
+ * <p>
+ * app.datasource.replica.enabled=true の場合のみ有効になり、無効の場合は spring.datasource.* の単一データソースを使用します。<br>
+ * {@code @Transactional(readOnly = true)} のサービスメソッドの接続はレプリカへ、それ以外は更新系へ振り分けます。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaRoutingConfig implements WebMvcConfigurer {
+
+  private final ReadYourWritesTracker tracker;
+  private final ReplicaRoutingPolicy routingPolicy;
+
+  public ReplicaRoutingConfig(ReplicaDataSourceProperties replicaProperties) {
+    this.tracker = new ReadYourWritesTracker(replicaProperties.getReadYourWritesWindow(),
+        replicaProperties.getReadYourWritesSecret());
+    this.routingPolicy = new ReplicaRoutingPolicy(replicaProperties.getMembers().size(),
+        tracker);
+  }
+
+  @Bean
+  public ReadYourWritesTracker readYourWritesTracker() {
+    return tracker;
+  }
+
+  @Bean
+  public ReplicaRoutingPolicy replicaRoutingPolicy() {
+    return routingPolicy;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(DataSourceProperties primaryProperties,
+      ReplicaDataSourceProperties replicaProperties) {
+    DataSource primary = primaryProperties.initializeDataSourceBuilder().build();
+    List<DataSource> replicas = replicaProperties.getMembers().stream()
+        .map(replica -> (DataSource) DataSourceBuilder.create()
+            .url(replica.getUrl())
+            .username(replica.getUsername())
+            .password(replica.getPassword())
+            .driverClassName(replica.getDriverClassName())
+            .build())
+        .toList();
+
+    ReplicaRoutingDataSource routingDataSource =
+        new ReplicaRoutingDataSource(primary, replicas, routingPolicy);
+    routingDataSource.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new ReadYourWritesInterceptor(tracker));
+  }
+
+}
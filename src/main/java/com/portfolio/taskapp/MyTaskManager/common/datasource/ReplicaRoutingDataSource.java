@@ -0,0 +1,49 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 読み取り専用トランザクションの接続を参照用レプリカへ、それ以外の接続を更新系(プライマリ)へ振り分けるデータソース。
+ * <p>
+ * 読み取り専用トランザクションであっても、ユーザー自身の更新直後(ReadYourWritesTracker の判定期間内)は更新系へ振り分けます(判定は ReplicaRoutingPolicy)。
+ * レプリカが複数ある場合はラウンドロビンで振り分けます。<br>
+ * トランザクションの読み取り専用指定は接続取得後に設定されるため、LazyConnectionDataSourceProxy で包んで使用してください。
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  static final String PRIMARY_KEY = "primary";
+  static final String REPLICA_KEY_PREFIX = "replica-";
+
+  private final int replicaCount;
+  private final ReplicaRoutingPolicy policy;
+  private final AtomicInteger counter = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+      ReplicaRoutingPolicy policy) {
+    this.replicaCount = replicas.size();
+    this.policy = policy;
+
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY_KEY, primary);
+    for (int i = 0; i < replicas.size(); i++) {
+      targets.put(REPLICA_KEY_PREFIX + i, replicas.get(i));
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (replicaCount == 0 || !policy.isCurrentReadRoutedToReplica()) {
+      return PRIMARY_KEY;
+    }
+    int index = Math.floorMod(counter.getAndIncrement(), replicaCount);
+    return REPLICA_KEY_PREFIX + index;
+  }
+
+}
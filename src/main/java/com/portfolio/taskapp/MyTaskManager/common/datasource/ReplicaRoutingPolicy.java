@@ -0,0 +1,32 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 現在のトランザクションの接続を参照用レプリカへ振り分けるかを判定するクラス。
+ * <p>
+ * 読み取り専用トランザクションであり、ユーザー自身の更新直後(ReadYourWritesTracker の判定期間内)でない場合にレプリカへ振り分けます。<br>
+ * ReplicaRoutingDataSource の振り分けのほか、レプリカの反映遅延による一時的な不在を記録しないための判定にも使用します。
+ */
+public class ReplicaRoutingPolicy {
+
+  private final int replicaCount;
+  private final ReadYourWritesTracker tracker;
+
+  public ReplicaRoutingPolicy(int replicaCount, ReadYourWritesTracker tracker) {
+    this.replicaCount = replicaCount;
+    this.tracker = tracker;
+  }
+
+  /**
+   * 現在のトランザクションの参照が、参照用レプリカへ振り分けられるかを判定します。
+   *
+   * @return レプリカへ振り分けられる場合は true、更新系へ振り分けられる場合は false
+   */
+  public boolean isCurrentReadRoutedToReplica() {
+    return replicaCount > 0
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        && !tracker.isCurrentUserWithinWindow();
+  }
+
+}
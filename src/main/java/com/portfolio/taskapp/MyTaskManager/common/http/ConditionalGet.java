@@ -0,0 +1,61 @@
+package com.portfolio.taskapp.MyTaskManager.common.http;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ETag による条件付き GET (If-None-Match / 304 Not Modified) のレスポンスを生成するユーティリティ。
+ * <p>
+ * ETag の元となるバージョンと本文は1回のサービス呼び出し(同一のトランザクション)で取得し、
+ * バージョンから求めた ETag がクライアントの保持する ETag と一致する場合は本文を取得せずに 304 を返します。<br>
+ * ブラウザに保存したうえで毎回再検証させるため、Cache-Control に no-cache, private を指定します
+ * (未指定の場合は Spring Security により no-store が付与され、条件付き GET が行われません)。
+ */
+public final class ConditionalGet {
+
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ConditionalGet() {
+  }
+
+  /**
+   * バージョンから求めた ETag がクライアントの保持する ETag と一致する場合は 304、一致しない場合は本文と ETag を含む 200 のレスポンスを返します。
+   * <p>
+   * load にはバージョンが変更されていないかを判定する処理を渡すため、バージョンの取得後、本文の取得前に判定してください。<br>
+   * ETag が null の場合は条件付き GET を行わず、本文のみを含む 200 のレスポンスを返します。
+   *
+   * @param webRequest リクエスト
+   * @param eTagOf     バージョンから ETag を求める処理（求められない場合は null を返す）
+   * @param load       変更判定の処理を受け取り、同一のトランザクションでバージョンと本文を取得する処理
+   * @param <V>        バージョンの型
+   * @param <T>        レスポンス本文の型
+   * @return レスポンス
+   */
+  public static <V, T> ResponseEntity<T> respond(WebRequest webRequest,
+      Function<V, String> eTagOf, Function<Predicate<V>, Versioned<V, T>> load) {
+    Versioned<V, T> result = load.apply(version -> {
+      String eTag = eTagOf.apply(version);
+      return eTag != null && webRequest.checkNotModified(eTag);
+    });
+
+    String eTag = eTagOf.apply(result.getVersion());
+    if (eTag == null) {
+      return ResponseEntity.ok(result.getBody());
+    }
+    if (result.isNotModified()) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .cacheControl(REVALIDATE)
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(REVALIDATE)
+        .body(result.getBody());
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.portfolio.taskapp.MyTaskManager.common.http;
+
+import com.portfolio.taskapp.MyTaskManager.exception.custom.VersionConflictException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.enums.TargetResource;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * リソースのバージョン番号と ETag / If-Match ヘッダーの値を相互に変換するユーティリティ。
+ * <p>
+ * ETag はバージョン番号をダブルクォートで囲んだ強い ETag (例: {@code "3"}) として返却します。
+ */
+public final class VersionETag {
+
+  private static final String ANY = "*";
+
+  private VersionETag() {
+  }
+
+  /**
+   * バージョン番号から ETag の値を生成します。
+   *
+   * @param version リソースのバージョン番号
+   * @return ETag の値
+   */
+  public static String of(Integer version) {
+    return "\"" + version + "\"";
+  }
+
+  /**
+   * 複数のキー値を "." で連結した ETag の値を生成します。
+   * <p>
+   * 一覧やツリーなど、単一のバージョン番号を持たないリソースの ETag に使用します。先頭のキーにはリソースの種類を指定し、
+   * 単体リソースのバージョン番号による ETag と一致しないようにしてください。
+   *
+   * @param keys リソースの種類と、内容が変わるたびに変化する値の並び（null 不可）
+   * @return ETag の値
+   */
+  public static String ofKeys(Object... keys) {
+    return Arrays.stream(keys)
+        .map(String::valueOf)
+        .collect(Collectors.joining(".", "\"", "\""));
+  }
+
+  /**
+   * If-Match ヘッダーの値から、クライアントが保持する更新前のバージョン番号を取り出します。
+   * <p>
+   * ヘッダーが未指定、または {@code *} の場合はバージョンを検証しないため null を返します。
+   *
+   * @param ifMatch        If-Match ヘッダーの値
+   * @param targetResource 更新対象のリソース
+   * @return 更新前のバージョン番号（検証しない場合は null）
+   * @throws VersionConflictException バージョン番号として解釈できない場合(412)
+   */
+  public static Integer parseIfMatch(String ifMatch, TargetResource targetResource) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+      return null;
+    }
+
+    // If-Match は強い比較のため、弱い ETag (W/"...") や複数指定はバージョンと一致しないものとして扱う
+    String value = ifMatch.trim();
+    if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+      throw new VersionConflictException(targetResource, true);
+    }
+
+    try {
+      return Integer.valueOf(value.substring(1, value.length() - 1));
+    } catch (NumberFormatException ex) {
+      throw new VersionConflictException(targetResource, true);
+    }
+  }
+
+}
@@ -0,0 +1,61 @@
+package com.portfolio.taskapp.MyTaskManager.common.http;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 条件付き GET のレスポンス本文を、本文と同じ読み取りで取得したバージョンとともに保持するクラス。
+ * <p>
+ * バージョンと本文を別々のトランザクションで取得すると、異なるレプリカ・スナップショットから読み取られ、
+ * 古い本文に新しいバージョンの ETag を付けて返すおそれがあるため、両者は1回のサービス呼び出しで取得します。<br>
+ * クライアントの保持する ETag とバージョンが一致した場合は本文を取得せず、body は null となります。
+ *
+ * @param <V> バージョンの型
+ * @param <T> レスポンス本文の型
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Versioned<V, T> {
+
+  /**
+   * 本文と同じ読み取りで取得したバージョン（取得できない場合は null）
+   */
+  private final V version;
+
+  /**
+   * レスポンス本文（クライアントの保持する内容から変更がない場合は null）
+   */
+  private final T body;
+
+  /**
+   * クライアントの保持する内容から変更がなく、本文を取得しなかったかどうか
+   */
+  private final boolean notModified;
+
+  /**
+   * バージョンと本文を保持するインスタンスを生成します。
+   *
+   * @param version バージョン
+   * @param body    レスポンス本文
+   * @param <V>     バージョンの型
+   * @param <T>     レスポンス本文の型
+   * @return バージョンと本文
+   */
+  public static <V, T> Versioned<V, T> of(V version, T body) {
+    return new Versioned<>(version, body, false);
+  }
+
+  /**
+   * クライアントの保持する内容から変更がないことを示すインスタンスを生成します。
+   *
+   * @param version バージョン
+   * @param <V>     バージョンの型
+   * @param <T>     レスポンス本文の型
+   * @return 本文を持たないバージョンのみのインスタンス
+   */
+  public static <V, T> Versioned<V, T> notModified(V version) {
+    return new Versioned<>(version, null, true);
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.portfolio.taskapp.MyTaskManager.common.id;
+
+import java.util.regex.Pattern;
+
+/**
+ * ユーザー・プロジェクト・タスクの公開IDの形式(ハイフン区切りの36文字の UUID)を定義するユーティリティ。
+ * <p>
+ * リクエストの入力検証(@Pattern)と、サービス層での DB 検索前の形式確認で同じ定義を使用します。
+ */
+public final class PublicIdFormat {
+
+  /**
+   * 公開IDの正規表現
+   */
+  public static final String REGEXP =
+      "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+
+  private static final Pattern PATTERN = Pattern.compile(REGEXP);
+
+  private PublicIdFormat() {
+  }
+
+  /**
+   * 公開IDとして有効な形式かを判定します。
+   *
+   * @param publicId 判定対象の文字列
+   * @return 有効な形式の場合は true(null の場合は false)
+   */
+  public static boolean isValid(String publicId) {
+    return publicId != null && PATTERN.matcher(publicId).matches();
+  }
+
+}
@@ -0,0 +1,21 @@
+package com.portfolio.taskapp.MyTaskManager.common.id;
+
+/**
+ * DB の公開ID列の型。
+ * <p>
+ * app.public-id.storage で指定します。BINARY に切り替える場合は、公開ID列を BINARY(16) に変換するマイグレーション
+ * (classpath:db/migration/binary-public-id)を合わせて適用してください。
+ */
+public enum PublicIdStorage {
+
+  /**
+   * ハイフン区切りの36文字の文字列(CHAR(36))で保持する
+   */
+  CHAR,
+
+  /**
+   * UUID の16バイト(BINARY(16))で保持する
+   */
+  BINARY
+
+}
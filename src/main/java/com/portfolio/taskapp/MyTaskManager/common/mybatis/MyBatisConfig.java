@@ -0,0 +1,43 @@
+package com.portfolio.taskapp.MyTaskManager.common.mybatis;
+
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdStorage;
+import java.util.Properties;
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.apache.ibatis.type.JdbcType;
+import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MyBatis の設定クラス。
+ * <p>
+ * 接続先のデータベース製品名から databaseId (mysql / h2) を判定します。<br>
+ * マッパーXMLで databaseId を指定したステートメントは該当するデータベースでのみ使用され、未指定の同名ステートメントより優先されます。<br>
+ * 公開ID列の型(app.public-id.storage)に応じた PublicIdTypeHandler を登録します。
+ */
+@Configuration
+public class MyBatisConfig {
+
+  @Bean
+  public DatabaseIdProvider databaseIdProvider() {
+    Properties properties = new Properties();
+    properties.setProperty("MySQL", "mysql");
+    properties.setProperty("H2", "h2");
+
+    VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+    provider.setProperties(properties);
+    return provider;
+  }
+
+  @Bean
+  public ConfigurationCustomizer publicIdTypeHandlerCustomizer(
+      @Value("${app.public-id.storage:CHAR}") PublicIdStorage storage) {
+    // マッパーXMLの typeHandler=PublicIdTypeHandler の指定に加え、BINARY 列から文字列への自動マッピングにも使用
+    // (JdbcType を指定して登録し、文字列全般の既定の TypeHandler は置き換えない)
+    return configuration -> configuration.getTypeHandlerRegistry()
+        .register(String.class, JdbcType.BINARY, new PublicIdTypeHandler(storage));
+  }
+
+}
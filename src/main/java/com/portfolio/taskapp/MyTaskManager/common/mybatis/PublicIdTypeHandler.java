@@ -0,0 +1,105 @@
+package com.portfolio.taskapp.MyTaskManager.common.mybatis;
+
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdFormat;
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdStorage;
+import java.nio.ByteBuffer;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+/**
+ * 公開ID(ハイフン区切りの36文字の UUID 文字列)と、DB の公開ID列の値を相互に変換する TypeHandler。
+ * <p>
+ * 検索条件・登録値は PublicIdStorage の指定に従い、BINARY の場合は UUID の16バイト(MySQL の UUID_TO_BIN(uuid, 0) と同じバイト順)、
+ * CHAR の場合は文字列のまま渡します。形式が不正な公開IDは、BINARY の場合は一致する行がないよう NULL として渡します。<br>
+ * 取得結果は列の値の型で判定するため、どちらの型の列でも公開IDの文字列(小文字)に変換します。
+ * マッパーXMLでは typeHandler=PublicIdTypeHandler を指定してください。
+ */
+public class PublicIdTypeHandler extends BaseTypeHandler<String> {
+
+  private static final int UUID_BYTES = 16;
+
+  private final PublicIdStorage storage;
+
+  /**
+   * 公開ID列を CHAR(36) として扱う TypeHandler を生成します(MyBatisConfig で登録していない場合に使用されます)。
+   */
+  public PublicIdTypeHandler() {
+    this(PublicIdStorage.CHAR);
+  }
+
+  public PublicIdTypeHandler(PublicIdStorage storage) {
+    this.storage = storage;
+  }
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, String parameter,
+      JdbcType jdbcType) throws SQLException {
+    if (storage == PublicIdStorage.CHAR) {
+      ps.setString(i, parameter);
+    } else if (PublicIdFormat.isValid(parameter)) {
+      ps.setBytes(i, toBytes(parameter));
+    } else {
+      ps.setNull(i, Types.BINARY);
+    }
+  }
+
+  @Override
+  public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return toPublicId(rs.getObject(columnName));
+  }
+
+  @Override
+  public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return toPublicId(rs.getObject(columnIndex));
+  }
+
+  @Override
+  public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return toPublicId(cs.getObject(columnIndex));
+  }
+
+  /**
+   * 公開IDを UUID の16バイト(上位64bit、下位64bit の順のビッグエンディアン)に変換します。
+   *
+   * @param publicId 公開ID
+   * @return UUID の16バイト
+   */
+  static byte[] toBytes(String publicId) {
+    UUID uuid = UUID.fromString(publicId);
+    return ByteBuffer.allocate(UUID_BYTES)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array();
+  }
+
+  /**
+   * UUID の16バイトを公開IDに変換します。
+   *
+   * @param bytes UUID の16バイト
+   * @return 公開ID(小文字)
+   */
+  static String fromBytes(byte[] bytes) {
+    if (bytes.length != UUID_BYTES) {
+      throw new IllegalStateException("invalid public id length: " + bytes.length);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong()).toString();
+  }
+
+  private static String toPublicId(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof byte[] bytes) {
+      return fromBytes(bytes);
+    }
+    return value.toString();
+  }
+
+}
@@ -0,0 +1,98 @@
+package com.portfolio.taskapp.MyTaskManager.common.mybatis;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * キーワード検索の検索条件を組み立てる、MyBatis のマッパーXML(OGNL 式)から呼び出すユーティリティ。
+ * <p>
+ * MySQL の ngram パーサーはトークン長(ngram_token_size、既定値 2)未満のキーワードを全文検索できないため、
+ * トークン長以上のキーワードは全文検索、それ未満のキーワードは部分一致検索(LIKE)に振り分けます。<br>
+ * 部分一致検索のパターンは、キーワード中の % と _ を文字として扱うよう ESCAPE_CHAR でエスケープします。
+ */
+public final class SearchKeywords {
+
+  /**
+   * 全文検索の対象とするキーワードの最小文字数(ngram パーサーのトークン長)
+   */
+  public static final int MIN_FULL_TEXT_LENGTH = 2;
+
+  /**
+   * LIKE 句の ESCAPE に指定するエスケープ文字
+   */
+  public static final char ESCAPE_CHAR = '!';
+
+  private SearchKeywords() {
+  }
+
+  /**
+   * 全文検索の対象とするキーワードを返します。
+   *
+   * @param keywords 検索キーワードのリスト
+   * @return MIN_FULL_TEXT_LENGTH 文字以上のキーワードのリスト
+   */
+  public static List<String> fullTextKeywords(List<String> keywords) {
+    return keywords.stream()
+        .filter(keyword -> length(keyword) >= MIN_FULL_TEXT_LENGTH)
+        .toList();
+  }
+
+  /**
+   * 全文検索の対象外のキーワードを、部分一致検索用のパターンに変換して返します。
+   *
+   * @param keywords 検索キーワードのリスト
+   * @return MIN_FULL_TEXT_LENGTH 文字未満のキーワードの部分一致パターンのリスト
+   */
+  public static List<String> shortKeywordPatterns(List<String> keywords) {
+    return keywords.stream()
+        .filter(keyword -> length(keyword) < MIN_FULL_TEXT_LENGTH)
+        .map(SearchKeywords::containsPattern)
+        .toList();
+  }
+
+  /**
+   * 全てのキーワードを部分一致検索用のパターンに変換して返します。
+   *
+   * @param keywords 検索キーワードのリスト
+   * @return 部分一致パターンのリスト
+   */
+  public static List<String> containsPatterns(List<String> keywords) {
+    return keywords.stream()
+        .map(SearchKeywords::containsPattern)
+        .toList();
+  }
+
+  /**
+   * キーワードを全て必須のフレーズとする BOOLEAN MODE の検索文字列(+"キーワード1" +"キーワード2")を返します。
+   *
+   * @param keywords 検索キーワードのリスト(二重引用符を含まないこと)
+   * @return BOOLEAN MODE の検索文字列
+   */
+  public static String booleanQuery(List<String> keywords) {
+    return keywords.stream()
+        .map(keyword -> "+\"" + keyword + "\"")
+        .collect(Collectors.joining(" "));
+  }
+
+  /**
+   * キーワードをエスケープし、前後に % を付与した部分一致パターンを返します。
+   *
+   * @param keyword 検索キーワード
+   * @return 部分一致パターン
+   */
+  static String containsPattern(String keyword) {
+    StringBuilder pattern = new StringBuilder(keyword.length() + 2).append('%');
+    for (char c : keyword.toCharArray()) {
+      if (c == ESCAPE_CHAR || c == '%' || c == '_') {
+        pattern.append(ESCAPE_CHAR);
+      }
+      pattern.append(c);
+    }
+    return pattern.append('%').toString();
+  }
+
+  private static int length(String keyword) {
+    return keyword.codePointCount(0, keyword.length());
+  }
+
+}
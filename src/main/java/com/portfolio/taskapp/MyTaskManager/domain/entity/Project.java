@@ -1,7 +1,9 @@
 package com.portfolio.taskapp.MyTaskManager.domain.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectStatus;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -12,13 +14,14 @@ import lombok.NoArgsConstructor;
 /**
  * プロジェクトを定義するエンティティクラス。
  * <p>
- * DB の projects テーブルに対応します。 スポンス時の使用を考慮し内部Idのfieldは@JsonIgnore指定しています。
+ * DB の projects テーブルに対応します。 スポンス時の使用を考慮し内部Idのfieldは@JsonIgnore指定しています。<br>
+ * summary は projects テーブルの列ではなく、一覧取得で集計を指定した場合のみ設定されます。
  */
 @Schema(description = "プロジェクトを定義するエンティティクラス")
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Project {
 
   @Schema(description = "プロジェクトID", example = "11")
@@ -41,6 +44,9 @@ public class Project {
   @Schema(description = "ステータス（ACTIVE/ARCHIVED）", example = "ACTIVE")
   private ProjectStatus status;
 
+  @Schema(description = "楽観的排他制御用のバージョン番号（更新のたびに加算。ETag と同じ値）", example = "0")
+  private Integer version;
+
   @Schema(description = "作成日時", example = "2025-01-01T00:00:00")
   private LocalDateTime createdAt;
 
@@ -50,4 +56,8 @@ public class Project {
   @Schema(description = "論理削除用の削除フラグ(削除=true)")
   private boolean isDeleted;
 
+  @Schema(description = "タスクの集計結果（一覧取得で集計を指定した場合のみ）")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private ProjectSummary summary;
+
 }
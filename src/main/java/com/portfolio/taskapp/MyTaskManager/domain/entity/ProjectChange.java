@@ -0,0 +1,36 @@
+package com.portfolio.taskapp.MyTaskManager.domain.entity;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * キャッシュ無効化のためのプロジェクト単位の変更履歴を定義するエンティティクラス。
+ * <p>
+ * DB の project_change_log テーブルに対応し、プロセス内キャッシュの情報が古くなる変更のあったプロジェクトを登録順に保持します。
+ * API のレスポンスには使用しません。
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class ProjectChange {
+
+  /**
+   * 登録順の連番
+   */
+  private Long seq;
+
+  /**
+   * 変更のあったプロジェクトの内部ID
+   */
+  private Integer projectId;
+
+  /**
+   * 登録日時
+   */
+  private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,36 @@
+package com.portfolio.taskapp.MyTaskManager.domain.entity;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * プロジェクトの期限日ごとの未完了タスク数を定義するエンティティクラス。
+ * <p>
+ * DB の project_due_stats テーブルに対応し、プロジェクトの期限切れ件数・直近の期限日の取得に使用します。<br>
+ * タスクの登録・更新・削除時の差分の適用にも使用し、その場合は未完了タスク数に増減量(負数を含む)を設定します。 API のレスポンスには使用しません。
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class ProjectDueStats {
+
+  /**
+   * 内部プロジェクトID
+   */
+  private Integer projectId;
+
+  /**
+   * 期限日
+   */
+  private LocalDate dueDate;
+
+  /**
+   * 期限日が同じ未削除・未完了(進捗率100%未満)のタスク数
+   */
+  private int openTaskCount;
+
+}
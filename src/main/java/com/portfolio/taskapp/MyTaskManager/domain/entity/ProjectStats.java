@@ -0,0 +1,55 @@
+package com.portfolio.taskapp.MyTaskManager.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * プロジェクトごとのタスク集計を定義するエンティティクラス。
+ * <p>
+ * DB の project_stats テーブルに対応し、プロジェクトに紐づく未削除タスクの件数・合計値を保持します。<br>
+ * タスクの登録・更新・削除時の差分の適用にも使用し、その場合は各項目に増減量(負数を含む)を設定します。 API のレスポンスには使用しません。
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class ProjectStats {
+
+  /**
+   * 内部プロジェクトID
+   */
+  private Integer projectId;
+
+  /**
+   * 未削除のタスク数
+   */
+  private int taskCount;
+
+  /**
+   * 進捗率が100%のタスク数
+   */
+  private int completedTaskCount;
+
+  /**
+   * 見積もり時間の合計(単位:min)
+   */
+  private long totalEstimatedTime;
+
+  /**
+   * 実績時間の合計(単位:min)
+   */
+  private long totalActualTime;
+
+  /**
+   * 進捗率の合計(見積もり時間が全て0の場合の単純平均に使用)
+   */
+  private long progressSum;
+
+  /**
+   * 進捗率と見積もり時間の積の合計(見積もり時間による加重平均に使用)
+   */
+  private long weightedProgressSum;
+
+}
@@ -1,6 +1,7 @@
 package com.portfolio.taskapp.MyTaskManager.domain.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
@@ -19,7 +20,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Task {
 
   @Schema(description = "タスクID", example = "111")
@@ -44,7 +45,8 @@ public class Task {
   @Schema(description = "タスクの名前", example = "テスト計画")
   private String taskCaption;
 
-  @Schema(description = "タスクの詳細説明", example = "テスト計画作成")
+  @Schema(description = "タスクの詳細説明（要約形式での取得時は含まれません）", example = "テスト計画作成")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private String description;
 
   @Schema(description = "期限日", example = "2025-01-01")
@@ -62,6 +64,9 @@ public class Task {
   @Schema(description = "優先度", example = "LOW")
   private TaskPriority priority;
 
+  @Schema(description = "楽観的排他制御用のバージョン番号（更新のたびに加算。ETag と同じ値）", example = "0")
+  private Integer version;
+
   @Schema(description = "作成日時", example = "2025-01-01T00:00:00")
   private LocalDateTime createdAt;
 
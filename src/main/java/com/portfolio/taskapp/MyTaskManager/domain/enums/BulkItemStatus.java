@@ -0,0 +1,11 @@
+package com.portfolio.taskapp.MyTaskManager.domain.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "一括処理の要素ごとの処理結果（UPDATED:更新済み, NOT_FOUND:存在しないか削除済み, FORBIDDEN:所有者でない, CONFLICT:取得後に他の更新と競合）")
+public enum BulkItemStatus {
+  UPDATED,
+  NOT_FOUND,
+  FORBIDDEN,
+  CONFLICT
+}
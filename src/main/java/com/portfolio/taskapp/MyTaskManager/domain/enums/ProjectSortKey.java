@@ -0,0 +1,10 @@
+package com.portfolio.taskapp.MyTaskManager.domain.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "プロジェクト一覧の並び順（UPDATED_AT:更新日時の降順, CAPTION:プロジェクト名の昇順, STATUS:ステータスの昇順）")
+public enum ProjectSortKey {
+  UPDATED_AT,
+  CAPTION,
+  STATUS
+}
@@ -0,0 +1,16 @@
+package com.portfolio.taskapp.MyTaskManager.exception.custom;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class InvalidCursorException extends RuntimeException {
+
+  private final HttpStatus httpStatus;
+
+  public InvalidCursorException(String message) {
+    super(message);
+    this.httpStatus = HttpStatus.BAD_REQUEST;
+  }
+
+}
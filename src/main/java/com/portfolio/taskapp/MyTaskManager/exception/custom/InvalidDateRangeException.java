@@ -0,0 +1,16 @@
+package com.portfolio.taskapp.MyTaskManager.exception.custom;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class InvalidDateRangeException extends RuntimeException {
+
+  private final HttpStatus httpStatus;
+
+  public InvalidDateRangeException(String message) {
+    super(message);
+    this.httpStatus = HttpStatus.BAD_REQUEST;
+  }
+
+}
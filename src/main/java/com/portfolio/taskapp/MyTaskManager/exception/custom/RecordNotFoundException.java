@@ -9,7 +9,8 @@ public class RecordNotFoundException extends RuntimeException {
   private final HttpStatus httpStatus;
 
   public RecordNotFoundException(String message) {
-    super(message);
+    // 存在しない公開IDへの大量のリクエストでも負荷とならないよう、スタックトレースは取得しない(ログにはメッセージのみ出力)
+    super(message, null, false, false);
     this.httpStatus = HttpStatus.NOT_FOUND;
   }
 
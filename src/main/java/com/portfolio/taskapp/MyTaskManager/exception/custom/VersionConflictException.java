@@ -0,0 +1,23 @@
+package com.portfolio.taskapp.MyTaskManager.exception.custom;
+
+import com.portfolio.taskapp.MyTaskManager.exception.custom.enums.TargetResource;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+  private final HttpStatus httpStatus;
+  private final TargetResource targetResource;
+
+  /**
+   * @param targetResource   競合が発生したリソース
+   * @param preconditionGiven クライアントが If-Match で更新前のバージョンを指定していた場合は true (412 を返却)
+   */
+  public VersionConflictException(TargetResource targetResource, boolean preconditionGiven) {
+    super(targetResource.toString() + " has been modified by another request");
+    this.targetResource = targetResource;
+    this.httpStatus = preconditionGiven ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+  }
+
+}
@@ -1,9 +1,12 @@
 package com.portfolio.taskapp.MyTaskManager.exception.handler;
 
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidCursorException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidDateRangeException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidOwnerAccessException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidPasswordChangeException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.NotUniqueException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.RecordNotFoundException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.VersionConflictException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import java.util.HashMap;
@@ -19,6 +22,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @RestControllerAdvice
@@ -105,6 +109,20 @@ public class OriginalExceptionHandler {
     return ResponseEntity.status(status).body(responseBody);
   }
 
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<Map<String, Object>> handleMethodArgumentTypeMismatchException(
+      MethodArgumentTypeMismatchException ex) {
+    // 開発者向けログ出力
+    log.warn("Request parameter type error occurred: {}", ex.getMessage());
+
+    //表示内容
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+    Map<String, String> detail = Map.of(ex.getName(), "入力の形式に誤りがあります");
+    Map<String, Object> responseBody = createErrorBody(status, detail);
+
+    return ResponseEntity.status(status).body(responseBody);
+  }
+
   @ExceptionHandler(InvalidPasswordChangeException.class)
   public ResponseEntity<Map<String, Object>> handleInvalidPasswordChangeException(
       InvalidPasswordChangeException ex) {
@@ -118,6 +136,32 @@ public class OriginalExceptionHandler {
     return ResponseEntity.status(ex.getHttpStatus()).body(responseBody);
   }
 
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidCursorException(
+      InvalidCursorException ex) {
+    // 開発者向けログ出力
+    log.warn("Invalid cursor: {}", ex.getMessage());
+
+    //表示内容
+    Map<String, String> detail = Map.of("cursor", "カーソルの形式に誤りがあります");
+    Map<String, Object> responseBody = createErrorBody(ex.getHttpStatus(), detail);
+
+    return ResponseEntity.status(ex.getHttpStatus()).body(responseBody);
+  }
+
+  @ExceptionHandler(InvalidDateRangeException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidDateRangeException(
+      InvalidDateRangeException ex) {
+    // 開発者向けログ出力
+    log.warn("Invalid date range: {}", ex.getMessage());
+
+    //表示内容
+    Map<String, String> detail = Map.of("from", "開始日には終了日以前の日付を指定してください");
+    Map<String, Object> responseBody = createErrorBody(ex.getHttpStatus(), detail);
+
+    return ResponseEntity.status(ex.getHttpStatus()).body(responseBody);
+  }
+
   // --- 403 Not Found 系 ---
 
   @ExceptionHandler(InvalidOwnerAccessException.class)
@@ -144,6 +188,21 @@ public class OriginalExceptionHandler {
     return ResponseEntity.status(ex.getHttpStatus()).body(responseBody);
   }
 
+  // --- 409 Conflict / 412 Precondition Failed 系 ---
+
+  @ExceptionHandler(VersionConflictException.class)
+  public ResponseEntity<Map<String, Object>> handleVersionConflictException(
+      VersionConflictException ex) {
+    // 開発者向けログ出力
+    log.info("Version conflict: {}", ex.getMessage());
+
+    //表示内容
+    Map<String, Object> responseBody = createErrorBody(ex.getHttpStatus(),
+        "他の更新により内容が変更されています。最新の情報を取得してから再度更新してください");
+
+    return ResponseEntity.status(ex.getHttpStatus()).body(responseBody);
+  }
+
   // --- 500 Internal Server Error 系 ---
 
   @ExceptionHandler(Exception.class)
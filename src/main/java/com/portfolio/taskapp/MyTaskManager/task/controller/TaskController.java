@@ -1,34 +1,60 @@
 package com.portfolio.taskapp.MyTaskManager.task.controller;
 
 import com.portfolio.taskapp.MyTaskManager.auth.details.UserAccountDetails;
+import com.portfolio.taskapp.MyTaskManager.common.http.ConditionalGet;
+import com.portfolio.taskapp.MyTaskManager.common.http.VersionETag;
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdFormat;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectSortKey;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.enums.TargetResource;
+import com.portfolio.taskapp.MyTaskManager.task.dto.CursorPage;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectListVersion;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectSummary;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkCreateRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTree;
 import com.portfolio.taskapp.MyTaskManager.task.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * プロジェクトおよびタスクに関する REST API を提供するコントローラクラス。
@@ -47,32 +73,81 @@ public class TaskController {
   }
 
   /**
-   * 認証済みユーザーに紐づくプロジェクト一覧を取得します。
+   * 認証済みユーザーに紐づくプロジェクト一覧を、指定した並び順でページ分割して取得します。
    *
    * @param userDetails 現在認証済みのユーザー情報
-   * @return ログイン中ユーザーに紐づくプロジェクトのリスト
+   * @param sort        並び順
+   * @param cursor      前ページのレスポンスで返されたカーソル（先頭ページの場合は省略）
+   * @param limit       1ページあたりの最大件数
+   * @param withSummary 各プロジェクトにタスク集計結果を含めるかどうか
+   * @param webRequest  条件付き GET の判定に使用するリクエスト
+   * @return ログイン中ユーザーに紐づくプロジェクトのリストの1ページ分と次ページ取得用のカーソル（内容に変更がない場合は 304）
    */
   @Operation(
       summary = "ユーザープロジェクトの一覧取得",
-      description = "認証されたユーザーに紐づくプロジェクト情報の一覧を取得します",
+      description = "認証されたユーザーに紐づくプロジェクト情報の一覧を、指定した並び順でページ分割して取得します。"
+          + "次ページが存在する場合はレスポンスのnextCursorを、同じ並び順のままcursorに指定して次ページを取得します。"
+          + "withSummary=true を指定した場合は、各プロジェクトにタスクの集計結果（summary）を含めて返します。"
+          + "ETag ヘッダーを返し、If-None-Match に指定した ETag から内容に変更がない場合は一覧を取得せずに 304 を返します。",
       security = @SecurityRequirement(name = "userAuth"),
+      parameters = {
+          @Parameter(
+              name = "sort",
+              description = "並び順（UPDATED_AT:更新日時の降順, CAPTION:プロジェクト名の昇順, STATUS:ステータスの昇順）",
+              schema = @Schema(implementation = ProjectSortKey.class, defaultValue = "UPDATED_AT")
+          ),
+          @Parameter(
+              name = "cursor",
+              description = "前ページのレスポンスで返されたnextCursor（先頭ページの場合は省略）",
+              schema = @Schema(type = "string")
+          ),
+          @Parameter(
+              name = "limit",
+              description = "1ページあたりの最大件数（1～100）",
+              schema = @Schema(type = "integer", defaultValue = "50", minimum = "1",
+                  maximum = "100")
+          ),
+          @Parameter(
+              name = "withSummary",
+              description = "各プロジェクトにタスクの集計結果（件数・進捗率・直近の期限日など）を含めるかどうか",
+              schema = @Schema(type = "boolean", defaultValue = "false")
+          )
+      },
       responses = {
           @ApiResponse(
               responseCode = "200",
               description = "リクエストが正常に処理された場合",
               content = @Content(mediaType = "application/json",
-                  array = @ArraySchema(schema = @Schema(implementation = Project.class)))
+                  schema = @Schema(implementation = CursorPage.class))
           ),
           @ApiResponse(
-              responseCode = "404",
-              description = "認証済みユーザーが削除済みまたは無効化されている場合",
+              responseCode = "304",
+              description = "If-None-Match に指定した ETag が現在の内容と一致する場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "400",
+              description = "並び順、カーソルまたは取得件数の形式に誤りがある場合",
               content = @Content()
           )
       }
   )
   @GetMapping("/projects")
-  public List<Project> getProjectList(@AuthenticationPrincipal UserAccountDetails userDetails) {
-    return service.getUserProjects(userDetails.getAccount().getPublicId());
+  public ResponseEntity<CursorPage<Project>> getProjectList(
+      @AuthenticationPrincipal UserAccountDetails userDetails,
+      @RequestParam(defaultValue = "UPDATED_AT") ProjectSortKey sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50")
+      @Min(value = 1, message = "取得件数は1以上を指定してください")
+      @Max(value = 100, message = "取得件数は100以下を指定してください")
+      int limit,
+      @RequestParam(defaultValue = "false") boolean withSummary,
+      WebRequest webRequest) {
+    Integer userAccountId = userDetails.getAccount().getId();
+    return ConditionalGet.respond(webRequest,
+        (ProjectListVersion listVersion) -> projectListETag(listVersion, withSummary),
+        notModified -> service.getUserProjectsWithVersion(userAccountId, sort, cursor, limit,
+            withSummary, notModified));
   }
 
   /**
@@ -84,7 +159,8 @@ public class TaskController {
    */
   @Operation(
       summary = "プロジェクトの単体取得",
-      description = "プロジェクトの公開Idに紐づくプロジェクト情報を取得します",
+      description = "プロジェクトの公開Idに紐づくプロジェクト情報を取得します。"
+          + "ETag ヘッダーに現在のバージョンを返します（更新時の If-Match に指定できます）",
       security = @SecurityRequirement(name = "userAuth"),
       responses = {
           @ApiResponse(
@@ -109,24 +185,70 @@ public class TaskController {
   public ResponseEntity<Project> getProject(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
       String projectPublicId) {
     Project project = service.getProjectByProjectPublicId(projectPublicId,
-        userDetails.getAccount().getPublicId());
-    return ResponseEntity.ok(project);
+        userDetails.getAccount().getId());
+    return ResponseEntity.ok().eTag(VersionETag.of(project.getVersion())).body(project);
   }
 
   /**
-   * 指定したプロジェクトに紐づくタスクを、親子関係の階層構造を単位とする一覧として取得します。
+   * 指定したプロジェクトに紐づくタスクの集計結果を取得します。
    *
    * @param userDetails     現在認証済みのユーザー情報
    * @param projectPublicId プロジェクトの公開ID
-   * @return 親子タスクのリスト
+   * @return プロジェクトのタスク集計結果
+   */
+  @Operation(
+      summary = "プロジェクトのタスク集計取得",
+      description = "プロジェクトに紐づくタスク（親タスク・子タスク）の件数、見積もり・実績時間の合計、"
+          + "見積もり時間で重み付けした進捗率、期限切れ件数、直近の期限日を取得します。"
+          + "集計はサーバー側で行うため、タスク一覧を取得する必要はありません。",
+      security = @SecurityRequirement(name = "userAuth"),
+      responses = {
+          @ApiResponse(
+              responseCode = "200",
+              description = "リクエストが正常に処理された場合",
+              content = @Content(mediaType = "application/json",
+                  schema = @Schema(implementation = ProjectSummary.class))
+          ),
+          @ApiResponse(
+              responseCode = "403",
+              description = "ログインユーザーが指定したプロジェクトの所有者でない場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "404",
+              description = "指定した公開IDのプロジェクトが存在しないか、削除されている場合",
+              content = @Content()
+          )
+      }
+  )
+  @GetMapping("/projects/{projectPublicId}/summary")
+  public ProjectSummary getProjectSummary(
+      @AuthenticationPrincipal UserAccountDetails userDetails,
+      @PathVariable
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
+      String projectPublicId) {
+    return service.getProjectSummary(projectPublicId, userDetails.getAccount().getId());
+  }
+
+  /**
+   * 指定したプロジェクトに紐づくタスクを、親子関係の階層構造を単位とする一覧としてページ分割して取得します。
+   *
+   * @param userDetails     現在認証済みのユーザー情報
+   * @param projectPublicId プロジェクトの公開ID
+   * @param cursor          前ページのレスポンスで返されたカーソル（先頭ページの場合は省略）
+   * @param limit           1ページあたりの親タスクの最大件数
+   * @param view            取得形式（full:全項目, summary:説明文を含まない要約形式）
+   * @param webRequest      条件付き GET の判定に使用するリクエスト
+   * @return 親子タスクのリストの1ページ分と次ページ取得用のカーソル（内容に変更がない場合は 304）
    */
   @Operation(
       summary = "プロジェクトの親子タスク一覧取得",
-      description = "プロジェクトに紐づくタスクを、親子関係の階層構造を単位とする一覧として取得します。",
+      description = "プロジェクトに紐づくタスクを、親子関係の階層構造を単位とする一覧として親タスク単位でページ分割して取得します。"
+          + "次ページが存在する場合はレスポンスのnextCursorをcursorに指定して次ページを取得します。"
+          + "ETag ヘッダーを返し、If-None-Match に指定した ETag からタスクに変更がない場合はタスクツリーを取得せずに 304 を返します。",
       security = @SecurityRequirement(name = "userAuth"),
       parameters = {
           @Parameter(
@@ -135,6 +257,23 @@ public class TaskController {
               description = "プロジェクトの公開ID（UUID）",
               schema = @Schema(type = "string", format = "uuid",
                   example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
+          ),
+          @Parameter(
+              name = "cursor",
+              description = "前ページのレスポンスで返されたnextCursor（先頭ページの場合は省略）",
+              schema = @Schema(type = "string")
+          ),
+          @Parameter(
+              name = "limit",
+              description = "1ページあたりの親タスクの最大件数（1～100）",
+              schema = @Schema(type = "integer", defaultValue = "50", minimum = "1",
+                  maximum = "100")
+          ),
+          @Parameter(
+              name = "view",
+              description = "取得形式（full:全項目, summary:説明文を含まない要約形式）",
+              schema = @Schema(type = "string", allowableValues = {"full", "summary"},
+                  defaultValue = "full")
           )
       },
       responses = {
@@ -142,7 +281,17 @@ public class TaskController {
               responseCode = "200",
               description = "リクエストが正常に処理された場合",
               content = @Content(mediaType = "application/json",
-                  array = @ArraySchema(schema = @Schema(implementation = TaskTree.class)))
+                  schema = @Schema(implementation = CursorPage.class))
+          ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "If-None-Match に指定した ETag が現在の内容と一致する場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "400",
+              description = "カーソルまたは取得件数の形式に誤りがある場合",
+              content = @Content()
           ),
           @ApiResponse(
               responseCode = "403",
@@ -157,34 +306,55 @@ public class TaskController {
       }
   )
   @GetMapping("/projects/{projectPublicId}/task-trees")
-  public List<TaskTree> getTaskTreeList(
+  public ResponseEntity<CursorPage<TaskTree>> getTaskTreeList(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
-      String projectPublicId) {
-    return service.getTasksByProjectPublicId(projectPublicId,
-        userDetails.getAccount().getPublicId());
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
+      String projectPublicId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50")
+      @Min(value = 1, message = "取得件数は1以上を指定してください")
+      @Max(value = 100, message = "取得件数は100以下を指定してください")
+      int limit,
+      @RequestParam(defaultValue = "full")
+      @Pattern(regexp = "^(full|summary)$", message = "full または summary を指定してください")
+      String view,
+      WebRequest webRequest) {
+    Integer userAccountId = userDetails.getAccount().getId();
+    boolean summary = "summary".equals(view);
+    return ConditionalGet.respond(webRequest,
+        (Long treeVersion) -> taskTreeETag(treeVersion, summary),
+        notModified -> service.getTasksByProjectPublicIdWithVersion(projectPublicId,
+            userAccountId, cursor, limit, summary, notModified));
   }
 
   /**
-   * 指定した親タスクの公開IDに紐づくタスクを、親子関係の階層構造で取得します。
+   * 指定したタスクの公開IDを起点に、全ての階層の子孫タスクを親子関係の階層構造で取得します。
    *
    * @param userDetails  現在認証済みのユーザー情報
-   * @param taskPublicId 親タスクの公開ID（UUID形式）
-   * @return 親子タスク
+   * @param taskPublicId 起点となるタスクの公開ID（UUID形式）
+   * @param view         取得形式（full:全項目, summary:説明文を含まない要約形式）
+   * @param webRequest   条件付き GET の判定に使用するリクエスト
+   * @return 指定タスクを起点とするタスクツリー（内容に変更がない場合は 304）
    */
   @Operation(
       summary = "単独の親子タスク取得",
-      description = "親タスクの公開IDに紐づくタスクを、親子関係の階層構造で取得します。",
+      description = "タスクの公開IDを起点に、全ての階層の子孫タスクを親子関係の階層構造で取得します。"
+          + "ETag ヘッダーを返し、If-None-Match に指定した ETag からタスクに変更がない場合はタスクツリーを取得せずに 304 を返します。",
       security = @SecurityRequirement(name = "userAuth"),
       parameters = {
           @Parameter(
               name = "taskPublicId",
               required = true,
-              description = "親タスクの公開ID（UUID）",
+              description = "起点となるタスクの公開ID（UUID）",
               schema = @Schema(type = "string", format = "uuid",
                   example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
+          ),
+          @Parameter(
+              name = "view",
+              description = "取得形式（full:全項目, summary:説明文を含まない要約形式）",
+              schema = @Schema(type = "string", allowableValues = {"full", "summary"},
+                  defaultValue = "full")
           )
       },
       responses = {
@@ -194,6 +364,11 @@ public class TaskController {
               content = @Content(mediaType = "application/json",
                   schema = @Schema(implementation = TaskTree.class))
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "If-None-Match に指定した ETag が現在の内容と一致する場合",
+              content = @Content()
+          ),
           @ApiResponse(
               responseCode = "403",
               description = "ログインユーザーが指定したタスクの所有者でない場合",
@@ -207,13 +382,189 @@ public class TaskController {
       }
   )
   @GetMapping("/task-trees/{taskPublicId}")
-  public TaskTree getTaskTree(
+  public ResponseEntity<TaskTree> getTaskTree(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
-      String taskPublicId) {
-    return service.getTaskTreeByTaskPublicId(taskPublicId, userDetails.getAccount().getPublicId());
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
+      String taskPublicId,
+      @RequestParam(defaultValue = "full")
+      @Pattern(regexp = "^(full|summary)$", message = "full または summary を指定してください")
+      String view,
+      WebRequest webRequest) {
+    Integer userAccountId = userDetails.getAccount().getId();
+    boolean summary = "summary".equals(view);
+    return ConditionalGet.respond(webRequest,
+        (Long treeVersion) -> taskTreeETag(treeVersion, summary),
+        notModified -> service.getTaskTreeByTaskPublicIdWithVersion(taskPublicId, userAccountId,
+            summary, notModified));
+  }
+
+  /**
+   * 認証済みユーザーの全プロジェクトを横断して、期限日が指定範囲内のタスクを期限日の昇順にページ分割して取得します。
+   *
+   * @param userDetails      現在認証済みのユーザー情報
+   * @param from             期限日の下限（省略時は期限切れのタスクも含む）
+   * @param to               期限日の上限（省略時は当日から7日後）
+   * @param priority         優先度の絞り込み条件（複数指定可、省略時は絞り込まない）
+   * @param includeCompleted 完了済み（進捗率100%）のタスクも含めるかどうか
+   * @param cursor           前ページのレスポンスで返されたカーソル（先頭ページの場合は省略）
+   * @param limit            1ページあたりの最大件数
+   * @param view             取得形式（full:全項目, summary:説明文を含まない要約形式）
+   * @return 期限日が範囲内のタスクのリストの1ページ分と次ページ取得用のカーソル
+   */
+  @Operation(
+      summary = "期限日によるタスク一覧取得",
+      description = "認証されたユーザーの全プロジェクトを横断して、期限日が指定範囲内のタスクを期限日の昇順でページ分割して取得します。"
+          + "from を省略した場合は期限切れのタスクも含み、to を省略した場合は当日から7日後までを対象とします。"
+          + "完了済み（進捗率100%）のタスクは includeCompleted=true を指定した場合のみ含みます。"
+          + "次ページが存在する場合はレスポンスのnextCursorを、同じ条件のままcursorに指定して次ページを取得します。",
+      security = @SecurityRequirement(name = "userAuth"),
+      parameters = {
+          @Parameter(
+              name = "from",
+              description = "期限日の下限（この日を含む・省略時は下限なし）",
+              schema = @Schema(type = "string", format = "date", example = "2025-08-01")
+          ),
+          @Parameter(
+              name = "to",
+              description = "期限日の上限（この日を含む・省略時は当日から7日後）",
+              schema = @Schema(type = "string", format = "date", example = "2025-08-07")
+          ),
+          @Parameter(
+              name = "priority",
+              description = "優先度の絞り込み条件（複数指定可・省略時は全ての優先度）",
+              array = @ArraySchema(schema = @Schema(implementation = TaskPriority.class))
+          ),
+          @Parameter(
+              name = "includeCompleted",
+              description = "完了済み（進捗率100%）のタスクも含めるかどうか",
+              schema = @Schema(type = "boolean", defaultValue = "false")
+          ),
+          @Parameter(
+              name = "cursor",
+              description = "前ページのレスポンスで返されたnextCursor（先頭ページの場合は省略）",
+              schema = @Schema(type = "string")
+          ),
+          @Parameter(
+              name = "limit",
+              description = "1ページあたりの最大件数（1～100）",
+              schema = @Schema(type = "integer", defaultValue = "50", minimum = "1",
+                  maximum = "100")
+          ),
+          @Parameter(
+              name = "view",
+              description = "取得形式（full:全項目, summary:説明文を含まない要約形式）",
+              schema = @Schema(type = "string", allowableValues = {"full", "summary"},
+                  defaultValue = "full")
+          )
+      },
+      responses = {
+          @ApiResponse(
+              responseCode = "200",
+              description = "リクエストが正常に処理された場合",
+              content = @Content(mediaType = "application/json",
+                  schema = @Schema(implementation = CursorPage.class))
+          ),
+          @ApiResponse(
+              responseCode = "400",
+              description = "期限日の範囲、優先度、カーソルまたは取得件数の形式に誤りがある場合",
+              content = @Content()
+          )
+      }
+  )
+  @GetMapping("/tasks/due")
+  public CursorPage<Task> getDueTaskList(
+      @AuthenticationPrincipal UserAccountDetails userDetails,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+      LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+      LocalDate to,
+      @RequestParam(required = false) List<TaskPriority> priority,
+      @RequestParam(defaultValue = "false") boolean includeCompleted,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50")
+      @Min(value = 1, message = "取得件数は1以上を指定してください")
+      @Max(value = 100, message = "取得件数は100以下を指定してください")
+      int limit,
+      @RequestParam(defaultValue = "full")
+      @Pattern(regexp = "^(full|summary)$", message = "full または summary を指定してください")
+      String view) {
+    return service.getDueTasks(userDetails.getAccount().getId(), from, to, priority,
+        includeCompleted, cursor, limit, "summary".equals(view));
+  }
+
+  /**
+   * 認証済みユーザーの全プロジェクトを横断して、キーワードをタイトルまたは説明文に含むタスクを関連度の高い順にページ分割して取得します。
+   *
+   * @param userDetails 現在認証済みのユーザー情報
+   * @param q           検索文字列（空白区切りで複数キーワードを指定した場合は全てを含むタスクが対象）
+   * @param cursor      前ページのレスポンスで返されたカーソル（先頭ページの場合は省略）
+   * @param limit       1ページあたりの最大件数
+   * @param view        取得形式（full:全項目, summary:説明文を含まない要約形式）
+   * @return 検索結果のタスクのリストの1ページ分と次ページ取得用のカーソル
+   */
+  @Operation(
+      summary = "キーワードによるタスク検索",
+      description = "認証されたユーザーの全プロジェクトを横断して、キーワードをタイトルまたは説明文に含むタスクを関連度の高い順でページ分割して取得します。"
+          + "空白区切りで複数のキーワードを指定した場合は、全てのキーワードを含むタスクを対象とします（先頭から5件まで）。"
+          + "次ページが存在する場合はレスポンスのnextCursorを、同じ条件のままcursorに指定して次ページを取得します（上位1000件まで）。",
+      security = @SecurityRequirement(name = "userAuth"),
+      parameters = {
+          @Parameter(
+              name = "q",
+              description = "検索文字列（1～100文字）",
+              required = true,
+              schema = @Schema(type = "string", example = "設計")
+          ),
+          @Parameter(
+              name = "cursor",
+              description = "前ページのレスポンスで返されたnextCursor（先頭ページの場合は省略）",
+              schema = @Schema(type = "string")
+          ),
+          @Parameter(
+              name = "limit",
+              description = "1ページあたりの最大件数（1～100）",
+              schema = @Schema(type = "integer", defaultValue = "50", minimum = "1",
+                  maximum = "100")
+          ),
+          @Parameter(
+              name = "view",
+              description = "取得形式（full:全項目, summary:説明文を含まない要約形式）",
+              schema = @Schema(type = "string", allowableValues = {"full", "summary"},
+                  defaultValue = "full")
+          )
+      },
+      responses = {
+          @ApiResponse(
+              responseCode = "200",
+              description = "リクエストが正常に処理された場合",
+              content = @Content(mediaType = "application/json",
+                  schema = @Schema(implementation = CursorPage.class))
+          ),
+          @ApiResponse(
+              responseCode = "400",
+              description = "検索文字列、カーソルまたは取得件数の形式に誤りがある場合",
+              content = @Content()
+          )
+      }
+  )
+  @GetMapping("/tasks/search")
+  public CursorPage<Task> searchTaskList(
+      @AuthenticationPrincipal UserAccountDetails userDetails,
+      @RequestParam
+      @NotBlank(message = "検索文字列は必須です")
+      @Size(max = 100, message = "検索文字列は100文字以下で入力してください")
+      String q,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50")
+      @Min(value = 1, message = "取得件数は1以上を指定してください")
+      @Max(value = 100, message = "取得件数は100以下を指定してください")
+      int limit,
+      @RequestParam(defaultValue = "full")
+      @Pattern(regexp = "^(full|summary)$", message = "full または summary を指定してください")
+      String view) {
+    return service.searchTasks(userDetails.getAccount().getId(), q, cursor, limit,
+        "summary".equals(view));
   }
 
   /**
@@ -225,7 +576,8 @@ public class TaskController {
    */
   @Operation(
       summary = "タスクの単体取得",
-      description = "タスクの公開Idに紐づくタスク情報を取得します",
+      description = "タスクの公開Idに紐づくタスク情報を取得します。"
+          + "ETag ヘッダーに現在のバージョンを返します（更新時の If-Match に指定できます）",
       security = @SecurityRequirement(name = "userAuth"),
       responses = {
           @ApiResponse(
@@ -250,11 +602,10 @@ public class TaskController {
   public ResponseEntity<Task> getTask(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
       String taskPublicId) {
-    Task task = service.getTaskByTaskPublicId(taskPublicId, userDetails.getAccount().getPublicId());
-    return ResponseEntity.ok(task);
+    Task task = service.getTaskByTaskPublicId(taskPublicId, userDetails.getAccount().getId());
+    return ResponseEntity.ok().eTag(VersionETag.of(task.getVersion())).body(task);
   }
 
   /**
@@ -279,11 +630,6 @@ public class TaskController {
               responseCode = "400",
               description = "リクエストの内容が不正（入力値がバリデーション条件違反）だった場合",
               content = @Content()
-          ),
-          @ApiResponse(
-              responseCode = "404",
-              description = "認証済みユーザーが削除済みまたは無効化されている場合",
-              content = @Content()
           )
       }
   )
@@ -291,7 +637,7 @@ public class TaskController {
   public ResponseEntity<Project> createProject(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @Valid @RequestBody ProjectRequest request) {
-    Project project = service.createProject(request, userDetails.getAccount().getPublicId());
+    Project project = service.createProject(request, userDetails.getAccount().getId());
     return ResponseEntity.status(HttpStatus.CREATED).body(project);
   }
 
@@ -344,12 +690,11 @@ public class TaskController {
   public ResponseEntity<Task> createParentTask(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
       String projectPublicId,
       @Valid @RequestBody TaskRequest request) {
     Task task = service.createParentTask(request, projectPublicId,
-        userDetails.getAccount().getPublicId());
+        userDetails.getAccount().getId());
     return ResponseEntity.status(HttpStatus.CREATED).body(task);
   }
 
@@ -402,15 +747,72 @@ public class TaskController {
   public ResponseEntity<Task> createSubtask(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
       String taskPublicId,
       @Valid @RequestBody TaskRequest request) {
     Task task = service.createSubtask(request, taskPublicId,
-        userDetails.getAccount().getPublicId());
+        userDetails.getAccount().getId());
     return ResponseEntity.status(HttpStatus.CREATED).body(task);
   }
 
+  /**
+   * プロジェクト直下に、親タスクとその子タスクの階層構造をまとめて登録します。
+   *
+   * @param userDetails     現在認証済みのユーザー情報
+   * @param projectPublicId プロジェクトの公開ID
+   * @param request         タスク一括登録リクエスト
+   * @return 登録した親子タスクの一覧
+   */
+  @Operation(
+      summary = "親子タスクの一括登録",
+      description = "親タスクとその子タスクの階層構造をまとめて登録します（親タスク・子タスクの合計"
+          + TaskBulkCreateRequest.MAX_TASK_COUNT + "件まで）",
+      security = @SecurityRequirement(name = "userAuth"),
+      parameters = {
+          @Parameter(
+              name = "projectPublicId",
+              required = true,
+              description = "プロジェクトの公開ID（UUID）",
+              schema = @Schema(type = "string", format = "uuid",
+                  example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
+          )
+      },
+      responses = {
+          @ApiResponse(
+              responseCode = "201",
+              description = "タスクが正常に作成された場合",
+              content = @Content(mediaType = "application/json",
+                  array = @ArraySchema(schema = @Schema(implementation = TaskTree.class)))
+          ),
+          @ApiResponse(
+              responseCode = "400",
+              description = "リクエストの内容が不正（入力値がバリデーション条件違反、または件数が上限超過）だった場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "403",
+              description = "ログインユーザーが指定したプロジェクトの所有者でない場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "404",
+              description = "指定した公開IDのプロジェクトが存在しないか、削除されている場合",
+              content = @Content()
+          )
+      }
+  )
+  @PostMapping("/projects/{projectPublicId}/task-trees")
+  public ResponseEntity<List<TaskTree>> createTaskTrees(
+      @AuthenticationPrincipal UserAccountDetails userDetails,
+      @PathVariable
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
+      String projectPublicId,
+      @Valid @RequestBody TaskBulkCreateRequest request) {
+    List<TaskTree> taskTrees = service.createTaskTrees(request, projectPublicId,
+        userDetails.getAccount().getId());
+    return ResponseEntity.status(HttpStatus.CREATED).body(taskTrees);
+  }
+
   /**
    * 既存のプロジェクトを更新します。
    *
@@ -430,12 +832,18 @@ public class TaskController {
               description = "プロジェクトの公開ID（UUID）",
               schema = @Schema(type = "string", format = "uuid",
                   example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
+          ),
+          @Parameter(
+              name = HttpHeaders.IF_MATCH,
+              in = ParameterIn.HEADER,
+              description = "取得時の ETag の値。指定した場合は現在のバージョンと一致する場合のみ更新します",
+              schema = @Schema(type = "string", example = "\"0\"")
           )
       },
       responses = {
           @ApiResponse(
               responseCode = "200",
-              description = "プロジェクトが正常に更新された場合",
+              description = "プロジェクトが正常に更新された場合（ETag ヘッダーに更新後のバージョンを返却）",
               content = @Content(mediaType = "application/json",
                   schema = @Schema(implementation = Project.class))
           ),
@@ -453,6 +861,16 @@ public class TaskController {
               responseCode = "404",
               description = "指定した公開IDのプロジェクトが存在しないか、削除されている場合",
               content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "409",
+              description = "取得から更新までの間に他のリクエストでプロジェクトが更新された場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "412",
+              description = "If-Match で指定したバージョンが現在のバージョンと一致しない場合",
+              content = @Content()
           )
       }
   )
@@ -460,13 +878,89 @@ public class TaskController {
   public ResponseEntity<Project> updateProject(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
       String projectPublicId,
-      @Valid @RequestBody ProjectRequest request) {
+      @Valid @RequestBody ProjectRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    Integer expectedVersion = VersionETag.parseIfMatch(ifMatch, TargetResource.PROJECT);
     Project project = service.updateProject(request, projectPublicId,
-        userDetails.getAccount().getPublicId());
-    return ResponseEntity.ok(project);
+        userDetails.getAccount().getId(), expectedVersion);
+    return ResponseEntity.ok().eTag(VersionETag.of(project.getVersion())).body(project);
+  }
+
+  /**
+   * 既存のプロジェクトのうち、リクエストで指定された項目のみを更新します。
+   *
+   * @param userDetails     現在認証済みのユーザー情報
+   * @param projectPublicId プロジェクトの公開ID
+   * @param request         プロジェクトの部分更新用リクエスト
+   * @return 更新後のプロジェクト情報
+   */
+  @Operation(
+      summary = "プロジェクト部分更新",
+      description = "既存プロジェクトの指定された項目のみを更新します。未指定(null)の項目は現在の値を維持します",
+      security = @SecurityRequirement(name = "userAuth"),
+      parameters = {
+          @Parameter(
+              name = "projectPublicId",
+              required = true,
+              description = "プロジェクトの公開ID（UUID）",
+              schema = @Schema(type = "string", format = "uuid",
+                  example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
+          ),
+          @Parameter(
+              name = HttpHeaders.IF_MATCH,
+              in = ParameterIn.HEADER,
+              description = "取得時の ETag の値。指定した場合は現在のバージョンと一致する場合のみ更新します",
+              schema = @Schema(type = "string", example = "\"0\"")
+          )
+      },
+      responses = {
+          @ApiResponse(
+              responseCode = "200",
+              description = "プロジェクトが正常に更新された場合（ETag ヘッダーに更新後のバージョンを返却）",
+              content = @Content(mediaType = "application/json",
+                  schema = @Schema(implementation = Project.class))
+          ),
+          @ApiResponse(
+              responseCode = "400",
+              description = "リクエストの内容が不正（入力値がバリデーション条件違反）だった場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "403",
+              description = "ログインユーザーが指定したプロジェクトの所有者でない場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "404",
+              description = "指定した公開IDのプロジェクトが存在しないか、削除されている場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "409",
+              description = "取得から更新までの間に他のリクエストでプロジェクトが更新された場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "412",
+              description = "If-Match で指定したバージョンが現在のバージョンと一致しない場合",
+              content = @Content()
+          )
+      }
+  )
+  @PatchMapping("/projects/{projectPublicId}")
+  public ResponseEntity<Project> patchProject(
+      @AuthenticationPrincipal UserAccountDetails userDetails,
+      @PathVariable
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
+      String projectPublicId,
+      @Valid @RequestBody ProjectPatchRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    Integer expectedVersion = VersionETag.parseIfMatch(ifMatch, TargetResource.PROJECT);
+    Project project = service.patchProject(request, projectPublicId,
+        userDetails.getAccount().getId(), expectedVersion);
+    return ResponseEntity.ok().eTag(VersionETag.of(project.getVersion())).body(project);
   }
 
   /**
@@ -488,12 +982,18 @@ public class TaskController {
               description = "タスクの公開ID（UUID）",
               schema = @Schema(type = "string", format = "uuid",
                   example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
+          ),
+          @Parameter(
+              name = HttpHeaders.IF_MATCH,
+              in = ParameterIn.HEADER,
+              description = "取得時の ETag の値。指定した場合は現在のバージョンと一致する場合のみ更新します",
+              schema = @Schema(type = "string", example = "\"0\"")
           )
       },
       responses = {
           @ApiResponse(
               responseCode = "200",
-              description = "タスクが正常に更新された場合",
+              description = "タスクが正常に更新された場合（ETag ヘッダーに更新後のバージョンを返却）",
               content = @Content(mediaType = "application/json",
                   schema = @Schema(implementation = Task.class))
           ),
@@ -511,6 +1011,16 @@ public class TaskController {
               responseCode = "404",
               description = "指定した公開IDのタスクが存在しないか、削除されている場合",
               content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "409",
+              description = "取得から更新までの間に他のリクエストでタスクが更新された場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "412",
+              description = "If-Match で指定したバージョンが現在のバージョンと一致しない場合",
+              content = @Content()
           )
       }
   )
@@ -518,12 +1028,125 @@ public class TaskController {
   public ResponseEntity<Task> updateTask(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
       String taskPublicId,
-      @Valid @RequestBody TaskRequest request) {
-    Task task = service.updateTask(request, taskPublicId, userDetails.getAccount().getPublicId());
-    return ResponseEntity.ok(task);
+      @Valid @RequestBody TaskRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    Integer expectedVersion = VersionETag.parseIfMatch(ifMatch, TargetResource.TASK);
+    Task task = service.updateTask(request, taskPublicId, userDetails.getAccount().getId(),
+        expectedVersion);
+    return ResponseEntity.ok().eTag(VersionETag.of(task.getVersion())).body(task);
+  }
+
+  /**
+   * 既存のタスクのうち、リクエストで指定された項目のみを更新します。
+   *
+   * @param userDetails  現在認証済みのユーザー情報
+   * @param taskPublicId タスクの公開ID
+   * @param request      タスクの部分更新用リクエスト
+   * @return 更新後のタスク情報
+   */
+  @Operation(
+      summary = "タスク部分更新",
+      description = "既存タスクの指定された項目のみを更新します。未指定(null)の項目は現在の値を維持します",
+      security = @SecurityRequirement(name = "userAuth"),
+      parameters = {
+          @Parameter(
+              name = "taskPublicId",
+              required = true,
+              description = "タスクの公開ID（UUID）",
+              schema = @Schema(type = "string", format = "uuid",
+                  example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
+          ),
+          @Parameter(
+              name = HttpHeaders.IF_MATCH,
+              in = ParameterIn.HEADER,
+              description = "取得時の ETag の値。指定した場合は現在のバージョンと一致する場合のみ更新します",
+              schema = @Schema(type = "string", example = "\"0\"")
+          )
+      },
+      responses = {
+          @ApiResponse(
+              responseCode = "200",
+              description = "タスクが正常に更新された場合（ETag ヘッダーに更新後のバージョンを返却）",
+              content = @Content(mediaType = "application/json",
+                  schema = @Schema(implementation = Task.class))
+          ),
+          @ApiResponse(
+              responseCode = "400",
+              description = "リクエストの内容が不正（入力値がバリデーション条件違反）だった場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "403",
+              description = "ログインユーザーが指定したタスクの所有者でない場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "404",
+              description = "指定した公開IDのタスクが存在しないか、削除されている場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "409",
+              description = "取得から更新までの間に他のリクエストでタスクが更新された場合",
+              content = @Content()
+          ),
+          @ApiResponse(
+              responseCode = "412",
+              description = "If-Match で指定したバージョンが現在のバージョンと一致しない場合",
+              content = @Content()
+          )
+      }
+  )
+  @PatchMapping("/tasks/{taskPublicId}")
+  public ResponseEntity<Task> patchTask(
+      @AuthenticationPrincipal UserAccountDetails userDetails,
+      @PathVariable
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
+      String taskPublicId,
+      @Valid @RequestBody TaskPatchRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    Integer expectedVersion = VersionETag.parseIfMatch(ifMatch, TargetResource.TASK);
+    Task task = service.patchTask(request, taskPublicId, userDetails.getAccount().getId(),
+        expectedVersion);
+    return ResponseEntity.ok().eTag(VersionETag.of(task.getVersion())).body(task);
+  }
+
+  /**
+   * 複数タスクの項目をまとめて部分更新します。
+   *
+   * @param userDetails 現在認証済みのユーザー情報
+   * @param request     タスク一括部分更新リクエスト
+   * @return タスクごとの処理結果
+   */
+  @Operation(
+      summary = "タスクの一括部分更新",
+      description = "複数タスクの指定項目をまとめて更新し、タスクごとの処理結果を返します（"
+          + TaskBulkPatchRequest.MAX_TASK_COUNT + "件まで）。"
+          + "存在しないタスクや所有者でないタスクが含まれていても他のタスクの更新は行われます",
+      security = @SecurityRequirement(name = "userAuth"),
+      responses = {
+          @ApiResponse(
+              responseCode = "200",
+              description = "リクエストが処理された場合（各タスクの結果は status を参照）",
+              content = @Content(mediaType = "application/json",
+                  array = @ArraySchema(schema = @Schema(implementation = TaskBulkPatchResult.class)))
+          ),
+          @ApiResponse(
+              responseCode = "400",
+              description = "リクエストの内容が不正（入力値がバリデーション条件違反、件数が上限超過、または公開IDの重複）だった場合",
+              content = @Content()
+          )
+      }
+  )
+  @PatchMapping("/tasks")
+  public ResponseEntity<List<TaskBulkPatchResult>> patchTasks(
+      @AuthenticationPrincipal UserAccountDetails userDetails,
+      @Valid @RequestBody TaskBulkPatchRequest request) {
+    List<TaskBulkPatchResult> results = service.patchTasks(request,
+        userDetails.getAccount().getId());
+    return ResponseEntity.ok(results);
   }
 
   /**
@@ -566,10 +1189,9 @@ public class TaskController {
   public ResponseEntity<Void> deleteProject(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
       String projectPublicId) {
-    service.deleteProject(projectPublicId, userDetails.getAccount().getPublicId());
+    service.deleteProject(projectPublicId, userDetails.getAccount().getId());
     return ResponseEntity.noContent().build();
   }
 
@@ -613,11 +1235,46 @@ public class TaskController {
   public ResponseEntity<Void> deleteTask(
       @AuthenticationPrincipal UserAccountDetails userDetails,
       @PathVariable
-      @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-          message = "入力の形式に誤りがあります")
+      @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
       String taskPublicId) {
-    service.deleteTask(taskPublicId, userDetails.getAccount().getPublicId());
+    service.deleteTask(taskPublicId, userDetails.getAccount().getId());
     return ResponseEntity.noContent().build();
   }
 
+  /**
+   * プロジェクト一覧の変更判定用の値から ETag を生成します。
+   * <p>
+   * タスク集計は当日を基準に期限切れ件数を求めるため、集計を含める場合は日付も ETag に含めます。
+   *
+   * @param listVersion プロジェクト一覧の変更判定用の値
+   * @param withSummary タスク集計結果を含めるかどうか
+   * @return ETag の値、変更判定用の値を取得できない場合は null
+   */
+  private String projectListETag(ProjectListVersion listVersion, boolean withSummary) {
+    if (listVersion == null) {
+      return null;
+    }
+    if (!withSummary) {
+      return VersionETag.ofKeys("projects", listVersion.getProjectCount(),
+          listVersion.getMaxProjectId(), listVersion.getVersionSum());
+    }
+    return VersionETag.ofKeys("projects-summary", listVersion.getProjectCount(),
+        listVersion.getMaxProjectId(), listVersion.getVersionSum(),
+        listVersion.getTreeVersionSum(), LocalDate.now());
+  }
+
+  /**
+   * タスクツリーのバージョンから ETag を生成します。
+   *
+   * @param treeVersion タスクツリーのバージョン
+   * @param summary     要約形式で取得するかどうか
+   * @return ETag の値、バージョンを取得できない場合は null
+   */
+  private String taskTreeETag(Long treeVersion, boolean summary) {
+    if (treeVersion == null) {
+      return null;
+    }
+    return VersionETag.ofKeys("tree", treeVersion, summary ? "summary" : "full");
+  }
+
 }
@@ -0,0 +1,34 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * カーソル方式でページ分割した一覧の1ページ分を表す DTO。
+ * <p>
+ * 次ページが存在する場合は nextCursor に次ページ取得用のカーソルを設定し、最終ページの場合は null を設定します。
+ *
+ * @param <T> 一覧の要素の型
+ */
+@Schema(description = "カーソル方式でページ分割した一覧の1ページ分を定義するDTO")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+
+  /**
+   * 当該ページの要素一覧
+   */
+  @Schema(description = "当該ページの要素一覧")
+  private List<T> items;
+
+  /**
+   * 次ページ取得用のカーソル。最終ページの場合は null
+   */
+  @Schema(description = "次ページ取得用のカーソル（最終ページの場合はnull）", example = "MTI")
+  private String nextCursor;
+
+}
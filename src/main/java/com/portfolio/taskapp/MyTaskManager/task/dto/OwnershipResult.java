@@ -0,0 +1,30 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 所有者検証付きで取得したリソースと、その所有判定結果を保持する DTO。
+ * <p>
+ * 存在確認と所有者検証を1回のクエリで行う際の取得結果として使用します。 取得結果自体が null の場合は対象が存在しないことを、owned が false
+ * の場合はリクエストユーザーの所有でないことを示します。
+ *
+ * @param <T> 取得対象のエンティティ型
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OwnershipResult<T> {
+
+  /**
+   * 取得対象のエンティティ
+   */
+  private T resource;
+
+  /**
+   * リクエストユーザーが所有者である場合は true
+   */
+  private boolean owned;
+
+}
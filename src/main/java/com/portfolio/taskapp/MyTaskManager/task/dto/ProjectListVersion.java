@@ -0,0 +1,39 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ユーザーのプロジェクト一覧の内容が変わったかを判定するための値を保持する DTO。
+ * <p>
+ * プロジェクトの登録で件数と最大の内部IDが、削除で件数が、更新でバージョンの合計が必ず変化するため、
+ * 全ての値が一致する場合はプロジェクト一覧に変更がないことを示します。
+ * タスク集計を含める場合は、タスクの変更のたびに加算されるタスクツリーのバージョンの合計も使用します。
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectListVersion {
+
+  /**
+   * 未削除のプロジェクト件数
+   */
+  private long projectCount;
+
+  /**
+   * 未削除のプロジェクトの最大の内部ID(プロジェクトがない場合は0)
+   */
+  private long maxProjectId;
+
+  /**
+   * 未削除のプロジェクトのバージョンの合計
+   */
+  private long versionSum;
+
+  /**
+   * 未削除のプロジェクトのタスクツリーのバージョンの合計(タスク集計を含めない場合は null)
+   */
+  private Long treeVersionSum;
+
+}
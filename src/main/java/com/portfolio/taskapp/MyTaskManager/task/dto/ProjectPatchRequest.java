@@ -0,0 +1,50 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * プロジェクトの部分更新用リクエスト DTO。 値を指定した項目のみを更新し、null の項目は現在の値を維持します。
+ */
+@Schema(description = "プロジェクトの部分更新用リクエストDTO（未指定の項目は更新しません）")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectPatchRequest {
+
+  /**
+   * プロジェクト名。最大100文字
+   */
+  @Schema(description = "プロジェクト名", example = "新規プロジェクト")
+  @Pattern(regexp = ".*\\S.*", message = "プロジェクト名を空白のみにすることはできません")
+  @Size(max = 100, message = "プロジェクト名は100文字以下で入力してください")
+  private String projectCaption;
+
+  /**
+   * プロジェクトの詳細説明。最大1000文字
+   */
+  @Schema(description = "プロジェクトの詳細説明", example = "新規プロジェクトの説明文")
+  @Size(max = 1000, message = "プロジェクトの詳細説明は1000文字以下で入力してください")
+  private String description;
+
+  /**
+   * プロジェクトステータス。
+   */
+  @Schema(description = "ステータス（ACTIVE/ARCHIVED）", example = "ARCHIVED")
+  private ProjectStatus status;
+
+  /**
+   * 更新対象の項目が1つ以上指定されているかを判定します。
+   *
+   * @return 1つ以上の項目が指定されている場合は true
+   */
+  public boolean hasChanges() {
+    return projectCaption != null || description != null || status != null;
+  }
+
+}
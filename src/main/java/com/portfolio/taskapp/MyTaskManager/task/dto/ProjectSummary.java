@@ -0,0 +1,62 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * プロジェクトに紐づく未削除タスク(親タスク・子タスク)の集計結果を表す DTO。
+ * <p>
+ * タスク一覧を取得せずにプロジェクトの進捗状況を表示する際に使用します。 集計は DB 側で1回の集計クエリにより行います。
+ */
+@Schema(description = "プロジェクトのタスク集計結果を定義するDTO")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectSummary {
+
+  /**
+   * 未削除のタスク数
+   */
+  @Schema(description = "タスク数（親タスク・子タスクの合計）", example = "12")
+  private int taskCount;
+
+  /**
+   * 進捗率が100%のタスク数
+   */
+  @Schema(description = "完了タスク数（進捗率100%）", example = "5")
+  private int completedTaskCount;
+
+  /**
+   * 期限日を過ぎた未完了のタスク数
+   */
+  @Schema(description = "期限切れタスク数（期限日が過ぎた未完了タスク）", example = "2")
+  private int overdueTaskCount;
+
+  /**
+   * 見積もり時間の合計
+   */
+  @Schema(description = "見積もり時間の合計（単位:min）", example = "1440")
+  private long totalEstimatedTime;
+
+  /**
+   * 実績時間の合計
+   */
+  @Schema(description = "実績時間の合計（単位:min）", example = "960")
+  private long totalActualTime;
+
+  /**
+   * 見積もり時間で重み付けした進捗率
+   */
+  @Schema(description = "見積もり時間で重み付けした進捗率（%・見積もり時間が全て0の場合は単純平均）", example = "45")
+  private int progress;
+
+  /**
+   * 未完了タスクのうち直近の期限日
+   */
+  @Schema(description = "未完了タスクのうち本日以降で直近の期限日（該当なしの場合は null）", example = "2025-09-01")
+  private LocalDate nextDueDate;
+
+}
@@ -0,0 +1,53 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * タスクの一括登録用リクエスト DTO。 親タスクと子タスクの階層構造をまとめて登録する API のリクエストボディとして使用します。
+ */
+@Schema(description = "タスクの一括登録用リクエストDTO")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkCreateRequest {
+
+  /**
+   * 1リクエストで登録できるタスク(親タスクと子タスクの合計)の上限件数
+   */
+  public static final int MAX_TASK_COUNT = 2000;
+
+  /**
+   * 登録する親子タスクのリスト。必須
+   */
+  @Schema(description = "登録する親子タスクのリスト")
+  @Valid
+  @NotEmpty(message = "登録するタスクは必須です")
+  private List<TaskTreeRequest> taskTrees;
+
+  /**
+   * 親タスクと子タスクの合計件数が上限以下であるかを判定します。
+   *
+   * @return 上限以下の場合は true
+   */
+  @JsonIgnore
+  @AssertTrue(message = "一度に登録できるタスクは" + MAX_TASK_COUNT + "件以下です")
+  public boolean isWithinTaskCount() {
+    if (taskTrees == null) {
+      return true;
+    }
+    long count = taskTrees.stream()
+        .filter(tree -> tree != null)
+        .mapToLong(tree -> 1 + (tree.getSubtaskList() == null ? 0 : tree.getSubtaskList().size()))
+        .sum();
+    return count <= MAX_TASK_COUNT;
+  }
+
+}
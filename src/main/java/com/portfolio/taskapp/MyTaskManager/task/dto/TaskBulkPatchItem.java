@@ -0,0 +1,37 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * タスクの一括部分更新における1件分の更新内容を表す DTO。
+ */
+@Schema(description = "タスクの一括部分更新における1件分の更新内容")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkPatchItem {
+
+  /**
+   * 更新対象タスクの公開ID。必須
+   */
+  @Schema(description = "更新対象タスクの公開ID", example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef")
+  @NotNull(message = "タスクの公開IDは必須です")
+  @Pattern(regexp = PublicIdFormat.REGEXP, message = "入力の形式に誤りがあります")
+  private String taskPublicId;
+
+  /**
+   * 更新内容。必須
+   */
+  @Schema(description = "更新内容（未指定の項目は更新しません）")
+  @Valid
+  @NotNull(message = "更新内容は必須です")
+  private TaskPatchRequest changes;
+
+}
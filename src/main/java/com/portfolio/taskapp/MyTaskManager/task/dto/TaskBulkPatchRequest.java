@@ -0,0 +1,58 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * タスクの一括部分更新用リクエスト DTO。 複数タスクの項目をまとめて更新する API のリクエストボディとして使用します。
+ */
+@Schema(description = "タスクの一括部分更新用リクエストDTO")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkPatchRequest {
+
+  /**
+   * 1リクエストで更新できるタスクの上限件数
+   */
+  public static final int MAX_TASK_COUNT = 500;
+
+  /**
+   * 更新するタスクごとの更新内容のリスト。必須
+   */
+  @Schema(description = "更新するタスクごとの更新内容のリスト")
+  @Valid
+  @NotEmpty(message = "更新するタスクは必須です")
+  @Size(max = MAX_TASK_COUNT, message = "一度に更新できるタスクは" + MAX_TASK_COUNT + "件以下です")
+  private List<TaskBulkPatchItem> tasks;
+
+  /**
+   * 同一のタスクが重複して指定されていないかを判定します。
+   *
+   * @return 重複がない場合は true
+   */
+  @JsonIgnore
+  @AssertTrue(message = "同じタスクを重複して指定することはできません")
+  public boolean isWithoutDuplicates() {
+    if (tasks == null) {
+      return true;
+    }
+    List<String> publicIds = tasks.stream()
+        .filter(Objects::nonNull)
+        .map(TaskBulkPatchItem::getTaskPublicId)
+        .filter(Objects::nonNull)
+        .map(String::toLowerCase)
+        .toList();
+    return publicIds.stream().distinct().count() == publicIds.size();
+  }
+
+}
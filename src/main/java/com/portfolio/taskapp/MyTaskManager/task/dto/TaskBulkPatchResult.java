@@ -0,0 +1,40 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.BulkItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * タスクの一括部分更新における1件分の処理結果を表す DTO。
+ */
+@Schema(description = "タスクの一括部分更新における1件分の処理結果")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkPatchResult {
+
+  /**
+   * 更新対象として指定されたタスクの公開ID
+   */
+  @Schema(description = "更新対象として指定されたタスクの公開ID",
+      example = "a1b2c3d4-e5f6-7890-abcd-1234567890ef")
+  private String taskPublicId;
+
+  /**
+   * 処理結果
+   */
+  @Schema(description = "処理結果", example = "UPDATED")
+  private BulkItemStatus status;
+
+  /**
+   * 更新後のタスク情報。更新されなかった場合は含まれません
+   */
+  @Schema(description = "更新後のタスク情報（更新されなかった場合は含まれません）")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Task task;
+
+}
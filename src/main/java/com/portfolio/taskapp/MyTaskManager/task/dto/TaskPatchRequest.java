@@ -0,0 +1,84 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * タスクの部分更新用リクエスト DTO。 値を指定した項目のみを更新し、null の項目は現在の値を維持します。
+ */
+@Schema(description = "タスクの部分更新用リクエストDTO（未指定の項目は更新しません）")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPatchRequest {
+
+  /**
+   * タスク名。最大100文字
+   */
+  @Schema(description = "タスク名", example = "テスト計画")
+  @Pattern(regexp = ".*\\S.*", message = "タスク名を空白のみにすることはできません")
+  @Size(max = 100, message = "タスク名は100文字以下で入力してください")
+  private String taskCaption;
+
+  /**
+   * タスクの詳細説明。最大1000文字
+   */
+  @Schema(description = "タスクの詳細説明", example = "テスト計画作成")
+  @Size(max = 1000, message = "タスクの詳細説明は1000文字以下で入力してください")
+  private String description;
+
+  /**
+   * タスクの期限日。
+   */
+  @Schema(description = "期限日", example = "2025-01-01")
+  private LocalDate dueDate;
+
+  /**
+   * 見積もり時間（分単位）。正の整数
+   */
+  @Schema(description = "見積もり時間（単位:min）", example = "120")
+  @Positive(message = "入力値は分単位で正の整数値を入力してください")
+  private Integer estimatedTime;
+
+  /**
+   * 実績時間（分単位）。
+   */
+  @Schema(description = "実績時間（単位:min）", example = "60")
+  @PositiveOrZero(message = "入力値は分単位で0以上の整数値を入力してください")
+  private Integer actualTime;
+
+  /**
+   * 進捗率（%）。0〜100
+   */
+  @Schema(description = "進捗率（%）", example = "50")
+  @Min(value = 0, message = "入力値は0以上の整数値を入力してください")
+  @Max(value = 100, message = "入力値は100以下の整数値を入力してください")
+  private Integer progress;
+
+  /**
+   * タスクの優先度。
+   */
+  @Schema(description = "優先度", example = "LOW")
+  private TaskPriority priority;
+
+  /**
+   * 更新対象の項目が1つ以上指定されているかを判定します。
+   *
+   * @return 1つ以上の項目が指定されている場合は true
+   */
+  public boolean hasChanges() {
+    return taskCaption != null || description != null || dueDate != null
+        || estimatedTime != null || actualTime != null || progress != null || priority != null;
+  }
+
+}
@@ -8,7 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
- * 親タスクとその子タスクの階層構造を表す DTO。 親子タスクをツリー構造で返す際に使用します。
+ * タスクとその子タスクの階層構造を表す DTO。 子タスクも同じ構造で保持し、任意の階層数のツリー構造で返す際に使用します。
  */
 @Schema(description = "タスクの親子関係の階層構造を定義するDTO")
 @Getter
@@ -17,15 +17,15 @@ import lombok.NoArgsConstructor;
 public class TaskTree {
 
   /**
-   * 親タスク
+   * タスク
    */
-  @Schema(description = "親タスク")
-  private Task parentTask;
+  @Schema(description = "タスク")
+  private Task task;
 
   /**
-   * 親タスクに紐づく子タスクのリスト
+   * タスクに紐づく子タスクの階層構造のリスト
    */
-  @Schema(description = "親タスクに紐づく子タスクのリスト")
-  private List<Task> subtaskList;
+  @Schema(description = "タスクに紐づく子タスクの階層構造のリスト")
+  private List<TaskTree> subtaskList;
 
 }
@@ -0,0 +1,35 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 親タスクとその子タスクをまとめて登録するためのリクエスト DTO。 タスクの一括登録 API のリクエストボディの要素として使用します。
+ */
+@Schema(description = "親タスクとその子タスクの登録用リクエストDTO")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskTreeRequest {
+
+  /**
+   * 親タスクの登録内容。必須
+   */
+  @Schema(description = "親タスクの登録内容")
+  @Valid
+  @NotNull(message = "親タスクは必須です")
+  private TaskRequest parentTask;
+
+  /**
+   * 親タスクに紐づける子タスクの登録内容のリスト。子タスクがない場合は省略可
+   */
+  @Schema(description = "親タスクに紐づける子タスクの登録内容のリスト（子タスクがない場合は省略可）")
+  @Valid
+  private List<TaskRequest> subtaskList;
+
+}
@@ -0,0 +1,56 @@
+package com.portfolio.taskapp.MyTaskManager.task.repository;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectChange;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * キャッシュ無効化のための変更履歴(project_change_log)に関する DB 操作を提供するインターフェース。MyBatis でマッピングしています。
+ * <p>
+ * 変更履歴の登録はキャッシュの情報が古くなる変更と同一のトランザクション内で行い、各アプリノードは連番の昇順に読み取ってキャッシュを破棄します。
+ */
+@Mapper
+public interface ProjectChangeLogRepository {
+
+  /**
+   * プロジェクトの変更履歴を登録します。
+   *
+   * @param projectId 変更のあったプロジェクトの内部ID
+   */
+  void insertChange(@Param("projectId") Integer projectId);
+
+  /**
+   * 指定した連番より後ろの変更履歴を、連番の昇順で指定件数まで取得します。
+   *
+   * @param afterSeq 読み取り済みの連番
+   * @param limit    取得件数の上限
+   * @return 変更履歴のリスト、存在しない場合は空リスト
+   */
+  List<ProjectChange> findChangesAfter(@Param("afterSeq") long afterSeq,
+      @Param("limit") int limit);
+
+  /**
+   * 指定した連番の変更履歴を、連番の昇順で取得します。
+   *
+   * @param seqs 連番のリスト
+   * @return 変更履歴のリスト、存在しない場合は空リスト
+   */
+  List<ProjectChange> findChangesBySeqs(@Param("seqs") List<Long> seqs);
+
+  /**
+   * 登録済みの変更履歴の最大の連番を取得します。
+   *
+   * @return 最大の連番、変更履歴が存在しない場合は0
+   */
+  long findLatestSeq();
+
+  /**
+   * 指定した連番以前の変更履歴を削除します。
+   *
+   * @param seq 削除対象の末尾の連番(この連番を含む)
+   * @return 削除件数
+   */
+  int deleteChangesUpTo(@Param("seq") long seq);
+
+}
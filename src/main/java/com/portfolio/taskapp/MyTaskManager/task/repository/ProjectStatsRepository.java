@@ -0,0 +1,136 @@
+package com.portfolio.taskapp.MyTaskManager.task.repository;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectDueStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectStats;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * プロジェクトごとのタスク集計(project_stats・project_due_stats)に関する DB 操作を提供するインターフェース。MyBatis でマッピングしています。
+ * <p>
+ * タスクの登録・更新・削除に伴う差分の適用と、タスクからの再集計による補正(突き合わせ)に使用します。
+ * 集計結果の参照はプロジェクトの取得と合わせて TaskRepository で行います。
+ */
+@Mapper
+public interface ProjectStatsRepository {
+
+  /**
+   * プロジェクトの集計を新規に登録します。
+   *
+   * @param stats 登録する集計(新規プロジェクトの場合は各項目0)
+   */
+  void createProjectStats(ProjectStats stats);
+
+  /**
+   * プロジェクトの集計に差分を加算し、タスクツリーのバージョンを1加算します。
+   * <p>
+   * 現在値への加算として更新するため、同一プロジェクトへの同時更新があっても差分は失われません。
+   *
+   * @param delta 加算する差分(減算する項目は負数)
+   * @return 更新件数（集計が存在しない場合は0）
+   */
+  int addProjectStats(ProjectStats delta);
+
+  /**
+   * 指定プロジェクトのタスクツリーのバージョンのみを1加算します。
+   * <p>
+   * 集計に影響しないタスクの変更(タイトルの変更など)の際に使用します。
+   *
+   * @param projectIds 内部プロジェクトIDのリスト（1件以上）
+   * @return 更新件数
+   */
+  int incrementTreeVersions(@Param("projectIds") List<Integer> projectIds);
+
+  /**
+   * プロジェクトのタスクツリーのバージョンを取得します。
+   *
+   * @param projectId 内部プロジェクトID
+   * @return タスクツリーのバージョン、集計が存在しない場合は null
+   */
+  Long findTreeVersion(@Param("projectId") Integer projectId);
+
+  /**
+   * 突き合わせ対象とする未削除プロジェクトの内部IDを、昇順に指定件数まで取得します。
+   *
+   * @param afterProjectId 前回取得分の末尾の内部ID、先頭から取得する場合は0
+   * @param limit          取得件数の上限
+   * @return 未削除プロジェクトの内部IDのリスト、存在しない場合は空リスト
+   */
+  List<Integer> findLiveProjectIds(@Param("afterProjectId") int afterProjectId,
+      @Param("limit") int limit);
+
+  /**
+   * 指定プロジェクトの集計を、更新ロックを取得した上で取得します。
+   * <p>
+   * 突き合わせ中に差分の適用が割り込まないよう、再集計の前に呼び出してください。
+   *
+   * @param projectIds 内部プロジェクトIDのリスト（1件以上）
+   * @return 集計のリスト（集計が存在しないプロジェクトは含まれない）
+   */
+  List<ProjectStats> findProjectStatsForUpdate(@Param("projectIds") List<Integer> projectIds);
+
+  /**
+   * 指定プロジェクトの未削除タスクを再集計します。
+   *
+   * @param projectIds 内部プロジェクトIDのリスト（1件以上）
+   * @return プロジェクトごとの集計のリスト（未削除タスクのないプロジェクトは含まれない）
+   */
+  List<ProjectStats> summarizeTasksByProjectIds(@Param("projectIds") List<Integer> projectIds);
+
+  /**
+   * プロジェクトの集計を指定した値で上書きします。
+   *
+   * @param stats 上書きする集計
+   * @return 更新件数
+   */
+  int overwriteProjectStats(ProjectStats stats);
+
+  /**
+   * 期限日ごとの未完了タスク数に差分を加算します。行が存在しない期限日は差分の値で登録します。
+   * <p>
+   * 現在値への加算として更新するため、同一プロジェクトへの同時更新があっても差分は失われません。<br>
+   * 加算により0件となった行は deleteEmptyProjectDueStats で削除してください。
+   *
+   * @param deltas 加算する差分のリスト（1件以上、減算する場合は負数）
+   */
+  void addProjectDueStats(@Param("deltas") List<ProjectDueStats> deltas);
+
+  /**
+   * 指定プロジェクトの期限日ごとの未完了タスク数のうち、0件以下となった行を削除します。
+   *
+   * @param projectIds 内部プロジェクトIDのリスト（1件以上）
+   * @return 削除件数
+   */
+  int deleteEmptyProjectDueStats(@Param("projectIds") List<Integer> projectIds);
+
+  /**
+   * 指定プロジェクトの期限日ごとの未完了タスク数を全て削除します。
+   * <p>
+   * 突き合わせでずれが見つかった場合に、再集計の値で登録し直す前に使用します。
+   *
+   * @param projectId 内部プロジェクトID
+   * @return 削除件数
+   */
+  int deleteProjectDueStats(@Param("projectId") Integer projectId);
+
+  /**
+   * 指定プロジェクトの期限日ごとの未完了タスク数を取得します。
+   * <p>
+   * 突き合わせでは findProjectStatsForUpdate で集計の更新ロックを取得した後に呼び出してください。
+   *
+   * @param projectIds 内部プロジェクトIDのリスト（1件以上）
+   * @return 期限日ごとの未完了タスク数のリスト（プロジェクト・期限日の昇順）
+   */
+  List<ProjectDueStats> findProjectDueStats(@Param("projectIds") List<Integer> projectIds);
+
+  /**
+   * 指定プロジェクトの未削除・未完了のタスクを期限日ごとに再集計します。
+   *
+   * @param projectIds 内部プロジェクトIDのリスト（1件以上）
+   * @return 期限日ごとの未完了タスク数のリスト（プロジェクト・期限日の昇順）
+   */
+  List<ProjectDueStats> summarizeOpenTasksByProjectIds(
+      @Param("projectIds") List<Integer> projectIds);
+
+}
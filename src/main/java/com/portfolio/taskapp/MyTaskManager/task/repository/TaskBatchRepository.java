@@ -0,0 +1,95 @@
+package com.portfolio.taskapp.MyTaskManager.task.repository;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectDueStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * タスクに対する複数件の DB 操作を、JDBC のバッチ実行でまとめて行うリポジトリ。
+ * <p>
+ * TaskRepository・ProjectStatsRepository のステートメントを BATCH 実行モードのセッションで実行し、同一の更新文をまとめて送信します。<br>
+ * 1つのトランザクション内では実行モードの異なるセッションを併用できないため、一括処理のトランザクションでは取得系も含めて本クラスを介して実行してください。
+ * トランザクション外で呼び出した場合はバッチ実行にならないため、呼び出し側で @Transactional を指定してください。
+ */
+@Repository
+public class TaskBatchRepository {
+
+  private final SqlSessionTemplate batchSqlSession;
+  private final TaskRepository batchMapper;
+  private final ProjectStatsRepository statsBatchMapper;
+
+  public TaskBatchRepository(SqlSessionFactory sqlSessionFactory) {
+    this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    this.batchMapper = batchSqlSession.getMapper(TaskRepository.class);
+    this.statsBatchMapper = batchSqlSession.getMapper(ProjectStatsRepository.class);
+  }
+
+  /**
+   * 複数の公開IDに紐づく未削除のタスクをまとめて取得します。
+   * <p>
+   * 実行前に未送信の更新文がある場合は先に送信されます。
+   *
+   * @param taskPublicIds タスクの公開IDのリスト（1件以上）
+   * @return 該当するタスクのリスト（順不同）
+   */
+  public List<Task> findTasksByTaskPublicIds(List<String> taskPublicIds) {
+    return batchMapper.findTasksByTaskPublicIds(taskPublicIds);
+  }
+
+  /**
+   * 複数タスクの指定された項目のみを、1回のバッチ実行でまとめて更新します。
+   * <p>
+   * TaskRepository.patchTask と同じく部分更新リクエストで指定された項目のみを更新し、取得時のバージョンと一致する場合のみ更新します。<br>
+   * 更新する項目の組み合わせが同じタスクが連続する場合は、1つの更新文にまとめて送信されます。
+   *
+   * @param tasks   更新後の内容を持つタスクのリスト（version には取得時のバージョンを指定）
+   * @param patches タスクごとの部分更新内容（tasks と同じ順序）
+   * @return タスクごとの更新件数（引数と同じ順序）。ドライバが件数を返さない場合は Statement.SUCCESS_NO_INFO
+   */
+  public int[] patchTasks(List<Task> tasks, List<TaskPatchRequest> patches) {
+    if (tasks.isEmpty()) {
+      return new int[0];
+    }
+    for (int i = 0; i < tasks.size(); i++) {
+      Task task = tasks.get(i);
+      batchMapper.patchTask(task.getId(), patches.get(i), task.getVersion(), task.getUpdatedAt());
+    }
+
+    return batchSqlSession.flushStatements().stream()
+        .map(BatchResult::getUpdateCounts)
+        .flatMapToInt(Arrays::stream)
+        .toArray();
+  }
+
+  /**
+   * プロジェクトごとの集計への差分の加算、タスクツリーのバージョンのみの加算、期限日ごとの未完了タスク数への差分の加算を1回のバッチ実行でまとめて行います。
+   *
+   * @param deltas                 加算する差分のリスト
+   * @param versionOnlyProjectIds  タスクツリーのバージョンのみを加算するプロジェクトの内部IDのリスト
+   * @param dueDeltas              期限日ごとの未完了タスク数に加算する差分のリスト
+   * @param dueDecreasedProjectIds 期限日ごとの未完了タスク数が減少し、0件となった行の削除対象とするプロジェクトの内部IDのリスト
+   */
+  public void applyProjectStats(List<ProjectStats> deltas, List<Integer> versionOnlyProjectIds,
+      List<ProjectDueStats> dueDeltas, List<Integer> dueDecreasedProjectIds) {
+    deltas.forEach(statsBatchMapper::addProjectStats);
+    if (!versionOnlyProjectIds.isEmpty()) {
+      statsBatchMapper.incrementTreeVersions(versionOnlyProjectIds);
+    }
+    if (!dueDeltas.isEmpty()) {
+      statsBatchMapper.addProjectDueStats(dueDeltas);
+    }
+    if (!dueDecreasedProjectIds.isEmpty()) {
+      statsBatchMapper.deleteEmptyProjectDueStats(dueDecreasedProjectIds);
+    }
+    batchSqlSession.flushStatements();
+  }
+
+}
@@ -2,6 +2,15 @@ package com.portfolio.taskapp.MyTaskManager.task.repository;
 
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectSortKey;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import com.portfolio.taskapp.MyTaskManager.task.dto.OwnershipResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectListVersion;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectSummary;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -16,54 +25,190 @@ import org.apache.ibatis.annotations.Param;
 public interface TaskRepository {
 
   /**
-   * 指定されたユーザー公開IDに紐づくユーザー内部IDを取得します。
+   * 指定ユーザーIDに紐づくプロジェクトを、指定した並び順で指定件数まで取得します。
    * <p>
-   * このメソッドはプロジェクトの登録・取得時の紐づけ情報(user_id)の取得に利用されます。
+   * 並び順はいずれも内部IDを第2キーとし、afterKey・afterId を指定した場合はその位置より後ろのプロジェクトのみを取得します(キーセット方式のページ分割)。
+   * afterKey には並び順に応じて、更新日時(LocalDateTime)・プロジェクト名(String)・ステータス名(String)を指定します。<br>
+   * withSummary が true の場合は未削除タスクを結合して集計し、プロジェクトごとのタスク集計結果(summary)を同じクエリで取得します。
    *
-   * @param userPublicId ユーザー公開ID
-   * @return 該当するユーザーの内部ID、存在しない場合は null
+   * @param userAccountId 内部ユーザーID
+   * @param sort          並び順
+   * @param afterKey      前ページ末尾のプロジェクトの並び順キーの値、先頭ページの場合は null
+   * @param afterId       前ページ末尾のプロジェクトの内部ID、先頭ページの場合は null
+   * @param limit         取得件数の上限
+   * @param withSummary   true の場合はタスク集計結果を含める
+   * @param today         タスク集計の期限判定の基準日(withSummary が false の場合は使用しない)
+   * @return プロジェクトのリスト、存在しない場合は空リスト
    */
-  Integer findUserIdByUserPublicId(@Param("userPublicId") String userPublicId);
+  List<Project> findProjectsByUserId(@Param("userAccountId") Integer userAccountId,
+      @Param("sort") ProjectSortKey sort, @Param("afterKey") Object afterKey,
+      @Param("afterId") Integer afterId, @Param("limit") int limit,
+      @Param("withSummary") boolean withSummary, @Param("today") LocalDate today);
 
   /**
-   * 指定ユーザーIDに紐づくプロジェクト一覧を取得します。
+   * ユーザーのプロジェクト一覧の内容が変わったかを判定するための値を取得します。
    *
-   * @param userAccountId 内部ユーザーID
-   * @return プロジェクトのリスト、存在しない場合は空リスト
+   * @param userAccountId ユーザーの内部ID
+   * @param withSummary   true の場合はタスクツリーのバージョンの合計も取得
+   * @return プロジェクト一覧の変更判定用の値
    */
-  List<Project> findProjectsByUserId(@Param("userAccountId") Integer userAccountId);
+  ProjectListVersion findProjectListVersion(@Param("userAccountId") Integer userAccountId,
+      @Param("withSummary") boolean withSummary);
 
   /**
-   * 指定プロジェクトIDに紐づくタスク一覧を取得します。
+   * 指定プロジェクトIDに紐づく親タスクを、内部IDの昇順で指定件数まで取得します。
+   * <p>
+   * afterTaskId を指定した場合は、その内部IDより後ろの親タスクのみを取得します(キーセット方式のページ分割)。
    *
-   * @param projectId 内部プロジェクトID
+   * @param projectId   内部プロジェクトID
+   * @param afterTaskId 前ページ末尾の親タスクの内部ID、先頭ページの場合は null
+   * @param limit       取得件数の上限
+   * @param summary     true の場合は説明文(description)を取得しない
+   * @return 親タスクのリスト、存在しない場合は空リスト
+   */
+  List<Task> findParentTasksByProjectId(@Param("projectId") Integer projectId,
+      @Param("afterTaskId") Integer afterTaskId, @Param("limit") int limit,
+      @Param("summary") boolean summary);
+
+  /**
+   * 指定したタスクのいずれかに紐づく全ての階層の子孫タスクを一覧取得します。
+   * <p>
+   * 削除済みのタスクの配下にある子孫タスクは取得しません。<br>
+   * 親タスクが子タスクより先になるよう、階層の浅い順・内部IDの昇順に並べて返します。
+   *
+   * @param taskIds タスクの内部IDのリスト（空リスト不可）
+   * @param summary true の場合は説明文(description)を取得しない
+   * @return 子孫タスクのリスト、存在しない場合は空リスト
+   */
+  List<Task> findDescendantTasksByTaskIds(@Param("taskIds") List<Integer> taskIds,
+      @Param("summary") boolean summary);
+
+  /**
+   * 指定したIDのタスクとその全ての階層の子孫タスクを一覧取得します。
+   * <p>
+   * 削除済みのタスクの配下にある子孫タスクは取得しません。<br>
+   * 親タスクが子タスクより先になるよう、階層の浅い順・内部IDの昇順に並べて返します(先頭は指定したタスク)。
+   *
+   * @param taskId  起点となるタスクの内部ID
+   * @param summary true の場合は説明文(description)を取得しない
+   * @return 起点のタスクとその子孫タスクを含むタスク一覧、存在しない場合は空リスト
+   */
+  List<Task> findTasksByTaskId(@Param("taskId") Integer taskId, @Param("summary") boolean summary);
+
+  /**
+   * ユーザーに紐づく未削除のタスクのうち、期限日が指定範囲内のタスクを期限日・内部IDの昇順に1ページ分取得します。
+   * <p>
+   * 削除済みのプロジェクトに属するタスクは取得せず、完了済み(進捗率100%)のタスクは includeCompleted を指定した場合のみ取得します。<br>
+   * 前ページ末尾のタスクの期限日と内部IDを指定した場合は、そのタスクより後ろのタスクのみを取得します。
+   *
+   * @param userAccountId    ユーザーの内部ID
+   * @param from             期限日の下限(この日を含む)、下限を設けない場合は null
+   * @param to               期限日の上限(この日を含む)
+   * @param priorities       優先度の絞り込み条件、絞り込まない場合は null または空リスト
+   * @param includeCompleted true の場合は完了済み(進捗率100%)のタスクも取得
+   * @param afterDueDate     前ページ末尾のタスクの期限日、先頭ページの場合は null
+   * @param afterId          前ページ末尾のタスクの内部ID、先頭ページの場合は null
+   * @param limit            取得件数の上限
+   * @param summary          true の場合は説明文(description)を取得しない
    * @return タスクのリスト、存在しない場合は空リスト
    */
-  List<Task> findTasksByProjectId(@Param("projectId") Integer projectId);
+  List<Task> findDueTasksByUserId(@Param("userAccountId") Integer userAccountId,
+      @Param("from") LocalDate from, @Param("to") LocalDate to,
+      @Param("priorities") List<TaskPriority> priorities,
+      @Param("includeCompleted") boolean includeCompleted,
+      @Param("afterDueDate") LocalDate afterDueDate, @Param("afterId") Integer afterId,
+      @Param("limit") int limit, @Param("summary") boolean summary);
 
   /**
-   * 指定したIDに紐づくタスクとその子タスクを一覧取得します。
+   * ユーザーに紐づく未削除のタスクのうち、全てのキーワードをタイトルまたは説明文に含むタスクを1ページ分取得します。
+   * <p>
+   * MySQL では FULLTEXT インデックスによる全文検索を行い、関連度の降順・内部IDの昇順に並べます
+   * (ngram のトークン長未満の1文字のキーワードは部分一致で絞り込みます)。<br>
+   * キーワード中の % と _ はワイルドカードではなく文字として扱います。削除済みのプロジェクトに属するタスクは取得しません。
    *
-   * @param taskId 親タスクの内部ID
-   * @return 親タスクとその子タスクを含むタスク一覧、存在しない場合は空リスト
+   * @param userAccountId ユーザーの内部ID
+   * @param keywords      検索キーワードのリスト(1件以上、二重引用符を含まないこと)
+   * @param offset        読み飛ばす件数
+   * @param limit         取得件数の上限
+   * @param summary       true の場合は説明文(description)を取得しない
+   * @return タスクのリスト、存在しない場合は空リスト
    */
-  List<Task> findTasksByTaskId(@Param("taskId") Integer taskId);
+  List<Task> searchTasksByUserId(@Param("userAccountId") Integer userAccountId,
+      @Param("keywords") List<String> keywords, @Param("offset") int offset,
+      @Param("limit") int limit, @Param("summary") boolean summary);
 
   /**
-   * 指定されたプロジェクト公開IDに紐づくプロジェクトを取得します。
+   * 指定されたプロジェクト公開IDのプロジェクトを、リクエストユーザーの所有判定と合わせて取得します。
+   * <p>
+   * 存在確認と所有者検証を1回のクエリで行うために使用します。
    *
    * @param projectPublicId プロジェクト公開ID
-   * @return 該当プロジェクト、存在しない場合は null
+   * @param userAccountId   リクエストユーザーの内部ID
+   * @return プロジェクトと所有判定、プロジェクトが存在しない場合は null
    */
-  Project findProjectByProjectPublicId(@Param("projectPublicId") String projectPublicId);
+  OwnershipResult<Project> findOwnedProject(@Param("projectPublicId") String projectPublicId,
+      @Param("userAccountId") Integer userAccountId);
 
   /**
-   * 指定されたタスク公開IDに紐づくタスクを取得します。
+   * 指定されたタスク公開IDのタスクを、リクエストユーザーの所有判定と合わせて取得します。
+   * <p>
+   * 存在確認と所有者検証を1回のクエリで行うために使用します。
    *
-   * @param taskPublicId タスク公開ID
-   * @return 該当タスク、存在しない場合は null
+   * @param taskPublicId  タスク公開ID
+   * @param userAccountId リクエストユーザーの内部ID
+   * @return タスクと所有判定、タスクが存在しない場合は null
+   */
+  OwnershipResult<Task> findOwnedTask(@Param("taskPublicId") String taskPublicId,
+      @Param("userAccountId") Integer userAccountId);
+
+  /**
+   * 指定されたプロジェクト公開IDの未削除のプロジェクトを、行ロックを取得した上でリクエストユーザーの所有判定と合わせて取得します。
+   * <p>
+   * タスクの登録のように、登録先のプロジェクトが登録完了まで削除されないことを保証する場合に使用します。
+   *
+   * @param projectPublicId プロジェクト公開ID
+   * @param userAccountId   リクエストユーザーの内部ID
+   * @return プロジェクトと所有判定、プロジェクトが存在しない場合は null
+   */
+  OwnershipResult<Project> findOwnedProjectForUpdate(
+      @Param("projectPublicId") String projectPublicId,
+      @Param("userAccountId") Integer userAccountId);
+
+  /**
+   * 指定されたタスク公開IDの未削除のタスクを、タスクと所属プロジェクトの行ロックを取得した上でリクエストユーザーの所有判定と合わせて取得します。
+   * <p>
+   * 子タスクの登録のように、親タスクと所属プロジェクトが登録完了まで削除されないことを保証する場合に使用します。
+   * 所属プロジェクトが削除済みの場合は存在しないものとして扱います。
+   *
+   * @param taskPublicId  タスク公開ID
+   * @param userAccountId リクエストユーザーの内部ID
+   * @return タスクと所有判定、タスクが存在しない場合は null
    */
-  Task findTaskByTaskPublicId(@Param("taskPublicId") String taskPublicId);
+  OwnershipResult<Task> findOwnedTaskForUpdate(@Param("taskPublicId") String taskPublicId,
+      @Param("userAccountId") Integer userAccountId);
+
+  /**
+   * 複数の公開IDに紐づく未削除のタスクを1回のクエリでまとめて取得します。
+   * <p>
+   * 所有者による絞り込みは行わないため、所有者の検証は取得結果のユーザー内部IDで行ってください。 存在しないか削除済みの公開IDに対応する要素は結果に含まれません。
+   *
+   * @param taskPublicIds タスクの公開IDのリスト（1件以上）
+   * @return 該当するタスクのリスト（順不同）
+   */
+  List<Task> findTasksByTaskPublicIds(@Param("taskPublicIds") List<String> taskPublicIds);
+
+  /**
+   * 指定プロジェクトIDのタスク集計結果を取得します。
+   * <p>
+   * 件数・合計・進捗率は差分更新されるプロジェクトの集計(project_stats)を主キーで参照し、
+   * 基準日に依存する期限切れ件数および直近の期限日のみ、期限日のインデックスを利用してタスクから取得します。
+   *
+   * @param projectId 内部プロジェクトID
+   * @param today     期限判定の基準日
+   * @return タスクの集計結果（タスクが存在しない場合は各件数・合計が0の集計結果）、プロジェクトが存在しない場合は null
+   */
+  ProjectSummary findProjectSummary(@Param("projectId") Integer projectId,
+      @Param("today") LocalDate today);
 
   /**
    * 新しいプロジェクトを登録します。
@@ -83,34 +228,87 @@ public interface TaskRepository {
    */
   void createTask(Task task);
 
+  /**
+   * 複数のタスクを1回の複数行 INSERT でまとめて登録します。
+   * <p>
+   * 登録時に 削除フラグは false に設定され、自動採番された内部ID(id)は各タスクに設定されます。<br>
+   * 1文あたりの行数が大きくなりすぎないよう、呼び出し側で件数を分割してください。
+   *
+   * @param tasks 登録するタスクの登録情報のリスト（1件以上）
+   */
+  void createTasks(@Param("tasks") List<Task> tasks);
+
+  /**
+   * 登録済みのタスクについて、階層の閉包テーブルに自身及び全ての祖先タスクとの組を登録します。
+   * <p>
+   * 親タスクの組が登録済みである必要があるため、親タスクを含む場合は親タスクを先に登録してください。
+   *
+   * @param taskIds 登録済みタスクの内部IDのリスト（1件以上）
+   */
+  void createTaskPaths(@Param("taskIds") List<Integer> taskIds);
+
   /**
    * 既存プロジェクトを更新します。
    * <p>
-   * 削除済みプロジェクトは更新されません。
+   * 削除済みプロジェクトは更新されません。<br>
+   * 更新情報の version と現在のバージョンが一致する場合のみ更新し、更新時にバージョンを1加算します。
    *
-   * @param project 更新対象のプロジェクトの更新情報
-   * @return 更新件数（通常は 0 または 1）
+   * @param project 更新対象のプロジェクトの更新情報（version には取得時のバージョンを指定）
+   * @return 更新件数（他の更新によりバージョンが変わっていた場合は 0）
    */
   int updateProject(Project project);
 
   /**
    * 既存タスクを更新します。
    * <p>
-   * 削除済みタスクは更新されません。
+   * 削除済みタスクは更新されません。<br>
+   * 更新情報の version と現在のバージョンが一致する場合のみ更新し、更新時にバージョンを1加算します。
    *
-   * @param task 更新対象のタスクの更新情報
-   * @return 更新件数（通常は 0 または 1）
+   * @param task 更新対象のタスクの更新情報（version には取得時のバージョンを指定）
+   * @return 更新件数（他の更新によりバージョンが変わっていた場合は 0）
    */
   int updateTask(Task task);
 
+  /**
+   * プロジェクトの指定された項目のみを更新します。
+   * <p>
+   * 部分更新リクエストで null の項目は更新しません。 1つ以上の項目が指定されている必要があります。<br>
+   * 指定したバージョンと現在のバージョンが一致する場合のみ更新し、更新時にバージョンを1加算します。
+   *
+   * @param projectId プロジェクトの内部ID
+   * @param patch     プロジェクトの部分更新内容
+   * @param version   取得時のバージョン
+   * @param updatedAt 更新日時
+   * @return 更新件数（他の更新によりバージョンが変わっていた場合は 0）
+   */
+  int patchProject(@Param("projectId") Integer projectId,
+      @Param("patch") ProjectPatchRequest patch, @Param("version") Integer version,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  /**
+   * タスクの指定された項目のみを更新します。
+   * <p>
+   * 部分更新リクエストで null の項目は更新しません。 1つ以上の項目が指定されている必要があります。<br>
+   * 指定したバージョンと現在のバージョンが一致する場合のみ更新し、更新時にバージョンを1加算します。
+   *
+   * @param taskId    タスクの内部ID
+   * @param patch     タスクの部分更新内容
+   * @param version   取得時のバージョン
+   * @param updatedAt 更新日時
+   * @return 更新件数（他の更新によりバージョンが変わっていた場合は 0）
+   */
+  int patchTask(@Param("taskId") Integer taskId, @Param("patch") TaskPatchRequest patch,
+      @Param("version") Integer version, @Param("updatedAt") LocalDateTime updatedAt);
+
   /**
    * 指定されたプロジェクト公開IDのプロジェクトを論理削除します。
    * <p>
    * 削除フラグを true に設定し、削除済みプロジェクトは再度削除されません。
    *
    * @param projectPublicId プロジェクト公開ID
+   * @return 論理削除した件数（存在しない、または削除済みの場合は 0）
    */
-  void deleteProject(@Param("projectPublicId") String projectPublicId);
+  int deleteProject(@Param("projectPublicId") String projectPublicId);
 
   /**
    * 指定されたタスク公開IDのタスクを論理削除します。
@@ -118,6 +316,52 @@ public interface TaskRepository {
    * 削除フラグを true に設定し、削除済みタスクは再度削除されません。
    *
    * @param taskPublicId タスク公開ID
+   * @return 論理削除した件数（存在しない、または削除済みの場合は 0）
+   */
+  int deleteTask(@Param("taskPublicId") String taskPublicId);
+
+  /**
+   * プロジェクトに紐づく未削除タスクの内部IDを、内部IDの昇順に上限件数まで取得します。
+   * <p>
+   * 論理削除の分割実行で、次に削除するタスクを特定するために使用します。
+   *
+   * @param projectId プロジェクトの内部ID
+   * @param limit     取得する最大件数
+   * @return 未削除タスクの内部IDのリスト
+   */
+  List<Integer> findLiveTaskIdsByProjectId(@Param("projectId") Integer projectId,
+      @Param("limit") int limit);
+
+  /**
+   * タスクに紐づく全ての階層の未削除の子孫タスクの内部IDを、内部IDの昇順に上限件数まで取得します。
+   * <p>
+   * 論理削除の分割実行で、次に削除する子孫タスクを特定するために使用します。<br>
+   * 途中の階層のタスクが削除済みでも、その配下の未削除タスクは取得対象になります。
+   *
+   * @param taskId タスクの内部ID
+   * @param limit  取得する最大件数
+   * @return 未削除の子孫タスクの内部IDのリスト
+   */
+  List<Integer> findLiveDescendantTaskIds(@Param("taskId") Integer taskId,
+      @Param("limit") int limit);
+
+  /**
+   * 指定した内部IDのうち未削除のタスクを、更新ロックを取得した上で取得します。
+   * <p>
+   * 論理削除に伴うプロジェクトの集計の差分計算に使用するため、内部ID・プロジェクトID・期限日・見積もり時間・実績時間・進捗率のみを取得します。
+   *
+   * @param taskIds タスクの内部IDのリスト（1件以上）
+   * @return 未削除のタスクのリスト（順不同）
+   */
+  List<Task> findLiveTasksForUpdate(@Param("taskIds") List<Integer> taskIds);
+
+  /**
+   * 指定した内部IDのタスクをまとめて論理削除します。
+   * <p>
+   * 削除フラグを true に設定し、削除済みタスクは再度削除されません。
+   *
+   * @param taskIds タスクの内部IDのリスト（1件以上）
+   * @return 論理削除した件数
    */
-  void deleteTask(@Param("taskPublicId") String taskPublicId);
+  int deleteTasksByIds(@Param("taskIds") List<Integer> taskIds);
 }
@@ -0,0 +1,35 @@
+package com.portfolio.taskapp.MyTaskManager.task.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * プロジェクトごとのタスク集計の突き合わせを定期実行するバッチ。
+ * <p>
+ * 未削除の全プロジェクトを内部IDの昇順に ProjectStatsService.RECONCILE_BATCH_SIZE 件ずつ処理し、分割ごとに個別にコミットします。
+ * 実行間隔は app.project-stats.reconcile-interval で指定します。
+ */
+@Component
+public class ProjectStatsReconciler {
+
+  private final ProjectStatsService projectStatsService;
+
+  @Autowired
+  public ProjectStatsReconciler(ProjectStatsService projectStatsService) {
+    this.projectStatsService = projectStatsService;
+  }
+
+  /**
+   * 全プロジェクトの集計を突き合わせ、ずれがあれば補正します。
+   */
+  @Scheduled(initialDelayString = "${app.project-stats.reconcile-interval:PT1H}",
+      fixedDelayString = "${app.project-stats.reconcile-interval:PT1H}")
+  public void reconcile() {
+    Integer afterProjectId = 0;
+    while (afterProjectId != null) {
+      afterProjectId = projectStatsService.reconcileProjectStats(afterProjectId);
+    }
+  }
+
+}
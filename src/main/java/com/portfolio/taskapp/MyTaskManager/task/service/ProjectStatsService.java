@@ -0,0 +1,298 @@
+package com.portfolio.taskapp.MyTaskManager.task.service;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectDueStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.task.repository.ProjectStatsRepository;
+import com.portfolio.taskapp.MyTaskManager.task.repository.TaskBatchRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * プロジェクトごとのタスク集計(project_stats)と期限日ごとの未完了タスク数(project_due_stats)を管理するサービスクラス。
+ * <p>
+ * タスクの登録・更新・削除時は、変更前後のタスクから求めた差分のみを呼び出し元と同一のトランザクション内で加算し、タスクの再集計は行いません。<br>
+ * 期限日ごとの未完了タスク数は、差分の加算により0件となった行を削除し、未完了タスクのある期限日のみを保持します。<br>
+ * 同時に、タスクツリーのキャッシュの有効性確認に使用するタスクツリーのバージョンを、集計に影響しない変更の場合も含めて加算します。<br>
+ * 障害や手動でのデータ修正などにより生じたずれは、ProjectStatsReconciler から定期的に呼び出す突き合わせ処理で補正します。
+ */
+@Slf4j
+@Service
+public class ProjectStatsService {
+
+  /**
+   * 突き合わせ処理で、1回のトランザクションで再集計する最大プロジェクト数
+   */
+  static final int RECONCILE_BATCH_SIZE = 500;
+
+  private final ProjectStatsRepository repository;
+  private final TaskBatchRepository batchRepository;
+
+  @Autowired
+  public ProjectStatsService(ProjectStatsRepository repository,
+      TaskBatchRepository batchRepository) {
+    this.repository = repository;
+    this.batchRepository = batchRepository;
+  }
+
+  /**
+   * 新規プロジェクトの集計を各項目0で登録します。
+   *
+   * @param projectId 登録したプロジェクトの内部ID
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void createProjectStats(Integer projectId) {
+    repository.createProjectStats(ProjectStats.builder().projectId(projectId).build());
+  }
+
+  /**
+   * タスクの変更前後の内容から求めた差分を、プロジェクトごとの集計に加算します。
+   * <p>
+   * 登録の場合は変更前を空、論理削除の場合は変更後を空として指定します。 差分のないプロジェクトはタスクツリーのバージョンのみを加算します。<br>
+   * 期限日ごとの未完了タスク数は、集計の更新ロックを取得した後に加算します(突き合わせ処理と同じ順序でロックを取得するため)。<br>
+   * 差分は呼び出し元で実際に DB に反映されたタスクのみから求めてください。
+   *
+   * @param beforeTasks 変更前のタスクのリスト(期限日・進捗率を含むこと)
+   * @param afterTasks  変更後のタスクのリスト(期限日・進捗率を含むこと)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyTaskChanges(List<Task> beforeTasks, List<Task> afterTasks) {
+    StatsChanges changes = toStatsChanges(beforeTasks, afterTasks);
+    changes.deltas().forEach(repository::addProjectStats);
+    if (!changes.versionOnlyProjectIds().isEmpty()) {
+      repository.incrementTreeVersions(changes.versionOnlyProjectIds());
+    }
+    if (!changes.dueDeltas().isEmpty()) {
+      repository.addProjectDueStats(changes.dueDeltas());
+    }
+    if (!changes.dueDecreasedProjectIds().isEmpty()) {
+      repository.deleteEmptyProjectDueStats(changes.dueDecreasedProjectIds());
+    }
+  }
+
+  /**
+   * applyTaskChanges と同様に差分を加算しますが、TaskBatchRepository の BATCH 実行モードのセッションで実行します。
+   * <p>
+   * 1つのトランザクション内では実行モードの異なるセッションを併用できないため、TaskBatchRepository でタスクを更新したトランザクションではこちらを使用してください。
+   *
+   * @param beforeTasks 変更前のタスクのリスト(期限日・進捗率を含むこと)
+   * @param afterTasks  変更後のタスクのリスト(期限日・進捗率を含むこと)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyTaskChangesInBatch(List<Task> beforeTasks, List<Task> afterTasks) {
+    StatsChanges changes = toStatsChanges(beforeTasks, afterTasks);
+    batchRepository.applyProjectStats(changes.deltas(), changes.versionOnlyProjectIds(),
+        changes.dueDeltas(), changes.dueDecreasedProjectIds());
+  }
+
+  /**
+   * プロジェクトのタスクツリーのバージョンを取得します。
+   * <p>
+   * バージョンはプロジェクトのタスクの登録・更新・削除のたびに加算されるため、同じ値であればタスクツリーに変更がないことを示します。
+   *
+   * @param projectId プロジェクトの内部ID
+   * @return タスクツリーのバージョン、集計が存在しない場合は null
+   */
+  @Transactional(readOnly = true)
+  public Long getTreeVersion(Integer projectId) {
+    return repository.findTreeVersion(projectId);
+  }
+
+  /**
+   * 指定した内部IDより後ろの未削除プロジェクトについて、集計と期限日ごとの未完了タスク数をタスクから再集計した値と突き合わせ、ずれがあれば補正します。
+   * <p>
+   * 対象の集計に更新ロックを取得してから再集計するため、突き合わせ中のタスクの変更による差分は補正後の値に加算されます。<br>
+   * 再集計は更新ロックの取得後にコミット済みのタスクを読み取る必要があるため、トランザクション分離レベルは READ COMMITTED とします
+   * (REPEATABLE READ では最初の読み取り時点のスナップショットで再集計され、ロック待ちの間にコミットされた差分を打ち消してしまうため)。<br>
+   * 1回の呼び出しで RECONCILE_BATCH_SIZE 件までのプロジェクトを処理します。
+   *
+   * @param afterProjectId 前回処理分の末尾の内部ID、先頭から処理する場合は0
+   * @return 今回処理分の末尾の内部ID、処理対象が残っていない場合は null
+   */
+  @Transactional(isolation = Isolation.READ_COMMITTED)
+  public Integer reconcileProjectStats(int afterProjectId) {
+    List<Integer> projectIds = repository.findLiveProjectIds(afterProjectId,
+        RECONCILE_BATCH_SIZE);
+    if (projectIds.isEmpty()) {
+      return null;
+    }
+
+    Map<Integer, ProjectStats> storedMap = toMap(
+        repository.findProjectStatsForUpdate(projectIds));
+    Map<Integer, ProjectStats> actualMap = toMap(
+        repository.summarizeTasksByProjectIds(projectIds));
+    Map<Integer, List<ProjectDueStats>> storedDueMap = groupByProject(
+        repository.findProjectDueStats(projectIds));
+    Map<Integer, List<ProjectDueStats>> actualDueMap = groupByProject(
+        repository.summarizeOpenTasksByProjectIds(projectIds));
+    for (Integer projectId : projectIds) {
+      ProjectStats actual = actualMap.getOrDefault(projectId,
+          ProjectStats.builder().projectId(projectId).build());
+      ProjectStats stored = storedMap.get(projectId);
+      if (stored == null) {
+        log.warn("project stats missing, recreated: projectId={}", projectId);
+        repository.createProjectStats(actual);
+      } else if (!isZero(add(actual, negate(stored)))) {
+        log.warn("project stats drifted, repaired: projectId={}", projectId);
+        repository.overwriteProjectStats(actual);
+      }
+
+      List<ProjectDueStats> actualDueStats = actualDueMap.getOrDefault(projectId, List.of());
+      if (!toDueCountMap(actualDueStats).equals(
+          toDueCountMap(storedDueMap.getOrDefault(projectId, List.of())))) {
+        log.warn("project due stats drifted, repaired: projectId={}", projectId);
+        repository.deleteProjectDueStats(projectId);
+        if (!actualDueStats.isEmpty()) {
+          repository.addProjectDueStats(actualDueStats);
+        }
+      }
+    }
+
+    return projectIds.size() < RECONCILE_BATCH_SIZE ? null : projectIds.getLast();
+  }
+
+  /**
+   * タスクの変更前後の内容から、プロジェクトごとの集計の差分を求めます。
+   *
+   * @param beforeTasks 変更前のタスクのリスト
+   * @param afterTasks  変更後のタスクのリスト
+   * @return 集計に加算する差分、タスクツリーのバージョンのみを加算するプロジェクトの内部ID、期限日ごとの未完了タスク数に加算する差分
+   */
+  private static StatsChanges toStatsChanges(List<Task> beforeTasks, List<Task> afterTasks) {
+    Map<Integer, ProjectStats> deltaMap = new LinkedHashMap<>();
+    beforeTasks.forEach(task -> deltaMap.merge(task.getProjectId(), contribution(task, -1),
+        ProjectStatsService::add));
+    afterTasks.forEach(task -> deltaMap.merge(task.getProjectId(), contribution(task, 1),
+        ProjectStatsService::add));
+
+    List<ProjectStats> deltas = new ArrayList<>();
+    List<Integer> versionOnlyProjectIds = new ArrayList<>();
+    for (ProjectStats delta : deltaMap.values()) {
+      if (isZero(delta)) {
+        versionOnlyProjectIds.add(delta.getProjectId());
+      } else {
+        deltas.add(delta);
+      }
+    }
+
+    // 同時更新でのデッドロックを避けるため、期限日ごとの未完了タスク数はプロジェクト・期限日の昇順に加算する
+    Map<DueKey, Integer> dueDeltaMap = new TreeMap<>(
+        Comparator.comparing(DueKey::projectId).thenComparing(DueKey::dueDate));
+    beforeTasks.stream().filter(ProjectStatsService::isOpen).forEach(task -> dueDeltaMap.merge(
+        new DueKey(task.getProjectId(), task.getDueDate()), -1, Integer::sum));
+    afterTasks.stream().filter(ProjectStatsService::isOpen).forEach(task -> dueDeltaMap.merge(
+        new DueKey(task.getProjectId(), task.getDueDate()), 1, Integer::sum));
+
+    List<ProjectDueStats> dueDeltas = new ArrayList<>();
+    List<Integer> dueDecreasedProjectIds = new ArrayList<>();
+    dueDeltaMap.forEach((key, count) -> {
+      if (count != 0) {
+        dueDeltas.add(new ProjectDueStats(key.projectId(), key.dueDate(), count));
+      }
+      if (count < 0 && !dueDecreasedProjectIds.contains(key.projectId())) {
+        dueDecreasedProjectIds.add(key.projectId());
+      }
+    });
+    return new StatsChanges(deltas, versionOnlyProjectIds, dueDeltas, dueDecreasedProjectIds);
+  }
+
+  /**
+   * 期限切れ件数・直近の期限日の対象となる未完了(進捗率100%未満)のタスクかを判定します。
+   *
+   * @param task タスク
+   * @return 未完了の場合は true
+   */
+  private static boolean isOpen(Task task) {
+    return task.getProgress() < 100;
+  }
+
+  /**
+   * タスク1件分の集計への寄与を、指定した符号で求めます。
+   *
+   * @param task タスク
+   * @param sign 加算の場合は1、減算の場合は-1
+   * @return 集計への寄与
+   */
+  private static ProjectStats contribution(Task task, int sign) {
+    return ProjectStats.builder()
+        .projectId(task.getProjectId())
+        .taskCount(sign)
+        .completedTaskCount(task.getProgress() == 100 ? sign : 0)
+        .totalEstimatedTime((long) sign * task.getEstimatedTime())
+        .totalActualTime((long) sign * task.getActualTime())
+        .progressSum((long) sign * task.getProgress())
+        .weightedProgressSum((long) sign * task.getProgress() * task.getEstimatedTime())
+        .build();
+  }
+
+  private static ProjectStats add(ProjectStats a, ProjectStats b) {
+    return ProjectStats.builder()
+        .projectId(a.getProjectId())
+        .taskCount(a.getTaskCount() + b.getTaskCount())
+        .completedTaskCount(a.getCompletedTaskCount() + b.getCompletedTaskCount())
+        .totalEstimatedTime(a.getTotalEstimatedTime() + b.getTotalEstimatedTime())
+        .totalActualTime(a.getTotalActualTime() + b.getTotalActualTime())
+        .progressSum(a.getProgressSum() + b.getProgressSum())
+        .weightedProgressSum(a.getWeightedProgressSum() + b.getWeightedProgressSum())
+        .build();
+  }
+
+  private static ProjectStats negate(ProjectStats stats) {
+    return ProjectStats.builder()
+        .projectId(stats.getProjectId())
+        .taskCount(-stats.getTaskCount())
+        .completedTaskCount(-stats.getCompletedTaskCount())
+        .totalEstimatedTime(-stats.getTotalEstimatedTime())
+        .totalActualTime(-stats.getTotalActualTime())
+        .progressSum(-stats.getProgressSum())
+        .weightedProgressSum(-stats.getWeightedProgressSum())
+        .build();
+  }
+
+  private static boolean isZero(ProjectStats stats) {
+    return stats.getTaskCount() == 0
+        && stats.getCompletedTaskCount() == 0
+        && stats.getTotalEstimatedTime() == 0
+        && stats.getTotalActualTime() == 0
+        && stats.getProgressSum() == 0
+        && stats.getWeightedProgressSum() == 0;
+  }
+
+  private static Map<Integer, ProjectStats> toMap(List<ProjectStats> statsList) {
+    return statsList.stream()
+        .collect(Collectors.toMap(ProjectStats::getProjectId, Function.identity()));
+  }
+
+  private static Map<Integer, List<ProjectDueStats>> groupByProject(
+      List<ProjectDueStats> dueStatsList) {
+    return dueStatsList.stream().collect(Collectors.groupingBy(ProjectDueStats::getProjectId));
+  }
+
+  private static Map<LocalDate, Integer> toDueCountMap(List<ProjectDueStats> dueStatsList) {
+    return dueStatsList.stream().collect(
+        Collectors.toMap(ProjectDueStats::getDueDate, ProjectDueStats::getOpenTaskCount));
+  }
+
+  private record StatsChanges(List<ProjectStats> deltas, List<Integer> versionOnlyProjectIds,
+      List<ProjectDueStats> dueDeltas, List<Integer> dueDecreasedProjectIds) {
+
+  }
+
+  private record DueKey(Integer projectId, LocalDate dueDate) {
+
+  }
+
+}
@@ -1,52 +1,204 @@
 package com.portfolio.taskapp.MyTaskManager.task.service;
 
+import com.portfolio.taskapp.MyTaskManager.common.http.Versioned;
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdFormat;
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdGenerator;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.BulkItemStatus;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectSortKey;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectStatus;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidCursorException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidDateRangeException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidOwnerAccessException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.RecordNotFoundException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.VersionConflictException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.enums.TargetResource;
+import com.portfolio.taskapp.MyTaskManager.task.dto.CursorPage;
+import com.portfolio.taskapp.MyTaskManager.task.dto.OwnershipResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectListVersion;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectSummary;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkCreateRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchItem;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTree;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTreeRequest;
+import com.portfolio.taskapp.MyTaskManager.task.repository.ProjectChangeLogRepository;
+import com.portfolio.taskapp.MyTaskManager.task.repository.TaskBatchRepository;
 import com.portfolio.taskapp.MyTaskManager.task.repository.TaskRepository;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.MissingIdCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.OwnershipCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.TaskTreeCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.converter.CursorConverter;
 import com.portfolio.taskapp.MyTaskManager.task.service.converter.TaskConverter;
 import com.portfolio.taskapp.MyTaskManager.task.service.mapper.ProjectTaskMapper;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * プロジェクトおよびタスクに関するビジネスロジックを提供するサービスクラス。
  * <p>
- * DBアクセスは TaskRepository を介して行い、表示用の構造変換には TaskConverter、エンティティとDTO間の変換には ProjectTaskMapperを利用します。
+ * DBアクセスは TaskRepository(一括更新は TaskBatchRepository)を介して行い、表示用の構造変換には TaskConverter、ページ分割用カーソルの変換には CursorConverter、
+ * エンティティとDTO間の変換には ProjectTaskMapper、公開IDの採番には PublicIdGenerator を利用します。<br>
+ * タスクを登録・更新・削除した場合は、同一のトランザクション内で ProjectStatsService によりプロジェクトの集計に差分を反映します。<br>
+ * 内部IDと所有者のみを必要とする参照処理の所有者検証は、OwnershipCache で公開IDを引き当てて検索を省略します。
+ * 登録・更新・削除の所有者検証は削除直後の状態を反映するよう常に DB で行い、タスクの登録先はトランザクションの完了まで行ロックします。
+ * プロジェクトのタスクツリー一覧は、タスクツリーのバージョンが変わるまで TaskTreeCache に保持した組み立て済みのページを返します。
  */
 @Service
 public class TaskService {
 
+  /**
+   * タスクの一括登録時に、1回の INSERT 文で登録する最大行数
+   */
+  static final int BULK_INSERT_CHUNK_SIZE = 500;
+
+  /**
+   * 親の削除に伴うタスクの論理削除で、1回の UPDATE 文で削除する最大行数
+   */
+  static final int SOFT_DELETE_CHUNK_SIZE = 1000;
+
+  /**
+   * 期限日によるタスク一覧取得で、期限日の上限を指定しない場合に当日から含める日数
+   */
+  static final int DUE_SOON_DAYS = 7;
+
+  /**
+   * タスクのキーワード検索で、1回の検索に使用する最大キーワード数(超過分は無視)
+   */
+  static final int SEARCH_MAX_KEYWORDS = 5;
+
+  /**
+   * タスクのキーワード検索で、ページ分割により取得できる最大件数(関連度の上位から数える)
+   */
+  static final int SEARCH_MAX_RESULTS = 1000;
+
   private final TaskRepository repository;
+  private final TaskBatchRepository batchRepository;
   private final TaskConverter converter;
+  private final CursorConverter cursorConverter;
   private final ProjectTaskMapper mapper;
+  private final PublicIdGenerator publicIdGenerator;
+  private final ProjectStatsService projectStatsService;
+  private final TransactionOperations transactionOperations;
+  private final OwnershipCache ownershipCache;
+  private final TaskTreeCache taskTreeCache;
+  private final ProjectChangeLogRepository changeLogRepository;
+  private final MissingIdCache missingIdCache;
 
   @Autowired
-  public TaskService(TaskRepository repository, TaskConverter converter, ProjectTaskMapper mapper) {
+  public TaskService(TaskRepository repository, TaskBatchRepository batchRepository,
+      TaskConverter converter, CursorConverter cursorConverter, ProjectTaskMapper mapper,
+      PublicIdGenerator publicIdGenerator, ProjectStatsService projectStatsService,
+      TransactionOperations transactionOperations, OwnershipCache ownershipCache,
+      TaskTreeCache taskTreeCache, ProjectChangeLogRepository changeLogRepository,
+      MissingIdCache missingIdCache) {
     this.repository = repository;
+    this.batchRepository = batchRepository;
     this.converter = converter;
+    this.cursorConverter = cursorConverter;
     this.mapper = mapper;
+    this.publicIdGenerator = publicIdGenerator;
+    this.projectStatsService = projectStatsService;
+    this.transactionOperations = transactionOperations;
+    this.ownershipCache = ownershipCache;
+    this.taskTreeCache = taskTreeCache;
+    this.changeLogRepository = changeLogRepository;
+    this.missingIdCache = missingIdCache;
   }
 
   /**
-   * ユーザーが持つプロジェクト一覧を取得します。
+   * ユーザーが持つプロジェクト一覧を、指定した並び順でページ分割して取得します。
+   * <p>
+   * 並び順キーと内部IDを組み合わせたキーセット方式でページ分割するため、プロジェクト件数によらず1リクエストあたりの取得件数は一定です。
+   * カーソルは発行時の並び順でのみ有効です。
    *
-   * @param userPublicId ユーザーの公開ID
-   * @return 該当ユーザーに紐づくプロジェクト一覧
-   * @throws RecordNotFoundException ユーザーが存在しない場合
+   * @param userAccountId ユーザーの内部ID
+   * @param sort          並び順
+   * @param cursor        前ページのレスポンスで返されたカーソル、先頭ページの場合は null
+   * @param limit         1ページあたりの最大件数
+   * @param withSummary   true の場合は各プロジェクトにタスク集計結果を含める(プロジェクト一覧と同じ1回のクエリで集計)
+   * @return 該当ユーザーに紐づくプロジェクト一覧の1ページ分と次ページ取得用のカーソル
+   * @throws InvalidCursorException カーソルの形式が不正な場合、または並び順が一致しない場合
    */
-  public List<Project> getUserProjects(String userPublicId) {
-    Integer userId = requireUserIdByPublicId(userPublicId);
-    return repository.findProjectsByUserId(userId);
+  @Transactional(readOnly = true)
+  public CursorPage<Project> getUserProjects(Integer userAccountId, ProjectSortKey sort,
+      String cursor, int limit, boolean withSummary) {
+    Object afterKey = null;
+    Integer afterId = null;
+    if (cursor != null) {
+      List<String> keys = cursorConverter.decode(cursor, 3);
+      if (!sort.name().equals(keys.get(0))) {
+        throw new InvalidCursorException("cursor does not match sort: " + sort);
+      }
+      afterKey = parseProjectSortValue(sort, keys.get(1));
+      afterId = cursorConverter.parseId(keys.get(2));
+    }
+
+    // 次ページの有無を判定するため1件多く取得
+    List<Project> projectList = repository.findProjectsByUserId(userAccountId, sort, afterKey,
+        afterId, limit + 1, withSummary, LocalDate.now());
+    if (projectList.size() <= limit) {
+      return new CursorPage<>(projectList, null);
+    }
+
+    List<Project> pageList = projectList.subList(0, limit);
+    Project last = pageList.getLast();
+    String nextCursor = cursorConverter.encode(sort.name(), getProjectSortValue(sort, last),
+        last.getId());
+    return new CursorPage<>(pageList, nextCursor);
+  }
+
+  /**
+   * ユーザーのプロジェクト一覧の変更判定用の値と、プロジェクト一覧の1ページ分を同一のトランザクションで取得します。
+   * <p>
+   * 条件付き GET に使用し、変更判定用の値をプロジェクト一覧と同じインデックスの範囲検索1回で先に取得して、
+   * notModified が true を返す場合は一覧の取得・変換を行いません。<br>
+   * 変更判定用の値と一覧を同一の接続・スナップショットから読み取るため、ETag と本文の内容は常に対応します。
+   *
+   * @param userAccountId ユーザーの内部ID
+   * @param sort          並び順
+   * @param cursor        前ページのレスポンスで返されたカーソル、先頭ページの場合は null
+   * @param limit         1ページあたりの最大件数
+   * @param withSummary   true の場合は各プロジェクトにタスク集計結果を含める(変更判定用の値にもタスクツリーのバージョンの合計を含める)
+   * @param notModified   変更判定用の値がクライアントの保持する内容から変わっていないかを判定する処理
+   * @return 変更判定用の値とプロジェクト一覧の1ページ分(変更がない場合は変更判定用の値のみ)
+   * @throws InvalidCursorException カーソルの形式が不正な場合、または並び順が一致しない場合
+   */
+  @Transactional(readOnly = true)
+  public Versioned<ProjectListVersion, CursorPage<Project>> getUserProjectsWithVersion(
+      Integer userAccountId, ProjectSortKey sort, String cursor, int limit, boolean withSummary,
+      Predicate<ProjectListVersion> notModified) {
+    ProjectListVersion listVersion = repository.findProjectListVersion(userAccountId,
+        withSummary);
+    if (notModified.test(listVersion)) {
+      return Versioned.notModified(listVersion);
+    }
+    return Versioned.of(listVersion,
+        getUserProjects(userAccountId, sort, cursor, limit, withSummary));
   }
 
   /**
@@ -55,56 +207,259 @@ public class TaskService {
    * プロジェクトが存在しない場合、または取得プロジェクトがリクエストユーザーに属していない場合は例外を送出します。
    *
    * @param projectPublicId プロジェクトの公開ID
-   * @param userPublicId    リクエスト送信ユーザーの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
    * @return プロジェクト情報
    * @throws RecordNotFoundException     プロジェクトが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
    */
-  public Project getProjectByProjectPublicId(String projectPublicId, String userPublicId) {
-    return getAuthorizedProject(projectPublicId, userPublicId);
+  @Transactional(readOnly = true)
+  public Project getProjectByProjectPublicId(String projectPublicId, Integer userAccountId) {
+    return getAuthorizedProject(projectPublicId, userAccountId);
   }
 
   /**
-   * プロジェクトに紐づくタスクを取得し、ツリー形式に変換して返します。
+   * プロジェクトに紐づく未削除タスクの集計結果(件数・時間の合計・進捗率・期限情報)を取得します。
    * <p>
+   * 件数・合計・進捗率は差分更新されるプロジェクトの集計を参照するため、プロジェクト内のタスク件数によらずタスクの再集計は行いません。
    * プロジェクトが存在しない場合、または取得プロジェクトがリクエストユーザーに属していない場合は例外を送出します。
    *
    * @param projectPublicId プロジェクトの公開ID
-   * @param userPublicId    リクエスト送信ユーザーの公開ID
-   * @return 親子タスク一覧
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @return プロジェクトのタスク集計結果
    * @throws RecordNotFoundException     プロジェクトが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
    */
-  public List<TaskTree> getTasksByProjectPublicId(String projectPublicId, String userPublicId) {
-    Project project = getAuthorizedProject(projectPublicId, userPublicId);
+  @Transactional(readOnly = true)
+  public ProjectSummary getProjectSummary(String projectPublicId, Integer userAccountId) {
+    Project project = getAuthorizedProjectReference(projectPublicId, userAccountId);
+    return repository.findProjectSummary(project.getId(), LocalDate.now());
+  }
 
-    List<Task> taskList = repository.findTasksByProjectId(project.getId());
-    return converter.convertToTaskTreeList(taskList);
+  /**
+   * プロジェクトに紐づくタスクを親タスク単位でページ分割して取得し、ツリー形式に変換して返します。
+   * <p>
+   * 親タスクの内部IDをキーとするキーセット方式でページ分割するため、プロジェクト内のタスク件数によらず1リクエストあたりの取得件数は一定です。
+   * 親タスク配下の子孫タスクは、階層数によらず1回のクエリでまとめて取得します。<br>
+   * 先にタスクツリーのバージョンを主キー検索で取得し、同じバージョンで組み立てたページを TaskTreeCache に保持している場合はタスクの検索と変換を省略します。
+   * バージョンの取得後に組み立てたページは取得したバージョン以降の内容となるため、古い内容が新しいバージョンで保持されることはありません。<br>
+   * プロジェクトが存在しない場合、または取得プロジェクトがリクエストユーザーに属していない場合は例外を送出します。
+   *
+   * @param projectPublicId プロジェクトの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @param cursor          前ページのレスポンスで返されたカーソル、先頭ページの場合は null
+   * @param limit           1ページあたりの親タスクの最大件数
+   * @param summary         true の場合は説明文を含まない要約形式で取得
+   * @return 親子タスク一覧の1ページ分と次ページ取得用のカーソル
+   * @throws InvalidCursorException      カーソルの形式が不正な場合
+   * @throws RecordNotFoundException     プロジェクトが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<TaskTree> getTasksByProjectPublicId(String projectPublicId,
+      Integer userAccountId, String cursor, int limit, boolean summary) {
+    return getTasksByProjectPublicIdWithVersion(projectPublicId, userAccountId, cursor, limit,
+        summary, treeVersion -> false).getBody();
+  }
+
+  /**
+   * プロジェクトのタスクツリーのバージョンと、親子タスク一覧の1ページ分を同一のトランザクションで取得します。
+   * <p>
+   * 条件付き GET に使用し、タスクツリーのバージョンを主キー検索で先に取得して、notModified が true を返す場合はタスクの検索と変換を行いません。<br>
+   * バージョンと一覧を同一の接続・スナップショットから読み取るため、ETag と本文の内容は常に対応します。
+   * その他の動作は getTasksByProjectPublicId と同じです。
+   *
+   * @param projectPublicId プロジェクトの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @param cursor          前ページのレスポンスで返されたカーソル、先頭ページの場合は null
+   * @param limit           1ページあたりの親タスクの最大件数
+   * @param summary         true の場合は説明文を含まない要約形式で取得
+   * @param notModified     タスクツリーのバージョンがクライアントの保持する内容から変わっていないかを判定する処理
+   * @return タスクツリーのバージョン(集計が存在しない場合は null)と親子タスク一覧の1ページ分(変更がない場合はバージョンのみ)
+   * @throws InvalidCursorException      カーソルの形式が不正な場合
+   * @throws RecordNotFoundException     プロジェクトが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
+   */
+  @Transactional(readOnly = true)
+  public Versioned<Long, CursorPage<TaskTree>> getTasksByProjectPublicIdWithVersion(
+      String projectPublicId, Integer userAccountId, String cursor, int limit, boolean summary,
+      Predicate<Long> notModified) {
+    Integer afterTaskId = cursor == null ? null : cursorConverter.decodeId(cursor);
+    Project project = getAuthorizedProjectReference(projectPublicId, userAccountId);
+
+    Long treeVersion = projectStatsService.getTreeVersion(project.getId());
+    if (notModified.test(treeVersion)) {
+      return Versioned.notModified(treeVersion);
+    }
+    if (treeVersion != null) {
+      Optional<CursorPage<TaskTree>> cached = taskTreeCache.find(project.getId(), treeVersion,
+          afterTaskId, limit, summary);
+      if (cached.isPresent()) {
+        return Versioned.of(treeVersion, cached.get());
+      }
+    }
+
+    CursorPage<TaskTree> page = findTaskTreePage(project.getId(), afterTaskId, limit, summary);
+    if (treeVersion != null) {
+      taskTreeCache.put(project.getId(), treeVersion, afterTaskId, limit, summary, page);
+    }
+    return Versioned.of(treeVersion, page);
   }
 
   /**
    * 公開IDから1件のタスクツリーを取得します。
    * <p>
+   * 指定したタスクを起点に、全ての階層の子孫タスクを1回のクエリで取得してツリー形式に変換します。<br>
    * タスクが存在しない場合、または取得タスクがリクエストユーザーに属していない場合は例外を送出します。
    *
-   * @param taskPublicId 親タスクの公開ID
-   * @param userPublicId リクエスト送信ユーザーの公開ID
-   * @return 該当親子タスク情報
+   * @param taskPublicId  起点となるタスクの公開ID
+   * @param userAccountId リクエスト送信ユーザーの内部ID
+   * @param summary       true の場合は説明文を含まない要約形式で取得
+   * @return 該当タスクを起点とするタスクツリー
    * @throws RecordNotFoundException     親タスクが存在しない場合
    * @throws IllegalStateException       該当するタスクツリーが1件に特定できない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定された親タスクの所有者でない場合
    */
-  public TaskTree getTaskTreeByTaskPublicId(String taskPublicId, String userPublicId) {
-    Task parentTask = getAuthorizedTask(taskPublicId, userPublicId);
+  @Transactional(readOnly = true)
+  public TaskTree getTaskTreeByTaskPublicId(String taskPublicId, Integer userAccountId,
+      boolean summary) {
+    return getTaskTreeByTaskPublicIdWithVersion(taskPublicId, userAccountId, summary,
+        treeVersion -> false).getBody();
+  }
+
+  /**
+   * タスクが属するプロジェクトのタスクツリーのバージョンと、1件のタスクツリーを同一のトランザクションで取得します。
+   * <p>
+   * 条件付き GET に使用し、タスクツリーのバージョンを主キー検索で先に取得して、notModified が true を返す場合はタスクツリーの取得・組み立てを行いません。<br>
+   * バージョンとタスクツリーを同一の接続・スナップショットから読み取るため、ETag と本文の内容は常に対応します。
+   *
+   * @param taskPublicId  起点となるタスクの公開ID
+   * @param userAccountId リクエスト送信ユーザーの内部ID
+   * @param summary       true の場合は説明文を含まない要約形式で取得
+   * @param notModified   タスクツリーのバージョンがクライアントの保持する内容から変わっていないかを判定する処理
+   * @return タスクツリーのバージョン(集計が存在しない場合は null)とタスクツリー(変更がない場合はバージョンのみ)
+   * @throws RecordNotFoundException     親タスクが存在しない場合
+   * @throws IllegalStateException       該当するタスクツリーが1件に特定できない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定された親タスクの所有者でない場合
+   */
+  @Transactional(readOnly = true)
+  public Versioned<Long, TaskTree> getTaskTreeByTaskPublicIdWithVersion(String taskPublicId,
+      Integer userAccountId, boolean summary, Predicate<Long> notModified) {
+    Task parentTask = getAuthorizedTaskReference(taskPublicId, userAccountId);
+
+    Long treeVersion = projectStatsService.getTreeVersion(parentTask.getProjectId());
+    if (notModified.test(treeVersion)) {
+      return Versioned.notModified(treeVersion);
+    }
 
-    List<Task> taskList = repository.findTasksByTaskId(parentTask.getId());
+    List<Task> taskList = repository.findTasksByTaskId(parentTask.getId(), summary);
     List<TaskTree> taskTreeList = converter.convertToTaskTreeList(taskList);
 
     if (taskTreeList.size() != 1) {
       throw new IllegalStateException(
           "TaskTree count mismatch: expected 1, but got " + taskTreeList.size());
     }
-    return taskTreeList.getFirst();
+    return Versioned.of(treeVersion, taskTreeList.getFirst());
+  }
+
+  /**
+   * ユーザーの全プロジェクトを横断して、期限日が指定範囲内のタスクを期限日の昇順にページ分割して取得します。
+   * <p>
+   * 期限日+内部IDをキーとするキーセット方式でページ分割し、ユーザー・削除フラグ・期限日の複合インデックスの範囲検索1回で取得します。<br>
+   * 期限日の下限を指定しない場合は期限切れのタスクも含め、上限を指定しない場合は当日から DUE_SOON_DAYS 日後までを対象とします。<br>
+   * 完了済み(進捗率100%)のタスクは、includeCompleted を指定した場合のみ対象とします。
+   *
+   * @param userAccountId    リクエスト送信ユーザーの内部ID
+   * @param from             期限日の下限(この日を含む)、下限を設けない場合は null
+   * @param to               期限日の上限(この日を含む)、省略する場合は null
+   * @param priorities       優先度の絞り込み条件、絞り込まない場合は null または空リスト
+   * @param includeCompleted true の場合は完了済みのタスクも含める
+   * @param cursor           前ページのレスポンスで返されたカーソル、先頭ページの場合は null
+   * @param limit            1ページあたりの最大件数
+   * @param summary          true の場合は説明文を含まない要約形式で取得
+   * @return タスク一覧の1ページ分と次ページ取得用のカーソル
+   * @throws InvalidDateRangeException 期限日の下限が上限より後の日付の場合
+   * @throws InvalidCursorException    カーソルの形式が不正な場合
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<Task> getDueTasks(Integer userAccountId, LocalDate from, LocalDate to,
+      List<TaskPriority> priorities, boolean includeCompleted, String cursor, int limit,
+      boolean summary) {
+    LocalDate dueTo = to != null ? to : LocalDate.now().plusDays(DUE_SOON_DAYS);
+    if (from != null && from.isAfter(dueTo)) {
+      throw new InvalidDateRangeException("from is after to: " + from + " > " + dueTo);
+    }
+
+    LocalDate afterDueDate = null;
+    Integer afterId = null;
+    if (cursor != null) {
+      List<String> keys = cursorConverter.decode(cursor, 2);
+      try {
+        afterDueDate = LocalDate.parse(keys.get(0));
+      } catch (DateTimeParseException ex) {
+        throw new InvalidCursorException("invalid cursor");
+      }
+      afterId = cursorConverter.parseId(keys.get(1));
+    }
+
+    // 次ページの有無を判定するため1件多く取得
+    List<Task> taskList = repository.findDueTasksByUserId(userAccountId, from, dueTo, priorities,
+        includeCompleted, afterDueDate, afterId, limit + 1, summary);
+    if (taskList.size() <= limit) {
+      return new CursorPage<>(taskList, null);
+    }
+
+    List<Task> pageList = taskList.subList(0, limit);
+    Task last = pageList.getLast();
+    return new CursorPage<>(pageList, cursorConverter.encode(last.getDueDate(), last.getId()));
+  }
+
+  /**
+   * ユーザーの全プロジェクトを横断して、キーワードをタイトルまたは説明文に含むタスクを関連度の高い順にページ分割して取得します。
+   * <p>
+   * 検索文字列は空白区切りで複数のキーワードとして扱い、全てのキーワードを含むタスクを対象とします(先頭から SEARCH_MAX_KEYWORDS 件まで)。<br>
+   * 関連度は同一の値が多く並び順のキーとして扱えないため、読み飛ばし件数をカーソルとしてページ分割し、取得できるのは上位 SEARCH_MAX_RESULTS 件までとします。
+   *
+   * @param userAccountId リクエスト送信ユーザーの内部ID
+   * @param q             検索文字列
+   * @param cursor        前ページのレスポンスで返されたカーソル、先頭ページの場合は null
+   * @param limit         1ページあたりの最大件数
+   * @param summary       true の場合は説明文を含まない要約形式で取得
+   * @return 検索結果のタスク一覧の1ページ分と次ページ取得用のカーソル
+   * @throws InvalidCursorException カーソルの形式が不正な場合
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<Task> searchTasks(Integer userAccountId, String q, String cursor, int limit,
+      boolean summary) {
+    // 全角空白も区切りとし、二重引用符は全文検索のフレーズ指定と衝突するため空白と同様に扱う
+    List<String> keywords = Stream.of(q.replace('"', ' ').split("[\\s\\u3000]+"))
+        .filter(keyword -> !keyword.isEmpty())
+        .distinct()
+        .limit(SEARCH_MAX_KEYWORDS)
+        .toList();
+    if (keywords.isEmpty()) {
+      return new CursorPage<>(List.of(), null);
+    }
+
+    int offset = 0;
+    if (cursor != null) {
+      offset = cursorConverter.decodeId(cursor);
+      if (offset <= 0 || offset >= SEARCH_MAX_RESULTS) {
+        throw new InvalidCursorException("invalid cursor");
+      }
+    }
+
+    // 次ページの有無を判定するため1件多く取得
+    int pageLimit = Math.min(limit, SEARCH_MAX_RESULTS - offset);
+    List<Task> taskList = repository.searchTasksByUserId(userAccountId, keywords, offset,
+        pageLimit + 1, summary);
+    if (taskList.size() <= pageLimit) {
+      return new CursorPage<>(taskList, null);
+    }
+
+    List<Task> pageList = taskList.subList(0, pageLimit);
+    int nextOffset = offset + pageLimit;
+    return new CursorPage<>(pageList,
+        nextOffset < SEARCH_MAX_RESULTS ? cursorConverter.encode(nextOffset) : null);
   }
 
   /**
@@ -112,32 +467,31 @@ public class TaskService {
    * <p>
    * タスクが存在しない場合、または取得タスクがリクエストユーザーに属していない場合は例外を送出します。
    *
-   * @param taskPublicId タスクの公開ID
-   * @param userPublicId リクエスト送信ユーザーの公開ID
+   * @param taskPublicId  タスクの公開ID
+   * @param userAccountId リクエスト送信ユーザーの内部ID
    * @return タスク情報
    * @throws RecordNotFoundException     タスクが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたタスクの所有者でない場合
    */
-  public Task getTaskByTaskPublicId(String taskPublicId, String userPublicId) {
-    return getAuthorizedTask(taskPublicId, userPublicId);
+  @Transactional(readOnly = true)
+  public Task getTaskByTaskPublicId(String taskPublicId, Integer userAccountId) {
+    return getAuthorizedTask(taskPublicId, userAccountId);
   }
 
   /**
    * プロジェクトを新規作成します。
    *
-   * @param request      プロジェクト作成リクエスト
-   * @param userPublicId ユーザーの公開ID
+   * @param request       プロジェクト作成リクエスト
+   * @param userAccountId ユーザーの内部ID
    * @return 作成されたプロジェクト情報
-   * @throws RecordNotFoundException ユーザーが存在しない場合
    */
   @Transactional
-  public Project createProject(ProjectRequest request, String userPublicId) {
-    Integer userId = requireUserIdByPublicId(userPublicId);
-
-    String publicId = UUID.randomUUID().toString();
-    Project project = mapper.toProject(request, userId, publicId);
+  public Project createProject(ProjectRequest request, Integer userAccountId) {
+    String publicId = publicIdGenerator.generate();
+    Project project = mapper.toProject(request, userAccountId, publicId);
 
     repository.createProject(project);
+    projectStatsService.createProjectStats(project.getId());
 
     return project;
   }
@@ -145,23 +499,26 @@ public class TaskService {
   /**
    * プロジェクト直下に親タスクを作成します。
    * <p>
-   * 紐づけるプロジェクトが存在しない場合、または取得プロジェクトがリクエストユーザーに属していない場合は例外を送出します。
+   * 紐づけるプロジェクトが存在しない場合、または取得プロジェクトがリクエストユーザーに属していない場合は例外を送出します。<br>
+   * 登録完了までプロジェクトが削除されないよう、所有者検証はプロジェクトの行ロックを取得して DB で行います(OwnershipCache は使用しません)。
    *
    * @param request         タスク作成リクエスト
    * @param projectPublicId プロジェクトの公開ID
-   * @param userPublicId    リクエスト送信ユーザーの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
    * @return 作成されたタスク情報
    * @throws RecordNotFoundException     プロジェクトが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
    */
   @Transactional
-  public Task createParentTask(TaskRequest request, String projectPublicId, String userPublicId) {
-    Project project = getAuthorizedProject(projectPublicId, userPublicId);
+  public Task createParentTask(TaskRequest request, String projectPublicId, Integer userAccountId) {
+    Project project = getAuthorizedProjectForUpdate(projectPublicId, userAccountId);
 
-    String publicId = UUID.randomUUID().toString();
+    String publicId = publicIdGenerator.generate();
     Task task = mapper.toTask(request, project, publicId);
 
     repository.createTask(task);
+    repository.createTaskPaths(List.of(task.getId()));
+    projectStatsService.applyTaskChanges(List.of(), List.of(task));
 
     return task;
   }
@@ -169,155 +526,650 @@ public class TaskService {
   /**
    * 指定したタスクの子タスクを作成します。
    * <p>
-   * 紐づける親タスクが存在しない場合、または取得親タスクがリクエストユーザーに属していない場合は例外を送出します。
+   * 紐づける親タスクが存在しない場合、または取得親タスクがリクエストユーザーに属していない場合は例外を送出します。<br>
+   * 登録完了まで親タスクと所属プロジェクトが削除されないよう、所有者検証はそれらの行ロックを取得して DB で行います(OwnershipCache は使用しません)。
    *
-   * @param request      タスク作成リクエスト
-   * @param taskPublicId 親タスクの公開ID
-   * @param userPublicId リクエスト送信ユーザーの公開ID
+   * @param request       タスク作成リクエスト
+   * @param taskPublicId  親タスクの公開ID
+   * @param userAccountId リクエスト送信ユーザーの内部ID
    * @return 作成された子タスク情報
    * @throws RecordNotFoundException     親タスクが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定された親タスクの所有者でない場合
    */
   @Transactional
-  public Task createSubtask(TaskRequest request, String taskPublicId, String userPublicId) {
-    Task parentTask = getAuthorizedTask(taskPublicId, userPublicId);
+  public Task createSubtask(TaskRequest request, String taskPublicId, Integer userAccountId) {
+    Task parentTask = getAuthorizedTaskForUpdate(taskPublicId, userAccountId);
 
-    String publicId = UUID.randomUUID().toString();
+    String publicId = publicIdGenerator.generate();
     Task task = mapper.toSubtask(request, parentTask, publicId);
 
     repository.createTask(task);
+    repository.createTaskPaths(List.of(task.getId()));
+    projectStatsService.applyTaskChanges(List.of(), List.of(task));
 
     return task;
   }
 
+  /**
+   * プロジェクト直下に、親タスクとその子タスクの階層構造をまとめて登録します。
+   * <p>
+   * 所有者確認はプロジェクトの行ロックを取得して1回のみ行い、親タスク・子タスクはそれぞれ複数行 INSERT で一括登録します。
+   * 1文あたりの行数は BULK_INSERT_CHUNK_SIZE 件までとし、超える場合は分割して登録します。<br>
+   * 子タスクの親タスクIDには、親タスクの一括登録時に自動採番された内部IDを利用します。
+   *
+   * @param request         タスク一括登録リクエスト
+   * @param projectPublicId プロジェクトの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @return 登録した親子タスクの一覧（リクエストの並び順）
+   * @throws RecordNotFoundException     プロジェクトが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
+   */
+  @Transactional
+  public List<TaskTree> createTaskTrees(TaskBulkCreateRequest request, String projectPublicId,
+      Integer userAccountId) {
+    Project project = getAuthorizedProjectForUpdate(projectPublicId, userAccountId);
+
+    List<TaskTreeRequest> treeRequests = request.getTaskTrees();
+    List<Task> parentTasks = treeRequests.stream()
+        .map(tree -> mapper.toTask(tree.getParentTask(), project, publicIdGenerator.generate()))
+        .toList();
+    createTasksInChunks(parentTasks);
+
+    List<Task> subtasks = new ArrayList<>();
+    for (int i = 0; i < treeRequests.size(); i++) {
+      Task parentTask = parentTasks.get(i);
+      List<TaskRequest> subtaskRequests = Optional.ofNullable(treeRequests.get(i).getSubtaskList())
+          .orElse(Collections.emptyList());
+      subtaskRequests.stream()
+          .map(subtask -> mapper.toSubtask(subtask, parentTask, publicIdGenerator.generate()))
+          .forEach(subtasks::add);
+    }
+    createTasksInChunks(subtasks);
+
+    List<Task> createdTasks = Stream.concat(parentTasks.stream(), subtasks.stream()).toList();
+    projectStatsService.applyTaskChanges(List.of(), createdTasks);
+
+    return converter.convertToTaskTreeList(createdTasks);
+  }
+
   /**
    * プロジェクト情報を更新します。
    * <p>
-   * 更新対象のプロジェクトが存在しない場合、またはプロジェクトがリクエストユーザーに属していない場合は例外を送出します。
+   * 更新対象のプロジェクトが存在しない場合、またはプロジェクトがリクエストユーザーに属していない場合は例外を送出します。<br>
+   * 取得時のバージョンを条件とした更新を行い、取得から更新までの間に他の更新があった場合は上書きせずに例外を送出します。
    *
    * @param request         プロジェクト更新リクエスト
    * @param projectPublicId プロジェクトの公開ID
-   * @param userPublicId    リクエスト送信ユーザーの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @param expectedVersion クライアントが保持する更新前のバージョン（指定しない場合は null）
    * @return 更新後のプロジェクト情報
    * @throws RecordNotFoundException     プロジェクトが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
+   * @throws VersionConflictException    指定バージョンが現在のバージョンと異なる場合、または更新が競合した場合
    */
   @Transactional
   public Project updateProject(ProjectRequest request, String projectPublicId,
-      String userPublicId) {
-    Project currentProject = getAuthorizedProject(projectPublicId, userPublicId);
+      Integer userAccountId, Integer expectedVersion) {
+    Project currentProject = getAuthorizedProject(projectPublicId, userAccountId);
+    verifyExpectedVersion(expectedVersion, currentProject.getVersion(), TargetResource.PROJECT);
 
-    Project updateProject = mapper.toProject(request, currentProject.getUserAccountId(),
-        projectPublicId);
-    repository.updateProject(updateProject);
+    Project updateProject = mapper.toUpdateProject(request, currentProject);
+    if (repository.updateProject(updateProject) == 0) {
+      throw new VersionConflictException(TargetResource.PROJECT, expectedVersion != null);
+    }
 
-    return updateProject;
+    return updateProject.toBuilder().version(updateProject.getVersion() + 1).build();
   }
 
   /**
    * タスク情報を更新します。
    * <p>
-   * 更新対象のタスクが存在しない場合、またはタスクがリクエストユーザーに属していない場合は例外を送出します。
+   * 更新対象のタスクが存在しない場合、またはタスクがリクエストユーザーに属していない場合は例外を送出します。<br>
+   * 取得時のバージョンを条件とした更新を行い、取得から更新までの間に他の更新があった場合は上書きせずに例外を送出します。
    *
-   * @param request      タスク更新リクエスト
-   * @param taskPublicId タスクの公開ID
-   * @param userPublicId リクエスト送信ユーザーの公開ID
+   * @param request         タスク更新リクエスト
+   * @param taskPublicId    タスクの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @param expectedVersion クライアントが保持する更新前のバージョン（指定しない場合は null）
    * @return 更新後のタスク情報
    * @throws RecordNotFoundException     タスクが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたタスクの所有者でない場合
+   * @throws VersionConflictException    指定バージョンが現在のバージョンと異なる場合、または更新が競合した場合
    */
   @Transactional
-  public Task updateTask(TaskRequest request, String taskPublicId, String userPublicId) {
-    Task currentTask = getAuthorizedTask(taskPublicId, userPublicId);
+  public Task updateTask(TaskRequest request, String taskPublicId, Integer userAccountId,
+      Integer expectedVersion) {
+    Task currentTask = getAuthorizedTask(taskPublicId, userAccountId);
+    verifyExpectedVersion(expectedVersion, currentTask.getVersion(), TargetResource.TASK);
 
     Task updateTask = mapper.toUpdateTask(request, currentTask);
-    repository.updateTask(updateTask);
+    if (repository.updateTask(updateTask) == 0) {
+      throw new VersionConflictException(TargetResource.TASK, expectedVersion != null);
+    }
+    projectStatsService.applyTaskChanges(List.of(currentTask), List.of(updateTask));
 
-    return updateTask;
+    return updateTask.toBuilder().version(updateTask.getVersion() + 1).build();
   }
 
   /**
-   * プロジェクトを削除します。
+   * プロジェクト情報のうち、リクエストで指定された項目のみを更新します。
    * <p>
-   * 削除対象のプロジェクトが存在しない場合、またはプロジェクトがリクエストユーザーに属していない場合は例外を送出します。
+   * 指定された項目のカラムのみを UPDATE 対象とし、項目が1つも指定されていない場合は更新を行わずに現在の情報を返します。<br>
+   * 更新対象のプロジェクトが存在しない場合、またはプロジェクトがリクエストユーザーに属していない場合は例外を送出します。<br>
+   * 取得時のバージョンを条件とした更新を行い、取得から更新までの間に他の更新があった場合は上書きせずに例外を送出します。
    *
+   * @param request         プロジェクト部分更新リクエスト
    * @param projectPublicId プロジェクトの公開ID
-   * @param userPublicId    リクエスト送信ユーザーの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @param expectedVersion クライアントが保持する更新前のバージョン（指定しない場合は null）
+   * @return 更新後のプロジェクト情報
    * @throws RecordNotFoundException     プロジェクトが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
+   * @throws VersionConflictException    指定バージョンが現在のバージョンと異なる場合、または更新が競合した場合
    */
   @Transactional
-  public void deleteProject(String projectPublicId, String userPublicId) {
-    getAuthorizedProject(projectPublicId, userPublicId);
+  public Project patchProject(ProjectPatchRequest request, String projectPublicId,
+      Integer userAccountId, Integer expectedVersion) {
+    Project currentProject = getAuthorizedProject(projectPublicId, userAccountId);
+    verifyExpectedVersion(expectedVersion, currentProject.getVersion(), TargetResource.PROJECT);
+    if (!request.hasChanges()) {
+      return currentProject;
+    }
+
+    Project patchedProject = mapper.toPatchedProject(request, currentProject);
+    if (repository.patchProject(currentProject.getId(), request, currentProject.getVersion(),
+        patchedProject.getUpdatedAt()) == 0) {
+      throw new VersionConflictException(TargetResource.PROJECT, expectedVersion != null);
+    }
 
-    repository.deleteProject(projectPublicId);
+    return patchedProject.toBuilder().version(patchedProject.getVersion() + 1).build();
   }
 
   /**
-   * タスクを削除します。
+   * タスク情報のうち、リクエストで指定された項目のみを更新します。
    * <p>
-   * 削除対象のタスクが存在しない場合、またはタスクがリクエストユーザーに属していない場合は例外を送出します。
+   * 指定された項目のカラムのみを UPDATE 対象とし、項目が1つも指定されていない場合は更新を行わずに現在の情報を返します。<br>
+   * 更新対象のタスクが存在しない場合、またはタスクがリクエストユーザーに属していない場合は例外を送出します。<br>
+   * 取得時のバージョンを条件とした更新を行い、取得から更新までの間に他の更新があった場合は上書きせずに例外を送出します。
    *
-   * @param taskPublicId タスクの公開ID
-   * @param userPublicId リクエスト送信ユーザーの公開ID
+   * @param request         タスク部分更新リクエスト
+   * @param taskPublicId    タスクの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @param expectedVersion クライアントが保持する更新前のバージョン（指定しない場合は null）
+   * @return 更新後のタスク情報
    * @throws RecordNotFoundException     タスクが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたタスクの所有者でない場合
+   * @throws VersionConflictException    指定バージョンが現在のバージョンと異なる場合、または更新が競合した場合
    */
   @Transactional
-  public void deleteTask(String taskPublicId, String userPublicId) {
-    getAuthorizedTask(taskPublicId, userPublicId);
-    repository.deleteTask(taskPublicId);
+  public Task patchTask(TaskPatchRequest request, String taskPublicId, Integer userAccountId,
+      Integer expectedVersion) {
+    Task currentTask = getAuthorizedTask(taskPublicId, userAccountId);
+    verifyExpectedVersion(expectedVersion, currentTask.getVersion(), TargetResource.TASK);
+    if (!request.hasChanges()) {
+      return currentTask;
+    }
+
+    Task patchedTask = mapper.toPatchedTask(request, currentTask);
+    if (repository.patchTask(currentTask.getId(), request, currentTask.getVersion(),
+        patchedTask.getUpdatedAt()) == 0) {
+      throw new VersionConflictException(TargetResource.TASK, expectedVersion != null);
+    }
+    projectStatsService.applyTaskChanges(List.of(currentTask), List.of(patchedTask));
+
+    return patchedTask.toBuilder().version(patchedTask.getVersion() + 1).build();
+  }
+
+  /**
+   * 複数タスクの項目をまとめて部分更新し、タスクごとの処理結果を返します。
+   * <p>
+   * 対象タスクの存在確認と所有者検証は1回のクエリでまとめて行い、指定された項目のみの更新は JDBC のバッチ実行でまとめて送信します。
+   * 存在しないタスクや所有者でないタスクがあっても処理全体は中断せず、該当要素の処理結果として返します。
+   *
+   * @param request       タスク一括部分更新リクエスト
+   * @param userAccountId リクエスト送信ユーザーの内部ID
+   * @return タスクごとの処理結果（リクエストの並び順）
+   */
+  @Transactional
+  public List<TaskBulkPatchResult> patchTasks(TaskBulkPatchRequest request,
+      Integer userAccountId) {
+    List<TaskBulkPatchItem> items = request.getTasks();
+    List<String> taskPublicIds = items.stream()
+        .map(TaskBulkPatchItem::getTaskPublicId)
+        .toList();
+    Map<String, Task> currentTaskMap = batchRepository.findTasksByTaskPublicIds(taskPublicIds)
+        .stream()
+        .collect(Collectors.toMap(task -> task.getPublicId().toLowerCase(), task -> task));
+
+    TaskBulkPatchResult[] results = new TaskBulkPatchResult[items.size()];
+    List<Integer> updateIndexes = new ArrayList<>();
+    List<Task> currentTasks = new ArrayList<>();
+    List<Task> updateTasks = new ArrayList<>();
+    List<TaskPatchRequest> patches = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      TaskBulkPatchItem item = items.get(i);
+      Task currentTask = currentTaskMap.get(item.getTaskPublicId().toLowerCase());
+      if (currentTask == null) {
+        results[i] = new TaskBulkPatchResult(item.getTaskPublicId(), BulkItemStatus.NOT_FOUND,
+            null);
+      } else if (!currentTask.getUserAccountId().equals(userAccountId)) {
+        results[i] = new TaskBulkPatchResult(item.getTaskPublicId(), BulkItemStatus.FORBIDDEN,
+            null);
+      } else {
+        updateIndexes.add(i);
+        currentTasks.add(currentTask);
+        updateTasks.add(mapper.toPatchedTask(item.getChanges(), currentTask));
+        patches.add(item.getChanges());
+      }
+    }
+
+    boolean[] updatedFlags = toUpdatedFlags(updateTasks,
+        batchRepository.patchTasks(updateTasks, patches));
+    List<Task> updatedCurrentTasks = new ArrayList<>();
+    List<Task> updatedTasks = new ArrayList<>();
+    for (int i = 0; i < updateTasks.size(); i++) {
+      TaskBulkPatchItem item = items.get(updateIndexes.get(i));
+      Task updateTask = updateTasks.get(i);
+      if (updatedFlags[i]) {
+        updatedCurrentTasks.add(currentTasks.get(i));
+        updatedTasks.add(updateTask);
+      }
+      results[updateIndexes.get(i)] = updatedFlags[i]
+          ? new TaskBulkPatchResult(item.getTaskPublicId(), BulkItemStatus.UPDATED,
+              updateTask.toBuilder().version(updateTask.getVersion() + 1).build())
+          : new TaskBulkPatchResult(item.getTaskPublicId(), BulkItemStatus.CONFLICT, null);
+    }
+    projectStatsService.applyTaskChangesInBatch(updatedCurrentTasks, updatedTasks);
+
+    return List.of(results);
   }
 
   /**
-   * 対象の公開IDユーザーの存在確認を行います。
+   * バッチ実行の更新件数から、タスクごとに更新が反映されたかを判定します。
+   * <p>
+   * 更新件数が1のタスクのみを更新済みとし、取得後に他のリクエストで更新・削除されバージョン条件に一致しなかった0件のタスクは競合とします。<br>
+   * ドライバが件数を返さなかった(Statement.SUCCESS_NO_INFO)タスクは成功とみなさず、再取得したバージョンと更新日時が更新後の値と一致するかで判定します
+   * (更新できた行は同一トランザクション内で行ロックを保持しているため、他のリクエストの更新で一致することはありません)。
    *
-   * @return 該当ユーザーの内部ID
-   * @throws RecordNotFoundException ユーザーが存在しない場合
+   * @param updateTasks  更新後の内容を持つタスクのリスト（version には取得時のバージョン）
+   * @param updateCounts タスクごとの更新件数（updateTasks と同じ順序）
+   * @return タスクごとの更新の反映有無（updateTasks と同じ順序）
+   * @throws IllegalStateException 更新件数の数がタスク数と一致しない場合
    */
-  private Integer requireUserIdByPublicId(String userPublicId) {
-    return Optional.ofNullable(repository.findUserIdByUserPublicId(userPublicId))
-        .orElseThrow(() -> new RecordNotFoundException("user not found"));
+  private boolean[] toUpdatedFlags(List<Task> updateTasks, int[] updateCounts) {
+    if (updateCounts.length != updateTasks.size()) {
+      throw new IllegalStateException(
+          "batch update counts mismatch: expected=" + updateTasks.size()
+              + ", actual=" + updateCounts.length);
+    }
+
+    List<String> uncertainPublicIds = new ArrayList<>();
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+        uncertainPublicIds.add(updateTasks.get(i).getPublicId());
+      }
+    }
+    Map<Integer, Task> rereadTaskMap = uncertainPublicIds.isEmpty()
+        ? Map.of()
+        : batchRepository.findTasksByTaskPublicIds(uncertainPublicIds).stream()
+            .collect(Collectors.toMap(Task::getId, task -> task));
+
+    boolean[] updatedFlags = new boolean[updateCounts.length];
+    for (int i = 0; i < updateCounts.length; i++) {
+      Task updateTask = updateTasks.get(i);
+      if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+        Task rereadTask = rereadTaskMap.get(updateTask.getId());
+        updatedFlags[i] = rereadTask != null
+            && rereadTask.getVersion() == updateTask.getVersion() + 1
+            && Objects.equals(rereadTask.getUpdatedAt(), updateTask.getUpdatedAt());
+      } else {
+        updatedFlags[i] = updateCounts[i] == 1;
+      }
+    }
+    return updatedFlags;
+  }
+
+  /**
+   * プロジェクトと、プロジェクトに紐づく全てのタスクを論理削除します。
+   * <p>
+   * 削除対象のプロジェクトが存在しない場合、またはプロジェクトがリクエストユーザーに属していない場合は例外を送出します(所有者検証は DB で行います)。
+   * 所有者検証の後に他のリクエストで削除され、削除件数が0件となった場合も存在しないものとして例外を送出します。<br>
+   * 先にプロジェクトを削除して以降の参照・登録を不可とした上で、タスクを SOFT_DELETE_CHUNK_SIZE 件ずつ論理削除します。
+   * 大量のタスクの行ロックを長時間保持しないよう、分割ごとに個別にコミットするためトランザクションは指定していません。<br>
+   * プロジェクトの削除後とタスクの削除完了後に、プロジェクトとタスクの所有者検証キャッシュを破棄し、
+   * 他ノードのキャッシュを破棄させるための変更履歴を登録します(プロジェクトの削除時はプロジェクトの削除と同一トランザクション内で登録)。
+   *
+   * @param projectPublicId プロジェクトの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @throws RecordNotFoundException     プロジェクトが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
+   */
+  public void deleteProject(String projectPublicId, Integer userAccountId) {
+    Project project = getAuthorizedProject(projectPublicId, userAccountId);
+
+    transactionOperations.executeWithoutResult(status -> {
+      if (repository.deleteProject(projectPublicId) == 0) {
+        throw new RecordNotFoundException("project not found");
+      }
+      changeLogRepository.insertChange(project.getId());
+    });
+    ownershipCache.evictProject(project.getId());
+
+    deleteTasksInChunks(
+        () -> repository.findLiveTaskIdsByProjectId(project.getId(), SOFT_DELETE_CHUNK_SIZE));
+    changeLogRepository.insertChange(project.getId());
+    ownershipCache.evictProject(project.getId());
+    taskTreeCache.evictProject(project.getId());
+  }
+
+  /**
+   * タスクと、タスクに紐づく全ての階層の子孫タスクを論理削除します。
+   * <p>
+   * 削除対象のタスクが存在しない場合、またはタスクがリクエストユーザーに属していない場合は例外を送出します(所有者検証は DB で行います)。
+   * 所有者検証の後に他のリクエストで削除され、削除件数が0件となった場合も存在しないものとして例外を送出します。<br>
+   * 先に指定のタスクを削除した上で、子孫タスクを SOFT_DELETE_CHUNK_SIZE 件ずつ論理削除します。
+   * 分割ごとに個別にコミットするためトランザクションは指定せず、分割ごとのトランザクション内でプロジェクトの集計に差分を反映します。<br>
+   * 指定のタスクの削除後と子孫タスクの削除完了後に、所属プロジェクトのタスクの所有者検証キャッシュを破棄し、
+   * 他ノードのキャッシュを破棄させるための変更履歴を登録します(指定のタスクの削除時はタスクの削除と同一トランザクション内で登録)。
+   *
+   * @param taskPublicId  タスクの公開ID
+   * @param userAccountId リクエスト送信ユーザーの内部ID
+   * @throws RecordNotFoundException     タスクが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたタスクの所有者でない場合
+   */
+  public void deleteTask(String taskPublicId, Integer userAccountId) {
+    Task task = getAuthorizedTask(taskPublicId, userAccountId);
+    transactionOperations.executeWithoutResult(status -> {
+      List<Task> deletedTasks = repository.findLiveTasksForUpdate(List.of(task.getId()));
+      if (repository.deleteTask(taskPublicId) == 0) {
+        throw new RecordNotFoundException("task not found");
+      }
+      projectStatsService.applyTaskChanges(deletedTasks, List.of());
+      changeLogRepository.insertChange(task.getProjectId());
+    });
+    ownershipCache.evictProject(task.getProjectId());
+
+    deleteTasksInChunks(
+        () -> repository.findLiveDescendantTaskIds(task.getId(), SOFT_DELETE_CHUNK_SIZE));
+    changeLogRepository.insertChange(task.getProjectId());
+    ownershipCache.evictProject(task.getProjectId());
   }
 
   /**
    * 対象の公開IDのプロジェクトの存在確認及び所有者検証を行います。
+   * <p>
+   * 存在確認と所有者検証は1回のクエリで行います。<br>
+   * 公開IDの形式が不正な場合と、直近の検索で存在しなかった公開ID(MissingIdCache に保持)の場合は検索せずに例外を送出します。
    *
    * @param projectPublicId 確認対象のプロジェクトの公開ID
-   * @param userPublicId    リクエスト送信ユーザーの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
    * @return 対象のプロジェクト情報
    * @throws RecordNotFoundException     プロジェクトが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
    */
-  Project getAuthorizedProject(String projectPublicId, String userPublicId) {
-    Project project = Optional.ofNullable(repository.findProjectByProjectPublicId(projectPublicId))
-        .orElseThrow(() -> new RecordNotFoundException("project not found"));
+  Project getAuthorizedProject(String projectPublicId, Integer userAccountId) {
+    return authorizeProject(projectPublicId, userAccountId, repository::findOwnedProject);
+  }
 
-    Integer userId = repository.findUserIdByUserPublicId(userPublicId);
-    if (!project.getUserAccountId().equals(userId)) {
+  /**
+   * 対象の公開IDのプロジェクトの存在確認及び所有者検証を、プロジェクトの行ロックを取得した上で行います。
+   * <p>
+   * タスクの登録先のように、トランザクションの完了までプロジェクトが削除されないことを保証する場合に使用します。
+   * 検証の内容は getAuthorizedProject と同じです。
+   *
+   * @param projectPublicId 確認対象のプロジェクトの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @return 対象のプロジェクト情報
+   * @throws RecordNotFoundException     プロジェクトが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
+   */
+  Project getAuthorizedProjectForUpdate(String projectPublicId, Integer userAccountId) {
+    return authorizeProject(projectPublicId, userAccountId,
+        repository::findOwnedProjectForUpdate);
+  }
+
+  private Project authorizeProject(String projectPublicId, Integer userAccountId,
+      BiFunction<String, Integer, OwnershipResult<Project>> finder) {
+    if (!PublicIdFormat.isValid(projectPublicId)
+        || missingIdCache.containsProject(projectPublicId)) {
+      throw new RecordNotFoundException("project not found");
+    }
+
+    OwnershipResult<Project> result = finder.apply(projectPublicId, userAccountId);
+    if (result == null) {
+      missingIdCache.putProject(projectPublicId);
+      throw new RecordNotFoundException("project not found");
+    }
+
+    if (!result.isOwned()) {
       throw new InvalidOwnerAccessException(TargetResource.PROJECT);
     }
-    return project;
+    return result.getResource();
   }
 
   /**
    * 対象の公開IDのタスクの存在確認及び所有者検証を行います。
+   * <p>
+   * 存在確認と所有者検証は1回のクエリで行います。<br>
+   * 公開IDの形式が不正な場合と、直近の検索で存在しなかった公開ID(MissingIdCache に保持)の場合は検索せずに例外を送出します。
    *
-   * @param taskPublicId 確認対象のタスクの公開ID
-   * @param userPublicId リクエスト送信ユーザーの公開ID
+   * @param taskPublicId  確認対象のタスクの公開ID
+   * @param userAccountId リクエスト送信ユーザーの内部ID
    * @return 対象のタスク情報
    * @throws RecordNotFoundException     タスクが存在しない場合
    * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたタスクの所有者でない場合
    */
-  Task getAuthorizedTask(String taskPublicId, String userPublicId) {
-    Task task = Optional.ofNullable(repository.findTaskByTaskPublicId(taskPublicId))
-        .orElseThrow(() -> new RecordNotFoundException("task not found"));
+  Task getAuthorizedTask(String taskPublicId, Integer userAccountId) {
+    return authorizeTask(taskPublicId, userAccountId, repository::findOwnedTask);
+  }
+
+  /**
+   * 対象の公開IDのタスクの存在確認及び所有者検証を、タスクと所属プロジェクトの行ロックを取得した上で行います。
+   * <p>
+   * 子タスクの登録先のように、トランザクションの完了まで親タスクと所属プロジェクトが削除されないことを保証する場合に使用します。
+   * 所属プロジェクトが削除済みの場合はタスクが存在しないものとして扱い、それ以外の検証の内容は getAuthorizedTask と同じです。
+   *
+   * @param taskPublicId  確認対象のタスクの公開ID
+   * @param userAccountId リクエスト送信ユーザーの内部ID
+   * @return 対象のタスク情報
+   * @throws RecordNotFoundException     タスクが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたタスクの所有者でない場合
+   */
+  Task getAuthorizedTaskForUpdate(String taskPublicId, Integer userAccountId) {
+    return authorizeTask(taskPublicId, userAccountId, repository::findOwnedTaskForUpdate);
+  }
+
+  private Task authorizeTask(String taskPublicId, Integer userAccountId,
+      BiFunction<String, Integer, OwnershipResult<Task>> finder) {
+    if (!PublicIdFormat.isValid(taskPublicId) || missingIdCache.containsTask(taskPublicId)) {
+      throw new RecordNotFoundException("task not found");
+    }
+
+    OwnershipResult<Task> result = finder.apply(taskPublicId, userAccountId);
+    if (result == null) {
+      missingIdCache.putTask(taskPublicId);
+      throw new RecordNotFoundException("task not found");
+    }
 
-    Integer userId = repository.findUserIdByUserPublicId(userPublicId);
-    if (!task.getUserAccountId().equals(userId)) {
+    if (!result.isOwned()) {
       throw new InvalidOwnerAccessException(TargetResource.TASK);
     }
+    return result.getResource();
+  }
+
+  /**
+   * 対象の公開IDのプロジェクトの存在確認及び所有者検証を行い、内部IDと所有者のみを設定したプロジェクトを返します。
+   * <p>
+   * OwnershipCache に保持している場合は検索を行わず、保持していない場合は getAuthorizedProject と同じ検索の結果を登録します。<br>
+   * キャッシュした結果は削除直後にも返る場合があるため、参照処理でのみ使用してください。
+   * 更新処理や登録先の検証には getAuthorizedProject / getAuthorizedProjectForUpdate を使用してください。
+   *
+   * @param projectPublicId 確認対象のプロジェクトの公開ID
+   * @param userAccountId   リクエスト送信ユーザーの内部ID
+   * @return 内部ID・所有者・公開IDを設定したプロジェクト(その他の項目はキャッシュから取得した場合は未設定)
+   * @throws RecordNotFoundException     プロジェクトが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたプロジェクトの所有者でない場合
+   */
+  Project getAuthorizedProjectReference(String projectPublicId, Integer userAccountId) {
+    Optional<Project> cached = ownershipCache.findProject(projectPublicId);
+    if (cached.isPresent()) {
+      if (!userAccountId.equals(cached.get().getUserAccountId())) {
+        throw new InvalidOwnerAccessException(TargetResource.PROJECT);
+      }
+      return cached.get();
+    }
+
+    long generation = ownershipCache.currentGeneration();
+    Project project = getAuthorizedProject(projectPublicId, userAccountId);
+    ownershipCache.putProject(projectPublicId, project, generation);
+    return project;
+  }
+
+  /**
+   * 対象の公開IDのタスクの存在確認及び所有者検証を行い、内部ID・所有者・所属プロジェクト・親タスクのみを設定したタスクを返します。
+   * <p>
+   * OwnershipCache に保持している場合は検索を行わず、保持していない場合は getAuthorizedTask と同じ検索の結果を登録します。<br>
+   * キャッシュした結果は削除直後にも返る場合があるため、参照処理でのみ使用してください。
+   * 更新処理や登録先の検証には getAuthorizedTask / getAuthorizedTaskForUpdate を使用してください。
+   *
+   * @param taskPublicId  確認対象のタスクの公開ID
+   * @param userAccountId リクエスト送信ユーザーの内部ID
+   * @return 内部ID・所有者・所属プロジェクト・親タスク・公開IDを設定したタスク(その他の項目はキャッシュから取得した場合は未設定)
+   * @throws RecordNotFoundException     タスクが存在しない場合
+   * @throws InvalidOwnerAccessException 呼び出し元ユーザーが指定されたタスクの所有者でない場合
+   */
+  Task getAuthorizedTaskReference(String taskPublicId, Integer userAccountId) {
+    Optional<Task> cached = ownershipCache.findTask(taskPublicId);
+    if (cached.isPresent()) {
+      if (!userAccountId.equals(cached.get().getUserAccountId())) {
+        throw new InvalidOwnerAccessException(TargetResource.TASK);
+      }
+      return cached.get();
+    }
+
+    long generation = ownershipCache.currentGeneration();
+    Task task = getAuthorizedTask(taskPublicId, userAccountId);
+    ownershipCache.putTask(taskPublicId, task, generation);
     return task;
   }
 
+  /**
+   * クライアントが指定した更新前のバージョンが現在のバージョンと一致することを検証します。
+   *
+   * @param expectedVersion クライアントが保持する更新前のバージョン（指定しない場合は null で検証しない）
+   * @param currentVersion  現在のバージョン
+   * @param targetResource  検証対象のリソース
+   * @throws VersionConflictException バージョンが一致しない場合
+   */
+  private void verifyExpectedVersion(Integer expectedVersion, Integer currentVersion,
+      TargetResource targetResource) {
+    if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+      throw new VersionConflictException(targetResource, true);
+    }
+  }
+
+  /**
+   * プロジェクトから並び順キーに対応する値を取り出します。
+   *
+   * @param sort    並び順
+   * @param project 対象のプロジェクト
+   * @return 並び順キーの値
+   */
+  private Object getProjectSortValue(ProjectSortKey sort, Project project) {
+    return switch (sort) {
+      case UPDATED_AT -> project.getUpdatedAt();
+      case CAPTION -> project.getProjectCaption();
+      case STATUS -> project.getStatus().name();
+    };
+  }
+
+  /**
+   * カーソルから取り出した並び順キーの文字列を、検索条件に使用する値に変換します。
+   *
+   * @param sort  並び順
+   * @param value 並び順キーの文字列
+   * @return 検索条件に使用する並び順キーの値
+   * @throws InvalidCursorException 並び順キーとして解釈できない場合
+   */
+  private Object parseProjectSortValue(ProjectSortKey sort, String value) {
+    try {
+      return switch (sort) {
+        case UPDATED_AT -> LocalDateTime.parse(value);
+        case CAPTION -> value;
+        case STATUS -> ProjectStatus.valueOf(value).name();
+      };
+    } catch (DateTimeParseException | IllegalArgumentException ex) {
+      throw new InvalidCursorException("invalid cursor");
+    }
+  }
+
+  /**
+   * プロジェクトのタスクを親タスク単位で1ページ分取得し、ツリー形式に変換します。
+   *
+   * @param projectId   プロジェクトの内部ID
+   * @param afterTaskId 前ページ末尾の親タスクの内部ID、先頭ページの場合は null
+   * @param limit       1ページあたりの親タスクの最大件数
+   * @param summary     true の場合は説明文を含まない要約形式で取得
+   * @return 親子タスク一覧の1ページ分と次ページ取得用のカーソル
+   */
+  private CursorPage<TaskTree> findTaskTreePage(Integer projectId, Integer afterTaskId, int limit,
+      boolean summary) {
+    // 次ページの有無を判定するため1件多く取得
+    List<Task> parentTaskList = repository.findParentTasksByProjectId(projectId, afterTaskId,
+        limit + 1, summary);
+    boolean hasNext = parentTaskList.size() > limit;
+    if (hasNext) {
+      parentTaskList = parentTaskList.subList(0, limit);
+    }
+    if (parentTaskList.isEmpty()) {
+      return new CursorPage<>(Collections.emptyList(), null);
+    }
+
+    List<Task> taskList = new ArrayList<>(parentTaskList);
+    taskList.addAll(repository.findDescendantTasksByTaskIds(
+        parentTaskList.stream().map(Task::getId).toList(), summary));
+
+    String nextCursor = hasNext ? cursorConverter.encode(parentTaskList.getLast().getId()) : null;
+    return new CursorPage<>(converter.convertToTaskTreeList(taskList), nextCursor);
+  }
+
+  /**
+   * タスクを BULK_INSERT_CHUNK_SIZE 件ずつに分割し、複数行 INSERT で登録します。
+   * <p>
+   * 分割ごとに、登録したタスクの階層の閉包テーブルへの登録も行います。
+   *
+   * @param tasks 登録するタスクのリスト(親タスクは登録済みであること)
+   */
+  private void createTasksInChunks(List<Task> tasks) {
+    for (int from = 0; from < tasks.size(); from += BULK_INSERT_CHUNK_SIZE) {
+      List<Task> chunk = tasks.subList(from, Math.min(from + BULK_INSERT_CHUNK_SIZE, tasks.size()));
+      repository.createTasks(chunk);
+      repository.createTaskPaths(chunk.stream().map(Task::getId).toList());
+    }
+  }
+
+  /**
+   * 削除対象のタスクの内部IDを取得しては論理削除する処理を、削除対象がなくなるまで繰り返します。
+   * <p>
+   * 論理削除したタスクは次回の取得対象から外れるため、取得件数が上限に満たなくなった時点で終了します。<br>
+   * 分割ごとに、削除対象のタスクに更新ロックを取得した上で論理削除し、プロジェクトの集計に差分を反映してコミットします。
+   *
+   * @param nextChunk 次に削除するタスクの内部IDを上限件数まで取得する処理
+   */
+  private void deleteTasksInChunks(Supplier<List<Integer>> nextChunk) {
+    List<Integer> taskIds;
+    do {
+      taskIds = nextChunk.get();
+      if (taskIds.isEmpty()) {
+        return;
+      }
+      List<Integer> chunk = taskIds;
+      transactionOperations.executeWithoutResult(status -> {
+        List<Task> deletedTasks = repository.findLiveTasksForUpdate(chunk);
+        repository.deleteTasksByIds(chunk);
+        projectStatsService.applyTaskChanges(deletedTasks, List.of());
+      });
+    } while (taskIds.size() >= SOFT_DELETE_CHUNK_SIZE);
+  }
+
 }
@@ -0,0 +1,129 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 保持件数の上限と有効期限を持つ、プロセス内キャッシュの共通の格納領域。
+ * <p>
+ * 保持件数が上限を超えた場合は最も長く参照されていないものから破棄し、その件数を evictionCount() で返します。
+ * 有効期限を指定した場合は、登録から有効期限が経過したものを参照時に破棄します。<br>
+ * 各操作はスレッドセーフです。参照成功・失敗の判定は利用する側で異なるため、参照件数は CacheMetrics で利用する側が記録してください。
+ *
+ * @param <K> キーの型
+ * @param <V> 値の型
+ */
+class BoundedTtlCache<K, V> {
+
+  private final Duration ttl;
+  private final Clock clock;
+  private final Map<K, Entry<V>> entries;
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * 有効期限を持たないキャッシュを生成します。
+   *
+   * @param maxSize 保持件数の上限
+   */
+  BoundedTtlCache(int maxSize) {
+    this(maxSize, null, Clock.systemUTC());
+  }
+
+  /**
+   * 有効期限を持つキャッシュを生成します。
+   *
+   * @param maxSize 保持件数の上限
+   * @param ttl     登録からの有効期限
+   * @param clock   有効期限の判定に使用する時計
+   */
+  BoundedTtlCache(int maxSize, Duration ttl, Clock clock) {
+    this.ttl = ttl;
+    this.clock = clock;
+    // アクセス順の LinkedHashMap とし、上限を超えた時点で最も長く参照されていないものを破棄
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        if (size() <= maxSize) {
+          return false;
+        }
+        evictions.increment();
+        return true;
+      }
+    };
+  }
+
+  /**
+   * キーに対応する有効期限内の値を取得します。有効期限が経過していた場合は破棄します。
+   *
+   * @param key キー
+   * @return 値、保持していない場合または有効期限が経過していた場合は空
+   */
+  synchronized Optional<V> get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (entry.expiresAt() <= clock.millis()) {
+      entries.remove(key);
+      return Optional.empty();
+    }
+    return Optional.of(entry.value());
+  }
+
+  /**
+   * 値を登録します。既に登録されている場合は置き換え、有効期限も登録時点から数え直します。
+   *
+   * @param key   キー
+   * @param value 値
+   */
+  synchronized void put(K key, V value) {
+    long expiresAt = ttl == null ? Long.MAX_VALUE : clock.millis() + ttl.toMillis();
+    entries.put(key, new Entry<>(value, expiresAt));
+  }
+
+  /**
+   * キーに対応する値を破棄します。
+   *
+   * @param key キー
+   */
+  synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  /**
+   * 条件に一致する値を全て破棄します。
+   *
+   * @param predicate 破棄する値の条件
+   */
+  synchronized void removeIf(Predicate<V> predicate) {
+    entries.values().removeIf(entry -> predicate.test(entry.value()));
+  }
+
+  /**
+   * 保持件数を取得します(有効期限が経過し、まだ参照されていないものを含みます)。
+   *
+   * @return 保持件数
+   */
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * 保持件数の上限を超えたことによる破棄件数の累計を取得します。
+   *
+   * @return 破棄件数
+   */
+  long evictionCount() {
+    return evictions.sum();
+  }
+
+  private record Entry<V>(V value, long expiresAt) {
+
+  }
+
+}
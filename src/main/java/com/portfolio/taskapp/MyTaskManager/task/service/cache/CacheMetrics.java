@@ -0,0 +1,82 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * プロセス内キャッシュの参照成功・失敗件数を記録し、Micrometer に公開する共通のメトリクス。
+ * <p>
+ * 参照件数を cache.gets (result=hit/miss)、保持件数の上限を超えたことによる破棄件数を cache.evictions、
+ * 保持件数を cache.size として、いずれも cache タグにキャッシュ名を付けて公開します。
+ */
+class CacheMetrics implements MeterBinder {
+
+  private final String cacheName;
+  private final String label;
+  private final String sizeLabel;
+  private final IntSupplier size;
+  private final LongSupplier evictionCount;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * キャッシュのメトリクスを生成します。
+   *
+   * @param cacheName     cache タグに設定するキャッシュ名
+   * @param label         メトリクスの説明に使用するキャッシュの表示名
+   * @param sizeLabel     保持件数のメトリクスの説明に使用する、保持件数の表示名
+   * @param size          保持件数の取得元
+   * @param evictionCount 保持件数の上限を超えたことによる破棄件数の取得元
+   */
+  CacheMetrics(String cacheName, String label, String sizeLabel, IntSupplier size,
+      LongSupplier evictionCount) {
+    this.cacheName = cacheName;
+    this.label = label;
+    this.sizeLabel = sizeLabel;
+    this.size = size;
+    this.evictionCount = evictionCount;
+  }
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordMiss() {
+    misses.increment();
+  }
+
+  long hitCount() {
+    return hits.sum();
+  }
+
+  long missCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+        .tags("cache", cacheName, "result", "hit")
+        .description(label + "の参照成功件数")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+        .tags("cache", cacheName, "result", "miss")
+        .description(label + "の参照失敗件数")
+        .register(registry);
+    FunctionCounter.builder("cache.evictions", evictionCount, LongSupplier::getAsLong)
+        .tags("cache", cacheName)
+        .description(label + "の保持件数超過による破棄件数")
+        .register(registry);
+    Gauge.builder("cache.size", size, IntSupplier::getAsInt)
+        .tags("cache", cacheName)
+        .description(label + "の" + sizeLabel)
+        .register(registry);
+  }
+
+}
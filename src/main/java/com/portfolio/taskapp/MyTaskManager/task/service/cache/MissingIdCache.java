@@ -0,0 +1,121 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import com.portfolio.taskapp.MyTaskManager.common.datasource.ReplicaRoutingPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 直近の検索で存在しなかったプロジェクト・タスクの公開IDを保持するプロセス内キャッシュ(ネガティブキャッシュ)。
+ * <p>
+ * 存在しない公開IDへの繰り返しのリクエスト(古いブックマークやクローラーなど)で、同じ公開IDを繰り返し検索しないために使用します。<br>
+ * 公開IDはサーバーで生成する UUID version 7 のため、存在しなかった公開IDが後から登録されることはなく、削除されたリソースも復元されません。
+ * 参照用レプリカの反映遅延による一時的な不在を記録しないよう、レプリカへ振り分けられた参照(ReplicaRoutingPolicy で判定)での不在は記録しません。
+ * 有効期限は app.missing-id-cache.ttl で指定します。<br>
+ * 保持件数が app.missing-id-cache.max-size を超えた場合は最も長く参照されていないものから破棄し、
+ * 参照の成功・失敗件数は cache.gets (cache=missing-id) として Micrometer に公開します。
+ */
+@Component
+public class MissingIdCache implements MeterBinder {
+
+  static final String CACHE_NAME = "missing-id";
+
+  private final BoundedTtlCache<String, Boolean> projects;
+  private final BoundedTtlCache<String, Boolean> tasks;
+  private final CacheMetrics metrics;
+
+  // レプリカへの振り分けが無効の場合は null
+  private final ReplicaRoutingPolicy routingPolicy;
+
+  @Autowired
+  public MissingIdCache(@Value("${app.missing-id-cache.max-size:10000}") int maxSize,
+      @Value("${app.missing-id-cache.ttl:PT30S}") Duration ttl,
+      ObjectProvider<ReplicaRoutingPolicy> routingPolicy) {
+    this(maxSize, ttl, routingPolicy.getIfAvailable());
+  }
+
+  public MissingIdCache(int maxSize, Duration ttl) {
+    this(maxSize, ttl, (ReplicaRoutingPolicy) null);
+  }
+
+  MissingIdCache(int maxSize, Duration ttl, ReplicaRoutingPolicy routingPolicy) {
+    this.routingPolicy = routingPolicy;
+    this.projects = new BoundedTtlCache<>(maxSize, ttl, Clock.systemUTC());
+    this.tasks = new BoundedTtlCache<>(maxSize, ttl, Clock.systemUTC());
+    this.metrics = new CacheMetrics(CACHE_NAME, "ネガティブキャッシュ", "保持件数",
+        () -> projects.size() + tasks.size(),
+        () -> projects.evictionCount() + tasks.evictionCount());
+  }
+
+  /**
+   * 直近の検索で存在しなかったプロジェクトの公開IDかを判定します。
+   *
+   * @param projectPublicId プロジェクトの公開ID
+   * @return 有効期限内に存在しなかったことを記録している場合は true
+   */
+  public boolean containsProject(String projectPublicId) {
+    return contains(projects, projectPublicId);
+  }
+
+  /**
+   * 直近の検索で存在しなかったタスクの公開IDかを判定します。
+   *
+   * @param taskPublicId タスクの公開ID
+   * @return 有効期限内に存在しなかったことを記録している場合は true
+   */
+  public boolean containsTask(String taskPublicId) {
+    return contains(tasks, taskPublicId);
+  }
+
+  /**
+   * 存在しなかったプロジェクトの公開IDを記録します。現在の参照がレプリカへ振り分けられている場合は記録しません。
+   *
+   * @param projectPublicId 検索で存在しなかったプロジェクトの公開ID
+   */
+  public void putProject(String projectPublicId) {
+    put(projects, projectPublicId);
+  }
+
+  /**
+   * 存在しなかったタスクの公開IDを記録します。現在の参照がレプリカへ振り分けられている場合は記録しません。
+   *
+   * @param taskPublicId 検索で存在しなかったタスクの公開ID
+   */
+  public void putTask(String taskPublicId) {
+    put(tasks, taskPublicId);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    metrics.bindTo(registry);
+  }
+
+  long hitCount() {
+    return metrics.hitCount();
+  }
+
+  private boolean contains(BoundedTtlCache<String, Boolean> cache, String publicId) {
+    boolean contained = cache.get(publicId.toLowerCase(Locale.ROOT)).isPresent();
+    if (contained) {
+      metrics.recordHit();
+    } else {
+      metrics.recordMiss();
+    }
+    return contained;
+  }
+
+  private void put(BoundedTtlCache<String, Boolean> cache, String publicId) {
+    // レプリカでの不在は反映遅延による一時的なものの可能性があるため、更新系で確認した不在のみを記録
+    if (routingPolicy != null && routingPolicy.isCurrentReadRoutedToReplica()) {
+      return;
+    }
+    cache.put(publicId.toLowerCase(Locale.ROOT), Boolean.TRUE);
+  }
+
+}
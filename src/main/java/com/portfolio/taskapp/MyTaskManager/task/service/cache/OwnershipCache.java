@@ -0,0 +1,157 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * プロジェクト・タスクの公開IDから、内部ID・所有者・所属プロジェクト・親タスクを引き当てるプロセス内キャッシュ。
+ * <p>
+ * 所有者検証のためだけに同じ公開IDを繰り返し検索しないよう、未削除のリソースの識別情報のみを保持します(説明文やバージョンなどの可変項目は保持しません)。<br>
+ * 公開IDごとに app.ownership-cache.ttl の有効期限を持ち、保持件数が app.ownership-cache.max-size を超えた場合は最も長く参照されていないものから破棄します。<br>
+ * 参照の成功・失敗件数は cache.gets (cache=ownership) として Micrometer に公開します。
+ */
+@Component
+public class OwnershipCache implements MeterBinder {
+
+  static final String CACHE_NAME = "ownership";
+
+  private final BoundedTtlCache<String, Project> projects;
+  private final BoundedTtlCache<String, Task> tasks;
+  private final CacheMetrics metrics;
+
+  // 破棄のたびに加算し、破棄より前に読み込んだ内容を登録しないための世代番号
+  private final AtomicLong generation = new AtomicLong();
+
+  public OwnershipCache(@Value("${app.ownership-cache.max-size:10000}") int maxSize,
+      @Value("${app.ownership-cache.ttl:PT5M}") Duration ttl) {
+    this.projects = new BoundedTtlCache<>(maxSize, ttl, Clock.systemUTC());
+    this.tasks = new BoundedTtlCache<>(maxSize, ttl, Clock.systemUTC());
+    this.metrics = new CacheMetrics(CACHE_NAME, "所有者検証キャッシュ", "保持件数",
+        () -> projects.size() + tasks.size(),
+        () -> projects.evictionCount() + tasks.evictionCount());
+  }
+
+  /**
+   * 現在の世代番号を取得します。
+   * <p>
+   * DB から読み込んだ内容を登録する場合は、読み込み前にこの値を取得して登録時に指定してください。
+   *
+   * @return 現在の世代番号
+   */
+  public long currentGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * 公開IDに対応するプロジェクトの識別情報を取得します。
+   *
+   * @param projectPublicId プロジェクトの公開ID
+   * @return 内部ID・所有者・公開IDのみを設定したプロジェクト、保持していない場合は空
+   */
+  public Optional<Project> findProject(String projectPublicId) {
+    return find(projects, projectPublicId);
+  }
+
+  /**
+   * 公開IDに対応するタスクの識別情報を取得します。
+   *
+   * @param taskPublicId タスクの公開ID
+   * @return 内部ID・所有者・所属プロジェクト・親タスク・公開IDのみを設定したタスク、保持していない場合は空
+   */
+  public Optional<Task> findTask(String taskPublicId) {
+    return find(tasks, taskPublicId);
+  }
+
+  /**
+   * プロジェクトの識別情報を登録します。読み込み後に破棄が行われていた場合は登録しません。
+   *
+   * @param projectPublicId 読み込みに使用したプロジェクトの公開ID
+   * @param project         DB から読み込んだ未削除のプロジェクト
+   * @param generation      読み込み前に取得した世代番号
+   */
+  public void putProject(String projectPublicId, Project project, long generation) {
+    Project reference = Project.builder()
+        .id(project.getId())
+        .userAccountId(project.getUserAccountId())
+        .publicId(project.getPublicId())
+        .build();
+    put(projects, projectPublicId, reference, generation);
+  }
+
+  /**
+   * タスクの識別情報を登録します。読み込み後に破棄が行われていた場合は登録しません。
+   *
+   * @param taskPublicId 読み込みに使用したタスクの公開ID
+   * @param task         DB から読み込んだ未削除のタスク
+   * @param generation   読み込み前に取得した世代番号
+   */
+  public void putTask(String taskPublicId, Task task, long generation) {
+    Task reference = Task.builder()
+        .id(task.getId())
+        .userAccountId(task.getUserAccountId())
+        .projectId(task.getProjectId())
+        .parentTaskId(task.getParentTaskId())
+        .publicId(task.getPublicId())
+        .build();
+    put(tasks, taskPublicId, reference, generation);
+  }
+
+  /**
+   * プロジェクトと、プロジェクトに属する全てのタスクの識別情報を破棄します。
+   * <p>
+   * タスクの削除は配下の子孫タスクにも及ぶため、タスクの削除時も所属プロジェクト単位で破棄します。
+   *
+   * @param projectId 対象プロジェクトの内部ID
+   */
+  public void evictProject(Integer projectId) {
+    synchronized (this) {
+      generation.incrementAndGet();
+      projects.removeIf(project -> Objects.equals(projectId, project.getId()));
+      tasks.removeIf(task -> Objects.equals(projectId, task.getProjectId()));
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    metrics.bindTo(registry);
+  }
+
+  long hitCount() {
+    return metrics.hitCount();
+  }
+
+  long missCount() {
+    return metrics.missCount();
+  }
+
+  private <T> Optional<T> find(BoundedTtlCache<String, T> cache, String publicId) {
+    Optional<T> value = cache.get(publicId.toLowerCase(Locale.ROOT));
+    if (value.isPresent()) {
+      metrics.recordHit();
+    } else {
+      metrics.recordMiss();
+    }
+    return value;
+  }
+
+  private <T> void put(BoundedTtlCache<String, T> cache, String publicId, T value,
+      long loadedGeneration) {
+    // 世代番号の確認と登録の間に破棄が割り込まないよう、破棄と同じロックで登録
+    synchronized (this) {
+      if (generation.get() == loadedGeneration) {
+        cache.put(publicId.toLowerCase(Locale.ROOT), value);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,136 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectChange;
+import com.portfolio.taskapp.MyTaskManager.task.repository.ProjectChangeLogRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 変更履歴(project_change_log)を連番の昇順に読み取り、自ノードのプロセス内キャッシュから変更のあったプロジェクトの情報を破棄するバッチ。
+ * <p>
+ * 複数のアプリノードで稼働する場合に、他ノードでの削除による所有者検証キャッシュ・タスクツリーキャッシュの情報の陳腐化を
+ * 外部のメッセージブローカーを使わずに解消します。読み取り間隔は app.cache-invalidation.poll-interval で指定します。<br>
+ * 連番は登録順に払い出されますがコミット順とは一致しないため、読み取り時に欠番となっていた連番を記録し、
+ * app.cache-invalidation.gap-timeout の間は再度読み取って、後からコミットされた変更履歴も取りこぼさないようにします。
+ * 期間を過ぎた欠番はロールバックされた登録とみなします。<br>
+ * 起動時はキャッシュが空のため、その時点の末尾から読み取りを開始します。
+ */
+@Component
+public class ProjectChangeLogPoller {
+
+  /**
+   * 1回のクエリで読み取る最大件数
+   */
+  static final int POLL_BATCH_SIZE = 500;
+
+  /**
+   * 記録する欠番の最大件数。超えた場合は小さい連番から記録を破棄します
+   */
+  static final int MAX_TRACKED_GAPS = 10000;
+
+  private final ProjectChangeLogRepository repository;
+  private final OwnershipCache ownershipCache;
+  private final TaskTreeCache taskTreeCache;
+  private final long retainedChanges;
+  private final Duration gapTimeout;
+  private final Clock clock;
+
+  // 欠番の連番と、欠番を検出した時刻(エポックミリ秒)
+  private final NavigableMap<Long, Long> pendingGaps = new TreeMap<>();
+  private long lastSeq = -1;
+
+  @Autowired
+  public ProjectChangeLogPoller(ProjectChangeLogRepository repository,
+      OwnershipCache ownershipCache, TaskTreeCache taskTreeCache,
+      @Value("${app.cache-invalidation.retained-changes:100000}") long retainedChanges,
+      @Value("${app.cache-invalidation.gap-timeout:PT1M}") Duration gapTimeout) {
+    this(repository, ownershipCache, taskTreeCache, retainedChanges, gapTimeout,
+        Clock.systemUTC());
+  }
+
+  ProjectChangeLogPoller(ProjectChangeLogRepository repository, OwnershipCache ownershipCache,
+      TaskTreeCache taskTreeCache, long retainedChanges, Duration gapTimeout, Clock clock) {
+    this.repository = repository;
+    this.ownershipCache = ownershipCache;
+    this.taskTreeCache = taskTreeCache;
+    this.retainedChanges = retainedChanges;
+    this.gapTimeout = gapTimeout;
+    this.clock = clock;
+  }
+
+  /**
+   * 前回の読み取り以降の変更履歴を読み取り、該当するプロジェクトの情報をキャッシュから破棄します。
+   */
+  @Scheduled(fixedDelayString = "${app.cache-invalidation.poll-interval:PT1S}")
+  public synchronized void poll() {
+    if (lastSeq < 0) {
+      lastSeq = repository.findLatestSeq();
+    }
+
+    long now = clock.millis();
+    pollPendingGaps(now);
+
+    List<ProjectChange> changes;
+    do {
+      changes = repository.findChangesAfter(lastSeq, POLL_BATCH_SIZE);
+      for (ProjectChange change : changes) {
+        for (long seq = lastSeq + 1; seq < change.getSeq(); seq++) {
+          pendingGaps.put(seq, now);
+        }
+        evict(change);
+        lastSeq = change.getSeq();
+      }
+    } while (changes.size() == POLL_BATCH_SIZE);
+
+    while (pendingGaps.size() > MAX_TRACKED_GAPS) {
+      pendingGaps.pollFirstEntry();
+    }
+  }
+
+  // 期間内の欠番を再度読み取り、後からコミットされた変更履歴を反映する
+  private void pollPendingGaps(long now) {
+    pendingGaps.values().removeIf(detectedAt -> now - detectedAt >= gapTimeout.toMillis());
+    List<Long> gaps = List.copyOf(pendingGaps.keySet());
+    for (int from = 0; from < gaps.size(); from += POLL_BATCH_SIZE) {
+      List<Long> chunk = gaps.subList(from, Math.min(from + POLL_BATCH_SIZE, gaps.size()));
+      for (ProjectChange change : repository.findChangesBySeqs(chunk)) {
+        pendingGaps.remove(change.getSeq());
+        evict(change);
+      }
+    }
+  }
+
+  private void evict(ProjectChange change) {
+    ownershipCache.evictProject(change.getProjectId());
+    taskTreeCache.evictProject(change.getProjectId());
+  }
+
+  /**
+   * 読み取り済みの末尾から app.cache-invalidation.retained-changes 件より前の変更履歴を削除します。
+   * <p>
+   * 各ノードは読み取り間隔ごとに末尾まで読み取るため、保持件数を十分に大きくとることで未読の変更履歴は削除しません。
+   * 再度読み取る欠番がある場合は、その連番より前の変更履歴のみを削除します。
+   */
+  @Scheduled(initialDelayString = "${app.cache-invalidation.purge-interval:PT10M}",
+      fixedDelayString = "${app.cache-invalidation.purge-interval:PT10M}")
+  public void purge() {
+    long purgeUpTo;
+    synchronized (this) {
+      purgeUpTo = lastSeq - retainedChanges;
+      if (!pendingGaps.isEmpty()) {
+        purgeUpTo = Math.min(purgeUpTo, pendingGaps.firstKey() - 1);
+      }
+    }
+    if (purgeUpTo > 0) {
+      repository.deleteChangesUpTo(purgeUpTo);
+    }
+  }
+
+}
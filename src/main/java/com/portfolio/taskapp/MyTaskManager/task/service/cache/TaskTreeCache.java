@@ -0,0 +1,127 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import com.portfolio.taskapp.MyTaskManager.task.dto.CursorPage;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTree;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * プロジェクトごとに、組み立て済みのタスクツリー一覧のページをタスクツリーのバージョンと合わせて保持するプロセス内キャッシュ。
+ * <p>
+ * タスクツリーのバージョンはタスクの登録・更新・削除のたびにその更新と同一のトランザクション内で加算されるため、
+ * 参照時に取得した現在のバージョンと一致するページのみを返すことで、コミット済みの更新より古いツリーは返しません。<br>
+ * 保持するプロジェクト数が app.task-tree-cache.max-projects を超えた場合は最も長く参照されていないプロジェクトから破棄します。<br>
+ * 参照の成功・失敗件数は cache.gets (cache=task-tree) として Micrometer に公開します。
+ * 保持したページは複数のリクエストで共有するため、取得した側で変更しないでください。
+ */
+@Component
+public class TaskTreeCache implements MeterBinder {
+
+  static final String CACHE_NAME = "task-tree";
+
+  /**
+   * 1プロジェクトあたりに保持する最大ページ数(ページ位置・件数・取得形式の組み合わせ)
+   */
+  static final int MAX_PAGES_PER_PROJECT = 32;
+
+  private final BoundedTtlCache<Integer, ProjectEntry> projects;
+  private final CacheMetrics metrics;
+
+  public TaskTreeCache(@Value("${app.task-tree-cache.max-projects:1000}") int maxProjects) {
+    this.projects = new BoundedTtlCache<>(maxProjects);
+    this.metrics = new CacheMetrics(CACHE_NAME, "タスクツリーキャッシュ", "保持プロジェクト数",
+        projects::size, projects::evictionCount);
+  }
+
+  /**
+   * 指定したバージョンで組み立てられたタスクツリー一覧のページを取得します。
+   *
+   * @param projectId   プロジェクトの内部ID
+   * @param treeVersion 現在のタスクツリーのバージョン
+   * @param afterTaskId 前ページ末尾の親タスクの内部ID、先頭ページの場合は null
+   * @param limit       1ページあたりの親タスクの最大件数
+   * @param summary     要約形式の場合は true
+   * @return 該当するページ、保持していない場合またはバージョンが異なる場合は空
+   */
+  public Optional<CursorPage<TaskTree>> find(Integer projectId, long treeVersion,
+      Integer afterTaskId, int limit, boolean summary) {
+    synchronized (this) {
+      ProjectEntry entry = projects.get(projectId).orElse(null);
+      if (entry != null && entry.treeVersion() == treeVersion) {
+        CursorPage<TaskTree> page = entry.pages().get(new PageKey(afterTaskId, limit, summary));
+        if (page != null) {
+          metrics.recordHit();
+          return Optional.of(page);
+        }
+      }
+    }
+    metrics.recordMiss();
+    return Optional.empty();
+  }
+
+  /**
+   * 組み立てたタスクツリー一覧のページを登録します。
+   * <p>
+   * 保持しているページのバージョンと異なる場合は、そのプロジェクトの保持済みのページを全て破棄してから登録します。
+   *
+   * @param projectId   プロジェクトの内部ID
+   * @param treeVersion ページの組み立て前に取得したタスクツリーのバージョン
+   * @param afterTaskId 前ページ末尾の親タスクの内部ID、先頭ページの場合は null
+   * @param limit       1ページあたりの親タスクの最大件数
+   * @param summary     要約形式の場合は true
+   * @param page        組み立てたページ
+   */
+  public void put(Integer projectId, long treeVersion, Integer afterTaskId, int limit,
+      boolean summary, CursorPage<TaskTree> page) {
+    synchronized (this) {
+      ProjectEntry entry = projects.get(projectId).orElse(null);
+      if (entry == null || entry.treeVersion() != treeVersion) {
+        entry = new ProjectEntry(treeVersion, new HashMap<>());
+        projects.put(projectId, entry);
+      }
+      if (entry.pages().size() < MAX_PAGES_PER_PROJECT) {
+        entry.pages().put(new PageKey(afterTaskId, limit, summary), page);
+      }
+    }
+  }
+
+  /**
+   * プロジェクトの保持済みのページを全て破棄します。
+   *
+   * @param projectId プロジェクトの内部ID
+   */
+  public void evictProject(Integer projectId) {
+    projects.remove(projectId);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    metrics.bindTo(registry);
+  }
+
+  long hitCount() {
+    return metrics.hitCount();
+  }
+
+  long missCount() {
+    return metrics.missCount();
+  }
+
+  int size() {
+    return projects.size();
+  }
+
+  private record ProjectEntry(long treeVersion, Map<PageKey, CursorPage<TaskTree>> pages) {
+
+  }
+
+  private record PageKey(Integer afterTaskId, int limit, boolean summary) {
+
+  }
+
+}
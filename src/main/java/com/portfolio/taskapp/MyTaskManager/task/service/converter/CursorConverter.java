@@ -0,0 +1,89 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.converter;
+
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * ページ分割の位置情報(キー値)と、フロントエンドへ返却する不透明なカーソル文字列との相互変換を担うコンバータ。
+ * <p>
+ * 各キー値を Base64URL 形式でエンコードし "." で連結したものをカーソルとします。
+ */
+@Component
+public class CursorConverter {
+
+  private static final String SEPARATOR = ".";
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  /**
+   * キー値の並びをカーソル文字列に変換します。
+   *
+   * @param keys ページ末尾要素のキー値（null 不可）
+   * @return カーソル文字列
+   */
+  public String encode(Object... keys) {
+    return Arrays.stream(keys)
+        .map(key -> ENCODER.encodeToString(key.toString().getBytes(StandardCharsets.UTF_8)))
+        .collect(Collectors.joining(SEPARATOR));
+  }
+
+  /**
+   * カーソル文字列をキー値の並びに変換します。
+   *
+   * @param cursor   カーソル文字列
+   * @param keyCount カーソルに含まれるべきキー値の数
+   * @return キー値の文字列リスト
+   * @throws InvalidCursorException カーソルの形式が不正な場合
+   */
+  public List<String> decode(String cursor, int keyCount) {
+    if (cursor == null || cursor.isBlank()) {
+      throw new InvalidCursorException("invalid cursor");
+    }
+
+    String[] segments = cursor.split("\\" + SEPARATOR, -1);
+    if (segments.length != keyCount) {
+      throw new InvalidCursorException("invalid cursor");
+    }
+
+    try {
+      return Arrays.stream(segments)
+          .map(segment -> new String(DECODER.decode(segment), StandardCharsets.UTF_8))
+          .toList();
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidCursorException("invalid cursor");
+    }
+  }
+
+  /**
+   * 内部IDのみをキーとするカーソル文字列を内部IDに変換します。
+   *
+   * @param cursor カーソル文字列
+   * @return カーソルが示す内部ID
+   * @throws InvalidCursorException カーソルの形式が不正な場合
+   */
+  public Integer decodeId(String cursor) {
+    return parseId(decode(cursor, 1).getFirst());
+  }
+
+  /**
+   * カーソルから取り出したキー値を内部IDに変換します。
+   *
+   * @param key キー値の文字列
+   * @return 内部ID
+   * @throws InvalidCursorException 内部IDとして解釈できない場合
+   */
+  public Integer parseId(String key) {
+    try {
+      return Integer.valueOf(key);
+    } catch (NumberFormatException ex) {
+      throw new InvalidCursorException("invalid cursor");
+    }
+  }
+
+}
@@ -2,10 +2,11 @@ package com.portfolio.taskapp.MyTaskManager.task.service.converter;
 
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTree;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,28 +17,34 @@ public class TaskConverter {
 
   /**
    * タスクリストを、親子関係を示す構造(TaskTree)に変換しリスト化します。
+   * <p>
+   * タスクリストを先頭から1回走査し、親タスクが既出のタスクはその子タスクに、それ以外のタスクは最上位のツリーとして追加します。<br>
+   * そのため、タスクリストは親タスクが子タスクより先になるよう並べてください。子タスクの並び順はタスクリストの並び順を維持します。
    *
    * @param taskList タスクの一覧（null または空リストでも可）
-   * @return 親子タスク(TaskTree)の一覧、パラメータが null または空の場合は空リスト
+   * @return 最上位のタスクごとのツリー(TaskTree)の一覧、パラメータが null または空の場合は空リスト
    */
   public List<TaskTree> convertToTaskTreeList(List<Task> taskList) {
     if (taskList == null || taskList.isEmpty()) {
       return Collections.emptyList();
     }
 
-    // 子タスクのみのMap(Keyは親タスクのId)
-    Map<Integer, List<Task>> subtaskMap = taskList.stream()
-        .filter(task -> task.getParentTaskId() != null)
-        .collect(Collectors.groupingBy(Task::getParentTaskId));
+    // 変換済みのツリーのMap(Keyはタスクの内部Id)
+    Map<Integer, TaskTree> taskTreeMap = new HashMap<>();
+    List<TaskTree> rootTreeList = new ArrayList<>();
+    for (Task task : taskList) {
+      TaskTree taskTree = new TaskTree(task, new ArrayList<>());
+      taskTreeMap.put(task.getId(), taskTree);
 
-    // 親タスク+子タスクリスト（TaskTree)に変換しリスト化
-    return taskList.stream()
-        .filter(task -> task.getParentTaskId() == null)
-        .map(parentTask -> new TaskTree(
-            parentTask,
-            subtaskMap.getOrDefault(parentTask.getId(), Collections.emptyList())
-        ))
-        .toList();
+      TaskTree parentTree = task.getParentTaskId() == null ? null
+          : taskTreeMap.get(task.getParentTaskId());
+      if (parentTree == null) {
+        rootTreeList.add(taskTree);
+      } else {
+        parentTree.getSubtaskList().add(taskTree);
+      }
+    }
+    return rootTreeList;
   }
 
 }
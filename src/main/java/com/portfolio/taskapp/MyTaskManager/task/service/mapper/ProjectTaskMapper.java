@@ -2,16 +2,38 @@ package com.portfolio.taskapp.MyTaskManager.task.service.mapper;
 
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskRequest;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 import org.springframework.stereotype.Component;
 
 /**
  * プロジェクトおよびタスクの登録・更新のリクエストとその他必要情報からエンティティに変換するマッパークラス。
+ * <p>
+ * 登録・更新日時とバージョンの初期値はDBの既定値に頼らずここで設定し、そのまま永続化します。
+ * 生成したエンティティが DB の保存内容と一致するため、登録・更新後に再取得せずにレスポンスとして返却できます。<br>
+ * DB の DATETIME 型に合わせ、日時は秒未満を切り捨てて設定します。
  */
 @Component
 public class ProjectTaskMapper {
 
+  private static final int INITIAL_VERSION = 0;
+
+  private final Clock clock;
+
+  public ProjectTaskMapper() {
+    this(Clock.systemDefaultZone());
+  }
+
+  ProjectTaskMapper(Clock clock) {
+    this.clock = clock;
+  }
+
   /**
    * リクエスト情報とユーザーID、プロジェクトの公開IDを基に Project エンティティを生成するマッパー。
    *
@@ -21,12 +43,39 @@ public class ProjectTaskMapper {
    * @return Project プロジェクトのエンティティ
    */
   public Project toProject(ProjectRequest request, Integer userId, String publicId) {
+    LocalDateTime now = now();
     return Project.builder()
         .userAccountId(userId)
         .publicId(publicId)
         .projectCaption(request.getProjectCaption())
         .description(request.getDescription())
         .status(request.getStatus())
+        .version(INITIAL_VERSION)
+        .createdAt(now)
+        .updatedAt(now)
+        .build();
+  }
+
+  /**
+   * 更新リクエストの内容と現在のプロジェクト情報を基に、更新用の Project エンティティを生成するマッパー。
+   * <p>
+   * 内部ID・公開ID・所有ユーザー・バージョン・登録日時は現在のプロジェクト情報から引き継ぎ、更新日時は現在日時を設定します。
+   *
+   * @param request        プロジェクト更新用のリクエスト
+   * @param currentProject 更新対象の現在のプロジェクト情報
+   * @return Project 更新用のプロジェクトのエンティティ
+   */
+  public Project toUpdateProject(ProjectRequest request, Project currentProject) {
+    return Project.builder()
+        .id(currentProject.getId())
+        .userAccountId(currentProject.getUserAccountId())
+        .publicId(currentProject.getPublicId())
+        .projectCaption(request.getProjectCaption())
+        .description(request.getDescription())
+        .status(request.getStatus())
+        .version(currentProject.getVersion())
+        .createdAt(currentProject.getCreatedAt())
+        .updatedAt(now())
         .build();
   }
 
@@ -41,6 +90,7 @@ public class ProjectTaskMapper {
    * @return Task タスクのエンティティ
    */
   public Task toTask(TaskRequest request, Project project, String publicId) {
+    LocalDateTime now = now();
     return Task.builder()
         .userAccountId(project.getUserAccountId())
         .projectId(project.getId())
@@ -53,6 +103,9 @@ public class ProjectTaskMapper {
         .actualTime(request.getActualTime())
         .progress(request.getProgress())
         .priority(request.getPriority())
+        .version(INITIAL_VERSION)
+        .createdAt(now)
+        .updatedAt(now)
         .build();
   }
 
@@ -67,6 +120,7 @@ public class ProjectTaskMapper {
    * @return Task タスクのエンティティ
    */
   public Task toSubtask(TaskRequest request, Task parentTask, String publicId) {
+    LocalDateTime now = now();
     return Task.builder()
         .userAccountId(parentTask.getUserAccountId())
         .projectId(parentTask.getProjectId())
@@ -79,6 +133,9 @@ public class ProjectTaskMapper {
         .actualTime(request.getActualTime())
         .progress(request.getProgress())
         .priority(request.getPriority())
+        .version(INITIAL_VERSION)
+        .createdAt(now)
+        .updatedAt(now)
         .build();
   }
 
@@ -96,6 +153,77 @@ public class ProjectTaskMapper {
         .actualTime(request.getActualTime())
         .progress(request.getProgress())
         .priority(request.getPriority())
+        .version(currentTask.getVersion())
+        .createdAt(currentTask.getCreatedAt())
+        .updatedAt(now())
+        .build();
+  }
+
+  /**
+   * 部分更新リクエストの内容を現在のプロジェクト情報に適用した Project エンティティを生成するマッパー。
+   * <p>
+   * リクエストで null の項目は現在のプロジェクト情報の値を引き継ぎ、更新日時は現在日時を設定します。
+   *
+   * @param request        プロジェクトの部分更新用のリクエスト
+   * @param currentProject 更新対象の現在のプロジェクト情報
+   * @return Project 部分更新適用後のプロジェクトのエンティティ
+   */
+  public Project toPatchedProject(ProjectPatchRequest request, Project currentProject) {
+    return Project.builder()
+        .id(currentProject.getId())
+        .userAccountId(currentProject.getUserAccountId())
+        .publicId(currentProject.getPublicId())
+        .projectCaption(Optional.ofNullable(request.getProjectCaption())
+            .orElse(currentProject.getProjectCaption()))
+        .description(Optional.ofNullable(request.getDescription())
+            .orElse(currentProject.getDescription()))
+        .status(Optional.ofNullable(request.getStatus()).orElse(currentProject.getStatus()))
+        .version(currentProject.getVersion())
+        .createdAt(currentProject.getCreatedAt())
+        .updatedAt(now())
+        .build();
+  }
+
+  /**
+   * 部分更新リクエストの内容を現在のタスク情報に適用した Task エンティティを生成するマッパー。
+   * <p>
+   * リクエストで null の項目は現在のタスク情報の値を引き継ぎ、更新日時は現在日時を設定します。
+   *
+   * @param request     タスクの部分更新用のリクエスト
+   * @param currentTask 更新対象の現在のタスク情報
+   * @return Task 部分更新適用後のタスクのエンティティ
+   */
+  public Task toPatchedTask(TaskPatchRequest request, Task currentTask) {
+    return Task.builder()
+        .id(currentTask.getId())
+        .userAccountId(currentTask.getUserAccountId())
+        .projectId(currentTask.getProjectId())
+        .publicId(currentTask.getPublicId())
+        .parentTaskId(currentTask.getParentTaskId())
+        .taskCaption(Optional.ofNullable(request.getTaskCaption())
+            .orElse(currentTask.getTaskCaption()))
+        .description(Optional.ofNullable(request.getDescription())
+            .orElse(currentTask.getDescription()))
+        .dueDate(Optional.ofNullable(request.getDueDate()).orElse(currentTask.getDueDate()))
+        .estimatedTime(Optional.ofNullable(request.getEstimatedTime())
+            .orElse(currentTask.getEstimatedTime()))
+        .actualTime(Optional.ofNullable(request.getActualTime())
+            .orElse(currentTask.getActualTime()))
+        .progress(Optional.ofNullable(request.getProgress()).orElse(currentTask.getProgress()))
+        .priority(Optional.ofNullable(request.getPriority()).orElse(currentTask.getPriority()))
+        .version(currentTask.getVersion())
+        .createdAt(currentTask.getCreatedAt())
+        .updatedAt(now())
         .build();
   }
+
+  /**
+   * 登録・更新日時に設定する現在日時を、DB の DATETIME 型の精度(秒)に切り捨てて取得します。
+   *
+   * @return 秒未満を切り捨てた現在日時
+   */
+  private LocalDateTime now() {
+    return LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+  }
+
 }
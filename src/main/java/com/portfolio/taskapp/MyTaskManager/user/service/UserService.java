@@ -1,6 +1,7 @@
 package com.portfolio.taskapp.MyTaskManager.user.service;
 
 import com.portfolio.taskapp.MyTaskManager.auth.details.UserAccountDetails;
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdGenerator;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.UserAccount;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidPasswordChangeException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.NotUniqueException;
@@ -13,7 +14,6 @@ import com.portfolio.taskapp.MyTaskManager.user.dto.update.AccountUserInfoUpdate
 import com.portfolio.taskapp.MyTaskManager.user.repository.UserRepository;
 import com.portfolio.taskapp.MyTaskManager.user.service.mapper.UserAccountMapper;
 import java.util.Optional;
-import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -33,14 +33,17 @@ public class UserService {
   private final UserRepository repository;
   private final PasswordEncoder passwordEncoder;
   private final UserAccountMapper mapper;
+  private final PublicIdGenerator publicIdGenerator;
 
   @Autowired
   public UserService(UserRepository repository,
       PasswordEncoder passwordEncoder,
-      UserAccountMapper mapper) {
+      UserAccountMapper mapper,
+      PublicIdGenerator publicIdGenerator) {
     this.repository = repository;
     this.passwordEncoder = passwordEncoder;
     this.mapper = mapper;
+    this.publicIdGenerator = publicIdGenerator;
   }
 
   /**
@@ -49,6 +52,7 @@ public class UserService {
    * @param publicId 公開ID
    * @return アカウント情報
    */
+  @Transactional(readOnly = true)
   public AccountResponse findAccount(String publicId) {
     UserAccount account = repository.findAccountByPublicId(publicId);
     return mapper.toUserAccountResponse(account);
@@ -64,7 +68,7 @@ public class UserService {
   public void registerUser(AccountRegisterRequest request) throws NotUniqueException {
     validateEmailUniqueness(request.getEmail());
 
-    String publicId = UUID.randomUUID().toString();
+    String publicId = publicIdGenerator.generate();
     String hashedPassword = passwordEncoder.encode(request.getPassword());
     UserAccount registerAccount = mapper.createRequestToUserAccount(request, publicId,
         hashedPassword);
@@ -185,6 +189,7 @@ public class UserService {
    */
   void refreshSecurityContext(UserAccountDetails userDetails, UserAccount updateAccount) {
     UserAccount updateUserAccount = UserAccount.builder()
+        .id(userDetails.getAccount().getId())
         .publicId(userDetails.getAccount().getPublicId())
         .email(Optional.ofNullable(updateAccount.getEmail())
             .orElse(userDetails.getUsername()))
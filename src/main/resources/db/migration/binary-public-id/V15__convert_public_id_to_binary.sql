@@ -0,0 +1,38 @@
+-- 公開ID列を CHAR(36) から BINARY(16) に変換(任意・app.public-id.storage=BINARY とする場合のみ適用)
+-- ※ spring.flyway.locations に classpath:db/migration/binary-public-id を追加して適用する
+-- ※ db/migration/schema に追加するマイグレーションは V16 以降の番号とする
+-- ※ UUID version 7 は先頭が時刻のため、UUID_TO_BIN のバイト順の入れ替え(第2引数)は指定しない
+
+-- 初期データのタスクの公開IDのうち、16進数でない文字(g)を含み UUID に変換できない値を修正
+UPDATE tasks
+SET public_id = 'afe04b78-8ba2-4425-ab90-48619209e560'
+WHERE public_id = 'afe04b78-8ba2-4425-ab90-48619209e55g';
+
+-- 変換後の値を格納する列を追加(UUID に変換できない値が残っている場合はここで失敗し、テーブルは変更されない)
+ALTER TABLE user_accounts
+  ADD COLUMN public_id_bin BINARY(16) AS (UUID_TO_BIN(public_id)) STORED AFTER public_id;
+ALTER TABLE projects
+  ADD COLUMN public_id_bin BINARY(16) AS (UUID_TO_BIN(public_id)) STORED AFTER public_id;
+ALTER TABLE tasks
+  ADD COLUMN public_id_bin BINARY(16) AS (UUID_TO_BIN(public_id)) STORED AFTER public_id;
+
+-- 追加した列を通常の列に変更(変換済みの値はそのまま保持される)
+ALTER TABLE user_accounts MODIFY COLUMN public_id_bin BINARY(16) NOT NULL;
+ALTER TABLE projects MODIFY COLUMN public_id_bin BINARY(16) NOT NULL;
+ALTER TABLE tasks MODIFY COLUMN public_id_bin BINARY(16) NOT NULL;
+
+-- 旧列を削除し、変換後の列を公開ID列として一意インデックスを再作成
+ALTER TABLE user_accounts DROP INDEX unique_public_id, DROP COLUMN public_id;
+ALTER TABLE user_accounts
+  RENAME COLUMN public_id_bin TO public_id,
+  ADD UNIQUE KEY unique_public_id (public_id);
+
+ALTER TABLE projects DROP INDEX unique_public_id, DROP COLUMN public_id;
+ALTER TABLE projects
+  RENAME COLUMN public_id_bin TO public_id,
+  ADD UNIQUE KEY unique_public_id (public_id);
+
+ALTER TABLE tasks DROP INDEX unique_public_id, DROP COLUMN public_id;
+ALTER TABLE tasks
+  RENAME COLUMN public_id_bin TO public_id,
+  ADD UNIQUE KEY unique_public_id (public_id);
@@ -0,0 +1,5 @@
+-- ユーザー単位の期限日によるタスク一覧(キーセット方式ページ取得)用の複合インデックス追加
+-- 単一カラムのインデックスは先頭カラムが一致する複合インデックスで代替できるため削除（外部キーも複合インデックスを利用）
+ALTER TABLE tasks
+  ADD KEY idx_user_deleted_due_id (user_account_id, is_deleted, due_date, id),
+  DROP INDEX idx_user_account_id;
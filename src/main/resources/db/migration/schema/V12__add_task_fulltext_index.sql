@@ -0,0 +1,4 @@
+-- タスクの全文検索用の FULLTEXT インデックス追加（日本語を分かち書きなしで検索できるよう ngram パーサーを使用）
+-- 1文字単位の検索を可能にする場合は、サーバー側で ngram_token_size を変更したうえでインデックスを再作成すること
+ALTER TABLE tasks
+  ADD FULLTEXT INDEX ft_tasks_caption_description (task_caption, description) WITH PARSER ngram;
@@ -0,0 +1,3 @@
+-- プロジェクトのタスクツリーのバージョン追加(タスクの登録・更新・削除時に同一トランザクション内で加算)
+-- タスクツリーのキャッシュの有効性確認に使用するため、集計に影響しない変更でも加算する
+ALTER TABLE project_stats ADD COLUMN tree_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,19 @@
+-- プロジェクトの期限日ごとの未完了タスク数(タスクの登録・更新・削除時に同一トランザクション内で差分更新し、0件になった行は削除)
+-- 期限切れ件数・直近の期限日を、完了済みを含むタスクではなく未完了タスクのある期限日のみから求めるために使用する
+-- ※ schema の V15 は db/migration/binary-public-id の公開IDの BINARY(16) 化で使用しているため欠番
+CREATE TABLE project_due_stats (
+  project_id INT NOT NULL,
+  due_date DATE NOT NULL,
+  open_task_count INT NOT NULL DEFAULT 0,
+  PRIMARY KEY (project_id, due_date),
+  CONSTRAINT fk_project_due_stats_project FOREIGN KEY (project_id) REFERENCES projects (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 既存の未削除プロジェクトの未完了タスクを期限日ごとに集計
+INSERT INTO project_due_stats (project_id, due_date, open_task_count)
+SELECT t.project_id, t.due_date, COUNT(*)
+FROM tasks t
+INNER JOIN projects p ON p.id = t.project_id AND p.is_deleted = false
+WHERE t.is_deleted = false
+AND t.progress < 100
+GROUP BY t.project_id, t.due_date;
@@ -0,0 +1,2 @@
+-- 親タスク一覧のキーセット方式ページ取得用の複合インデックス追加
+ALTER TABLE tasks ADD KEY idx_project_parent_deleted_id (project_id, parent_task_id, is_deleted, id);
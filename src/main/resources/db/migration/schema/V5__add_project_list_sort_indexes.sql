@@ -0,0 +1,5 @@
+-- プロジェクト一覧の並び順ごとのキーセット方式ページ取得用の複合インデックス追加
+ALTER TABLE projects
+  ADD KEY idx_user_deleted_updated_id (user_account_id, is_deleted, updated_at, id),
+  ADD KEY idx_user_deleted_caption_id (user_account_id, is_deleted, project_caption, id),
+  ADD KEY idx_user_deleted_status_id (user_account_id, is_deleted, status, id);
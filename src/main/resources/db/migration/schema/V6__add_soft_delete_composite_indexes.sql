@@ -0,0 +1,9 @@
+-- 子タスク一覧取得用の複合インデックス追加
+-- 単一カラムのインデックスは先頭カラムが一致する複合インデックスで代替できるため削除（外部キーも複合インデックスを利用）
+ALTER TABLE tasks
+  ADD KEY idx_parent_deleted_id (parent_task_id, is_deleted, id),
+  DROP INDEX idx_parent_task_id,
+  DROP INDEX idx_project_id;
+
+-- プロジェクト一覧取得用の複合インデックス(V5)で代替できるため削除
+ALTER TABLE projects DROP INDEX idx_user_account_id;
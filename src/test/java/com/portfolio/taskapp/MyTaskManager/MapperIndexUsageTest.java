@@ -0,0 +1,235 @@
+package com.portfolio.taskapp.MyTaskManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.UserAccount;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectSortKey;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectStatus;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Mapper の各ステートメントの実行計画を EXPLAIN で取得し、全件走査(tableScan)になっていないことを検証するテスト。
+ * <p>
+ * Mapper にステートメントを追加した場合は statementParameters() に検証用のパラメータを追加してください(INSERT は走査を伴わないため対象外)。
+ */
+@MybatisTest
+class MapperIndexUsageTest {
+
+  private static final String TASK_MAPPER =
+      "com.portfolio.taskapp.MyTaskManager.task.repository.TaskRepository.";
+  private static final String USER_MAPPER =
+      "com.portfolio.taskapp.MyTaskManager.user.repository.UserRepository.";
+  private static final String STATS_MAPPER =
+      "com.portfolio.taskapp.MyTaskManager.task.repository.ProjectStatsRepository.";
+  private static final String CHANGE_LOG_MAPPER =
+      "com.portfolio.taskapp.MyTaskManager.task.repository.ProjectChangeLogRepository.";
+
+  private static final String USER_PUBLIC_ID = "5e8c0d2a-1234-4f99-a111-abcdef111111";
+  private static final String PROJECT_PUBLIC_ID = "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee";
+  private static final String TASK_PUBLIC_ID = "11111111-aaaa-bbbb-cccc-1234567890ab";
+
+  @Autowired
+  private SqlSessionTemplate sqlSessionTemplate;
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("statementParameters")
+  void Mapperのステートメントが全件走査ではなくインデックスを利用した実行計画になっていること(
+      String statementId, Object parameter) throws SQLException {
+    String plan = explain(statementId, parameter);
+
+    assertThat(plan).doesNotContainIgnoringCase("tableScan");
+  }
+
+  @Test
+  void INSERT以外の全てのステートメントが実行計画の検証対象に含まれていること() {
+    Set<String> expected = statementParameters()
+        .map(arguments -> (String) arguments.get()[0])
+        .collect(Collectors.toSet());
+
+    Configuration configuration = sqlSessionTemplate.getConfiguration();
+    Set<String> actual = configuration.getMappedStatementNames().stream()
+        .filter(id -> id.startsWith(TASK_MAPPER) || id.startsWith(USER_MAPPER)
+            || id.startsWith(STATS_MAPPER) || id.startsWith(CHANGE_LOG_MAPPER))
+        .filter(id -> configuration.getMappedStatement(id).getSqlCommandType()
+            != SqlCommandType.INSERT)
+        .collect(Collectors.toSet());
+
+    assertThat(expected).containsExactlyInAnyOrderElementsOf(actual);
+  }
+
+  private static Stream<Arguments> statementParameters() {
+    Project project = Project.builder()
+        .publicId(PROJECT_PUBLIC_ID)
+        .projectCaption("プロジェクト")
+        .description("説明")
+        .status(ProjectStatus.ACTIVE)
+        .version(0)
+        .build();
+    Task task = Task.builder()
+        .publicId(TASK_PUBLIC_ID)
+        .taskCaption("タスク")
+        .description("説明")
+        .version(0)
+        .build();
+    ProjectStats stats = ProjectStats.builder()
+        .projectId(1)
+        .taskCount(1)
+        .build();
+    UserAccount account = UserAccount.builder()
+        .publicId(USER_PUBLIC_ID)
+        .userName("テスト太郎")
+        .build();
+
+    return Stream.of(
+        // TaskRepository
+        Arguments.of(TASK_MAPPER + "findProjectsByUserId",
+            params("userAccountId", 1, "sort", ProjectSortKey.UPDATED_AT,
+                "afterKey", LocalDateTime.of(2025, 1, 1, 0, 0), "afterId", 1, "limit", 10,
+                "withSummary", false, "today", null)),
+        Arguments.of(TASK_MAPPER + "findProjectsByUserId",
+            params("userAccountId", 1, "sort", ProjectSortKey.CAPTION, "afterKey", "勤怠管理システム",
+                "afterId", 1, "limit", 10, "withSummary", true,
+                "today", LocalDate.of(2025, 8, 1))),
+        Arguments.of(TASK_MAPPER + "findProjectListVersion",
+            params("userAccountId", 1, "withSummary", true)),
+        Arguments.of(TASK_MAPPER + "findParentTasksByProjectId",
+            params("projectId", 1, "afterTaskId", 1, "limit", 10, "summary", true)),
+        Arguments.of(TASK_MAPPER + "findDescendantTasksByTaskIds",
+            params("taskIds", List.of(1, 3), "summary", true)),
+        Arguments.of(TASK_MAPPER + "findTasksByTaskId",
+            params("taskId", 1, "summary", true)),
+        Arguments.of(TASK_MAPPER + "findDueTasksByUserId",
+            params("userAccountId", 1, "from", LocalDate.of(2025, 8, 1),
+                "to", LocalDate.of(2025, 8, 7), "priorities", List.of(TaskPriority.HIGH),
+                "includeCompleted", false, "afterDueDate", LocalDate.of(2025, 8, 2), "afterId", 2, "limit", 10,
+                "summary", true)),
+        Arguments.of(TASK_MAPPER + "searchTasksByUserId",
+            params("userAccountId", 1, "keywords", List.of("設計", "レビュー"), "offset", 0,
+                "limit", 10, "summary", true)),
+        Arguments.of(TASK_MAPPER + "findOwnedProject",
+            params("projectPublicId", PROJECT_PUBLIC_ID, "userAccountId", 1)),
+        Arguments.of(TASK_MAPPER + "findOwnedTask",
+            params("taskPublicId", TASK_PUBLIC_ID, "userAccountId", 1)),
+        Arguments.of(TASK_MAPPER + "findOwnedProjectForUpdate",
+            params("projectPublicId", PROJECT_PUBLIC_ID, "userAccountId", 1)),
+        Arguments.of(TASK_MAPPER + "findOwnedTaskForUpdate",
+            params("taskPublicId", TASK_PUBLIC_ID, "userAccountId", 1)),
+        Arguments.of(TASK_MAPPER + "findTasksByTaskPublicIds",
+            params("taskPublicIds",
+                List.of(TASK_PUBLIC_ID, "22222222-bbbb-cccc-dddd-1234567890ab"))),
+        Arguments.of(TASK_MAPPER + "findProjectSummary",
+            params("projectId", 1, "today", LocalDate.of(2025, 8, 1))),
+        Arguments.of(TASK_MAPPER + "updateProject", project),
+        Arguments.of(TASK_MAPPER + "updateTask", task),
+        Arguments.of(TASK_MAPPER + "patchProject",
+            params("projectId", 1, "patch", new ProjectPatchRequest(null, null,
+                ProjectStatus.ARCHIVED), "version", 0, "updatedAt",
+                LocalDateTime.of(2025, 1, 1, 0, 0))),
+        Arguments.of(TASK_MAPPER + "patchTask",
+            params("taskId", 1, "patch",
+                new TaskPatchRequest(null, null, null, null, null, 50, null), "version", 0,
+                "updatedAt", LocalDateTime.of(2025, 1, 1, 0, 0))),
+        Arguments.of(TASK_MAPPER + "deleteProject", PROJECT_PUBLIC_ID),
+        Arguments.of(TASK_MAPPER + "deleteTask", TASK_PUBLIC_ID),
+        Arguments.of(TASK_MAPPER + "findLiveTaskIdsByProjectId",
+            params("projectId", 1, "limit", 10)),
+        Arguments.of(TASK_MAPPER + "findLiveDescendantTaskIds",
+            params("taskId", 1, "limit", 10)),
+        Arguments.of(TASK_MAPPER + "findLiveTasksForUpdate", params("taskIds", List.of(1, 2))),
+        Arguments.of(TASK_MAPPER + "deleteTasksByIds", params("taskIds", List.of(1, 2))),
+        // ProjectStatsRepository
+        Arguments.of(STATS_MAPPER + "addProjectStats", stats),
+        Arguments.of(STATS_MAPPER + "incrementTreeVersions", params("projectIds", List.of(1, 2))),
+        Arguments.of(STATS_MAPPER + "findTreeVersion", params("projectId", 1)),
+        Arguments.of(STATS_MAPPER + "findLiveProjectIds",
+            params("afterProjectId", 0, "limit", 10)),
+        Arguments.of(STATS_MAPPER + "findProjectStatsForUpdate",
+            params("projectIds", List.of(1, 2))),
+        Arguments.of(STATS_MAPPER + "summarizeTasksByProjectIds",
+            params("projectIds", List.of(1, 2))),
+        Arguments.of(STATS_MAPPER + "overwriteProjectStats", stats),
+        Arguments.of(STATS_MAPPER + "deleteEmptyProjectDueStats",
+            params("projectIds", List.of(1, 2))),
+        Arguments.of(STATS_MAPPER + "deleteProjectDueStats", params("projectId", 1)),
+        Arguments.of(STATS_MAPPER + "findProjectDueStats", params("projectIds", List.of(1, 2))),
+        Arguments.of(STATS_MAPPER + "summarizeOpenTasksByProjectIds",
+            params("projectIds", List.of(1, 2))),
+        // ProjectChangeLogRepository
+        Arguments.of(CHANGE_LOG_MAPPER + "findChangesAfter", params("afterSeq", 0L, "limit", 10)),
+        Arguments.of(CHANGE_LOG_MAPPER + "findChangesBySeqs", params("seqs", List.of(1L, 2L))),
+        Arguments.of(CHANGE_LOG_MAPPER + "findLatestSeq", null),
+        Arguments.of(CHANGE_LOG_MAPPER + "deleteChangesUpTo", params("seq", 10L)),
+        // UserRepository
+        Arguments.of(USER_MAPPER + "findAccountByEmail", "tanaka@example.com"),
+        Arguments.of(USER_MAPPER + "findAccountByPublicId", USER_PUBLIC_ID),
+        Arguments.of(USER_MAPPER + "updateAccount", account),
+        Arguments.of(USER_MAPPER + "deleteAccount", USER_PUBLIC_ID),
+        Arguments.of(USER_MAPPER + "existsByEmail", "tanaka@example.com")
+    );
+  }
+
+  /**
+   * ステートメントにパラメータを適用した SQL の実行計画を取得します。
+   *
+   * @param statementId ステートメントの完全修飾ID
+   * @param parameter   ステートメントに渡すパラメータ
+   * @return 実行計画の文字列
+   */
+  private String explain(String statementId, Object parameter) throws SQLException {
+    Configuration configuration = sqlSessionTemplate.getConfiguration();
+    MappedStatement ms = configuration.getMappedStatement(statementId);
+    BoundSql boundSql = ms.getBoundSql(parameter);
+
+    Connection connection = sqlSessionTemplate.getConnection();
+    try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+      ParameterHandler parameterHandler = new DefaultParameterHandler(ms, parameter, boundSql);
+      parameterHandler.setParameters(ps);
+      try (ResultSet rs = ps.executeQuery()) {
+        StringBuilder plan = new StringBuilder();
+        while (rs.next()) {
+          plan.append(rs.getString(1)).append('\n');
+        }
+        return plan.toString();
+      }
+    }
+  }
+
+  private static Map<String, Object> params(Object... keyValues) {
+    Map<String, Object> params = new HashMap<>();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      params.put((String) keyValues[i], keyValues[i + 1]);
+    }
+    return params;
+  }
+
+}
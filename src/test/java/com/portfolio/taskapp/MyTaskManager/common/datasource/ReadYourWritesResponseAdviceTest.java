@@ -0,0 +1,55 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ReadYourWritesResponseAdviceTest {
+
+  @Mock
+  private ReadYourWritesTracker tracker;
+
+  private ReadYourWritesResponseAdvice sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new ReadYourWritesResponseAdvice(tracker);
+  }
+
+  @Test
+  void 更新リクエストの処理完了時に更新の記録が更新されること() {
+    MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/tasks/1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    beforeBodyWrite(request, response);
+
+    verify(tracker).recordWriteByCurrentUser(request, response);
+  }
+
+  @Test
+  void 参照リクエストの処理完了時は更新が記録されないこと() {
+    beforeBodyWrite(new MockHttpServletRequest("GET", "/tasks/1"), new MockHttpServletResponse());
+
+    verify(tracker, never()).recordWriteByCurrentUser(any(), any());
+  }
+
+  private void beforeBodyWrite(MockHttpServletRequest request, MockHttpServletResponse response) {
+    sut.beforeBodyWrite(null, null, MediaType.APPLICATION_JSON,
+        MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request),
+        new ServletServerHttpResponse(response));
+  }
+
+}
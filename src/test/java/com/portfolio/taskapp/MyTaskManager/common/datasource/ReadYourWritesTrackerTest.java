@@ -0,0 +1,194 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.portfolio.taskapp.MyTaskManager.auth.details.UserAccountDetails;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.UserAccount;
+import jakarta.servlet.http.Cookie;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReadYourWritesTrackerTest {
+
+  private static final Duration WINDOW = Duration.ofSeconds(5);
+  private static final Instant NOW = Instant.parse("2025-08-01T00:00:00Z");
+  private static final String SECRET = "test-secret";
+
+  private MutableClock clock;
+  private ReadYourWritesTracker sut;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(NOW);
+    sut = new ReadYourWritesTracker(WINDOW, SECRET, clock);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void 更新を記録したユーザーは期間内であれば判定がtrueとなること() {
+    authenticate(1);
+    Cookie cookie = recordWrite();
+
+    clock.instant = NOW.plus(WINDOW).minusMillis(1);
+    useRequest(cookie);
+
+    assertThat(sut.isCurrentUserWithinWindow()).isTrue();
+  }
+
+  @Test
+  void 更新を記録したCookieは同じ署名鍵を持つ別のノードでも判定に使用できること() {
+    authenticate(1);
+    Cookie cookie = recordWrite();
+    ReadYourWritesTracker otherNode = new ReadYourWritesTracker(WINDOW, SECRET, clock);
+
+    useRequest(cookie);
+
+    assertThat(otherNode.isCurrentUserWithinWindow()).isTrue();
+  }
+
+  @Test
+  void 更新を記録したリクエスト内では判定がtrueとなること() {
+    authenticate(1);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    sut.recordWriteByCurrentUser(request, new MockHttpServletResponse());
+
+    assertThat(sut.isCurrentUserWithinWindow()).isTrue();
+  }
+
+  @Test
+  void 同一リクエスト内で再度記録した場合は固定期間が記録時点から数え直されCookieが置き換えられること() {
+    authenticate(1);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    response.addHeader(HttpHeaders.SET_COOKIE, "OTHER=value");
+    sut.recordWriteByCurrentUser(request, response);
+
+    clock.instant = NOW.plus(WINDOW);
+    sut.recordWriteByCurrentUser(request, response);
+
+    assertThat(response.getHeaders(HttpHeaders.SET_COOKIE))
+        .filteredOn(header -> header.startsWith(ReadYourWritesTracker.COOKIE_NAME + "="))
+        .hasSize(1);
+    assertThat(response.getHeaders(HttpHeaders.SET_COOKIE)).contains("OTHER=value");
+    Cookie cookie = response.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+    clock.instant = NOW.plus(WINDOW).plus(WINDOW).minusMillis(1);
+    useRequest(cookie);
+
+    assertThat(sut.isCurrentUserWithinWindow()).isTrue();
+  }
+
+  @Test
+  void 更新から期間が経過した場合は判定がfalseとなること() {
+    authenticate(1);
+    Cookie cookie = recordWrite();
+
+    clock.instant = NOW.plus(WINDOW);
+    useRequest(cookie);
+
+    assertThat(sut.isCurrentUserWithinWindow()).isFalse();
+  }
+
+  @Test
+  void 他のユーザーの更新は判定に影響しないこと() {
+    authenticate(1);
+    Cookie cookie = recordWrite();
+
+    authenticate(2);
+    useRequest(cookie);
+
+    assertThat(sut.isCurrentUserWithinWindow()).isFalse();
+  }
+
+  @Test
+  void 署名が一致しないCookieは判定に使用されないこと() {
+    authenticate(1);
+    Cookie cookie = recordWrite();
+    ReadYourWritesTracker otherKey = new ReadYourWritesTracker(WINDOW, "other-secret", clock);
+
+    useRequest(cookie);
+
+    assertThat(otherKey.isCurrentUserWithinWindow()).isFalse();
+  }
+
+  @Test
+  void 未認証の場合は更新が記録されず判定がfalseとなること() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    sut.recordWriteByCurrentUser(new MockHttpServletRequest(), response);
+
+    assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    useRequest();
+    assertThat(sut.isCurrentUserWithinWindow()).isFalse();
+  }
+
+  @Test
+  void 署名鍵が未設定の場合は例外がスローされること() {
+    assertThatThrownBy(() -> new ReadYourWritesTracker(WINDOW, " ", clock))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private Cookie recordWrite() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    sut.recordWriteByCurrentUser(new MockHttpServletRequest(), response);
+    return response.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+  }
+
+  private void useRequest(Cookie... cookies) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setCookies(cookies);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  private void authenticate(Integer userId) {
+    UserAccountDetails details = new UserAccountDetails(UserAccount.builder()
+        .id(userId)
+        .build());
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReplicaRoutingDataSourceTest {
+
+  private ReplicaRoutingPolicy policy;
+  private ReplicaRoutingDataSource sut;
+
+  @BeforeEach
+  void setUp() {
+    policy = mock(ReplicaRoutingPolicy.class);
+    sut = new ReplicaRoutingDataSource(mock(DataSource.class),
+        List.of(mock(DataSource.class), mock(DataSource.class)), policy);
+  }
+
+  @Test
+  void レプリカへ振り分ける参照の接続はレプリカへ順番に振り分けられること() {
+    when(policy.isCurrentReadRoutedToReplica()).thenReturn(true);
+
+    assertThat(List.of(sut.determineCurrentLookupKey(), sut.determineCurrentLookupKey(),
+        sut.determineCurrentLookupKey()))
+        .containsExactly("replica-0", "replica-1", "replica-0");
+  }
+
+  @Test
+  void レプリカへ振り分けない接続は更新系へ振り分けられること() {
+    when(policy.isCurrentReadRoutedToReplica()).thenReturn(false);
+
+    assertThat(sut.determineCurrentLookupKey()).isEqualTo("primary");
+  }
+
+  @Test
+  void レプリカが未設定の場合は更新系へ振り分けられること() {
+    ReplicaRoutingDataSource noReplica =
+        new ReplicaRoutingDataSource(mock(DataSource.class), List.of(), policy);
+    when(policy.isCurrentReadRoutedToReplica()).thenReturn(true);
+
+    assertThat(noReplica.determineCurrentLookupKey()).isEqualTo("primary");
+  }
+
+}
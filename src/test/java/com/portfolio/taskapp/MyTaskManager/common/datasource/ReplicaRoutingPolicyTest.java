@@ -0,0 +1,56 @@
+package com.portfolio.taskapp.MyTaskManager.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingPolicyTest {
+
+  private ReadYourWritesTracker tracker;
+  private ReplicaRoutingPolicy sut;
+
+  @BeforeEach
+  void setUp() {
+    tracker = mock(ReadYourWritesTracker.class);
+    sut = new ReplicaRoutingPolicy(2, tracker);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  void 読み取り専用トランザクションの参照はレプリカへ振り分けると判定されること() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertThat(sut.isCurrentReadRoutedToReplica()).isTrue();
+  }
+
+  @Test
+  void 読み取り専用でないトランザクションの参照はレプリカへ振り分けないと判定されること() {
+    assertThat(sut.isCurrentReadRoutedToReplica()).isFalse();
+  }
+
+  @Test
+  void ユーザー自身の更新直後は読み取り専用トランザクションでもレプリカへ振り分けないと判定されること() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    when(tracker.isCurrentUserWithinWindow()).thenReturn(true);
+
+    assertThat(sut.isCurrentReadRoutedToReplica()).isFalse();
+  }
+
+  @Test
+  void レプリカが未設定の場合は読み取り専用トランザクションでもレプリカへ振り分けないと判定されること() {
+    ReplicaRoutingPolicy noReplica = new ReplicaRoutingPolicy(0, tracker);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertThat(noReplica.isCurrentReadRoutedToReplica()).isFalse();
+  }
+
+}
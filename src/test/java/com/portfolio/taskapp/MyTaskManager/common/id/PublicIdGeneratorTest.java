@@ -0,0 +1,91 @@
+package com.portfolio.taskapp.MyTaskManager.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PublicIdGeneratorTest {
+
+  private static final Instant NOW = Instant.parse("2025-08-01T00:00:00Z");
+
+  @Test
+  void 生成した公開IDがUUIDバージョン7の形式であること() {
+    PublicIdGenerator sut = new PublicIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    String actual = sut.generate();
+
+    UUID uuid = UUID.fromString(actual);
+    assertThat(actual).hasSize(36).isEqualTo(actual.toLowerCase());
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+  }
+
+  @Test
+  void 同一ミリ秒内で生成した公開IDが生成順に昇順となること() {
+    PublicIdGenerator sut = new PublicIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    List<String> actual = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      actual.add(sut.generate());
+    }
+
+    assertThat(actual).isSorted().doesNotHaveDuplicates();
+  }
+
+  @Test
+  void 時刻が進んだ場合に後から生成した公開IDの方が大きくなること() {
+    MutableClock clock = new MutableClock(NOW);
+    PublicIdGenerator sut = new PublicIdGenerator(clock);
+
+    String before = sut.generate();
+    clock.instant = NOW.plusMillis(1);
+    String after = sut.generate();
+
+    assertThat(after).isGreaterThan(before);
+  }
+
+  @Test
+  void 時刻が巻き戻った場合も生成順の大小関係が維持されること() {
+    MutableClock clock = new MutableClock(NOW);
+    PublicIdGenerator sut = new PublicIdGenerator(clock);
+
+    String before = sut.generate();
+    clock.instant = NOW.minusSeconds(1);
+    String after = sut.generate();
+
+    assertThat(after).isGreaterThan(before);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+
+}
@@ -0,0 +1,76 @@
+package com.portfolio.taskapp.MyTaskManager.common.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdStorage;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+
+class PublicIdTypeHandlerTest {
+
+  private static final String PUBLIC_ID = "0198a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b";
+  private static final byte[] PUBLIC_ID_BYTES =
+      HexFormat.of().parseHex("0198a1b2c3d47e5f8a6b7c8d9e0f1a2b");
+
+  @Test
+  void BINARYの場合は公開IDがUUIDの16バイトとして渡されること() throws Exception {
+    PublicIdTypeHandler sut = new PublicIdTypeHandler(PublicIdStorage.BINARY);
+    PreparedStatement ps = mock(PreparedStatement.class);
+
+    sut.setParameter(ps, 1, PUBLIC_ID.toUpperCase(), null);
+
+    verify(ps).setBytes(1, PUBLIC_ID_BYTES);
+  }
+
+  @Test
+  void BINARYの場合は形式が不正な公開IDがNULLとして渡されること() throws Exception {
+    PublicIdTypeHandler sut = new PublicIdTypeHandler(PublicIdStorage.BINARY);
+    PreparedStatement ps = mock(PreparedStatement.class);
+
+    sut.setParameter(ps, 1, "afe04b78-8ba2-4425-ab90-48619209e55g", null);
+
+    verify(ps).setNull(1, Types.BINARY);
+  }
+
+  @Test
+  void CHARの場合は公開IDが文字列のまま渡されること() throws Exception {
+    PublicIdTypeHandler sut = new PublicIdTypeHandler();
+    PreparedStatement ps = mock(PreparedStatement.class);
+
+    sut.setParameter(ps, 1, PUBLIC_ID, null);
+
+    verify(ps).setString(1, PUBLIC_ID);
+  }
+
+  @Test
+  void 取得結果が16バイトの場合は公開IDの文字列に変換されること() throws Exception {
+    PublicIdTypeHandler sut = new PublicIdTypeHandler();
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getObject("public_id")).thenReturn(PUBLIC_ID_BYTES);
+
+    assertThat(sut.getResult(rs, "public_id")).isEqualTo(PUBLIC_ID);
+  }
+
+  @Test
+  void 取得結果が文字列の場合はそのまま返されること() throws Exception {
+    PublicIdTypeHandler sut = new PublicIdTypeHandler(PublicIdStorage.BINARY);
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getObject("public_id")).thenReturn(PUBLIC_ID);
+
+    assertThat(sut.getResult(rs, "public_id")).isEqualTo(PUBLIC_ID);
+  }
+
+  @Test
+  void 取得結果が16バイトでない場合は例外がスローされること() {
+    assertThatThrownBy(() -> PublicIdTypeHandler.fromBytes(new byte[15]))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.portfolio.taskapp.MyTaskManager.common.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SearchKeywordsTest {
+
+  @Test
+  void トークン長以上のキーワードが全文検索に振り分けられ1文字のキーワードが部分一致検索に振り分けられること() {
+    List<String> keywords = List.of("設計", "UI", "A", "字", "𠮷");
+
+    assertThat(SearchKeywords.fullTextKeywords(keywords)).containsExactly("設計", "UI");
+    assertThat(SearchKeywords.shortKeywordPatterns(keywords))
+        .containsExactly("%A%", "%字%", "%𠮷%");
+  }
+
+  @Test
+  void 部分一致パターンでワイルドカード文字とエスケープ文字がエスケープされること() {
+    List<String> actual = SearchKeywords.containsPatterns(List.of("100%", "a_b", "!", "設計"));
+
+    assertThat(actual).containsExactly("%100!%%", "%a!_b%", "%!!%", "%設計%");
+  }
+
+  @Test
+  void 全てのキーワードを必須のフレーズとするBOOLEAN_MODEの検索文字列が組み立てられること() {
+    String actual = SearchKeywords.booleanQuery(List.of("設計", "UI"));
+
+    assertThat(actual).isEqualTo("+\"設計\" +\"UI\"");
+  }
+
+}
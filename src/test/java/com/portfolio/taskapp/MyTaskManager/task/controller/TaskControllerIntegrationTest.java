@@ -1,7 +1,10 @@
 package com.portfolio.taskapp.MyTaskManager.task.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,29 +12,54 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.taskapp.MyTaskManager.auth.config.SecurityConfig;
 import com.portfolio.taskapp.MyTaskManager.auth.details.UserAccountDetails;
+import com.portfolio.taskapp.MyTaskManager.common.http.Versioned;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.UserAccount;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.BulkItemStatus;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectSortKey;
 import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectStatus;
 import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidCursorException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidDateRangeException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.VersionConflictException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.enums.TargetResource;
+import com.portfolio.taskapp.MyTaskManager.task.dto.CursorPage;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectListVersion;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectSummary;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkCreateRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchItem;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTree;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTreeRequest;
 import com.portfolio.taskapp.MyTaskManager.task.service.TaskService;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -60,18 +88,81 @@ class TaskControllerIntegrationTest {
   @BeforeEach
   void setUpAuthentication() {
     UserAccount mockAccount = UserAccount.builder()
-        .publicId("00000000-0000-0000-0000-000000000000")
+        .id(USER_ID)
+        .publicId(USER_PUBLIC_ID)
         .build();
     userDetails = new UserAccountDetails(mockAccount);
   }
 
   @Test
   void ユーザープロジェクトの一覧取得で適切にserviceが実行されていること() throws Exception {
+    when(service.getUserProjectsWithVersion(any(), any(), any(), anyInt(), anyBoolean(), any()))
+        .thenAnswer(versioned(null, new CursorPage<>(List.of(), null)));
+
     mockMvc.perform(get("/projects")
             .with(user(userDetails)))
         .andExpect(status().isOk());
 
-    verify(service).getUserProjects(userDetails.getAccount().getPublicId());
+    verify(service).getUserProjectsWithVersion(eq(USER_ID), eq(ProjectSortKey.UPDATED_AT),
+        isNull(), eq(50), eq(false), any());
+  }
+
+  @Test
+  void ユーザープロジェクトの集計付き一覧取得で集計の指定がserviceに渡され集計結果がJsonに含まれること()
+      throws Exception {
+    Project project = Project.builder()
+        .publicId(PROJECT_PUBLIC_ID)
+        .summary(new ProjectSummary(2, 1, 0, 320L, 370L, 92, LocalDate.of(2025, 8, 2)))
+        .build();
+    when(service.getUserProjectsWithVersion(eq(USER_ID), eq(ProjectSortKey.UPDATED_AT),
+        isNull(), eq(50), eq(true), any()))
+        .thenAnswer(versioned(null, new CursorPage<>(List.of(project), null)));
+
+    mockMvc.perform(get("/projects")
+            .param("withSummary", "true")
+            .with(user(userDetails)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].summary.taskCount").value(2))
+        .andExpect(jsonPath("$.items[0].summary.progress").value(92))
+        .andExpect(jsonPath("$.items[0].summary.nextDueDate").value("2025-08-02"));
+  }
+
+  @Test
+  void ユーザープロジェクトの一覧取得で並び順とカーソルと取得件数がserviceに渡されること()
+      throws Exception {
+    when(service.getUserProjectsWithVersion(any(), any(), any(), anyInt(), anyBoolean(), any()))
+        .thenAnswer(versioned(null, new CursorPage<>(List.of(), null)));
+
+    mockMvc.perform(get("/projects")
+            .param("sort", "CAPTION")
+            .param("cursor", "MTI")
+            .param("limit", "20")
+            .with(user(userDetails)))
+        .andExpect(status().isOk());
+
+    verify(service).getUserProjectsWithVersion(eq(USER_ID), eq(ProjectSortKey.CAPTION),
+        eq("MTI"), eq(20), eq(false), any());
+  }
+
+  @Test
+  void ユーザープロジェクトの一覧取得でETagが返りIf_None_Matchが一致する場合は一覧を取得せず304ステータスとなること()
+      throws Exception {
+    when(service.getUserProjectsWithVersion(eq(USER_ID), eq(ProjectSortKey.UPDATED_AT),
+        isNull(), eq(50), eq(false), any()))
+        .thenAnswer(versioned(new ProjectListVersion(2, 10, 5, null),
+            new CursorPage<>(List.of(), null)));
+
+    mockMvc.perform(get("/projects")
+            .with(user(userDetails)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"projects.2.10.5\""));
+
+    mockMvc.perform(get("/projects")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"projects.2.10.5\"")
+            .with(user(userDetails)))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"projects.2.10.5\""))
+        .andExpect(content().string(""));
   }
 
   @Test
@@ -84,40 +175,249 @@ class TaskControllerIntegrationTest {
         .projectCaption("caption")
         .description("description")
         .status(ProjectStatus.ACTIVE)
+        .version(3)
         .build();
 
-    when(service.getProjectByProjectPublicId(PROJECT_PUBLIC_ID, USER_PUBLIC_ID)).thenReturn(
+    when(service.getProjectByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID)).thenReturn(
         project);
     String expectedJson = objectMapper.writeValueAsString(project);
 
     mockMvc.perform(get("/projects/{projectPublicId}", PROJECT_PUBLIC_ID)
             .with(user(userDetails)))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
         .andExpect(content().json(expectedJson))
         .andExpect(jsonPath("$.id").doesNotExist())
         .andExpect(jsonPath("$.userId").doesNotExist());
 
-    verify(service).getProjectByProjectPublicId(PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    verify(service).getProjectByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID);
+  }
+
+  @Test
+  void プロジェクトのタスク集計取得時に適切なserviceが実行され集計結果がJsonで返ること()
+      throws Exception {
+    ProjectSummary summary = new ProjectSummary(2, 1, 1, 320L, 370L, 92,
+        LocalDate.of(2025, 8, 2));
+    when(service.getProjectSummary(PROJECT_PUBLIC_ID, USER_ID)).thenReturn(summary);
+
+    mockMvc.perform(get("/projects/{projectPublicId}/summary", PROJECT_PUBLIC_ID)
+            .with(user(userDetails)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.taskCount").value(2))
+        .andExpect(jsonPath("$.completedTaskCount").value(1))
+        .andExpect(jsonPath("$.overdueTaskCount").value(1))
+        .andExpect(jsonPath("$.totalEstimatedTime").value(320))
+        .andExpect(jsonPath("$.totalActualTime").value(370))
+        .andExpect(jsonPath("$.progress").value(92))
+        .andExpect(jsonPath("$.nextDueDate").value("2025-08-02"));
+
+    verify(service).getProjectSummary(PROJECT_PUBLIC_ID, USER_ID);
   }
 
   @Test
   void プロジェクトに紐づくタスク一覧取得時に適切なserviceが実行されること()
       throws Exception {
+    when(service.getTasksByProjectPublicIdWithVersion(any(), any(), any(), anyInt(),
+        anyBoolean(), any()))
+        .thenAnswer(versioned(null, new CursorPage<>(List.of(), null)));
+
     mockMvc.perform(get("/projects/{projectPublicId}/task-trees", PROJECT_PUBLIC_ID)
             .with(user(userDetails)))
         .andExpect(status().isOk());
 
-    verify(service).getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    verify(service).getTasksByProjectPublicIdWithVersion(eq(PROJECT_PUBLIC_ID), eq(USER_ID),
+        isNull(), eq(50), eq(false), any());
+  }
+
+  @Test
+  void プロジェクトに紐づくタスク一覧取得でカーソルと取得件数がserviceに渡されること()
+      throws Exception {
+    when(service.getTasksByProjectPublicIdWithVersion(any(), any(), any(), anyInt(),
+        anyBoolean(), any()))
+        .thenAnswer(versioned(null, new CursorPage<>(List.of(), null)));
+
+    mockMvc.perform(get("/projects/{projectPublicId}/task-trees", PROJECT_PUBLIC_ID)
+            .param("cursor", "MTI")
+            .param("limit", "20")
+            .param("view", "summary")
+            .with(user(userDetails)))
+        .andExpect(status().isOk());
+
+    verify(service).getTasksByProjectPublicIdWithVersion(eq(PROJECT_PUBLIC_ID), eq(USER_ID),
+        eq("MTI"), eq(20), eq(true), any());
+  }
+
+  @Test
+  void プロジェクトに紐づくタスク一覧取得でIf_None_Matchが一致する場合はタスクを取得せず304ステータスとなること()
+      throws Exception {
+    when(service.getTasksByProjectPublicIdWithVersion(eq(PROJECT_PUBLIC_ID), eq(USER_ID),
+        isNull(), eq(50), eq(false), any()))
+        .thenAnswer(versioned(7L, new CursorPage<>(List.of(), null)));
+
+    mockMvc.perform(get("/projects/{projectPublicId}/task-trees", PROJECT_PUBLIC_ID)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"tree.7.full\"")
+            .with(user(userDetails)))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"tree.7.full\""))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void 期限日によるタスク一覧取得で期限日の範囲と優先度とカーソルがserviceに渡されること()
+      throws Exception {
+    mockMvc.perform(get("/tasks/due")
+            .param("from", "2025-08-01")
+            .param("to", "2025-08-07")
+            .param("priority", "HIGH", "MEDIUM")
+            .param("includeCompleted", "true")
+            .param("cursor", "MTI")
+            .param("limit", "20")
+            .param("view", "summary")
+            .with(user(userDetails)))
+        .andExpect(status().isOk());
+
+    verify(service).getDueTasks(USER_ID, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 7),
+        List.of(TaskPriority.HIGH, TaskPriority.MEDIUM), true, "MTI", 20, true);
+  }
+
+  @Test
+  void 期限日によるタスク一覧取得で条件を省略した場合に既定値でserviceが実行されること()
+      throws Exception {
+    mockMvc.perform(get("/tasks/due")
+            .with(user(userDetails)))
+        .andExpect(status().isOk());
+
+    verify(service).getDueTasks(USER_ID, null, null, null, false, null, 50, false);
+  }
+
+  @Test
+  void 期限日によるタスク一覧取得で期限日の形式が不正な場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    mockMvc.perform(get("/tasks/due")
+            .param("to", "2025/08/07")
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail.to").isNotEmpty());
+
+    verify(service, never()).getDueTasks(any(), any(), any(), any(), anyBoolean(), any(),
+        anyInt(), anyBoolean());
+  }
+
+  @Test
+  void 期限日によるタスク一覧取得で期限日の範囲が不正な場合400ステータスとなり例外処理結果が返ること()
+      throws Exception {
+    when(service.getDueTasks(USER_ID, LocalDate.of(2025, 8, 7), LocalDate.of(2025, 8, 1), null,
+        false, null, 50, false))
+        .thenThrow(new InvalidDateRangeException("from is after to"));
+
+    mockMvc.perform(get("/tasks/due")
+            .param("from", "2025-08-07")
+            .param("to", "2025-08-01")
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail.from").isNotEmpty());
+  }
+
+  @Test
+  void キーワードによるタスク検索で検索文字列とカーソルがserviceに渡されること()
+      throws Exception {
+    mockMvc.perform(get("/tasks/search")
+            .param("q", "設計 レビュー")
+            .param("cursor", "MTI")
+            .param("limit", "20")
+            .param("view", "summary")
+            .with(user(userDetails)))
+        .andExpect(status().isOk());
+
+    verify(service).searchTasks(USER_ID, "設計 レビュー", "MTI", 20, true);
+  }
+
+  @Test
+  void キーワードによるタスク検索で検索文字列が空白のみの場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    mockMvc.perform(get("/tasks/search")
+            .param("q", "  ")
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()));
+
+    verify(service, never()).searchTasks(any(), any(), any(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  void キーワードによるタスク検索で検索文字列が上限を超える場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    mockMvc.perform(get("/tasks/search")
+            .param("q", "a".repeat(101))
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()));
+
+    verify(service, never()).searchTasks(any(), any(), any(), anyInt(), anyBoolean());
   }
 
   @Test
   void 親タスクに紐づく親子タスク取得時に適切なserviceが実行されていること()
       throws Exception {
+    when(service.getTaskTreeByTaskPublicIdWithVersion(any(), any(), anyBoolean(), any()))
+        .thenAnswer(versioned(null, new TaskTree(Task.builder().build(), List.of())));
+
     mockMvc.perform(get("/task-trees/{taskPublicId}", TASK_PUBLIC_ID)
             .with(user(userDetails)))
         .andExpect(status().isOk());
 
-    verify(service).getTaskTreeByTaskPublicId(TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    verify(service).getTaskTreeByTaskPublicIdWithVersion(eq(TASK_PUBLIC_ID), eq(USER_ID),
+        eq(false), any());
+  }
+
+  @Test
+  void 親子タスク取得でタスクが変更されている場合はIf_None_Matchが一致せず新しいETagと本文が返ること()
+      throws Exception {
+    Task parentTask = Task.builder()
+        .publicId(TASK_PUBLIC_ID)
+        .taskCaption("親タスク")
+        .build();
+    when(service.getTaskTreeByTaskPublicIdWithVersion(eq(TASK_PUBLIC_ID), eq(USER_ID),
+        eq(false), any()))
+        .thenAnswer(versioned(8L, new TaskTree(parentTask, List.of())));
+
+    mockMvc.perform(get("/task-trees/{taskPublicId}", TASK_PUBLIC_ID)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"tree.7.full\"")
+            .with(user(userDetails)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"tree.8.full\""))
+        .andExpect(jsonPath("$.task.taskCaption").value("親タスク"));
+  }
+
+  @Test
+  void 要約形式での親子タスク取得時に要約形式でserviceが実行され説明文がレスポンスに含まれないこと()
+      throws Exception {
+    Task parentTask = Task.builder()
+        .publicId(TASK_PUBLIC_ID)
+        .taskCaption("親タスク")
+        .build();
+    when(service.getTaskTreeByTaskPublicIdWithVersion(eq(TASK_PUBLIC_ID), eq(USER_ID),
+        eq(true), any()))
+        .thenAnswer(versioned(null, new TaskTree(parentTask, List.of())));
+
+    mockMvc.perform(get("/task-trees/{taskPublicId}", TASK_PUBLIC_ID)
+            .param("view", "summary")
+            .with(user(userDetails)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.task.taskCaption").value("親タスク"))
+        .andExpect(jsonPath("$.task.description").doesNotExist());
+  }
+
+  @Test
+  void 親子タスク取得で取得形式が不正な場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    mockMvc.perform(get("/task-trees/{taskPublicId}", TASK_PUBLIC_ID)
+            .param("view", "detail")
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest());
+
+    verify(service, never()).getTaskTreeByTaskPublicIdWithVersion(any(), any(), anyBoolean(),
+        any());
   }
 
   @Test
@@ -129,19 +429,21 @@ class TaskControllerIntegrationTest {
         .userAccountId(USER_ID)
         .projectId(9999)
         .parentTaskId(90000)
+        .version(0)
         .build();
 
-    when(service.getTaskByTaskPublicId(TASK_PUBLIC_ID, USER_PUBLIC_ID)).thenReturn(task);
+    when(service.getTaskByTaskPublicId(TASK_PUBLIC_ID, USER_ID)).thenReturn(task);
 
     mockMvc.perform(get("/tasks/{taskPublicId}", TASK_PUBLIC_ID)
             .with(user(userDetails)))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
         .andExpect(jsonPath("$.id").doesNotExist())
         .andExpect(jsonPath("$.userAccountId").doesNotExist())
         .andExpect(jsonPath("$.projectId").doesNotExist())
         .andExpect(jsonPath("$.parentTaskId").doesNotExist());
 
-    verify(service).getTaskByTaskPublicId(TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    verify(service).getTaskByTaskPublicId(TASK_PUBLIC_ID, USER_ID);
   }
 
   @Test
@@ -158,7 +460,7 @@ class TaskControllerIntegrationTest {
         .andExpect(status().isCreated());
 
     verify(service).createProject(any(ProjectRequest.class),
-        eq(userDetails.getAccount().getPublicId()));
+        eq(USER_ID));
   }
 
   @Test
@@ -176,7 +478,7 @@ class TaskControllerIntegrationTest {
         .andExpect(status().isCreated());
 
     verify(service).createParentTask(any(TaskRequest.class), eq(PROJECT_PUBLIC_ID),
-        eq(USER_PUBLIC_ID));
+        eq(USER_ID));
   }
 
   @Test
@@ -193,7 +495,67 @@ class TaskControllerIntegrationTest {
             .content(json))
         .andExpect(status().isCreated());
 
-    verify(service).createSubtask(any(TaskRequest.class), eq(TASK_PUBLIC_ID), eq(USER_PUBLIC_ID));
+    verify(service).createSubtask(any(TaskRequest.class), eq(TASK_PUBLIC_ID), eq(USER_ID));
+  }
+
+  @Test
+  void 親子タスク一括登録時に201ステータスとなり適切なServiceメソッドが呼び出されていること()
+      throws Exception {
+    TaskBulkCreateRequest request = new TaskBulkCreateRequest(List.of(
+        new TaskTreeRequest(createNormalTaskRequest(), List.of(createNormalTaskRequest()))));
+
+    String json = objectMapper.writeValueAsString(request);
+
+    mockMvc.perform(post("/projects/{projectPublicId}/task-trees", PROJECT_PUBLIC_ID)
+            .with(user(userDetails))
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isCreated());
+
+    verify(service).createTaskTrees(any(TaskBulkCreateRequest.class), eq(PROJECT_PUBLIC_ID),
+        eq(USER_ID));
+  }
+
+  @Test
+  void 親子タスク一括登録で件数が上限を超える場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    TaskBulkCreateRequest request = new TaskBulkCreateRequest(List.of(
+        new TaskTreeRequest(createNormalTaskRequest(), Collections.nCopies(
+            TaskBulkCreateRequest.MAX_TASK_COUNT, createNormalTaskRequest()))));
+
+    String json = objectMapper.writeValueAsString(request);
+
+    mockMvc.perform(post("/projects/{projectPublicId}/task-trees", PROJECT_PUBLIC_ID)
+            .with(user(userDetails))
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail.withinTaskCount").isNotEmpty());
+
+    verify(service, never()).createTaskTrees(any(), any(), any());
+  }
+
+  @Test
+  void 親子タスク一括登録で子タスクがバリデーションに抵触する場合400ステータスとなること()
+      throws Exception {
+    TaskRequest invalidSubtask = new TaskRequest(null, "description",
+        LocalDate.now().plusDays(7), 120, 0, 0, TaskPriority.LOW);
+    TaskBulkCreateRequest request = new TaskBulkCreateRequest(List.of(
+        new TaskTreeRequest(createNormalTaskRequest(), List.of(invalidSubtask))));
+
+    String json = objectMapper.writeValueAsString(request);
+
+    mockMvc.perform(post("/projects/{projectPublicId}/task-trees", PROJECT_PUBLIC_ID)
+            .with(user(userDetails))
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail['taskTrees[0].subtaskList[0].taskCaption']").isNotEmpty());
+
+    verify(service, never()).createTaskTrees(any(), any(), any());
   }
 
   @Test
@@ -203,15 +565,55 @@ class TaskControllerIntegrationTest {
 
     String requestJson = objectMapper.writeValueAsString(request);
 
+    when(service.updateProject(any(ProjectRequest.class), eq(PROJECT_PUBLIC_ID), eq(USER_ID),
+        eq(2))).thenReturn(Project.builder().version(3).build());
+
     mockMvc.perform(put("/projects/{projectPublicId}", PROJECT_PUBLIC_ID)
             .with(user(userDetails))
             .with(csrf())
+            .header(HttpHeaders.IF_MATCH, "\"2\"")
             .contentType(MediaType.APPLICATION_JSON)
             .content(requestJson))
-        .andExpect(status().isOk());
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
 
     verify(service).updateProject(any(ProjectRequest.class), eq(PROJECT_PUBLIC_ID),
-        eq(USER_PUBLIC_ID));
+        eq(USER_ID), eq(2));
+  }
+
+  @Test
+  void プロジェクト更新でIf_Matchのバージョンが一致しない場合412ステータスとなること()
+      throws Exception {
+    ProjectRequest request = new ProjectRequest("caption", "description", ProjectStatus.ACTIVE);
+
+    String requestJson = objectMapper.writeValueAsString(request);
+
+    when(service.updateProject(any(ProjectRequest.class), eq(PROJECT_PUBLIC_ID), eq(USER_ID),
+        eq(1))).thenThrow(new VersionConflictException(TargetResource.PROJECT, true));
+
+    mockMvc.perform(put("/projects/{projectPublicId}", PROJECT_PUBLIC_ID)
+            .with(user(userDetails))
+            .with(csrf())
+            .header(HttpHeaders.IF_MATCH, "\"1\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requestJson))
+        .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  void タスク更新でIf_Matchがバージョンとして解釈できない場合412ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    String json = objectMapper.writeValueAsString(createNormalTaskRequest());
+
+    mockMvc.perform(put("/tasks/{taskPublicId}", TASK_PUBLIC_ID)
+            .with(user(userDetails))
+            .with(csrf())
+            .header(HttpHeaders.IF_MATCH, "W/\"1\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isPreconditionFailed());
+
+    verify(service, never()).updateTask(any(), any(), any(), any());
   }
 
   @Test
@@ -220,14 +622,123 @@ class TaskControllerIntegrationTest {
 
     String json = objectMapper.writeValueAsString(request);
 
+    when(service.updateTask(any(TaskRequest.class), eq(TASK_PUBLIC_ID), eq(USER_ID), isNull()))
+        .thenReturn(Task.builder().version(1).build());
+
     mockMvc.perform(put("/tasks/{taskPublicId}", TASK_PUBLIC_ID)
             .with(user(userDetails))
             .with(csrf())
             .contentType(MediaType.APPLICATION_JSON)
             .content(json))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+    verify(service).updateTask(any(TaskRequest.class), eq(TASK_PUBLIC_ID), eq(USER_ID),
+        isNull());
+  }
+
+  @Test
+  void プロジェクト部分更新処理で200ステータスになり適切なserviceが実行されること()
+      throws Exception {
+    ProjectPatchRequest request = new ProjectPatchRequest(null, null, ProjectStatus.ARCHIVED);
+
+    String json = objectMapper.writeValueAsString(request);
+
+    when(service.patchProject(any(ProjectPatchRequest.class), eq(PROJECT_PUBLIC_ID),
+        eq(USER_ID), isNull())).thenReturn(Project.builder().version(1).build());
+
+    mockMvc.perform(patch("/projects/{projectPublicId}", PROJECT_PUBLIC_ID)
+            .with(user(userDetails))
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
         .andExpect(status().isOk());
 
-    verify(service).updateTask(any(TaskRequest.class), eq(TASK_PUBLIC_ID), eq(USER_PUBLIC_ID));
+    verify(service).patchProject(any(ProjectPatchRequest.class), eq(PROJECT_PUBLIC_ID),
+        eq(USER_ID), isNull());
+  }
+
+  @Test
+  void プロジェクト部分更新でプロジェクト名が空白のみの場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    ProjectPatchRequest request = new ProjectPatchRequest(" ", null, null);
+
+    String json = objectMapper.writeValueAsString(request);
+
+    mockMvc.perform(patch("/projects/{projectPublicId}", PROJECT_PUBLIC_ID)
+            .with(user(userDetails))
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail.projectCaption").isNotEmpty());
+
+    verify(service, never()).patchProject(any(), any(), any(), any());
+  }
+
+  @Test
+  void タスク部分更新処理で200ステータスになり適切なServiceが実行されること() throws Exception {
+    TaskPatchRequest request = new TaskPatchRequest(null, null, null, null, null, 90, null);
+
+    String json = objectMapper.writeValueAsString(request);
+
+    when(service.patchTask(any(TaskPatchRequest.class), eq(TASK_PUBLIC_ID), eq(USER_ID),
+        eq(4))).thenReturn(Task.builder().version(5).build());
+
+    mockMvc.perform(patch("/tasks/{taskPublicId}", TASK_PUBLIC_ID)
+            .with(user(userDetails))
+            .with(csrf())
+            .header(HttpHeaders.IF_MATCH, "\"4\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+
+    verify(service).patchTask(any(TaskPatchRequest.class), eq(TASK_PUBLIC_ID), eq(USER_ID),
+        eq(4));
+  }
+
+  @Test
+  void タスク一括部分更新処理で200ステータスになり適切なServiceが実行されること() throws Exception {
+    TaskBulkPatchRequest request = new TaskBulkPatchRequest(List.of(
+        new TaskBulkPatchItem(TASK_PUBLIC_ID,
+            new TaskPatchRequest(null, null, LocalDate.now().plusDays(3), null, null, null,
+                TaskPriority.HIGH))));
+    String json = objectMapper.writeValueAsString(request);
+
+    when(service.patchTasks(any(TaskBulkPatchRequest.class), eq(USER_ID)))
+        .thenReturn(List.of(new TaskBulkPatchResult(TASK_PUBLIC_ID, BulkItemStatus.FORBIDDEN,
+            null)));
+
+    mockMvc.perform(patch("/tasks")
+            .with(user(userDetails))
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].taskPublicId").value(TASK_PUBLIC_ID))
+        .andExpect(jsonPath("$[0].status").value("FORBIDDEN"))
+        .andExpect(jsonPath("$[0].task").doesNotExist());
+
+    verify(service).patchTasks(any(TaskBulkPatchRequest.class), eq(USER_ID));
+  }
+
+  @Test
+  void タスク一括部分更新で公開IDが重複する場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    TaskBulkPatchItem item = new TaskBulkPatchItem(TASK_PUBLIC_ID, new TaskPatchRequest());
+    TaskBulkPatchRequest request = new TaskBulkPatchRequest(List.of(item, item));
+    String json = objectMapper.writeValueAsString(request);
+
+    mockMvc.perform(patch("/tasks")
+            .with(user(userDetails))
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail.withoutDuplicates").isNotEmpty());
+
+    verify(service, never()).patchTasks(any(), any());
   }
 
   @Test
@@ -238,7 +749,7 @@ class TaskControllerIntegrationTest {
             .with(csrf()))
         .andExpect(status().isNoContent());
 
-    verify(service).deleteProject(PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    verify(service).deleteProject(PROJECT_PUBLIC_ID, USER_ID);
   }
 
   // 異常系：未認証での実行時挙動確認
@@ -297,6 +808,46 @@ class TaskControllerIntegrationTest {
     verify(service, never()).createParentTask(any(), any(), any());
   }
 
+  @Test
+  void タスク一覧取得で取得件数が上限を超える場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    mockMvc.perform(get("/projects/{projectPublicId}/task-trees", PROJECT_PUBLIC_ID)
+            .param("limit", "101")
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()));
+
+    verify(service, never()).getTasksByProjectPublicIdWithVersion(any(), any(), any(), anyInt(),
+        anyBoolean(), any());
+  }
+
+  @Test
+  void ユーザープロジェクトの一覧取得で並び順が不正な場合400ステータスとなりserviceが実行されないこと()
+      throws Exception {
+    mockMvc.perform(get("/projects")
+            .param("sort", "UNKNOWN")
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail.sort").isNotEmpty());
+
+    verify(service, never()).getUserProjectsWithVersion(any(), any(), any(), anyInt(),
+        anyBoolean(), any());
+  }
+
+  @Test
+  void タスク一覧取得でカーソルの形式が不正な場合400ステータスとなり例外処理結果が返ること()
+      throws Exception {
+    when(service.getTasksByProjectPublicIdWithVersion(eq(PROJECT_PUBLIC_ID), eq(USER_ID),
+        eq("invalid"), eq(50), eq(false), any()))
+        .thenThrow(new InvalidCursorException("invalid cursor"));
+
+    mockMvc.perform(get("/projects/{projectPublicId}/task-trees", PROJECT_PUBLIC_ID)
+            .param("cursor", "invalid")
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail.cursor").isNotEmpty());
+  }
+
   @Test
   void タスク削除処理で204ステータスになり適切なserviceが実行されること()
       throws Exception {
@@ -305,7 +856,7 @@ class TaskControllerIntegrationTest {
             .with(csrf()))
         .andExpect(status().isNoContent());
 
-    verify(service).deleteTask(TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    verify(service).deleteTask(TASK_PUBLIC_ID, USER_ID);
   }
 
   // TaskRequest生成(正常系)
@@ -319,4 +870,20 @@ class TaskControllerIntegrationTest {
         0,
         TaskPriority.LOW);
   }
+
+  /**
+   * サービスのバージョン付き取得を模擬し、渡された変更判定の処理でバージョンを判定した結果を返す Answer を生成します。
+   *
+   * @param version 取得したものとするバージョン
+   * @param body    変更がある場合に返す本文
+   * @return 最後の引数の変更判定の処理を使用する Answer
+   */
+  private <V, T> Answer<Versioned<V, T>> versioned(V version, T body) {
+    return invocation -> {
+      Predicate<V> notModified = invocation.getArgument(invocation.getArguments().length - 1);
+      return notModified.test(version) ? Versioned.notModified(version)
+          : Versioned.of(version, body);
+    };
+  }
+
 }
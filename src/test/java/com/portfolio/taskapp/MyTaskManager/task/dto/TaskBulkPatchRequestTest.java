@@ -0,0 +1,78 @@
+package com.portfolio.taskapp.MyTaskManager.task.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class TaskBulkPatchRequestTest {
+
+  private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+  private static final String TASK_PUBLIC_ID = "00000000-0000-0000-0000-000000000001";
+  private static final String OTHER_TASK_PUBLIC_ID = "00000000-0000-0000-0000-000000000002";
+
+  @Test
+  void 更新項目が未指定の要素を含む一括部分更新リクエストで入力チェックに抵触しないこと() {
+    TaskBulkPatchRequest request = new TaskBulkPatchRequest(List.of(
+        new TaskBulkPatchItem(TASK_PUBLIC_ID, new TaskPatchRequest()),
+        new TaskBulkPatchItem(OTHER_TASK_PUBLIC_ID, withCaption("タスク名"))));
+
+    Set<ConstraintViolation<TaskBulkPatchRequest>> violations = validator.validate(request);
+
+    assertThat(violations).isEmpty();
+  }
+
+  @ParameterizedTest
+  @MethodSource("requestInvalidPattern")
+  void 一括部分更新リクエストで入力チェックに抵触すること(TaskBulkPatchRequest request,
+      String message) {
+    Set<ConstraintViolation<TaskBulkPatchRequest>> violations = validator.validate(request);
+
+    assertThat(violations).extracting("message").contains(message);
+  }
+
+  private static Stream<Arguments> requestInvalidPattern() {
+    TaskBulkPatchItem item = new TaskBulkPatchItem(TASK_PUBLIC_ID, new TaskPatchRequest());
+    return Stream.of(
+        Arguments.of(new TaskBulkPatchRequest(List.of()),
+            "更新するタスクは必須です"),
+        Arguments.of(new TaskBulkPatchRequest(
+                Collections.nCopies(TaskBulkPatchRequest.MAX_TASK_COUNT + 1, item)),
+            "一度に更新できるタスクは500件以下です"),
+        Arguments.of(new TaskBulkPatchRequest(List.of(item,
+                new TaskBulkPatchItem(TASK_PUBLIC_ID.toUpperCase(), new TaskPatchRequest()))),
+            "同じタスクを重複して指定することはできません"),
+        Arguments.of(new TaskBulkPatchRequest(List.of(
+                new TaskBulkPatchItem("invalid-id", new TaskPatchRequest()))),
+            "入力の形式に誤りがあります"),
+        Arguments.of(new TaskBulkPatchRequest(List.of(
+                new TaskBulkPatchItem(TASK_PUBLIC_ID, null))),
+            "更新内容は必須です"),
+        Arguments.of(new TaskBulkPatchRequest(List.of(
+                new TaskBulkPatchItem(TASK_PUBLIC_ID, withCaption(" ")))),
+            "タスク名を空白のみにすることはできません"),
+        Arguments.of(new TaskBulkPatchRequest(List.of(
+                new TaskBulkPatchItem(TASK_PUBLIC_ID, withCaption("a".repeat(101))))),
+            "タスク名は100文字以下で入力してください"),
+        Arguments.of(new TaskBulkPatchRequest(List.of(
+                new TaskBulkPatchItem(TASK_PUBLIC_ID,
+                    new TaskPatchRequest(null, null, null, null, null, 101, null)))),
+            "入力値は100以下の整数値を入力してください")
+    );
+  }
+
+  private static TaskPatchRequest withCaption(String taskCaption) {
+    return new TaskPatchRequest(taskCaption, null, null, null, null, null, null);
+  }
+
+}
@@ -0,0 +1,58 @@
+package com.portfolio.taskapp.MyTaskManager.task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectChange;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@MybatisTest
+class ProjectChangeLogRepositoryTest {
+
+  @Autowired
+  private ProjectChangeLogRepository sut;
+
+  @Test
+  void 変更履歴が登録順の連番で指定した連番より後ろから上限件数まで取得できること() {
+    long latestSeq = sut.findLatestSeq();
+
+    sut.insertChange(1);
+    sut.insertChange(2);
+    sut.insertChange(4);
+
+    List<ProjectChange> actual = sut.findChangesAfter(latestSeq, 2);
+
+    assertThat(actual).extracting(ProjectChange::getProjectId).containsExactly(1, 2);
+    assertThat(actual.get(1).getSeq()).isGreaterThan(actual.get(0).getSeq());
+    assertThat(actual).extracting(ProjectChange::getCreatedAt).doesNotContainNull();
+    assertThat(sut.findLatestSeq()).isGreaterThan(actual.get(1).getSeq());
+  }
+
+  @Test
+  void 指定した連番の変更履歴のみが連番の昇順で取得できること() {
+    sut.insertChange(1);
+    sut.insertChange(2);
+    sut.insertChange(4);
+    long latestSeq = sut.findLatestSeq();
+
+    List<ProjectChange> actual = sut.findChangesBySeqs(List.of(latestSeq, latestSeq - 2));
+
+    assertThat(actual).extracting(ProjectChange::getProjectId).containsExactly(1, 4);
+  }
+
+  @Test
+  void 指定した連番以前の変更履歴のみが削除されること() {
+    sut.insertChange(1);
+    sut.insertChange(2);
+    long latestSeq = sut.findLatestSeq();
+
+    int actual = sut.deleteChangesUpTo(latestSeq - 1);
+
+    assertThat(actual).isPositive();
+    assertThat(sut.findChangesAfter(0, 10)).extracting(ProjectChange::getSeq)
+        .containsExactly(latestSeq);
+  }
+
+}
@@ -0,0 +1,143 @@
+package com.portfolio.taskapp.MyTaskManager.task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectDueStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectStats;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@MybatisTest
+class ProjectStatsRepositoryTest {
+
+  @Autowired
+  private ProjectStatsRepository sut;
+
+  @Test
+  void マイグレーションで既存プロジェクトの未削除タスクの集計が作成されていること() {
+    List<ProjectStats> actual = sut.findProjectStatsForUpdate(List.of(1, 2, 4));
+
+    assertThat(actual).usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrder(
+            stats(1, 2, 1, 320, 370, 180, 29600),
+            stats(2, 2, 0, 180, 60, 50, 6000),
+            stats(4, 0, 0, 0, 0, 0, 0));
+  }
+
+  @Test
+  void 集計の差分加算で現在値に差分が加算されること() {
+    int actual = sut.addProjectStats(stats(1, -1, -1, -200, -250, -100, -20000));
+
+    assertThat(actual).isEqualTo(1);
+    assertThat(sut.findProjectStatsForUpdate(List.of(1)).getFirst())
+        .usingRecursiveComparison()
+        .isEqualTo(stats(1, 1, 0, 120, 120, 80, 9600));
+  }
+
+  @Test
+  void 集計の差分加算とバージョンのみの加算でタスクツリーのバージョンが1ずつ加算されること() {
+    assertThat(sut.findTreeVersion(1)).isZero();
+
+    sut.addProjectStats(stats(1, 1, 0, 60, 0, 0, 0));
+    int actual = sut.incrementTreeVersions(List.of(1, 2));
+
+    assertThat(actual).isEqualTo(2);
+    assertThat(sut.findTreeVersion(1)).isEqualTo(2L);
+    assertThat(sut.findTreeVersion(2)).isEqualTo(1L);
+    assertThat(sut.findTreeVersion(3)).isNull();
+  }
+
+  @Test
+  void 未削除プロジェクトの内部IDが指定IDより後ろから昇順に上限件数まで取得できること() {
+    List<Integer> actual = sut.findLiveProjectIds(1, 2);
+
+    // 内部ID3は論理削除済み
+    assertThat(actual).containsExactly(2, 4);
+  }
+
+  @Test
+  void 未削除タスクの再集計でタスクのあるプロジェクトのみが集計されること() {
+    List<ProjectStats> actual = sut.summarizeTasksByProjectIds(List.of(1, 2, 4));
+
+    assertThat(actual).usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrder(
+            stats(1, 2, 1, 320, 370, 180, 29600),
+            stats(2, 2, 0, 180, 60, 50, 6000));
+  }
+
+  @Test
+  void 集計の上書きと新規登録で指定した値が保存されること() {
+    sut.overwriteProjectStats(stats(1, 9, 8, 7, 6, 5, 4));
+    sut.createProjectStats(stats(3, 1, 1, 200, 180, 100, 20000));
+
+    assertThat(sut.findProjectStatsForUpdate(List.of(1, 3)))
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrder(
+            stats(1, 9, 8, 7, 6, 5, 4),
+            stats(3, 1, 1, 200, 180, 100, 20000));
+  }
+
+  @Test
+  void マイグレーションで既存プロジェクトの未完了タスクの期限日ごとの件数が作成されていること() {
+    List<ProjectDueStats> actual = sut.findProjectDueStats(List.of(1, 2, 3, 4));
+
+    // 進捗率100%・論理削除済みのタスクと論理削除済みプロジェクト(内部ID3)のタスクは含まれない
+    assertThat(actual).usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(
+            dueStats(1, LocalDate.of(2025, 8, 2), 1),
+            dueStats(2, LocalDate.of(2025, 8, 5), 1),
+            dueStats(2, LocalDate.of(2025, 8, 7), 1));
+  }
+
+  @Test
+  void 期限日ごとの未完了タスク数の差分加算で既存の行には加算され存在しない期限日は登録され0件の行は削除されること() {
+    sut.addProjectDueStats(List.of(
+        dueStats(1, LocalDate.of(2025, 8, 2), -1),
+        dueStats(1, LocalDate.of(2025, 8, 3), 1),
+        dueStats(2, LocalDate.of(2025, 8, 5), 2)));
+    int actual = sut.deleteEmptyProjectDueStats(List.of(1));
+
+    assertThat(actual).isEqualTo(1);
+    assertThat(sut.findProjectDueStats(List.of(1, 2)))
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(
+            dueStats(1, LocalDate.of(2025, 8, 3), 1),
+            dueStats(2, LocalDate.of(2025, 8, 5), 3),
+            dueStats(2, LocalDate.of(2025, 8, 7), 1));
+  }
+
+  @Test
+  void 未削除タスクの期限日ごとの再集計で未完了タスクのみが集計されること() {
+    List<ProjectDueStats> actual = sut.summarizeOpenTasksByProjectIds(List.of(1, 2, 4));
+
+    assertThat(actual).usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(
+            dueStats(1, LocalDate.of(2025, 8, 2), 1),
+            dueStats(2, LocalDate.of(2025, 8, 5), 1),
+            dueStats(2, LocalDate.of(2025, 8, 7), 1));
+  }
+
+  @Test
+  void プロジェクトの期限日ごとの未完了タスク数の全件削除で指定プロジェクトの行のみが削除されること() {
+    int actual = sut.deleteProjectDueStats(2);
+
+    assertThat(actual).isEqualTo(2);
+    assertThat(sut.findProjectDueStats(List.of(1, 2)))
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(dueStats(1, LocalDate.of(2025, 8, 2), 1));
+  }
+
+  private ProjectDueStats dueStats(Integer projectId, LocalDate dueDate, int openTaskCount) {
+    return new ProjectDueStats(projectId, dueDate, openTaskCount);
+  }
+
+  private ProjectStats stats(Integer projectId, int taskCount, int completedTaskCount,
+      long totalEstimatedTime, long totalActualTime, long progressSum, long weightedProgressSum) {
+    return new ProjectStats(projectId, taskCount, completedTaskCount, totalEstimatedTime,
+        totalActualTime, progressSum, weightedProgressSum);
+  }
+
+}
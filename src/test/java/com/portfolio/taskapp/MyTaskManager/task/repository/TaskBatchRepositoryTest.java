@@ -0,0 +1,84 @@
+package com.portfolio.taskapp.MyTaskManager.task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@MybatisTest
+@Import(TaskBatchRepository.class)
+class TaskBatchRepositoryTest {
+
+  @Autowired
+  private TaskBatchRepository sut;
+
+  private static final String PARENT_TASK_PUBLIC_ID = "11111111-aaaa-bbbb-cccc-1234567890ab";
+  private static final String SUBTASK_PUBLIC_ID = "22222222-bbbb-cccc-dddd-1234567890ab";
+
+  @Test
+  void 複数タスクの一括部分更新で指定した項目のみが反映されタスクごとの更新件数が返されること() {
+    List<Task> currentTasks = sut.findTasksByTaskPublicIds(
+        List.of(PARENT_TASK_PUBLIC_ID, SUBTASK_PUBLIC_ID));
+    TaskPatchRequest captionPatch = new TaskPatchRequest("一括更新", null, null, null, null, null,
+        null);
+    TaskPatchRequest priorityPatch = new TaskPatchRequest(null, null, null, null, null, null,
+        TaskPriority.LOW);
+
+    int[] actual = sut.patchTasks(
+        currentTasks.stream().map(this::toUpdateTask).toList(),
+        List.of(captionPatch, priorityPatch));
+
+    assertThat(actual).containsExactly(1, 1);
+    List<Task> updatedTasks = sut.findTasksByTaskPublicIds(
+        List.of(PARENT_TASK_PUBLIC_ID, SUBTASK_PUBLIC_ID));
+    for (int i = 0; i < currentTasks.size(); i++) {
+      Task currentTask = currentTasks.get(i);
+      Task updatedTask = updatedTasks.stream()
+          .filter(task -> task.getId().equals(currentTask.getId()))
+          .findFirst()
+          .orElseThrow();
+      // 指定していない項目は更新前の値のまま
+      assertThat(updatedTask.getDescription()).isEqualTo(currentTask.getDescription());
+      assertThat(updatedTask.getVersion()).isEqualTo(currentTask.getVersion() + 1);
+      if (i == 0) {
+        assertThat(updatedTask.getTaskCaption()).isEqualTo("一括更新");
+        assertThat(updatedTask.getPriority()).isEqualTo(currentTask.getPriority());
+      } else {
+        assertThat(updatedTask.getTaskCaption()).isEqualTo(currentTask.getTaskCaption());
+        assertThat(updatedTask.getPriority()).isEqualTo(TaskPriority.LOW);
+      }
+    }
+  }
+
+  @Test
+  void 削除済みタスクと取得後にバージョンが変わったタスクを含む一括部分更新でそれらの更新件数が0件で返されること() {
+    Task parentTask = findTask(PARENT_TASK_PUBLIC_ID);
+    Task staleSubtask = findTask(SUBTASK_PUBLIC_ID).toBuilder().version(5).build();
+    Task deletedTask = Task.builder().id(4).version(0).build();
+    TaskPatchRequest patch = new TaskPatchRequest("一括更新", null, null, null, null, null, null);
+
+    int[] actual = sut.patchTasks(
+        List.of(toUpdateTask(parentTask), toUpdateTask(staleSubtask), toUpdateTask(deletedTask)),
+        List.of(patch, patch, patch));
+
+    assertThat(actual).containsExactly(1, 0, 0);
+  }
+
+  private Task findTask(String publicId) {
+    return sut.findTasksByTaskPublicIds(List.of(publicId)).getFirst();
+  }
+
+  private Task toUpdateTask(Task currentTask) {
+    return currentTask.toBuilder()
+        .updatedAt(LocalDateTime.of(2025, 9, 1, 10, 30, 0))
+        .build();
+  }
+
+}
@@ -5,8 +5,16 @@ import static com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectStatus.ARC
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectDueStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectStats;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectSortKey;
 import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import com.portfolio.taskapp.MyTaskManager.task.dto.OwnershipResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectListVersion;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectSummary;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,27 +26,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 @MybatisTest
 class TaskRepositoryTest {
 
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 9, 1, 10, 30, 0);
+
   @Autowired
   private TaskRepository sut;
 
-  @Test
-  void ユーザーのpublicIdに紐づくid情報が返されること() {
-    Integer actual = sut.findUserIdByUserPublicId("5e8c0d2a-1234-4f99-a111-abcdef111111");
-
-    assertThat(actual).isEqualTo(1);
-  }
-
-  @Test
-  void 削除済みユーザーのpublicIdに紐づくid情報は返されないこと() {
-    Integer actual = sut.findUserIdByUserPublicId("12345678-90ab-cdef-1234-abcdef123456");
-
-    assertThat(actual).isNull();
-  }
+  @Autowired
+  private ProjectStatsRepository projectStatsRepository;
 
   @Test
   void ユーザーのIdに紐づくプロジェクトのうち論理削除されていないプロジェクトのみ取得できていること() {
     Integer userId = 1;
-    List<Project> actual = sut.findProjectsByUserId(userId);
+    List<Project> actual = sut.findProjectsByUserId(userId, ProjectSortKey.UPDATED_AT, null, null,
+        10, false, null);
 
     assertThat(actual.size()).isEqualTo(2);
     assertThat(actual)
@@ -49,23 +49,279 @@ class TaskRepositoryTest {
   }
 
   @Test
-  void プロジェクトのIdに紐づくタスクのうち論理削除されていないタスクのみ取得できていること() {
+  void プロジェクト一覧の更新日時順取得で指定位置より後ろのプロジェクトのみが取得できていること() {
+    Integer userId = 1;
+    List<Project> allProjects = sut.findProjectsByUserId(userId, ProjectSortKey.UPDATED_AT, null,
+        null, 10, false, null);
+    Project first = allProjects.getFirst();
+
+    List<Project> actual = sut.findProjectsByUserId(userId, ProjectSortKey.UPDATED_AT,
+        first.getUpdatedAt(), first.getId(), 10, false, null);
+
+    assertThat(actual).extracting(Project::getId)
+        .containsExactlyElementsOf(allProjects.stream().skip(1).map(Project::getId).toList());
+  }
+
+  @Test
+  void プロジェクト一覧のプロジェクト名順取得で名前の昇順に指定位置以降から上限件数まで取得できていること() {
+    Integer userId = 1;
+
+    List<Project> firstPage = sut.findProjectsByUserId(userId, ProjectSortKey.CAPTION, null, null,
+        1, false, null);
+    List<Project> secondPage = sut.findProjectsByUserId(userId, ProjectSortKey.CAPTION,
+        "勤怠管理システム", 1, 1, false, null);
+
+    assertThat(firstPage).extracting(Project::getId).containsExactly(1);
+    assertThat(secondPage).extracting(Project::getId).containsExactly(2);
+  }
+
+  @Test
+  void プロジェクト一覧のステータス順取得でステータスの昇順に指定位置以降のプロジェクトが取得できていること() {
+    Integer userId = 1;
+
+    List<Project> allProjects = sut.findProjectsByUserId(userId, ProjectSortKey.STATUS, null,
+        null, 10, false, null);
+    List<Project> actual = sut.findProjectsByUserId(userId, ProjectSortKey.STATUS, "ACTIVE", 1,
+        10, false, null);
+
+    assertThat(allProjects).extracting(Project::getStatus).containsExactly(ACTIVE, ARCHIVED);
+    assertThat(actual).extracting(Project::getId).containsExactly(2);
+  }
+
+  @Test
+  void プロジェクト一覧の集計付き取得で各プロジェクトに未削除タスクの集計結果が含まれること() {
+    Integer userId = 1;
+
+    List<Project> actual = sut.findProjectsByUserId(userId, ProjectSortKey.CAPTION, null, null,
+        10, true, LocalDate.of(2025, 8, 2));
+
+    assertThat(actual).extracting(Project::getId).containsExactly(1, 2);
+    assertThat(actual.get(0).getSummary()).usingRecursiveComparison()
+        .isEqualTo(new ProjectSummary(2, 1, 0, 320L, 370L, 92, LocalDate.of(2025, 8, 2)));
+    assertThat(actual.get(1).getSummary()).usingRecursiveComparison()
+        .isEqualTo(new ProjectSummary(2, 0, 0, 180L, 60L, 33, LocalDate.of(2025, 8, 5)));
+  }
+
+  @Test
+  void プロジェクト一覧の集計付き取得でタスクのないプロジェクトも各件数と合計が0で取得されること() {
+    List<Project> actual = sut.findProjectsByUserId(2, ProjectSortKey.CAPTION, null, null, 10,
+        true, LocalDate.of(2025, 8, 1));
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual).extracting(Project::getSummary)
+        .allSatisfy(summary -> assertThat(summary).usingRecursiveComparison()
+            .isEqualTo(new ProjectSummary(0, 0, 0, 0L, 0L, 0, null)));
+  }
+
+  @Test
+  void プロジェクト一覧の集計なし取得ではタスク集計結果が含まれないこと() {
+    List<Project> actual = sut.findProjectsByUserId(1, ProjectSortKey.CAPTION, null, null, 10,
+        false, null);
+
+    assertThat(actual).isNotEmpty();
+    assertThat(actual).extracting(Project::getSummary).containsOnlyNulls();
+  }
+
+  @Test
+  void プロジェクト一覧の変更判定用の値として未削除プロジェクトの件数と最大IDとバージョンの合計が取得できていること() {
+    ProjectListVersion actual = sut.findProjectListVersion(1, true);
+
+    assertThat(actual).usingRecursiveComparison()
+        .isEqualTo(new ProjectListVersion(2, 2, 0, 0L));
+  }
+
+  @Test
+  void プロジェクトのないユーザーの変更判定用の値は各項目0で取得されタスク集計を含めない場合はツリーのバージョンが含まれないこと() {
+    ProjectListVersion actual = sut.findProjectListVersion(999, false);
+
+    assertThat(actual).usingRecursiveComparison()
+        .isEqualTo(new ProjectListVersion(0, 0, 0, null));
+  }
+
+  @Test
+  void プロジェクトのIdに紐づく未削除の親タスクのみが取得できていること() {
     Integer projectId = 2;
-    List<Task> actual = sut.findTasksByProjectId(projectId);
 
-    assertThat(actual.size()).isEqualTo(2);
+    List<Task> actual = sut.findParentTasksByProjectId(projectId, null, 10, false);
+
+    assertThat(actual).extracting(Task::getId).containsExactly(3);
+  }
+
+  @Test
+  void 親タスク一覧取得で指定IDより後ろの親タスクが内部IDの昇順に上限件数まで取得できていること() {
+    Integer projectId = 1;
+    Task addedTask1 = createParentTask(projectId, "00000000-0000-0000-0000-000000000001");
+    Task addedTask2 = createParentTask(projectId, "00000000-0000-0000-0000-000000000002");
+
+    List<Task> firstPage = sut.findParentTasksByProjectId(projectId, null, 2, false);
+    List<Task> secondPage = sut.findParentTasksByProjectId(projectId, addedTask1.getId(), 2,
+        false);
+
+    assertThat(firstPage).extracting(Task::getId).containsExactly(1, addedTask1.getId());
+    assertThat(secondPage).extracting(Task::getId).containsExactly(addedTask2.getId());
+  }
+
+  @Test
+  void 複数の親タスクのIdに紐づく未削除の子孫タスクのみが取得できていること() {
+    List<Task> actual = sut.findDescendantTasksByTaskIds(List.of(1, 3), false);
+
+    assertThat(actual).extracting(Task::getId).containsExactly(2, 5);
+    assertThat(actual)
+        .allSatisfy(task -> assertThat(task.isDeleted()).isFalse());
+  }
+
+  @Test
+  void 要約形式の親タスク一覧取得では説明文のみが取得されないこと() {
+    List<Task> actual = sut.findParentTasksByProjectId(1, null, 10, true);
+
+    assertThat(actual).isNotEmpty();
     assertThat(actual)
         .allSatisfy(task -> {
-          assertThat(task.getProjectId()).isEqualTo(projectId);
-          assertThat(task.isDeleted()).isFalse();
+          assertThat(task.getDescription()).isNull();
+          assertThat(task.getTaskCaption()).isNotNull();
+          assertThat(task.getPublicId()).isNotNull();
+          assertThat(task.getDueDate()).isNotNull();
         });
   }
 
+  @Test
+  void 要約形式の子タスク一覧取得では説明文が取得されないこと() {
+    List<Task> actual = sut.findDescendantTasksByTaskIds(List.of(1, 3), true);
+
+    assertThat(actual).isNotEmpty();
+    assertThat(actual)
+        .allSatisfy(task -> assertThat(task.getDescription()).isNull());
+  }
+
+  @Test
+  void 期限日が範囲内の未削除かつ未完了のタスクが全プロジェクトを横断して期限日の昇順に取得できていること() {
+    List<Task> actual = sut.findDueTasksByUserId(1, null, LocalDate.of(2025, 8, 31), null, false,
+        null, null, 10, false);
+
+    // 完了済みのタスク1、削除済みのタスク4と、削除済みのプロジェクト3に属するタスク6を除く
+    assertThat(actual).extracting(Task::getId).containsExactly(2, 3, 5);
+  }
+
+  @Test
+  void 期限日によるタスク一覧取得で完了済みのタスクを含める指定をした場合は完了済みのタスクも取得できること() {
+    List<Task> actual = sut.findDueTasksByUserId(1, null, LocalDate.of(2025, 8, 31), null, true,
+        null, null, 10, false);
+
+    assertThat(actual).extracting(Task::getId).containsExactly(1, 2, 3, 5);
+  }
+
+  @Test
+  void 期限日によるタスク一覧取得で期限日の範囲と優先度で絞り込めること() {
+    List<Task> actual = sut.findDueTasksByUserId(1, LocalDate.of(2025, 8, 2),
+        LocalDate.of(2025, 8, 7), List.of(TaskPriority.MEDIUM, TaskPriority.LOW), false, null,
+        null, 10, true);
+
+    assertThat(actual).extracting(Task::getId).containsExactly(2, 3, 5);
+    assertThat(actual).allSatisfy(task -> assertThat(task.getDescription()).isNull());
+  }
+
+  @Test
+  void 期限日によるタスク一覧取得で前ページ末尾の期限日と内部IDより後ろのタスクのみが取得できること() {
+    Task sameDueDateTask = createTaskEntity("00000000-0000-0000-0000-000000000001").toBuilder()
+        .dueDate(LocalDate.of(2025, 8, 2))
+        .build();
+    sut.createTask(sameDueDateTask);
+
+    List<Task> firstPage = sut.findDueTasksByUserId(1, null, LocalDate.of(2025, 8, 31), null,
+        true, null, null, 2, false);
+    List<Task> secondPage = sut.findDueTasksByUserId(1, null, LocalDate.of(2025, 8, 31), null,
+        true, LocalDate.of(2025, 8, 2), 2, 2, false);
+
+    assertThat(firstPage).extracting(Task::getId).containsExactly(1, 2);
+    assertThat(secondPage).extracting(Task::getId).containsExactly(sameDueDateTask.getId(), 3);
+  }
+
+  @Test
+  void キーワード検索でタイトルまたは説明文にキーワードを含むタスクが取得できていること() {
+    List<Task> actual = sut.searchTasksByUserId(1, List.of("レビュー"), 0, 10, true);
+
+    // タスク2はタイトルと説明文、タスク5は説明文のみに含む
+    assertThat(actual).extracting(Task::getId).containsExactly(2, 5);
+    assertThat(actual).allSatisfy(task -> assertThat(task.getDescription()).isNull());
+  }
+
+  @Test
+  void キーワード検索で複数キーワードを指定した場合は全てのキーワードを含むタスクのみが取得できていること() {
+    List<Task> actual = sut.searchTasksByUserId(1, List.of("UI", "レビュー"), 0, 10, false);
+
+    assertThat(actual).extracting(Task::getId).containsExactly(5);
+  }
+
+  @Test
+  void キーワード検索で削除済みのタスクと削除済みのプロジェクトに属するタスクおよび他ユーザーのタスクが取得されないこと() {
+    // タスク4(削除済み)とタスク6(削除済みのプロジェクト3に所属)を除く
+    assertThat(sut.searchTasksByUserId(1, List.of("設計"), 0, 10, false))
+        .extracting(Task::getId).containsExactly(1);
+    assertThat(sut.searchTasksByUserId(1, List.of("実装"), 0, 10, false)).isEmpty();
+    assertThat(sut.searchTasksByUserId(2, List.of("設計"), 0, 10, false)).isEmpty();
+  }
+
+  @Test
+  void キーワード検索でキーワード中のワイルドカード文字が文字として扱われること() {
+    assertThat(sut.searchTasksByUserId(1, List.of("%"), 0, 10, false)).isEmpty();
+    assertThat(sut.searchTasksByUserId(1, List.of("_"), 0, 10, false)).isEmpty();
+  }
+
+  @Test
+  void キーワード検索で読み飛ばし件数と取得件数の上限を指定した1ページ分が取得できていること() {
+    List<Task> actual = sut.searchTasksByUserId(1, List.of("UI"), 1, 1, false);
+
+    // 該当するタスク3とタスク5のうち2件目
+    assertThat(actual).extracting(Task::getId).containsExactly(5);
+  }
+
+  @Test
+  void 親タスクのIdに紐づく全ての階層の子孫タスクが階層の浅い順に取得できていること() {
+    Task grandchildTask = createSubtask(2, "00000000-0000-0000-0000-000000000001");
+    Task greatGrandchildTask = createSubtask(grandchildTask.getId(),
+        "00000000-0000-0000-0000-000000000002");
+
+    List<Task> subtree = sut.findTasksByTaskId(1, false);
+    List<Task> descendants = sut.findDescendantTasksByTaskIds(List.of(1), false);
+    List<Task> middleSubtree = sut.findTasksByTaskId(2, false);
+
+    assertThat(subtree).extracting(Task::getId)
+        .containsExactly(1, 2, grandchildTask.getId(), greatGrandchildTask.getId());
+    assertThat(descendants).extracting(Task::getId)
+        .containsExactly(2, grandchildTask.getId(), greatGrandchildTask.getId());
+    assertThat(middleSubtree).extracting(Task::getId)
+        .containsExactly(2, grandchildTask.getId(), greatGrandchildTask.getId());
+  }
+
+  @Test
+  void 削除済みのタスクの配下にある未削除の子孫タスクは取得されないこと() {
+    Task grandchildTask = createSubtask(2, "00000000-0000-0000-0000-000000000001");
+    createSubtask(grandchildTask.getId(), "00000000-0000-0000-0000-000000000002");
+    sut.deleteTasksByIds(List.of(grandchildTask.getId()));
+
+    List<Task> subtree = sut.findTasksByTaskId(1, false);
+    List<Task> descendants = sut.findDescendantTasksByTaskIds(List.of(1), false);
+
+    assertThat(subtree).extracting(Task::getId).containsExactly(1, 2);
+    assertThat(descendants).extracting(Task::getId).containsExactly(2);
+  }
+
+  @Test
+  void 要約形式の親子タスク取得では説明文が取得されず全項目形式では取得されること() {
+    List<Task> summary = sut.findTasksByTaskId(3, true);
+    List<Task> full = sut.findTasksByTaskId(3, false);
+
+    assertThat(summary)
+        .allSatisfy(task -> assertThat(task.getDescription()).isNull());
+    assertThat(full)
+        .allSatisfy(task -> assertThat(task.getDescription()).isNotNull());
+  }
+
   @Test
   void 親タスクのIdに紐づく親子タスクのうち論理削除されていないタスクのみ取得できていること() {
     Integer parentTaskId = 3;
 
-    List<Task> actual = sut.findTasksByTaskId(parentTaskId);
+    List<Task> actual = sut.findTasksByTaskId(parentTaskId, false);
 
     // 検証前処理
     List<Task> actualParent = actual.stream()
@@ -84,45 +340,186 @@ class TaskRepositoryTest {
   }
 
   @Test
-  void projectPublicIdに紐づくプロジェクトの情報が取得できること() {
+  void 所有者のユーザー内部IDで所有判定付きプロジェクト取得をした場合に所有判定がtrueで返されること() {
     String projectPublicId = "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee";
 
-    Project actual = sut.findProjectByProjectPublicId(projectPublicId);
+    OwnershipResult<Project> actual = sut.findOwnedProject(projectPublicId, 1);
 
     assertThat(actual).isNotNull();
-    assertThat(actual.getPublicId()).isEqualTo(projectPublicId);
+    assertThat(actual.isOwned()).isTrue();
+    assertThat(actual.getResource().getPublicId()).isEqualTo(projectPublicId);
+    assertThat(actual.getResource().getUserAccountId()).isEqualTo(1);
   }
 
   @Test
-  void projectPublicIdに紐づくプロジェクトが論理削除済みの場合に情報が取得できないこと() {
-    String projectPublicId = "a3333333-bbbb-cccc-dddd-eeeeeeeeeeee";
+  void 所有者以外のユーザー内部IDで所有判定付きプロジェクト取得をした場合に所有判定がfalseで返されること() {
+    OwnershipResult<Project> actual = sut.findOwnedProject("a1111111-bbbb-cccc-dddd-eeeeeeeeeeee", 2);
 
-    Project actual = sut.findProjectByProjectPublicId(projectPublicId);
+    assertThat(actual).isNotNull();
+    assertThat(actual.isOwned()).isFalse();
+  }
+
+  @Test
+  void 論理削除済みプロジェクトの所有判定付き取得ではnullが返されること() {
+    OwnershipResult<Project> actual = sut.findOwnedProject("a3333333-bbbb-cccc-dddd-eeeeeeeeeeee", 1);
 
     assertThat(actual).isNull();
   }
 
   @Test
-  void taskPublicIdに紐づく未削除タスクの情報が取得できること() {
+  void 所有者のユーザー内部IDで所有判定付きタスク取得をした場合に所有判定がtrueで返されること() {
     String taskPublicId = "22222222-bbbb-cccc-dddd-1234567890ab";
 
-    Task actual = sut.findTaskByTaskPublicId(taskPublicId);
+    OwnershipResult<Task> actual = sut.findOwnedTask(taskPublicId, 1);
 
     assertThat(actual).isNotNull();
-    assertThat(actual.getPublicId()).isEqualTo(taskPublicId);
+    assertThat(actual.isOwned()).isTrue();
+    assertThat(actual.getResource().getPublicId()).isEqualTo(taskPublicId);
+    assertThat(actual.getResource().getParentTaskId()).isEqualTo(1);
   }
 
   @Test
-  void taskPublicIdに紐づくタスクが削除済みの場合にタスクを取得できないこと() {
-    String taskPublicId = "55555555-eeee-ffff-0000-1234567890ab";
+  void 所有者以外のユーザー内部IDで所有判定付きタスク取得をした場合に所有判定がfalseで返されること() {
+    OwnershipResult<Task> actual = sut.findOwnedTask("22222222-bbbb-cccc-dddd-1234567890ab", 2);
+
+    assertThat(actual).isNotNull();
+    assertThat(actual.isOwned()).isFalse();
+  }
+
+  @Test
+  void 論理削除済みタスクの所有判定付き取得ではnullが返されること() {
+    OwnershipResult<Task> actual = sut.findOwnedTask("55555555-eeee-ffff-0000-1234567890ab", 1);
+
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  void 行ロック付きの所有判定付きプロジェクト取得で未削除のプロジェクトのみが取得できること() {
+    String projectPublicId = "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee";
+
+    OwnershipResult<Project> actual = sut.findOwnedProjectForUpdate(projectPublicId, 1);
+    OwnershipResult<Project> deleted = sut.findOwnedProjectForUpdate(
+        "a3333333-bbbb-cccc-dddd-eeeeeeeeeeee", 1);
+
+    assertThat(actual).isNotNull();
+    assertThat(actual.isOwned()).isTrue();
+    assertThat(actual.getResource().getPublicId()).isEqualTo(projectPublicId);
+    assertThat(deleted).isNull();
+  }
+
+  @Test
+  void 行ロック付きの所有判定付きタスク取得で所有判定付きのタスクが取得できること() {
+    String taskPublicId = "22222222-bbbb-cccc-dddd-1234567890ab";
 
-    Task actual = sut.findTaskByTaskPublicId(taskPublicId);
+    OwnershipResult<Task> actual = sut.findOwnedTaskForUpdate(taskPublicId, 2);
+
+    assertThat(actual).isNotNull();
+    assertThat(actual.isOwned()).isFalse();
+    assertThat(actual.getResource().getPublicId()).isEqualTo(taskPublicId);
+    assertThat(actual.getResource().getProjectId()).isEqualTo(1);
+    assertThat(actual.getResource().getParentTaskId()).isEqualTo(1);
+  }
+
+  @Test
+  void 行ロック付きの所有判定付きタスク取得で削除済みプロジェクトのタスクはnullが返されること() {
+    OwnershipResult<Task> actual = sut.findOwnedTaskForUpdate(
+        "44444444-dddd-eeee-ffff-1234567890ab", 1);
 
     assertThat(actual).isNull();
   }
 
   @Test
-  void プロジェクト登録処理で新規のプロジェクトが登録されDBでの内容も反映できていること() {
+  void 複数のtaskPublicIdに紐づく未削除のタスクのみがまとめて取得できること() {
+    List<String> taskPublicIds = List.of(
+        "11111111-aaaa-bbbb-cccc-1234567890ab",
+        "22222222-bbbb-cccc-dddd-1234567890ab",
+        // 削除済みタスク
+        "55555555-eeee-ffff-0000-1234567890ab",
+        // 存在しないタスク
+        "00000000-0000-0000-0000-000000000000");
+
+    List<Task> actual = sut.findTasksByTaskPublicIds(taskPublicIds);
+
+    assertThat(actual).extracting(Task::getPublicId)
+        .containsExactlyInAnyOrder("11111111-aaaa-bbbb-cccc-1234567890ab",
+            "22222222-bbbb-cccc-dddd-1234567890ab");
+    assertThat(actual).extracting(Task::getUserAccountId).doesNotContainNull();
+  }
+
+  @Test
+  void プロジェクトのタスク集計で未削除タスクの件数と時間の合計と加重平均の進捗率が取得できること() {
+    ProjectSummary actual = sut.findProjectSummary(1, LocalDate.of(2025, 8, 2));
+
+    assertThat(actual.getTaskCount()).isEqualTo(2);
+    assertThat(actual.getCompletedTaskCount()).isEqualTo(1);
+    assertThat(actual.getTotalEstimatedTime()).isEqualTo(320);
+    assertThat(actual.getTotalActualTime()).isEqualTo(370);
+    // (100 * 200 + 80 * 120) / 320 = 92.5 の小数点以下切り捨て
+    assertThat(actual.getProgress()).isEqualTo(92);
+    assertThat(actual.getOverdueTaskCount()).isZero();
+    assertThat(actual.getNextDueDate()).isEqualTo(LocalDate.of(2025, 8, 2));
+  }
+
+  @Test
+  void プロジェクトのタスク集計で期限日を過ぎた未完了タスクのみが期限切れとして数えられること() {
+    ProjectSummary actual = sut.findProjectSummary(1, LocalDate.of(2025, 8, 3));
+
+    assertThat(actual.getOverdueTaskCount()).isEqualTo(1);
+    assertThat(actual.getNextDueDate()).isNull();
+  }
+
+  @Test
+  void プロジェクトのタスク集計で論理削除済みのタスクは集計されないこと() {
+    ProjectSummary actual = sut.findProjectSummary(2, LocalDate.of(2025, 8, 1));
+
+    assertThat(actual.getTaskCount()).isEqualTo(2);
+    assertThat(actual.getTotalEstimatedTime()).isEqualTo(180);
+    assertThat(actual.getTotalActualTime()).isEqualTo(60);
+    // (50 * 120 + 0 * 60) / 180 = 33.3 の小数点以下切り捨て
+    assertThat(actual.getProgress()).isEqualTo(33);
+    assertThat(actual.getNextDueDate()).isEqualTo(LocalDate.of(2025, 8, 5));
+  }
+
+  @Test
+  void プロジェクトのタスク集計で件数と合計と進捗率はプロジェクトの集計の値が返されること() {
+    projectStatsRepository.addProjectStats(ProjectStats.builder()
+        .projectId(1)
+        .taskCount(1)
+        .totalEstimatedTime(80)
+        .weightedProgressSum(-29600)
+        .build());
+
+    ProjectSummary actual = sut.findProjectSummary(1, LocalDate.of(2025, 8, 2));
+
+    assertThat(actual.getTaskCount()).isEqualTo(3);
+    assertThat(actual.getTotalEstimatedTime()).isEqualTo(400);
+    assertThat(actual.getProgress()).isZero();
+  }
+
+  @Test
+  void プロジェクトのタスク集計で期限切れ件数と直近の期限日は期限日ごとの未完了タスク数の値が返されること() {
+    projectStatsRepository.addProjectDueStats(List.of(
+        new ProjectDueStats(1, LocalDate.of(2025, 7, 31), 2),
+        new ProjectDueStats(1, LocalDate.of(2025, 8, 2), -1),
+        new ProjectDueStats(1, LocalDate.of(2025, 8, 4), 1)));
+    projectStatsRepository.deleteEmptyProjectDueStats(List.of(1));
+
+    ProjectSummary actual = sut.findProjectSummary(1, LocalDate.of(2025, 8, 2));
+
+    assertThat(actual.getOverdueTaskCount()).isEqualTo(2);
+    assertThat(actual.getNextDueDate()).isEqualTo(LocalDate.of(2025, 8, 4));
+  }
+
+  @Test
+  void タスクのないプロジェクトのタスク集計では各件数と合計が0で返されること() {
+    ProjectSummary actual = sut.findProjectSummary(4, LocalDate.of(2025, 8, 1));
+
+    assertThat(actual).usingRecursiveComparison()
+        .isEqualTo(new ProjectSummary(0, 0, 0, 0L, 0L, 0, null));
+  }
+
+  @Test
+  void プロジェクト登録処理で新規のプロジェクトが登録され登録内容とDBの内容が一致すること() {
     String publicId = "00000000-0000-0000-0000-000000000000";
     Project project = Project.builder()
         .userAccountId(1)
@@ -130,22 +527,23 @@ class TaskRepositoryTest {
         .projectCaption("テストプロジェクト")
         .description("説明")
         .status(ACTIVE)
+        .version(0)
+        .createdAt(NOW)
+        .updatedAt(NOW)
         .build();
 
     sut.createProject(project);
 
-    Project actual = sut.findProjectByProjectPublicId(publicId);
+    Project actual = findProject(publicId);
 
+    assertThat(project.getId()).isNotNull();
     assertThat(actual)
         .usingRecursiveComparison()
-        .ignoringFields("createdAt", "updatedAt")
         .isEqualTo(project);
-    assertThat(actual.getCreatedAt()).isNotNull();
-    assertThat(actual.getUpdatedAt()).isNotNull();
   }
 
   @Test
-  void タスクの登録処理で新規のタスクが登録されDB付与の内容も反映できていること() {
+  void タスクの登録処理で新規のタスクが登録され登録内容とDBの内容が一致すること() {
     String publicId = "00000000-0000-0000-0000-000000000000";
     Task task = Task.builder()
         .userAccountId(1)
@@ -159,18 +557,53 @@ class TaskRepositoryTest {
         .actualTime(60)
         .progress(50)
         .priority(TaskPriority.LOW)
+        .version(0)
+        .createdAt(NOW)
+        .updatedAt(NOW)
         .build();
 
     sut.createTask(task);
 
-    Task actual = sut.findTaskByTaskPublicId(publicId);
+    Task actual = findTask(publicId);
 
+    assertThat(task.getId()).isNotNull();
     assertThat(actual)
         .usingRecursiveComparison()
-        .ignoringFields("createdAt", "updatedAt")
         .isEqualTo(task);
-    assertThat(actual.getCreatedAt()).isNotNull();
-    assertThat(actual.getUpdatedAt()).isNotNull();
+  }
+
+  @Test
+  void タスクの一括登録処理で全てのタスクが登録され採番された内部IDが設定されていること() {
+    List<Task> tasks = List.of(
+        createTaskEntity("00000000-0000-0000-0000-000000000001"),
+        createTaskEntity("00000000-0000-0000-0000-000000000002"),
+        createTaskEntity("00000000-0000-0000-0000-000000000003"));
+
+    sut.createTasks(tasks);
+
+    assertThat(tasks).extracting(Task::getId).doesNotContainNull().doesNotHaveDuplicates();
+    for (Task task : tasks) {
+      Task actual = findTask(task.getPublicId());
+      assertThat(actual)
+          .usingRecursiveComparison()
+          .isEqualTo(task);
+    }
+  }
+
+  @Test
+  void 一括登録したタスクの閉包テーブル登録で自身及び全ての祖先タスクとの組が登録されること() {
+    List<Task> tasks = List.of(
+        createTaskEntity("00000000-0000-0000-0000-000000000001").toBuilder()
+            .parentTaskId(2).build(),
+        createTaskEntity("00000000-0000-0000-0000-000000000002"));
+    sut.createTasks(tasks);
+
+    sut.createTaskPaths(tasks.stream().map(Task::getId).toList());
+
+    assertThat(sut.findTasksByTaskId(1, true)).extracting(Task::getId)
+        .containsExactly(1, 2, tasks.get(0).getId());
+    assertThat(sut.findTasksByTaskId(tasks.get(1).getId(), true)).extracting(Task::getId)
+        .containsExactly(tasks.get(1).getId());
   }
 
   @Test
@@ -181,15 +614,17 @@ class TaskRepositoryTest {
         .projectCaption("更新プロジェクト名")
         .description("更新プロジェクト詳細")
         .status(ARCHIVED)
+        .version(0)
+        .updatedAt(NOW)
         .build();
 
     sut.updateProject(project);
 
-    Project actual = sut.findProjectByProjectPublicId(publicId);
+    Project actual = findProject(publicId);
 
     assertThat(actual)
         .usingRecursiveComparison()
-        .comparingOnlyFields("projectCaption", "description", "status")
+        .comparingOnlyFields("projectCaption", "description", "status", "updatedAt")
         .isEqualTo(project);
   }
 
@@ -199,6 +634,7 @@ class TaskRepositoryTest {
     Project project = Project.builder()
         .publicId(publicId)
         .projectCaption("更新プロジェクト名")
+        .version(0)
         .build();
 
     int actual = sut.updateProject(project);
@@ -217,16 +653,17 @@ class TaskRepositoryTest {
         .createdAt(LocalDateTime
             .of(1900, 1, 1, 0, 0, 0))
         .isDeleted(true)
+        .version(0)
         .build();
 
     // 更新前情報の取得
-    Project beforeProject = sut.findProjectByProjectPublicId(publicId);
+    Project beforeProject = findProject(publicId);
 
     // 実行
     sut.updateProject(project);
 
     // 更新情報の取得
-    Project actual = sut.findProjectByProjectPublicId(publicId);
+    Project actual = findProject(publicId);
 
     assertThat(actual)
         .usingRecursiveComparison()
@@ -247,16 +684,18 @@ class TaskRepositoryTest {
         .actualTime(280)
         .progress(90)
         .priority(TaskPriority.MEDIUM)
+        .version(0)
+        .updatedAt(NOW)
         .build();
 
     sut.updateTask(task);
 
-    Task actual = sut.findTaskByTaskPublicId(publicId);
+    Task actual = findTask(publicId);
 
     assertThat(actual)
         .usingRecursiveComparison()
         .comparingOnlyFields("taskCaption", "description", "dueDate", "estimatedTime",
-            "actualTime", "progress", "priority")
+            "actualTime", "progress", "priority", "updatedAt")
         .isEqualTo(task);
   }
 
@@ -268,6 +707,7 @@ class TaskRepositoryTest {
         .publicId(publicId)
         .taskCaption("更新タスク名")
         .dueDate(LocalDate.of(2025, 9, 1))
+        .version(0)
         .build();
 
     int actual = sut.updateTask(task);
@@ -288,13 +728,14 @@ class TaskRepositoryTest {
         .dueDate(LocalDate.now())   // 必須制約のため入力（検証対象外）
         .createdAt(LocalDateTime.of(1900, 1, 1, 0, 0, 0))
         .isDeleted(true)
+        .version(0)
         .build();
 
-    Task beforeTask = sut.findTaskByTaskPublicId(publicId);
+    Task beforeTask = findTask(publicId);
 
     sut.updateTask(task);
 
-    Task actual = sut.findTaskByTaskPublicId(publicId);
+    Task actual = findTask(publicId);
 
     assertThat(actual)
         .usingRecursiveComparison()
@@ -303,28 +744,232 @@ class TaskRepositoryTest {
         .isEqualTo(beforeTask);
   }
 
+  @Test
+  void プロジェクトの部分更新で指定した項目のみが更新され他の項目は維持されること() {
+    String publicId = "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee";
+    Project beforeProject = findProject(publicId);
+    ProjectPatchRequest patch = new ProjectPatchRequest(null, null, ARCHIVED);
+
+    int updated = sut.patchProject(beforeProject.getId(), patch, beforeProject.getVersion(),
+        NOW);
+
+    Project actual = findProject(publicId);
+
+    assertThat(updated).isEqualTo(1);
+    assertThat(actual.getStatus()).isEqualTo(ARCHIVED);
+    assertThat(actual.getUpdatedAt()).isEqualTo(NOW);
+    assertThat(actual)
+        .usingRecursiveComparison()
+        .comparingOnlyFields("projectCaption", "description", "createdAt")
+        .isEqualTo(beforeProject);
+  }
+
+  @Test
+  void プロジェクトの部分更新で更新対象のレコードが論理削除済みの場合は更新されないこと() {
+    ProjectPatchRequest patch = new ProjectPatchRequest("更新プロジェクト名", null, null);
+
+    int actual = sut.patchProject(3, patch, 0, NOW);
+
+    assertThat(actual).isEqualTo(0);
+  }
+
+  @Test
+  void タスクの部分更新で指定した項目のみが更新され他の項目は維持されること() {
+    String publicId = "11111111-aaaa-bbbb-cccc-1234567890ab";
+    Task beforeTask = findTask(publicId);
+    TaskPatchRequest patch = new TaskPatchRequest("更新タスク名", null, null, null, null, 90,
+        null);
+
+    int updated = sut.patchTask(beforeTask.getId(), patch, beforeTask.getVersion(), NOW);
+
+    Task actual = findTask(publicId);
+
+    assertThat(updated).isEqualTo(1);
+    assertThat(actual.getTaskCaption()).isEqualTo("更新タスク名");
+    assertThat(actual.getProgress()).isEqualTo(90);
+    assertThat(actual)
+        .usingRecursiveComparison()
+        .comparingOnlyFields("description", "dueDate", "estimatedTime", "actualTime",
+            "priority", "createdAt")
+        .isEqualTo(beforeTask);
+  }
+
+  @Test
+  void タスクの部分更新で更新対象のレコードが論理削除済みの場合は更新されないこと() {
+    TaskPatchRequest patch = new TaskPatchRequest(null, null, null, null, null, 90, null);
+
+    int actual = sut.patchTask(4, patch, 0, NOW);
+
+    assertThat(actual).isEqualTo(0);
+  }
+
+  @Test
+  void プロジェクトの更新でバージョンが加算され取得時のバージョンと異なる場合は更新されないこと() {
+    String publicId = "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee";
+    Project project = Project.builder()
+        .publicId(publicId)
+        .projectCaption("更新プロジェクト名")
+        .description("更新プロジェクト詳細")
+        .status(ARCHIVED)
+        .version(0)
+        .build();
+
+    int first = sut.updateProject(project);
+    // 同じ取得時バージョンでの再更新(他のリクエストによる更新と競合)
+    int second = sut.updateProject(project);
+
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isEqualTo(0);
+    assertThat(findProject(publicId).getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  void タスクの部分更新でバージョンが加算され取得時のバージョンと異なる場合は更新されないこと() {
+    String publicId = "11111111-aaaa-bbbb-cccc-1234567890ab";
+    Task beforeTask = findTask(publicId);
+    TaskPatchRequest patch = new TaskPatchRequest(null, null, null, null, null, 90, null);
+
+    int first = sut.patchTask(beforeTask.getId(), patch, beforeTask.getVersion(), NOW);
+    int second = sut.patchTask(beforeTask.getId(), patch, beforeTask.getVersion(), NOW);
+
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isEqualTo(0);
+    assertThat(findTask(publicId).getVersion())
+        .isEqualTo(beforeTask.getVersion() + 1);
+  }
+
   @Test
   void プロジェクトの論理削除が行えていること() {
     String publicId = "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee";
 
-    sut.deleteProject(publicId);
+    int deleted = sut.deleteProject(publicId);
 
     // 論理削除後は有効レコードが存在しないためactualにはnullが返る
-    Project actual = sut.findProjectByProjectPublicId(publicId);
+    Project actual = findProject(publicId);
 
+    assertThat(deleted).isEqualTo(1);
     assertThat(actual).isNull();
+    // 削除済みのレコードは再度削除されない
+    assertThat(sut.deleteProject(publicId)).isZero();
   }
 
   @Test
   void タスクの論理削除が行えていること() {
     String publicId = "11111111-aaaa-bbbb-cccc-1234567890ab";
 
-    sut.deleteTask(publicId);
+    int deleted = sut.deleteTask(publicId);
 
     // 論理削除後は有効レコードが存在しないためactualにはnullが返る
-    Task actual = sut.findTaskByTaskPublicId(publicId);
+    Task actual = findTask(publicId);
 
+    assertThat(deleted).isEqualTo(1);
     assertThat(actual).isNull();
+    // 削除済みのレコードは再度削除されない
+    assertThat(sut.deleteTask(publicId)).isZero();
+  }
+
+  @Test
+  void プロジェクトに紐づく未削除タスクの内部IDが昇順に上限件数まで取得できること() {
+    List<Integer> actual = sut.findLiveTaskIdsByProjectId(2, 10);
+
+    // プロジェクト2のタスク3,4,5のうち削除済みの4を除く
+    assertThat(actual).containsExactly(3, 5);
+    assertThat(sut.findLiveTaskIdsByProjectId(2, 1)).containsExactly(3);
+  }
+
+  @Test
+  void 親タスクに紐づく未削除の子孫タスクの内部IDのみが取得できること() {
+    List<Integer> actual = sut.findLiveDescendantTaskIds(3, 10);
+
+    assertThat(actual).containsExactly(5);
+  }
+
+  @Test
+  void 途中の階層のタスクが削除済みでも配下の未削除の子孫タスクの内部IDが取得できること() {
+    Task grandchildTask = createSubtask(2, "00000000-0000-0000-0000-000000000001");
+    Task greatGrandchildTask = createSubtask(grandchildTask.getId(),
+        "00000000-0000-0000-0000-000000000002");
+    sut.deleteTasksByIds(List.of(grandchildTask.getId()));
+
+    List<Integer> actual = sut.findLiveDescendantTaskIds(1, 10);
+
+    assertThat(actual).containsExactly(2, greatGrandchildTask.getId());
+  }
+
+  @Test
+  void 内部IDを指定した更新ロック付き取得で未削除のタスクの集計に必要な項目のみが取得できること() {
+    List<Task> actual = sut.findLiveTasksForUpdate(List.of(3, 4, 5));
+
+    assertThat(actual).extracting(Task::getId).containsExactlyInAnyOrder(3, 5);
+    Task task = actual.stream().filter(t -> t.getId() == 3).findFirst().orElseThrow();
+    assertThat(task.getProjectId()).isEqualTo(2);
+    assertThat(task.getDueDate()).isEqualTo(LocalDate.of(2025, 8, 5));
+    assertThat(task.getEstimatedTime()).isEqualTo(120);
+    assertThat(task.getActualTime()).isEqualTo(60);
+    assertThat(task.getProgress()).isEqualTo(50);
+    assertThat(task.getPublicId()).isNull();
+  }
+
+  @Test
+  void 内部IDを指定したタスクの一括論理削除で未削除のタスクのみが削除されること() {
+    int actual = sut.deleteTasksByIds(List.of(3, 4, 5));
+
+    // 削除済みのタスク4は件数に含まれない
+    assertThat(actual).isEqualTo(2);
+    assertThat(sut.findLiveTaskIdsByProjectId(2, 10)).isEmpty();
+  }
+
+  private Task createTaskEntity(String publicId) {
+    return Task.builder()
+        .userAccountId(1)
+        .projectId(1)
+        .publicId(publicId)
+        .taskCaption("タスク名")
+        .description("タスクの詳細説明")
+        .dueDate(LocalDate.now().plusDays(1))
+        .estimatedTime(120)
+        .priority(TaskPriority.LOW)
+        .version(0)
+        .createdAt(NOW)
+        .updatedAt(NOW)
+        .build();
+  }
+
+  private Project findProject(String publicId) {
+    OwnershipResult<Project> result = sut.findOwnedProject(publicId, 1);
+    return result == null ? null : result.getResource();
+  }
+
+  private Task findTask(String publicId) {
+    OwnershipResult<Task> result = sut.findOwnedTask(publicId, 1);
+    return result == null ? null : result.getResource();
+  }
+
+  private Task createSubtask(Integer parentTaskId, String publicId) {
+    Task task = createTaskEntity(publicId).toBuilder()
+        .parentTaskId(parentTaskId)
+        .build();
+    sut.createTask(task);
+    sut.createTaskPaths(List.of(task.getId()));
+    return task;
+  }
+
+  private Task createParentTask(Integer projectId, String publicId) {
+    Task task = Task.builder()
+        .userAccountId(1)
+        .projectId(projectId)
+        .publicId(publicId)
+        .taskCaption("タスク名")
+        .description("タスクの詳細説明")
+        .dueDate(LocalDate.now().plusDays(1))
+        .estimatedTime(120)
+        .priority(TaskPriority.LOW)
+        .version(0)
+        .createdAt(NOW)
+        .updatedAt(NOW)
+        .build();
+    sut.createTask(task);
+    return task;
   }
 
 }
@@ -0,0 +1,271 @@
+package com.portfolio.taskapp.MyTaskManager.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectDueStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.task.repository.ProjectStatsRepository;
+import com.portfolio.taskapp.MyTaskManager.task.repository.TaskBatchRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectStatsServiceTest {
+
+  @Mock
+  private ProjectStatsRepository repository;
+
+  @Mock
+  private TaskBatchRepository batchRepository;
+
+  private ProjectStatsService sut;
+
+  private static final Integer PROJECT_ID = 9999;
+  private static final Integer OTHER_PROJECT_ID = 10000;
+  private static final LocalDate DUE_DATE = LocalDate.of(2025, 8, 1);
+
+  @BeforeEach
+  void setUp() {
+    sut = new ProjectStatsService(repository, batchRepository);
+  }
+
+  @Test
+  void 新規プロジェクトの集計登録で各項目0の集計が登録されること() {
+    sut.createProjectStats(PROJECT_ID);
+
+    ArgumentCaptor<ProjectStats> captor = ArgumentCaptor.forClass(ProjectStats.class);
+    verify(repository).createProjectStats(captor.capture());
+    assertThat(captor.getValue()).usingRecursiveComparison()
+        .isEqualTo(stats(PROJECT_ID, 0, 0, 0, 0, 0, 0));
+  }
+
+  @Test
+  void タスク登録時の差分適用でプロジェクトごとに登録タスクの合計が加算されること() {
+    List<Task> createdTasks = List.of(
+        task(PROJECT_ID, 200, 250, 100),
+        task(PROJECT_ID, 120, 0, 50),
+        task(OTHER_PROJECT_ID, 60, 30, 0));
+
+    sut.applyTaskChanges(List.of(), createdTasks);
+
+    ArgumentCaptor<ProjectStats> captor = ArgumentCaptor.forClass(ProjectStats.class);
+    verify(repository, times(2)).addProjectStats(captor.capture());
+    assertThat(captor.getAllValues()).usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(
+            stats(PROJECT_ID, 2, 1, 320, 250, 150, 26000),
+            stats(OTHER_PROJECT_ID, 1, 0, 60, 30, 0, 0));
+    ArgumentCaptor<List<ProjectDueStats>> dueCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository).addProjectDueStats(dueCaptor.capture());
+    assertThat(dueCaptor.getValue()).usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(
+            new ProjectDueStats(PROJECT_ID, DUE_DATE, 1),
+            new ProjectDueStats(OTHER_PROJECT_ID, DUE_DATE, 1));
+    verify(repository, never()).deleteEmptyProjectDueStats(any());
+  }
+
+  @Test
+  void タスク更新時の差分適用で変更前後の差分のみが加算されること() {
+    Task before = task(PROJECT_ID, 120, 60, 50);
+    Task after = task(PROJECT_ID, 120, 90, 100);
+
+    sut.applyTaskChanges(List.of(before), List.of(after));
+
+    ArgumentCaptor<ProjectStats> captor = ArgumentCaptor.forClass(ProjectStats.class);
+    verify(repository).addProjectStats(captor.capture());
+    assertThat(captor.getValue()).usingRecursiveComparison()
+        .isEqualTo(stats(PROJECT_ID, 0, 1, 0, 30, 50, 6000));
+    verify(repository, never()).incrementTreeVersions(any());
+    // 完了により期限日の未完了タスク数が減算され、0件となった行の削除対象となる
+    ArgumentCaptor<List<ProjectDueStats>> dueCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository).addProjectDueStats(dueCaptor.capture());
+    assertThat(dueCaptor.getValue()).usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(new ProjectDueStats(PROJECT_ID, DUE_DATE, -1));
+    verify(repository).deleteEmptyProjectDueStats(List.of(PROJECT_ID));
+  }
+
+  @Test
+  void 未完了タスクの期限日変更で集計は更新されず期限日ごとの未完了タスク数が期限日の昇順に移し替えられること() {
+    Task before = task(PROJECT_ID, 120, 60, 50);
+    Task after = before.toBuilder().dueDate(DUE_DATE.minusDays(1)).build();
+
+    sut.applyTaskChanges(List.of(before), List.of(after));
+
+    verify(repository, never()).addProjectStats(any());
+    verify(repository).incrementTreeVersions(List.of(PROJECT_ID));
+    ArgumentCaptor<List<ProjectDueStats>> dueCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository).addProjectDueStats(dueCaptor.capture());
+    assertThat(dueCaptor.getValue()).usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(
+            new ProjectDueStats(PROJECT_ID, DUE_DATE.minusDays(1), 1),
+            new ProjectDueStats(PROJECT_ID, DUE_DATE, -1));
+    verify(repository).deleteEmptyProjectDueStats(List.of(PROJECT_ID));
+  }
+
+  @Test
+  void 集計に影響しないタスク更新では集計が更新されずタスクツリーのバージョンのみが加算されること() {
+    Task before = task(PROJECT_ID, 120, 60, 50);
+    Task after = before.toBuilder().taskCaption("変更後").build();
+
+    sut.applyTaskChanges(List.of(before), List.of(after));
+
+    verify(repository, never()).addProjectStats(any());
+    verify(repository).incrementTreeVersions(List.of(PROJECT_ID));
+    verify(repository, never()).addProjectDueStats(any());
+    verify(repository, never()).deleteEmptyProjectDueStats(any());
+  }
+
+  @Test
+  void タスク削除時の差分適用で削除タスクの合計が減算されること() {
+    List<Task> deletedTasks = List.of(
+        task(PROJECT_ID, 200, 250, 100),
+        task(PROJECT_ID, 120, 120, 80));
+
+    sut.applyTaskChanges(deletedTasks, List.of());
+
+    ArgumentCaptor<ProjectStats> captor = ArgumentCaptor.forClass(ProjectStats.class);
+    verify(repository).addProjectStats(captor.capture());
+    assertThat(captor.getValue()).usingRecursiveComparison()
+        .isEqualTo(stats(PROJECT_ID, -2, -1, -320, -370, -180, -29600));
+  }
+
+  @Test
+  void バッチ実行での差分適用で差分とバージョンのみの加算対象がまとめてバッチ実行のリポジトリに渡されること() {
+    Task before = task(PROJECT_ID, 120, 60, 50);
+    Task after = task(PROJECT_ID, 120, 90, 100);
+    Task unchanged = task(OTHER_PROJECT_ID, 60, 30, 0);
+
+    sut.applyTaskChangesInBatch(List.of(before, unchanged), List.of(after, unchanged));
+
+    ArgumentCaptor<List<ProjectStats>> captor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<ProjectDueStats>> dueCaptor = ArgumentCaptor.forClass(List.class);
+    verify(batchRepository).applyProjectStats(captor.capture(), eq(List.of(OTHER_PROJECT_ID)),
+        dueCaptor.capture(), eq(List.of(PROJECT_ID)));
+    assertThat(captor.getValue()).usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(stats(PROJECT_ID, 0, 1, 0, 30, 50, 6000));
+    assertThat(dueCaptor.getValue()).usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(new ProjectDueStats(PROJECT_ID, DUE_DATE, -1));
+    verify(repository, never()).addProjectStats(any());
+    verify(repository, never()).incrementTreeVersions(any());
+    verify(repository, never()).addProjectDueStats(any());
+  }
+
+  @Test
+  void 集計の突き合わせでずれのある集計のみが再集計の値で補正され不足している集計は登録されること() {
+    ProjectStats matched = stats(1, 2, 1, 320, 370, 180, 29600);
+    ProjectStats drifted = stats(2, 3, 0, 240, 60, 50, 6000);
+    ProjectStats actualOfDrifted = stats(2, 2, 0, 180, 60, 50, 6000);
+
+    when(repository.findLiveProjectIds(0, ProjectStatsService.RECONCILE_BATCH_SIZE))
+        .thenReturn(List.of(1, 2, 4));
+    when(repository.findProjectStatsForUpdate(List.of(1, 2, 4)))
+        .thenReturn(List.of(matched, drifted));
+    when(repository.summarizeTasksByProjectIds(List.of(1, 2, 4)))
+        .thenReturn(List.of(matched, actualOfDrifted));
+
+    Integer actual = sut.reconcileProjectStats(0);
+
+    assertThat(actual).isNull();
+    ArgumentCaptor<ProjectStats> overwriteCaptor = ArgumentCaptor.forClass(ProjectStats.class);
+    verify(repository).overwriteProjectStats(overwriteCaptor.capture());
+    assertThat(overwriteCaptor.getValue()).isEqualTo(actualOfDrifted);
+    ArgumentCaptor<ProjectStats> createCaptor = ArgumentCaptor.forClass(ProjectStats.class);
+    verify(repository).createProjectStats(createCaptor.capture());
+    assertThat(createCaptor.getValue()).usingRecursiveComparison()
+        .isEqualTo(stats(4, 0, 0, 0, 0, 0, 0));
+  }
+
+  @Test
+  void 集計の突き合わせで期限日ごとの未完了タスク数にずれのあるプロジェクトのみが再集計の値で登録し直されること() {
+    ProjectStats stats1 = stats(1, 2, 1, 320, 370, 180, 29600);
+    ProjectStats stats2 = stats(2, 2, 0, 180, 60, 50, 6000);
+    ProjectDueStats matched = new ProjectDueStats(1, DUE_DATE, 1);
+    ProjectDueStats drifted = new ProjectDueStats(2, DUE_DATE, 2);
+    List<ProjectDueStats> actualOfDrifted = List.of(
+        new ProjectDueStats(2, DUE_DATE, 1),
+        new ProjectDueStats(2, DUE_DATE.plusDays(1), 1));
+
+    when(repository.findLiveProjectIds(0, ProjectStatsService.RECONCILE_BATCH_SIZE))
+        .thenReturn(List.of(1, 2, 4));
+    when(repository.findProjectStatsForUpdate(List.of(1, 2, 4)))
+        .thenReturn(List.of(stats1, stats2, stats(4, 0, 0, 0, 0, 0, 0)));
+    when(repository.summarizeTasksByProjectIds(List.of(1, 2, 4)))
+        .thenReturn(List.of(stats1, stats2));
+    when(repository.findProjectDueStats(List.of(1, 2, 4)))
+        .thenReturn(List.of(matched, drifted));
+    when(repository.summarizeOpenTasksByProjectIds(List.of(1, 2, 4)))
+        .thenReturn(List.of(matched, actualOfDrifted.get(0), actualOfDrifted.get(1)));
+
+    sut.reconcileProjectStats(0);
+
+    verify(repository, never()).overwriteProjectStats(any());
+    verify(repository).deleteProjectDueStats(2);
+    verify(repository, never()).deleteProjectDueStats(1);
+    verify(repository, never()).deleteProjectDueStats(4);
+    ArgumentCaptor<List<ProjectDueStats>> dueCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository).addProjectDueStats(dueCaptor.capture());
+    assertThat(dueCaptor.getValue()).isEqualTo(actualOfDrifted);
+  }
+
+  @Test
+  void 集計の突き合わせで上限件数のプロジェクトを処理した場合は末尾の内部IDが返されること() {
+    List<Integer> projectIds = IntStream.rangeClosed(1, ProjectStatsService.RECONCILE_BATCH_SIZE)
+        .boxed()
+        .toList();
+    List<ProjectStats> statsList = projectIds.stream()
+        .map(projectId -> stats(projectId, 0, 0, 0, 0, 0, 0))
+        .toList();
+
+    when(repository.findLiveProjectIds(0, ProjectStatsService.RECONCILE_BATCH_SIZE))
+        .thenReturn(projectIds);
+    when(repository.findProjectStatsForUpdate(projectIds)).thenReturn(statsList);
+    when(repository.summarizeTasksByProjectIds(projectIds)).thenReturn(List.of());
+
+    Integer actual = sut.reconcileProjectStats(0);
+
+    assertThat(actual).isEqualTo(ProjectStatsService.RECONCILE_BATCH_SIZE);
+    verify(repository, never()).overwriteProjectStats(any());
+    verify(repository, never()).createProjectStats(any());
+  }
+
+  @Test
+  void 集計の突き合わせで処理対象のプロジェクトがない場合はnullが返されること() {
+    when(repository.findLiveProjectIds(500, ProjectStatsService.RECONCILE_BATCH_SIZE))
+        .thenReturn(List.of());
+
+    Integer actual = sut.reconcileProjectStats(500);
+
+    assertThat(actual).isNull();
+    verify(repository, never()).findProjectStatsForUpdate(any());
+  }
+
+  private Task task(Integer projectId, int estimatedTime, int actualTime, int progress) {
+    return Task.builder()
+        .projectId(projectId)
+        .dueDate(DUE_DATE)
+        .estimatedTime(estimatedTime)
+        .actualTime(actualTime)
+        .progress(progress)
+        .build();
+  }
+
+  private ProjectStats stats(Integer projectId, int taskCount, int completedTaskCount,
+      long totalEstimatedTime, long totalActualTime, long progressSum, long weightedProgressSum) {
+    return new ProjectStats(projectId, taskCount, completedTaskCount, totalEstimatedTime,
+        totalActualTime, progressSum, weightedProgressSum);
+  }
+
+}
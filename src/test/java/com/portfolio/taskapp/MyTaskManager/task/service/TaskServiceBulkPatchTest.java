@@ -0,0 +1,92 @@
+package com.portfolio.taskapp.MyTaskManager.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdGenerator;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectStats;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.BulkItemStatus;
+import com.portfolio.taskapp.MyTaskManager.task.dto.OwnershipResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchItem;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.repository.ProjectStatsRepository;
+import com.portfolio.taskapp.MyTaskManager.task.repository.TaskBatchRepository;
+import com.portfolio.taskapp.MyTaskManager.task.repository.TaskRepository;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.MissingIdCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.OwnershipCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.TaskTreeCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.converter.CursorConverter;
+import com.portfolio.taskapp.MyTaskManager.task.service.converter.TaskConverter;
+import com.portfolio.taskapp.MyTaskManager.task.service.mapper.ProjectTaskMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * タスクの一括部分更新を、実際の DB とプロジェクトの集計処理を組み合わせて検証するテスト。
+ * <p>
+ * 一括部分更新は BATCH 実行モードのセッションでトランザクションを開始するため、テストメソッドのトランザクションは使用せず、
+ * TaskService のトランザクション内で集計の更新までが実行できることを検証します。
+ */
+@MybatisTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskService.class, TaskBatchRepository.class, ProjectStatsService.class,
+    TaskConverter.class, CursorConverter.class, ProjectTaskMapper.class, PublicIdGenerator.class,
+    OwnershipCache.class, TaskTreeCache.class, MissingIdCache.class})
+class TaskServiceBulkPatchTest {
+
+  private static final Integer USER_ID = 1;
+  private static final Integer PROJECT_ID = 1;
+  private static final String PARENT_TASK_PUBLIC_ID = "11111111-aaaa-bbbb-cccc-1234567890ab";
+  private static final String SUBTASK_PUBLIC_ID = "22222222-bbbb-cccc-dddd-1234567890ab";
+
+  @Autowired
+  private TaskService sut;
+
+  @Autowired
+  private TaskRepository repository;
+
+  @Autowired
+  private ProjectStatsRepository projectStatsRepository;
+
+  @Test
+  void タスク一括部分更新処理でタスクとプロジェクトの集計が同一トランザクション内で更新されること() {
+    Long beforeTreeVersion = projectStatsRepository.findTreeVersion(PROJECT_ID);
+    TaskPatchRequest changes = new TaskPatchRequest(null, null, null, null, 90, 100, null);
+    TaskBulkPatchRequest request = new TaskBulkPatchRequest(List.of(
+        new TaskBulkPatchItem(PARENT_TASK_PUBLIC_ID, changes),
+        new TaskBulkPatchItem(SUBTASK_PUBLIC_ID, changes)));
+
+    List<TaskBulkPatchResult> actual = sut.patchTasks(request, USER_ID);
+
+    assertThat(actual).extracting(TaskBulkPatchResult::getStatus)
+        .containsExactly(BulkItemStatus.UPDATED, BulkItemStatus.UPDATED);
+    assertThat(List.of(findTask(PARENT_TASK_PUBLIC_ID), findTask(SUBTASK_PUBLIC_ID)))
+        .allSatisfy(task -> {
+          assertThat(task.getActualTime()).isEqualTo(90);
+          assertThat(task.getProgress()).isEqualTo(100);
+          assertThat(task.getVersion()).isEqualTo(1);
+        });
+
+    // 差分の加算後の集計が、タスクからの再集計と一致すること
+    List<ProjectStats> expected = projectStatsRepository.summarizeTasksByProjectIds(
+        List.of(PROJECT_ID));
+    assertThat(projectStatsRepository.findProjectStatsForUpdate(List.of(PROJECT_ID)))
+        .usingRecursiveFieldByFieldElementComparator()
+        .isEqualTo(expected);
+    assertThat(projectStatsRepository.findTreeVersion(PROJECT_ID))
+        .isEqualTo(beforeTreeVersion + 1);
+  }
+
+  private Task findTask(String publicId) {
+    OwnershipResult<Task> result = repository.findOwnedTask(publicId, USER_ID);
+    return result.getResource();
+  }
+
+}
@@ -3,30 +3,68 @@ package com.portfolio.taskapp.MyTaskManager.task.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.portfolio.taskapp.MyTaskManager.common.http.Versioned;
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdGenerator;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.BulkItemStatus;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectSortKey;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectStatus;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.TaskPriority;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidCursorException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidDateRangeException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidOwnerAccessException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.RecordNotFoundException;
+import com.portfolio.taskapp.MyTaskManager.exception.custom.VersionConflictException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.enums.TargetResource;
+import com.portfolio.taskapp.MyTaskManager.task.dto.CursorPage;
+import com.portfolio.taskapp.MyTaskManager.task.dto.OwnershipResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectListVersion;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectSummary;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkCreateRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchItem;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskBulkPatchResult;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskRequest;
 import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTree;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTreeRequest;
+import com.portfolio.taskapp.MyTaskManager.task.repository.ProjectChangeLogRepository;
+import com.portfolio.taskapp.MyTaskManager.task.repository.TaskBatchRepository;
 import com.portfolio.taskapp.MyTaskManager.task.repository.TaskRepository;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.MissingIdCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.OwnershipCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.cache.TaskTreeCache;
+import com.portfolio.taskapp.MyTaskManager.task.service.converter.CursorConverter;
 import com.portfolio.taskapp.MyTaskManager.task.service.converter.TaskConverter;
 import com.portfolio.taskapp.MyTaskManager.task.service.mapper.ProjectTaskMapper;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class TaskServiceTest {
@@ -34,50 +72,143 @@ class TaskServiceTest {
   @Mock
   private TaskRepository repository;
 
+  @Mock
+  private TaskBatchRepository batchRepository;
+
   @Mock
   private TaskConverter converter;
 
   @Mock
   private ProjectTaskMapper mapper;
 
+  @Mock
+  private ProjectStatsService projectStatsService;
+
+  @Mock
+  private ProjectChangeLogRepository changeLogRepository;
+
+  private final CursorConverter cursorConverter = new CursorConverter();
+
+  private final PublicIdGenerator publicIdGenerator = new PublicIdGenerator();
+
+  private OwnershipCache ownershipCache;
+
   private TaskService sut;
 
   private static final Integer USER_ID = 999;
   private static final Integer PROJECT_ID = 9999;
   private static final Integer TASK_ID = 99999;
-  private static final String USER_PUBLIC_ID = "00000000-0000-0000-0000-000000000000";
   private static final String PROJECT_PUBLIC_ID = "00000000-0000-0000-0000-000000000001";
   private static final String TASK_PUBLIC_ID = "00000000-0000-0000-0000-000000000002";
 
 
   @BeforeEach
   void setUp() {
-    sut = new TaskService(repository, converter, mapper);
+    ownershipCache = new OwnershipCache(100, Duration.ofMinutes(5));
+    sut = new TaskService(repository, batchRepository, converter, cursorConverter, mapper,
+        publicIdGenerator, projectStatsService, TransactionOperations.withoutTransaction(),
+        ownershipCache, new TaskTreeCache(100), changeLogRepository,
+        new MissingIdCache(100, Duration.ofSeconds(30)));
   }
 
-  // ユーザープロジェクト一覧取得：正常系
+  // ユーザープロジェクト一覧取得：正常系(先頭ページかつ次ページあり)
   @Test
-  void ユーザープロジェクトの一覧取得で適切なrepositoryが呼び出せていること() {
-    Integer userId = 999;
+  void ユーザープロジェクトの一覧取得で上限件数のプロジェクトと次ページのカーソルが返されること() {
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 8, 1, 12, 0, 0);
+    Project project1 = Project.builder().id(1).updatedAt(updatedAt.plusDays(1)).build();
+    Project project2 = Project.builder().id(2).updatedAt(updatedAt).build();
+    Project project3 = Project.builder().id(3).updatedAt(updatedAt).build();
+    when(repository.findProjectsByUserId(eq(USER_ID), eq(ProjectSortKey.UPDATED_AT), isNull(),
+        isNull(), eq(3), eq(false), any(LocalDate.class)))
+        .thenReturn(List.of(project1, project2, project3));
+
+    CursorPage<Project> actual = sut.getUserProjects(USER_ID, ProjectSortKey.UPDATED_AT, null, 2,
+        false);
+
+    assertThat(actual.getItems()).containsExactly(project1, project2);
+    assertThat(actual.getNextCursor())
+        .isEqualTo(cursorConverter.encode("UPDATED_AT", updatedAt, 2));
+  }
 
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(userId);
+  // ユーザープロジェクト一覧取得：正常系(カーソル指定かつ最終ページ)
+  @Test
+  void ユーザープロジェクトの一覧取得でカーソルの位置が検索条件に変換され最終ページの場合はカーソルがnullであること() {
+    Project project = Project.builder().id(2).status(ProjectStatus.ARCHIVED).build();
+    when(repository.findProjectsByUserId(eq(USER_ID), eq(ProjectSortKey.STATUS), eq("ACTIVE"),
+        eq(1), eq(3), eq(false), any(LocalDate.class)))
+        .thenReturn(List.of(project));
 
-    sut.getUserProjects(USER_PUBLIC_ID);
+    CursorPage<Project> actual = sut.getUserProjects(USER_ID, ProjectSortKey.STATUS,
+        cursorConverter.encode("STATUS", "ACTIVE", 1), 2, false);
 
-    verify(repository).findUserIdByUserPublicId(USER_PUBLIC_ID);
-    verify(repository).findProjectsByUserId(userId);
+    assertThat(actual.getItems()).containsExactly(project);
+    assertThat(actual.getNextCursor()).isNull();
   }
 
-  // ユーザープロジェクト一覧取得：異常系(404：ユーザーId取得メソッドの例外ルート確認）
+  // ユーザープロジェクト一覧取得：正常系(タスク集計付き)
   @Test
-  void 未登録のユーザー公開IDでプロジェクト一覧取得を実行した場合に例外がThrowされること() {
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(null);
+  void ユーザープロジェクトの集計付き一覧取得で集計の指定と基準日がrepositoryに渡されること() {
+    Project project = Project.builder().id(1)
+        .summary(new ProjectSummary(2, 1, 0, 320L, 370L, 92, null))
+        .build();
+    when(repository.findProjectsByUserId(eq(USER_ID), eq(ProjectSortKey.CAPTION), isNull(),
+        isNull(), eq(51), eq(true), any(LocalDate.class)))
+        .thenReturn(List.of(project));
 
-    assertThatThrownBy(() -> sut.getUserProjects(USER_PUBLIC_ID))
-        .isInstanceOf(RecordNotFoundException.class)
-        .hasMessageContaining("user not found");
+    CursorPage<Project> actual = sut.getUserProjects(USER_ID, ProjectSortKey.CAPTION, null, 50,
+        true);
+
+    assertThat(actual.getItems()).containsExactly(project);
+    assertThat(actual.getNextCursor()).isNull();
+  }
+
+  // バージョン付きユーザープロジェクト一覧取得：正常系(変更あり・変更なし)
+  @Test
+  void バージョン付きのプロジェクト一覧取得で変更判定用の値が一致する場合のみ一覧を取得せずに変更判定用の値が返されること() {
+    ProjectListVersion listVersion = new ProjectListVersion(1, 1, 0, null);
+    Project project = Project.builder().id(1).build();
+    when(repository.findProjectListVersion(USER_ID, false)).thenReturn(listVersion);
+    when(repository.findProjectsByUserId(eq(USER_ID), eq(ProjectSortKey.UPDATED_AT), isNull(),
+        isNull(), eq(51), eq(false), any(LocalDate.class)))
+        .thenReturn(List.of(project));
+
+    Versioned<ProjectListVersion, CursorPage<Project>> modified = sut.getUserProjectsWithVersion(
+        USER_ID, ProjectSortKey.UPDATED_AT, null, 50, false, version -> false);
+    Versioned<ProjectListVersion, CursorPage<Project>> notModified =
+        sut.getUserProjectsWithVersion(USER_ID, ProjectSortKey.UPDATED_AT, null, 50, false,
+            version -> version == listVersion);
+
+    assertThat(modified.isNotModified()).isFalse();
+    assertThat(modified.getVersion()).isSameAs(listVersion);
+    assertThat(modified.getBody().getItems()).containsExactly(project);
+    assertThat(notModified.isNotModified()).isTrue();
+    assertThat(notModified.getVersion()).isSameAs(listVersion);
+    assertThat(notModified.getBody()).isNull();
+    verify(repository, times(1)).findProjectsByUserId(any(), any(), any(), any(), anyInt(),
+        anyBoolean(), any());
+  }
+
+  // ユーザープロジェクト一覧取得：異常系(400)
+  @Test
+  void ユーザープロジェクトの一覧取得で並び順の異なるカーソルが指定された場合に適切な例外がThrowされること() {
+    String cursor = cursorConverter.encode("CAPTION", "プロジェクト", 1);
+
+    assertThatThrownBy(
+        () -> sut.getUserProjects(USER_ID, ProjectSortKey.UPDATED_AT, cursor, 50, false))
+        .isInstanceOf(InvalidCursorException.class);
 
-    verify(repository, never()).findProjectsByUserId(any());
+    verify(repository, never()).findProjectsByUserId(any(), any(), any(), any(), anyInt(),
+        anyBoolean(), any());
+  }
+
+  // ユーザープロジェクト一覧取得：異常系(400)
+  @Test
+  void ユーザープロジェクトの一覧取得でカーソルの並び順キーが解釈できない場合に適切な例外がThrowされること() {
+    String cursor = cursorConverter.encode("UPDATED_AT", "yesterday", 1);
+
+    assertThatThrownBy(
+        () -> sut.getUserProjects(USER_ID, ProjectSortKey.UPDATED_AT, cursor, 50, false))
+        .isInstanceOf(InvalidCursorException.class);
   }
 
   // 単独プロジェクト取得：正常系
@@ -86,32 +217,287 @@ class TaskServiceTest {
     Project project = Project.builder()
         .userAccountId(USER_ID)
         .build();
-    when(repository.findProjectByProjectPublicId(PROJECT_PUBLIC_ID)).thenReturn(project);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
 
-    sut.getProjectByProjectPublicId(PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    sut.getProjectByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID);
 
-    verify(repository).findProjectByProjectPublicId(PROJECT_PUBLIC_ID);
+    verify(repository).findOwnedProject(PROJECT_PUBLIC_ID, USER_ID);
   }
 
-  // 親子タスク一覧取得：正常系
+  // プロジェクトのタスク集計取得：正常系
   @Test
-  void プロジェクトに紐づく親子タスク一覧取得時に適切なrepositoryとconverterが呼び出せていること() {
+  void プロジェクトのタスク集計取得で所有者検証後に内部IDで集計したrepositoryの結果が返されること() {
     Project project = Project.builder()
         .id(PROJECT_ID)
         .userAccountId(USER_ID)
         .build();
-    List<Task> taskList = List.of();
+    ProjectSummary summary = new ProjectSummary(2, 1, 0, 320L, 370L, 92, null);
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(repository.findProjectSummary(eq(PROJECT_ID), any(LocalDate.class)))
+        .thenReturn(summary);
 
-    when(repository.findProjectByProjectPublicId(PROJECT_PUBLIC_ID)).thenReturn(project);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
-    when(repository.findTasksByProjectId(PROJECT_ID)).thenReturn(taskList);
+    ProjectSummary actual = sut.getProjectSummary(PROJECT_PUBLIC_ID, USER_ID);
 
-    sut.getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    assertThat(actual).isEqualTo(summary);
+  }
 
-    verify(repository).findProjectByProjectPublicId(PROJECT_PUBLIC_ID);
-    verify(repository).findTasksByProjectId(PROJECT_ID);
-    verify(converter).convertToTaskTreeList(taskList);
+  // 親子タスク一覧取得：正常系(先頭ページかつ次ページあり)
+  @Test
+  void 親子タスク一覧の先頭ページ取得で上限件数の親タスクと子タスクが変換され次ページのカーソルが返されること() {
+    // 事前準備
+    Project project = Project.builder()
+        .id(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .build();
+    Task parentTask1 = Task.builder().id(1).build();
+    Task parentTask2 = Task.builder().id(2).build();
+    Task parentTask3 = Task.builder().id(3).build();
+    Task subtask = Task.builder().id(4).parentTaskId(1).build();
+    List<TaskTree> taskTreeList = List.of(new TaskTree(), new TaskTree());
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(repository.findParentTasksByProjectId(PROJECT_ID, null, 3, false))
+        .thenReturn(List.of(parentTask1, parentTask2, parentTask3));
+    when(repository.findDescendantTasksByTaskIds(List.of(1, 2), false)).thenReturn(List.of(subtask));
+    when(converter.convertToTaskTreeList(List.of(parentTask1, parentTask2, subtask)))
+        .thenReturn(taskTreeList);
+
+    // 実行
+    CursorPage<TaskTree> actual = sut.getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID, null, 2,
+        false);
+
+    // 検証
+    verify(repository).findOwnedProject(PROJECT_PUBLIC_ID, USER_ID);
+    assertThat(actual.getItems()).isEqualTo(taskTreeList);
+    assertThat(actual.getNextCursor()).isEqualTo(cursorConverter.encode(2));
+  }
+
+  // 親子タスク一覧取得：正常系(タスクツリーのキャッシュ利用)
+  @Test
+  void 親子タスク一覧取得でタスクツリーのバージョンが変わるまではキャッシュしたページが返されること() {
+    Project project = Project.builder()
+        .id(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .build();
+    Task parentTask = Task.builder().id(1).build();
+    List<TaskTree> taskTreeList = List.of(new TaskTree());
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(projectStatsService.getTreeVersion(PROJECT_ID)).thenReturn(5L, 5L, 6L);
+    when(repository.findParentTasksByProjectId(PROJECT_ID, null, 51, false))
+        .thenReturn(List.of(parentTask));
+    when(converter.convertToTaskTreeList(List.of(parentTask))).thenReturn(taskTreeList);
+
+    CursorPage<TaskTree> first = sut.getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID, null,
+        50, false);
+    CursorPage<TaskTree> second = sut.getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID, null,
+        50, false);
+    CursorPage<TaskTree> afterWrite = sut.getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID,
+        null, 50, false);
+
+    assertThat(second).isSameAs(first);
+    assertThat(afterWrite).isNotSameAs(first);
+    verify(repository, times(2)).findParentTasksByProjectId(PROJECT_ID, null, 51, false);
+    verify(converter, times(2)).convertToTaskTreeList(List.of(parentTask));
+  }
+
+  // バージョン付きタスクツリー取得：正常系(変更なし)
+  @Test
+  void バージョン付きのタスクツリー取得でバージョンが一致する場合はタスクの属するプロジェクトのバージョンのみが返されタスクツリーは取得されないこと() {
+    Task task = Task.builder()
+        .id(1)
+        .projectId(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .build();
+
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, true));
+    when(projectStatsService.getTreeVersion(PROJECT_ID)).thenReturn(3L);
+
+    Versioned<Long, TaskTree> actual = sut.getTaskTreeByTaskPublicIdWithVersion(TASK_PUBLIC_ID,
+        USER_ID, false, version -> version == 3L);
+
+    assertThat(actual.isNotModified()).isTrue();
+    assertThat(actual.getVersion()).isEqualTo(3L);
+    assertThat(actual.getBody()).isNull();
+    verify(repository, never()).findTasksByTaskId(any(), anyBoolean());
+  }
+
+  // 親子タスク一覧取得：正常系(カーソル指定かつ最終ページ)
+  @Test
+  void 親子タスク一覧のカーソル指定取得でカーソル以降の親タスクが取得され最終ページの場合はカーソルがnullであること() {
+    Project project = Project.builder()
+        .id(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .build();
+    Task parentTask = Task.builder().id(3).build();
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(repository.findParentTasksByProjectId(PROJECT_ID, 2, 3, true)).thenReturn(List.of(parentTask));
+
+    CursorPage<TaskTree> actual = sut.getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID,
+        cursorConverter.encode(2), 2, true);
+
+    verify(repository).findDescendantTasksByTaskIds(List.of(3), true);
+    assertThat(actual.getNextCursor()).isNull();
+  }
+
+  // 親子タスク一覧取得：正常系(親タスクなし)
+  @Test
+  void 親子タスク一覧取得で親タスクが存在しない場合に子タスクを取得せず空のページが返されること() {
+    Project project = Project.builder()
+        .id(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .build();
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(repository.findParentTasksByProjectId(PROJECT_ID, null, 51, false)).thenReturn(List.of());
+
+    CursorPage<TaskTree> actual = sut.getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID, null,
+        50, false);
+
+    verify(repository, never()).findDescendantTasksByTaskIds(anyList(), anyBoolean());
+    verify(converter, never()).convertToTaskTreeList(anyList());
+    assertThat(actual.getItems()).isEmpty();
+    assertThat(actual.getNextCursor()).isNull();
+  }
+
+  // 親子タスク一覧取得：異常系(400)
+  @Test
+  void 親子タスク一覧取得で不正な形式のカーソルが指定された場合にDBアクセスせず適切な例外がThrowされること() {
+    assertThatThrownBy(
+        () -> sut.getTasksByProjectPublicId(PROJECT_PUBLIC_ID, USER_ID, "not-a-cursor", 50,
+            false))
+        .isInstanceOf(InvalidCursorException.class);
+
+    verify(repository, never()).findOwnedProject(any(), any());
+  }
+
+  // 期限日によるタスク一覧取得：正常系(先頭ページかつ次ページあり)
+  @Test
+  void 期限日によるタスク一覧の先頭ページ取得で上限件数のタスクと次ページのカーソルが返されること() {
+    LocalDate from = LocalDate.of(2025, 8, 1);
+    LocalDate to = LocalDate.of(2025, 8, 7);
+    List<TaskPriority> priorities = List.of(TaskPriority.HIGH);
+    Task task1 = Task.builder().id(1).dueDate(LocalDate.of(2025, 8, 2)).build();
+    Task task2 = Task.builder().id(5).dueDate(LocalDate.of(2025, 8, 2)).build();
+    Task task3 = Task.builder().id(3).dueDate(LocalDate.of(2025, 8, 5)).build();
+
+    when(repository.findDueTasksByUserId(USER_ID, from, to, priorities, false, null, null, 3,
+        false))
+        .thenReturn(List.of(task1, task2, task3));
+
+    CursorPage<Task> actual = sut.getDueTasks(USER_ID, from, to, priorities, false, null, 2,
+        false);
+
+    assertThat(actual.getItems()).containsExactly(task1, task2);
+    assertThat(actual.getNextCursor())
+        .isEqualTo(cursorConverter.encode(LocalDate.of(2025, 8, 2), 5));
+  }
+
+  // 期限日によるタスク一覧取得：正常系(カーソル指定かつ最終ページ・期限日の上限省略)
+  @Test
+  void 期限日によるタスク一覧のカーソル指定取得でカーソル以降のタスクが取得され最終ページの場合はカーソルがnullであること() {
+    LocalDate afterDueDate = LocalDate.of(2025, 8, 2);
+    LocalDate expectedTo = LocalDate.now().plusDays(TaskService.DUE_SOON_DAYS);
+    Task task = Task.builder().id(3).dueDate(LocalDate.of(2025, 8, 5)).build();
+
+    when(repository.findDueTasksByUserId(eq(USER_ID), isNull(), any(LocalDate.class), isNull(),
+        eq(true), eq(afterDueDate), eq(5), eq(3), eq(true)))
+        .thenReturn(List.of(task));
+
+    CursorPage<Task> actual = sut.getDueTasks(USER_ID, null, null, null, true,
+        cursorConverter.encode(afterDueDate, 5), 2, true);
+
+    ArgumentCaptor<LocalDate> toCaptor = ArgumentCaptor.forClass(LocalDate.class);
+    verify(repository).findDueTasksByUserId(eq(USER_ID), isNull(), toCaptor.capture(), isNull(),
+        eq(true), eq(afterDueDate), eq(5), eq(3), eq(true));
+    assertThat(toCaptor.getValue()).isBetween(expectedTo, expectedTo.plusDays(1));
+    assertThat(actual.getItems()).containsExactly(task);
+    assertThat(actual.getNextCursor()).isNull();
+  }
+
+  // 期限日によるタスク一覧取得：異常系(400 期限日の範囲不正)
+  @Test
+  void 期限日によるタスク一覧取得で期限日の下限が上限より後の場合にDBアクセスせず適切な例外がThrowされること() {
+    assertThatThrownBy(() -> sut.getDueTasks(USER_ID, LocalDate.of(2025, 8, 8),
+        LocalDate.of(2025, 8, 7), null, false, null, 50, false))
+        .isInstanceOf(InvalidDateRangeException.class);
+
+    verify(repository, never()).findDueTasksByUserId(any(), any(), any(), any(), anyBoolean(),
+        any(), any(), anyInt(), anyBoolean());
+  }
+
+  // 期限日によるタスク一覧取得：異常系(400 カーソル不正)
+  @Test
+  void 期限日によるタスク一覧取得でカーソルの期限日が日付として解釈できない場合に適切な例外がThrowされること() {
+    assertThatThrownBy(() -> sut.getDueTasks(USER_ID, null, LocalDate.of(2025, 8, 7), null,
+        false, cursorConverter.encode("not-a-date", 5), 50, false))
+        .isInstanceOf(InvalidCursorException.class);
+
+    verify(repository, never()).findDueTasksByUserId(any(), any(), any(), any(), anyBoolean(),
+        any(), any(), anyInt(), anyBoolean());
+  }
+
+  // キーワードによるタスク検索：正常系(先頭ページ・次ページあり)
+  @Test
+  void キーワードによるタスク検索で空白区切りのキーワードが重複と二重引用符を除いて渡され次ページのカーソルが返されること() {
+    Task task1 = Task.builder().id(1).build();
+    Task task2 = Task.builder().id(2).build();
+    Task task3 = Task.builder().id(3).build();
+
+    when(repository.searchTasksByUserId(USER_ID, List.of("設計", "レビュー"), 0, 3, false))
+        .thenReturn(List.of(task1, task2, task3));
+
+    CursorPage<Task> actual = sut.searchTasks(USER_ID, " \"設計\"　レビュー 設計 ", null, 2,
+        false);
+
+    assertThat(actual.getItems()).containsExactly(task1, task2);
+    assertThat(actual.getNextCursor()).isEqualTo(cursorConverter.encode(2));
+  }
+
+  // キーワードによるタスク検索：正常系(取得上限に達する最終ページ)
+  @Test
+  void キーワードによるタスク検索で取得できる最大件数に達した場合は件数が切り詰められカーソルがnullであること() {
+    int offset = TaskService.SEARCH_MAX_RESULTS - 1;
+    List<Task> taskList = List.of(Task.builder().id(1).build(), Task.builder().id(2).build());
+
+    when(repository.searchTasksByUserId(USER_ID, List.of("設計"), offset, 2, true))
+        .thenReturn(taskList);
+
+    CursorPage<Task> actual = sut.searchTasks(USER_ID, "設計", cursorConverter.encode(offset), 50,
+        true);
+
+    assertThat(actual.getItems()).containsExactly(taskList.getFirst());
+    assertThat(actual.getNextCursor()).isNull();
+  }
+
+  // キーワードによるタスク検索：正常系(有効なキーワードなし)
+  @Test
+  void キーワードによるタスク検索で有効なキーワードがない場合にDBアクセスせず空のページが返されること() {
+    CursorPage<Task> actual = sut.searchTasks(USER_ID, "\"\"", null, 50, false);
+
+    assertThat(actual.getItems()).isEmpty();
+    assertThat(actual.getNextCursor()).isNull();
+    verify(repository, never()).searchTasksByUserId(any(), any(), anyInt(), anyInt(),
+        anyBoolean());
+  }
+
+  // キーワードによるタスク検索：異常系(400 カーソル不正)
+  @Test
+  void キーワードによるタスク検索でカーソルの読み飛ばし件数が範囲外の場合に適切な例外がThrowされること() {
+    assertThatThrownBy(() -> sut.searchTasks(USER_ID, "設計",
+        cursorConverter.encode(TaskService.SEARCH_MAX_RESULTS), 50, false))
+        .isInstanceOf(InvalidCursorException.class);
+
+    verify(repository, never()).searchTasksByUserId(any(), any(), anyInt(), anyInt(),
+        anyBoolean());
   }
 
   // 単独親子タスク取得：正常系
@@ -126,17 +512,17 @@ class TaskServiceTest {
     TaskTree taskTree = new TaskTree();
     List<TaskTree> taskTreesList = List.of(taskTree);
 
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(parentTask);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
-    when(repository.findTasksByTaskId(TASK_ID)).thenReturn(taskList);
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(parentTask, true));
+    when(repository.findTasksByTaskId(TASK_ID, true)).thenReturn(taskList);
     when(converter.convertToTaskTreeList(taskList)).thenReturn(taskTreesList);
 
     // 実行
-    TaskTree actual = sut.getTaskTreeByTaskPublicId(TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    TaskTree actual = sut.getTaskTreeByTaskPublicId(TASK_PUBLIC_ID, USER_ID, true);
 
     // 検証
-    verify(repository).findTaskByTaskPublicId(TASK_PUBLIC_ID);
-    verify(repository).findTasksByTaskId(TASK_ID);
+    verify(repository).findOwnedTask(TASK_PUBLIC_ID, USER_ID);
+    verify(repository).findTasksByTaskId(TASK_ID, true);
     verify(converter).convertToTaskTreeList(taskList);
 
     assertThat(actual).isEqualTo(taskTree);
@@ -152,11 +538,11 @@ class TaskServiceTest {
         .build();
     List<TaskTree> taskTreesList = List.of(new TaskTree(), new TaskTree());
 
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(parentTask);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(parentTask, true));
     when(converter.convertToTaskTreeList(anyList())).thenReturn(taskTreesList);
 
-    assertThatThrownBy(() -> sut.getTaskTreeByTaskPublicId(TASK_PUBLIC_ID, USER_PUBLIC_ID))
+    assertThatThrownBy(() -> sut.getTaskTreeByTaskPublicId(TASK_PUBLIC_ID, USER_ID, false))
         .isInstanceOf(IllegalStateException.class)
         .hasMessageContaining("TaskTree count mismatch");
   }
@@ -167,29 +553,27 @@ class TaskServiceTest {
     Task task = Task.builder()
         .userAccountId(USER_ID)
         .build();
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(task);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, true));
 
-    sut.getTaskByTaskPublicId(TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    sut.getTaskByTaskPublicId(TASK_PUBLIC_ID, USER_ID);
 
-    verify(repository).findTaskByTaskPublicId(TASK_PUBLIC_ID);
+    verify(repository).findOwnedTask(TASK_PUBLIC_ID, USER_ID);
   }
 
   // プロジェクト登録処理：正常系
   @Test
   void プロジェクト登録処理で適切なrepositoryとmapperが呼び出されていること() {
-    Integer userId = 999;
     ProjectRequest request = new ProjectRequest();
-    Project project = new Project();
+    Project project = Project.builder().id(PROJECT_ID).build();
 
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(userId);
-    when(mapper.toProject(eq(request), eq(userId), any(String.class))).thenReturn(project);
+    when(mapper.toProject(eq(request), eq(USER_ID), any(String.class))).thenReturn(project);
 
-    Project actual = sut.createProject(request, USER_PUBLIC_ID);
+    Project actual = sut.createProject(request, USER_ID);
 
-    verify(repository).findUserIdByUserPublicId(USER_PUBLIC_ID);
-    verify(mapper).toProject(eq(request), eq(userId), any(String.class));
+    verify(mapper).toProject(eq(request), eq(USER_ID), any(String.class));
     verify(repository).createProject(project);
+    verify(projectStatsService).createProjectStats(PROJECT_ID);
 
     assertThat(actual).isEqualTo(project);
   }
@@ -201,17 +585,19 @@ class TaskServiceTest {
         .userAccountId(USER_ID)
         .build();
     TaskRequest request = new TaskRequest();
-    Task task = new Task();
+    Task task = Task.builder().id(100000).build();
 
-    when(repository.findProjectByProjectPublicId(PROJECT_PUBLIC_ID)).thenReturn(project);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedProjectForUpdate(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
     when(mapper.toTask(eq(request), eq(project), any(String.class))).thenReturn(task);
 
-    Task actual = sut.createParentTask(request, PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    Task actual = sut.createParentTask(request, PROJECT_PUBLIC_ID, USER_ID);
 
-    verify(repository).findProjectByProjectPublicId(PROJECT_PUBLIC_ID);
+    verify(repository).findOwnedProjectForUpdate(PROJECT_PUBLIC_ID, USER_ID);
     verify(mapper).toTask(eq(request), eq(project), any(String.class));
     verify(repository).createTask(task);
+    verify(repository).createTaskPaths(List.of(100000));
+    verify(projectStatsService).applyTaskChanges(List.of(), List.of(task));
 
     assertThat(actual).isEqualTo(task);
   }
@@ -227,40 +613,337 @@ class TaskServiceTest {
         .projectId(projectId)
         .build();
     TaskRequest request = new TaskRequest();
-    Task task = new Task();
+    Task task = Task.builder().id(100000).build();
 
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(parentTask);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedTaskForUpdate(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(parentTask, true));
     when(mapper.toSubtask(eq(request), eq(parentTask), anyString())).thenReturn(task);
 
-    Task actual = sut.createSubtask(request, TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    Task actual = sut.createSubtask(request, TASK_PUBLIC_ID, USER_ID);
 
-    verify(repository).findTaskByTaskPublicId(TASK_PUBLIC_ID);
+    verify(repository).findOwnedTaskForUpdate(TASK_PUBLIC_ID, USER_ID);
     verify(mapper).toSubtask(eq(request), eq(parentTask), anyString());
     verify(repository).createTask(task);
+    verify(repository).createTaskPaths(List.of(100000));
+    verify(projectStatsService).applyTaskChanges(List.of(), List.of(task));
 
     assertThat(actual).isEqualTo(task);
   }
 
+  // 子タスク登録処理：異常系(404 所有検証キャッシュに保持した親タスクの削除後)
+  @Test
+  void 子タスク登録処理で所有検証キャッシュに保持した親タスクが削除済みの場合に例外がThrowされ登録されないこと() {
+    Task parentTask = Task.builder()
+        .id(TASK_ID)
+        .userAccountId(USER_ID)
+        .projectId(PROJECT_ID)
+        .build();
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(parentTask, true));
+    sut.getAuthorizedTaskReference(TASK_PUBLIC_ID, USER_ID);
+    when(repository.findOwnedTaskForUpdate(TASK_PUBLIC_ID, USER_ID)).thenReturn(null);
+
+    assertThatThrownBy(() -> sut.createSubtask(new TaskRequest(), TASK_PUBLIC_ID, USER_ID))
+        .isInstanceOf(RecordNotFoundException.class);
+
+    verify(repository, never()).createTask(any());
+  }
+
+  // 親子タスク一括登録処理：正常系
+  @Test
+  void 親子タスク一括登録処理で親タスクと子タスクがそれぞれ一括登録され階層構造で返されること() {
+    Project project = Project.builder()
+        .id(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .build();
+    TaskRequest parentRequest = new TaskRequest();
+    TaskRequest subtaskRequest = new TaskRequest();
+    TaskBulkCreateRequest request = new TaskBulkCreateRequest(List.of(
+        new TaskTreeRequest(parentRequest, List.of(subtaskRequest, subtaskRequest)),
+        new TaskTreeRequest(parentRequest, null)));
+
+    when(repository.findOwnedProjectForUpdate(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(mapper.toTask(eq(parentRequest), eq(project), anyString()))
+        .thenAnswer(invocation -> Task.builder().publicId(invocation.getArgument(2)).build());
+    when(mapper.toSubtask(eq(subtaskRequest), any(Task.class), anyString()))
+        .thenAnswer(invocation -> Task.builder().publicId(invocation.getArgument(2)).build());
+    List<TaskTree> taskTreeList = List.of(new TaskTree(), new TaskTree());
+    when(converter.convertToTaskTreeList(anyList())).thenReturn(taskTreeList);
+
+    List<TaskTree> actual = sut.createTaskTrees(request, PROJECT_PUBLIC_ID, USER_ID);
+
+    verify(repository).findOwnedProjectForUpdate(PROJECT_PUBLIC_ID, USER_ID);
+    verify(repository, times(2)).createTasks(anyList());
+    verify(repository, times(2)).createTaskPaths(anyList());
+    verify(repository, never()).createTask(any());
+
+    // 親タスクが子タスクより先になる順序で、登録した全タスクがツリーに変換されること
+    ArgumentCaptor<List<Task>> convertCaptor = ArgumentCaptor.forClass(List.class);
+    verify(converter).convertToTaskTreeList(convertCaptor.capture());
+    List<Task> createdTasks = convertCaptor.getValue();
+    assertThat(createdTasks).hasSize(4);
+    verify(mapper, times(2))
+        .toSubtask(eq(subtaskRequest), eq(createdTasks.get(0)), anyString());
+    assertThat(createdTasks).extracting(Task::getPublicId)
+        .doesNotContainNull()
+        .doesNotHaveDuplicates();
+    assertThat(actual).isEqualTo(taskTreeList);
+    verify(projectStatsService).applyTaskChanges(List.of(), createdTasks);
+  }
+
+  // 親子タスク一括登録処理：正常系(1文あたりの上限行数を超える場合は分割して登録)
+  @Test
+  void 親子タスク一括登録処理で上限行数を超える親タスクが分割して登録されること() {
+    Project project = Project.builder()
+        .userAccountId(USER_ID)
+        .build();
+    TaskRequest parentRequest = new TaskRequest();
+    List<TaskTreeRequest> trees = Collections.nCopies(TaskService.BULK_INSERT_CHUNK_SIZE + 1,
+        new TaskTreeRequest(parentRequest, null));
+    TaskBulkCreateRequest request = new TaskBulkCreateRequest(trees);
+
+    when(repository.findOwnedProjectForUpdate(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(mapper.toTask(eq(parentRequest), eq(project), anyString())).thenReturn(new Task());
+
+    sut.createTaskTrees(request, PROJECT_PUBLIC_ID, USER_ID);
+
+    ArgumentCaptor<List<Task>> captor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(2)).createTasks(captor.capture());
+    assertThat(captor.getAllValues()).extracting(List::size)
+        .containsExactly(TaskService.BULK_INSERT_CHUNK_SIZE, 1);
+  }
+
+  // 親子タスク一括登録処理：異常系(403 所有者不一致)
+  @Test
+  void 親子タスク一括登録処理でプロジェクトの所有者でない場合に例外がThrowされ登録されないこと() {
+    TaskBulkCreateRequest request = new TaskBulkCreateRequest(
+        List.of(new TaskTreeRequest(new TaskRequest(), null)));
+
+    when(repository.findOwnedProjectForUpdate(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(new Project(), false));
+
+    assertThatThrownBy(() -> sut.createTaskTrees(request, PROJECT_PUBLIC_ID, USER_ID))
+        .isInstanceOf(InvalidOwnerAccessException.class);
+
+    verify(repository, never()).createTasks(any());
+  }
+
+  // タスク一括部分更新処理：正常系(所有・未存在・所有者不一致の混在)
+  @Test
+  void タスク一括部分更新処理で所有タスクのみが一括更新されタスクごとの処理結果が返されること() {
+    String notFoundPublicId = "00000000-0000-0000-0000-000000000003";
+    String otherUserPublicId = "00000000-0000-0000-0000-000000000004";
+    Task ownTask = Task.builder()
+        .userAccountId(USER_ID)
+        .publicId(TASK_PUBLIC_ID)
+        .build();
+    Task otherUserTask = Task.builder()
+        .userAccountId(USER_ID + 1)
+        .publicId(otherUserPublicId)
+        .build();
+    TaskPatchRequest changes = new TaskPatchRequest();
+    Task patchedTask = Task.builder()
+        .publicId(TASK_PUBLIC_ID)
+        .version(0)
+        .build();
+    TaskBulkPatchRequest request = new TaskBulkPatchRequest(List.of(
+        new TaskBulkPatchItem(TASK_PUBLIC_ID, changes),
+        new TaskBulkPatchItem(notFoundPublicId, changes),
+        new TaskBulkPatchItem(otherUserPublicId, changes)));
+
+    when(batchRepository.findTasksByTaskPublicIds(
+        List.of(TASK_PUBLIC_ID, notFoundPublicId, otherUserPublicId)))
+        .thenReturn(List.of(ownTask, otherUserTask));
+    when(mapper.toPatchedTask(changes, ownTask)).thenReturn(patchedTask);
+    when(batchRepository.patchTasks(List.of(patchedTask), List.of(changes)))
+        .thenReturn(new int[]{1});
+
+    List<TaskBulkPatchResult> actual = sut.patchTasks(request, USER_ID);
+
+    verify(batchRepository).patchTasks(List.of(patchedTask), List.of(changes));
+    verify(mapper, never()).toPatchedTask(changes, otherUserTask);
+    verify(repository, never()).updateTask(any());
+    verify(projectStatsService).applyTaskChangesInBatch(List.of(ownTask), List.of(patchedTask));
+
+    assertThat(actual).extracting(TaskBulkPatchResult::getTaskPublicId)
+        .containsExactly(TASK_PUBLIC_ID, notFoundPublicId, otherUserPublicId);
+    assertThat(actual).extracting(TaskBulkPatchResult::getStatus)
+        .containsExactly(BulkItemStatus.UPDATED, BulkItemStatus.NOT_FOUND,
+            BulkItemStatus.FORBIDDEN);
+    assertThat(actual.get(0).getTask())
+        .usingRecursiveComparison()
+        .ignoringFields("version")
+        .isEqualTo(patchedTask);
+    assertThat(actual.get(0).getTask().getVersion()).isEqualTo(1);
+    assertThat(actual.get(1).getTask()).isNull();
+  }
+
+  // タスク一括部分更新処理：正常系(取得後に他の更新・削除があり更新件数が0件)
+  @Test
+  void タスク一括部分更新処理で更新件数が0件のタスクは競合として返されること() {
+    Task ownTask = Task.builder()
+        .userAccountId(USER_ID)
+        .publicId(TASK_PUBLIC_ID)
+        .build();
+    TaskPatchRequest changes = new TaskPatchRequest();
+    Task patchedTask = new Task();
+    TaskBulkPatchRequest request = new TaskBulkPatchRequest(
+        List.of(new TaskBulkPatchItem(TASK_PUBLIC_ID.toUpperCase(), changes)));
+
+    when(batchRepository.findTasksByTaskPublicIds(anyList())).thenReturn(List.of(ownTask));
+    when(mapper.toPatchedTask(changes, ownTask)).thenReturn(patchedTask);
+    when(batchRepository.patchTasks(List.of(patchedTask), List.of(changes)))
+        .thenReturn(new int[]{0});
+
+    List<TaskBulkPatchResult> actual = sut.patchTasks(request, USER_ID);
+
+    assertThat(actual).extracting(TaskBulkPatchResult::getStatus)
+        .containsExactly(BulkItemStatus.CONFLICT);
+    verify(projectStatsService).applyTaskChangesInBatch(List.of(), List.of());
+  }
+
+  // タスク一括部分更新処理：正常系(ドライバが更新件数を返さない場合)
+  @Test
+  void タスク一括部分更新処理で更新件数が不明のタスクは再取得したバージョンと更新日時で判定されること() {
+    String otherTaskPublicId = "00000000-0000-0000-0000-000000000003";
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 9, 1, 10, 30, 0);
+    Task ownTask = Task.builder()
+        .id(1)
+        .userAccountId(USER_ID)
+        .publicId(TASK_PUBLIC_ID)
+        .build();
+    Task otherTask = Task.builder()
+        .id(2)
+        .userAccountId(USER_ID)
+        .publicId(otherTaskPublicId)
+        .build();
+    TaskPatchRequest changes = new TaskPatchRequest();
+    Task patchedTask = Task.builder()
+        .id(1)
+        .publicId(TASK_PUBLIC_ID)
+        .version(0)
+        .updatedAt(updatedAt)
+        .build();
+    Task patchedOtherTask = Task.builder()
+        .id(2)
+        .publicId(otherTaskPublicId)
+        .version(0)
+        .updatedAt(updatedAt)
+        .build();
+    TaskBulkPatchRequest request = new TaskBulkPatchRequest(List.of(
+        new TaskBulkPatchItem(TASK_PUBLIC_ID, changes),
+        new TaskBulkPatchItem(otherTaskPublicId, changes)));
+
+    when(batchRepository.findTasksByTaskPublicIds(List.of(TASK_PUBLIC_ID, otherTaskPublicId)))
+        .thenReturn(List.of(ownTask, otherTask))
+        // 再取得時：タスク1は自身の更新後の値、タスク2は他のリクエストで更新済み
+        .thenReturn(List.of(
+            patchedTask.toBuilder().version(1).build(),
+            patchedOtherTask.toBuilder().version(1).updatedAt(updatedAt.minusMinutes(1)).build()));
+    when(mapper.toPatchedTask(changes, ownTask)).thenReturn(patchedTask);
+    when(mapper.toPatchedTask(changes, otherTask)).thenReturn(patchedOtherTask);
+    when(batchRepository.patchTasks(List.of(patchedTask, patchedOtherTask),
+        List.of(changes, changes)))
+        .thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+
+    List<TaskBulkPatchResult> actual = sut.patchTasks(request, USER_ID);
+
+    assertThat(actual).extracting(TaskBulkPatchResult::getStatus)
+        .containsExactly(BulkItemStatus.UPDATED, BulkItemStatus.CONFLICT);
+    verify(projectStatsService).applyTaskChangesInBatch(List.of(ownTask), List.of(patchedTask));
+  }
+
+  // タスク一括部分更新処理：異常系(更新件数の数がタスク数と不一致)
+  @Test
+  void タスク一括部分更新処理で更新件数の数がタスク数と一致しない場合に例外が発生すること() {
+    Task ownTask = Task.builder()
+        .userAccountId(USER_ID)
+        .publicId(TASK_PUBLIC_ID)
+        .build();
+    TaskPatchRequest changes = new TaskPatchRequest();
+    Task patchedTask = new Task();
+    TaskBulkPatchRequest request = new TaskBulkPatchRequest(
+        List.of(new TaskBulkPatchItem(TASK_PUBLIC_ID, changes)));
+
+    when(batchRepository.findTasksByTaskPublicIds(anyList())).thenReturn(List.of(ownTask));
+    when(mapper.toPatchedTask(changes, ownTask)).thenReturn(patchedTask);
+    when(batchRepository.patchTasks(List.of(patchedTask), List.of(changes)))
+        .thenReturn(new int[0]);
+
+    assertThatThrownBy(() -> sut.patchTasks(request, USER_ID))
+        .isInstanceOf(IllegalStateException.class);
+    verify(projectStatsService, never()).applyTaskChangesInBatch(anyList(), anyList());
+  }
+
   // プロジェクト更新処理：正常系
   @Test
   void プロジェクト更新処理で適切なrepositoryとmapperが呼び出されていること() {
     Project currentProject = Project.builder()
         .userAccountId(USER_ID)
         .publicId(PROJECT_PUBLIC_ID)
+        .version(2)
         .build();
     ProjectRequest request = new ProjectRequest();
-    Project updateProject = new Project();
+    Project updateProject = Project.builder()
+        .version(2)
+        .build();
 
-    when(repository.findProjectByProjectPublicId(PROJECT_PUBLIC_ID)).thenReturn(currentProject);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
-    when(mapper.toProject(request, USER_ID, PROJECT_PUBLIC_ID)).thenReturn(updateProject);
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentProject, true));
+    when(mapper.toUpdateProject(request, currentProject)).thenReturn(updateProject);
+    when(repository.updateProject(updateProject)).thenReturn(1);
 
-    sut.updateProject(request, PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    Project actual = sut.updateProject(request, PROJECT_PUBLIC_ID, USER_ID, null);
 
-    verify(repository).findProjectByProjectPublicId(PROJECT_PUBLIC_ID);
-    verify(mapper).toProject(request, USER_ID, PROJECT_PUBLIC_ID);
+    verify(repository).findOwnedProject(PROJECT_PUBLIC_ID, USER_ID);
+    verify(mapper).toUpdateProject(request, currentProject);
     verify(repository).updateProject(updateProject);
+    assertThat(actual.getVersion()).isEqualTo(3);
+  }
+
+  // プロジェクト更新処理：異常系(If-Match のバージョン不一致)
+  @Test
+  void プロジェクト更新処理で指定バージョンが現在のバージョンと異なる場合に412の例外となり更新されないこと() {
+    Project currentProject = Project.builder()
+        .userAccountId(USER_ID)
+        .publicId(PROJECT_PUBLIC_ID)
+        .version(2)
+        .build();
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentProject, true));
+
+    assertThatThrownBy(
+        () -> sut.updateProject(new ProjectRequest(), PROJECT_PUBLIC_ID, USER_ID, 1))
+        .isInstanceOfSatisfying(VersionConflictException.class,
+            ex -> assertThat(ex.getHttpStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+
+    verify(repository, never()).updateProject(any());
+  }
+
+  // プロジェクト更新処理：異常系(取得後に他の更新があり更新件数が0件)
+  @Test
+  void プロジェクト更新処理で条件付き更新の更新件数が0件の場合に409の例外となること() {
+    Project currentProject = Project.builder()
+        .userAccountId(USER_ID)
+        .publicId(PROJECT_PUBLIC_ID)
+        .version(2)
+        .build();
+    ProjectRequest request = new ProjectRequest();
+    Project updateProject = Project.builder()
+        .version(2)
+        .build();
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentProject, true));
+    when(mapper.toUpdateProject(request, currentProject)).thenReturn(updateProject);
+    when(repository.updateProject(updateProject)).thenReturn(0);
+
+    assertThatThrownBy(() -> sut.updateProject(request, PROJECT_PUBLIC_ID, USER_ID, null))
+        .isInstanceOfSatisfying(VersionConflictException.class,
+            ex -> assertThat(ex.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT));
   }
 
   // タスク更新処理:正常系
@@ -269,49 +952,269 @@ class TaskServiceTest {
     TaskRequest request = new TaskRequest();
     Task currentTask = Task.builder()
         .userAccountId(USER_ID)
+        .version(0)
+        .build();
+    Task task = Task.builder()
+        .version(0)
         .build();
-    Task task = new Task();
 
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(currentTask);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentTask, true));
     when(mapper.toUpdateTask(request, currentTask)).thenReturn(task);
+    when(repository.updateTask(task)).thenReturn(1);
 
-    sut.updateTask(request, TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    Task actual = sut.updateTask(request, TASK_PUBLIC_ID, USER_ID, 0);
 
-    verify(repository).findTaskByTaskPublicId(TASK_PUBLIC_ID);
+    verify(repository).findOwnedTask(TASK_PUBLIC_ID, USER_ID);
     verify(mapper).toUpdateTask(request, currentTask);
     verify(repository).updateTask(task);
+    verify(projectStatsService).applyTaskChanges(List.of(currentTask), List.of(task));
+    assertThat(actual.getVersion()).isEqualTo(1);
+  }
+
+  // タスク更新処理：異常系(取得後に他の更新があり更新件数が0件)
+  @Test
+  void タスク更新処理でIf_Match指定時に条件付き更新の更新件数が0件の場合に412の例外となること() {
+    TaskRequest request = new TaskRequest();
+    Task currentTask = Task.builder()
+        .userAccountId(USER_ID)
+        .version(0)
+        .build();
+    Task task = Task.builder()
+        .version(0)
+        .build();
+
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentTask, true));
+    when(mapper.toUpdateTask(request, currentTask)).thenReturn(task);
+    when(repository.updateTask(task)).thenReturn(0);
+
+    assertThatThrownBy(() -> sut.updateTask(request, TASK_PUBLIC_ID, USER_ID, 0))
+        .isInstanceOfSatisfying(VersionConflictException.class,
+            ex -> assertThat(ex.getHttpStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+  }
+
+  // プロジェクト部分更新処理：正常系
+  @Test
+  void プロジェクト部分更新処理で指定項目のみの更新が呼び出され更新内容を反映したプロジェクトが返されること() {
+    Project currentProject = Project.builder()
+        .id(1)
+        .userAccountId(USER_ID)
+        .publicId(PROJECT_PUBLIC_ID)
+        .version(0)
+        .build();
+    ProjectPatchRequest request = new ProjectPatchRequest(null, null, ProjectStatus.ARCHIVED);
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 9, 1, 10, 30, 0);
+    Project patchedProject = Project.builder()
+        .status(ProjectStatus.ARCHIVED)
+        .version(0)
+        .updatedAt(updatedAt)
+        .build();
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentProject, true));
+    when(mapper.toPatchedProject(request, currentProject)).thenReturn(patchedProject);
+    when(repository.patchProject(1, request, 0, updatedAt)).thenReturn(1);
+
+    Project actual = sut.patchProject(request, PROJECT_PUBLIC_ID, USER_ID, null);
+
+    verify(repository).patchProject(1, request, 0, updatedAt);
+    assertThat(actual.getStatus()).isEqualTo(ProjectStatus.ARCHIVED);
+    assertThat(actual.getVersion()).isEqualTo(1);
+  }
+
+  // プロジェクト部分更新処理：更新項目なし
+  @Test
+  void プロジェクト部分更新処理で更新項目が指定されていない場合は更新せず現在のプロジェクトが返されること() {
+    Project currentProject = Project.builder()
+        .id(1)
+        .userAccountId(USER_ID)
+        .publicId(PROJECT_PUBLIC_ID)
+        .build();
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentProject, true));
+
+    Project actual = sut.patchProject(new ProjectPatchRequest(), PROJECT_PUBLIC_ID, USER_ID,
+        null);
+
+    verify(repository, never()).patchProject(any(), any(), any(), any());
+    assertThat(actual).isSameAs(currentProject);
+  }
+
+  // タスク部分更新処理：正常系
+  @Test
+  void タスク部分更新処理で指定項目のみの更新が呼び出され更新内容を反映したタスクが返されること() {
+    Task currentTask = Task.builder()
+        .id(1)
+        .userAccountId(USER_ID)
+        .version(3)
+        .build();
+    TaskPatchRequest request = new TaskPatchRequest(null, null, null, null, null, 90, null);
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 9, 1, 10, 30, 0);
+    Task patchedTask = Task.builder()
+        .progress(90)
+        .version(3)
+        .updatedAt(updatedAt)
+        .build();
+
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentTask, true));
+    when(mapper.toPatchedTask(request, currentTask)).thenReturn(patchedTask);
+    when(repository.patchTask(1, request, 3, updatedAt)).thenReturn(1);
+
+    Task actual = sut.patchTask(request, TASK_PUBLIC_ID, USER_ID, 3);
+
+    verify(repository).patchTask(1, request, 3, updatedAt);
+    assertThat(actual.getProgress()).isEqualTo(90);
+    assertThat(actual.getVersion()).isEqualTo(4);
+  }
+
+  // タスク部分更新処理：更新項目なし
+  @Test
+  void タスク部分更新処理で更新項目が指定されていない場合は更新せず現在のタスクが返されること() {
+    Task currentTask = Task.builder()
+        .id(1)
+        .userAccountId(USER_ID)
+        .build();
+
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(currentTask, true));
+
+    Task actual = sut.patchTask(new TaskPatchRequest(), TASK_PUBLIC_ID, USER_ID, null);
+
+    verify(repository, never()).patchTask(any(), any(), any(), any());
+    assertThat(actual).isSameAs(currentTask);
   }
 
   // プロジェクト削除処理：正常系
   @Test
   void プロジェクト削除処理で適切なrepositoryが呼び出されていること() {
     Project project = Project.builder()
+        .id(PROJECT_ID)
         .userAccountId(USER_ID)
         .build();
 
-    when(repository.findProjectByProjectPublicId(PROJECT_PUBLIC_ID)).thenReturn(project);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(repository.deleteProject(PROJECT_PUBLIC_ID)).thenReturn(1);
 
-    sut.deleteProject(PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    sut.deleteProject(PROJECT_PUBLIC_ID, USER_ID);
 
-    verify(repository).findProjectByProjectPublicId(PROJECT_PUBLIC_ID);
+    verify(repository).findOwnedProject(PROJECT_PUBLIC_ID, USER_ID);
     verify(repository).deleteProject(PROJECT_PUBLIC_ID);
+    // プロジェクトの削除時とタスクの削除完了時に変更履歴を登録
+    verify(changeLogRepository, times(2)).insertChange(PROJECT_ID);
+  }
+
+  // プロジェクト削除処理：正常系(紐づくタスクの分割削除)
+  @Test
+  void プロジェクト削除処理で紐づくタスクが削除対象がなくなるまで分割して論理削除されること() {
+    Project project = Project.builder()
+        .id(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .build();
+    List<Integer> fullChunk = Collections.nCopies(TaskService.SOFT_DELETE_CHUNK_SIZE, 1);
+    List<Integer> lastChunk = List.of(2, 3);
+    List<Task> lastChunkTasks = List.of(Task.builder().id(2).build(),
+        Task.builder().id(3).build());
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(repository.findLiveTaskIdsByProjectId(PROJECT_ID, TaskService.SOFT_DELETE_CHUNK_SIZE))
+        .thenReturn(fullChunk, lastChunk);
+    when(repository.findLiveTasksForUpdate(lastChunk)).thenReturn(lastChunkTasks);
+    when(repository.deleteProject(PROJECT_PUBLIC_ID)).thenReturn(1);
+
+    sut.deleteProject(PROJECT_PUBLIC_ID, USER_ID);
+
+    verify(repository).deleteProject(PROJECT_PUBLIC_ID);
+    verify(repository, times(2))
+        .findLiveTaskIdsByProjectId(PROJECT_ID, TaskService.SOFT_DELETE_CHUNK_SIZE);
+    verify(repository).deleteTasksByIds(fullChunk);
+    verify(repository).deleteTasksByIds(lastChunk);
+    verify(projectStatsService).applyTaskChanges(lastChunkTasks, List.of());
   }
 
   // タスク削除処理：正常系
   @Test
   void タスク削除処理で適切なrepositoryが呼び出されていること() {
     Task task = Task.builder()
+        .id(TASK_ID)
         .userAccountId(USER_ID)
         .build();
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(task);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    List<Task> lockedTasks = List.of(Task.builder().id(TASK_ID).progress(50).build());
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, true));
+    when(repository.findLiveTasksForUpdate(List.of(TASK_ID))).thenReturn(lockedTasks);
+    when(repository.deleteTask(TASK_PUBLIC_ID)).thenReturn(1);
 
-    sut.deleteTask(TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    sut.deleteTask(TASK_PUBLIC_ID, USER_ID);
 
-    verify(repository).findTaskByTaskPublicId(TASK_PUBLIC_ID);
+    verify(repository).findOwnedTask(TASK_PUBLIC_ID, USER_ID);
     verify(repository).deleteTask(TASK_PUBLIC_ID);
+    verify(projectStatsService).applyTaskChanges(lockedTasks, List.of());
+  }
+
+  // プロジェクト削除処理：異常系：404(所有者検証後に他のリクエストで削除済み)
+  @Test
+  void プロジェクト削除処理で削除件数が0件の場合に例外がThrowされ変更履歴が登録されないこと() {
+    Project project = Project.builder()
+        .id(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .build();
+
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+    when(repository.deleteProject(PROJECT_PUBLIC_ID)).thenReturn(0);
+
+    assertThatThrownBy(() -> sut.deleteProject(PROJECT_PUBLIC_ID, USER_ID))
+        .isInstanceOf(RecordNotFoundException.class)
+        .hasMessage("project not found");
+    verify(changeLogRepository, never()).insertChange(any());
+    verify(repository, never()).findLiveTaskIdsByProjectId(any(), anyInt());
+  }
+
+  // タスク削除処理：異常系：404(所有者検証後に他のリクエストで削除済み)
+  @Test
+  void タスク削除処理で削除件数が0件の場合に例外がThrowされ集計に反映されないこと() {
+    Task task = Task.builder()
+        .id(TASK_ID)
+        .userAccountId(USER_ID)
+        .build();
+
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, true));
+    when(repository.deleteTask(TASK_PUBLIC_ID)).thenReturn(0);
+
+    assertThatThrownBy(() -> sut.deleteTask(TASK_PUBLIC_ID, USER_ID))
+        .isInstanceOf(RecordNotFoundException.class)
+        .hasMessage("task not found");
+    verify(projectStatsService, never()).applyTaskChanges(any(), any());
+    verify(repository, never()).findLiveDescendantTaskIds(any(), anyInt());
+  }
+
+  // タスク削除処理：正常系(紐づく子孫タスクの削除)
+  @Test
+  void タスク削除処理で紐づく全ての階層の子孫タスクが論理削除されること() {
+    Task task = Task.builder()
+        .id(TASK_ID)
+        .userAccountId(USER_ID)
+        .build();
+    List<Integer> subtaskIds = List.of(1, 2);
+
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, true));
+    when(repository.findLiveDescendantTaskIds(TASK_ID, TaskService.SOFT_DELETE_CHUNK_SIZE))
+        .thenReturn(subtaskIds);
+    when(repository.deleteTask(TASK_PUBLIC_ID)).thenReturn(1);
+
+    sut.deleteTask(TASK_PUBLIC_ID, USER_ID);
+
+    verify(repository).deleteTask(TASK_PUBLIC_ID);
+    verify(repository).findLiveDescendantTaskIds(TASK_ID,
+        TaskService.SOFT_DELETE_CHUNK_SIZE);
+    verify(repository).deleteTasksByIds(subtaskIds);
   }
 
   // プロジェクト存在確認＆所有検証：正常系
@@ -320,36 +1223,50 @@ class TaskServiceTest {
     Project project = Project.builder()
         .userAccountId(USER_ID)
         .build();
-    when(repository.findProjectByProjectPublicId(PROJECT_PUBLIC_ID)).thenReturn(project);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
 
-    Project actual = sut.getAuthorizedProject(PROJECT_PUBLIC_ID, USER_PUBLIC_ID);
+    Project actual = sut.getAuthorizedProject(PROJECT_PUBLIC_ID, USER_ID);
 
-    verify(repository).findProjectByProjectPublicId(PROJECT_PUBLIC_ID);
-    verify(repository).findUserIdByUserPublicId(USER_PUBLIC_ID);
+    verify(repository).findOwnedProject(PROJECT_PUBLIC_ID, USER_ID);
     assertThat(actual).isEqualTo(project);
   }
 
   // プロジェクト存在確認＆所有検証：異常系：404
   @Test
   void プロジェクト存在確認においてnullであった場合に適切な例外がThrowされること() {
-    when(repository.findProjectByProjectPublicId(PROJECT_PUBLIC_ID)).thenReturn(null);
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID)).thenReturn(null);
 
-    assertThatThrownBy(() -> sut.getAuthorizedProject(PROJECT_PUBLIC_ID, USER_PUBLIC_ID))
+    assertThatThrownBy(() -> sut.getAuthorizedProject(PROJECT_PUBLIC_ID, USER_ID))
         .isInstanceOf(RecordNotFoundException.class)
         .hasMessage("project not found");
   }
 
+  // プロジェクト存在確認＆所有検証：異常系：404(存在しなかった公開IDの再検索)
+  @Test
+  void プロジェクト存在確認において直近に存在しなかった公開IDは再度検索されずに例外がThrowされること() {
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID)).thenReturn(null);
+
+    assertThatThrownBy(() -> sut.getAuthorizedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .isInstanceOf(RecordNotFoundException.class);
+    assertThatThrownBy(() -> sut.getAuthorizedProject(PROJECT_PUBLIC_ID.toUpperCase(), USER_ID))
+        .isInstanceOf(RecordNotFoundException.class)
+        .hasMessage("project not found");
+
+    verify(repository).findOwnedProject(PROJECT_PUBLIC_ID, USER_ID);
+    verify(repository, never()).findOwnedProject(PROJECT_PUBLIC_ID.toUpperCase(), USER_ID);
+  }
+
   // プロジェクト存在確認＆所有検証：異常系：403
   @Test
   void プロジェクト所有検証において所有者が異なる場合に適切な例外がThrowされること() {
     Project project = Project.builder()
         .userAccountId(1000)
         .build();
-    when(repository.findProjectByProjectPublicId(PROJECT_PUBLIC_ID)).thenReturn(project);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, false));
 
-    assertThatThrownBy(() -> sut.getAuthorizedProject(PROJECT_PUBLIC_ID, USER_PUBLIC_ID))
+    assertThatThrownBy(() -> sut.getAuthorizedProject(PROJECT_PUBLIC_ID, USER_ID))
         .isInstanceOf(InvalidOwnerAccessException.class)
         .satisfies(ex -> {
           InvalidOwnerAccessException e = (InvalidOwnerAccessException) ex;
@@ -363,40 +1280,108 @@ class TaskServiceTest {
     Task task = Task.builder()
         .userAccountId(USER_ID)
         .build();
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(task);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, true));
 
-    Task actual = sut.getAuthorizedTask(TASK_PUBLIC_ID, USER_PUBLIC_ID);
+    Task actual = sut.getAuthorizedTask(TASK_PUBLIC_ID, USER_ID);
 
-    verify(repository).findTaskByTaskPublicId(TASK_PUBLIC_ID);
-    verify(repository).findUserIdByUserPublicId(USER_PUBLIC_ID);
+    verify(repository).findOwnedTask(TASK_PUBLIC_ID, USER_ID);
     assertThat(actual).isEqualTo(task);
   }
 
   // タスク存在確認＆所有検証：異常系：404
   @Test
   void タスク存在確認においてnullであった場合に適切な例外がThrowされること() {
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(null);
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID)).thenReturn(null);
 
-    assertThatThrownBy(() -> sut.getAuthorizedTask(TASK_PUBLIC_ID, USER_PUBLIC_ID))
+    assertThatThrownBy(() -> sut.getAuthorizedTask(TASK_PUBLIC_ID, USER_ID))
         .isInstanceOf(RecordNotFoundException.class)
         .hasMessage("task not found");
   }
 
+  // タスク存在確認＆所有検証：異常系：404(公開IDの形式不正)
+  @Test
+  void タスク存在確認において公開IDの形式が不正な場合は検索されずに例外がThrowされること() {
+    assertThatThrownBy(() -> sut.getAuthorizedTask("not-a-uuid", USER_ID))
+        .isInstanceOf(RecordNotFoundException.class)
+        .hasMessage("task not found");
+
+    verify(repository, never()).findOwnedTask(any(), any());
+  }
+
   // タスク存在確認＆所有検証：異常系：403
   @Test
   void タスク所有検証において所有者が異なる場合に適切な例外がThrowされること() {
     Task task = Task.builder()
         .userAccountId(1000)
         .build();
-    when(repository.findTaskByTaskPublicId(TASK_PUBLIC_ID)).thenReturn(task);
-    when(repository.findUserIdByUserPublicId(USER_PUBLIC_ID)).thenReturn(USER_ID);
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, false));
 
-    assertThatThrownBy(() -> sut.getAuthorizedTask(TASK_PUBLIC_ID, USER_PUBLIC_ID))
+    assertThatThrownBy(() -> sut.getAuthorizedTask(TASK_PUBLIC_ID, USER_ID))
         .isInstanceOf(InvalidOwnerAccessException.class)
         .satisfies(ex -> {
           InvalidOwnerAccessException e = (InvalidOwnerAccessException) ex;
           assertThat(e.getTargetResource()).isEqualTo(TargetResource.TASK);
         });
   }
+
+  // キャッシュを利用したプロジェクト存在確認＆所有検証：正常系
+  @Test
+  void プロジェクト所有検証のキャッシュ利用で2回目以降はrepositoryが呼び出されず識別情報のみのプロジェクトが返されること() {
+    Project project = Project.builder()
+        .id(PROJECT_ID)
+        .userAccountId(USER_ID)
+        .publicId(PROJECT_PUBLIC_ID)
+        .projectCaption("caption")
+        .build();
+    when(repository.findOwnedProject(PROJECT_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(project, true));
+
+    Project first = sut.getAuthorizedProjectReference(PROJECT_PUBLIC_ID, USER_ID);
+    Project second = sut.getAuthorizedProjectReference(PROJECT_PUBLIC_ID.toUpperCase(), USER_ID);
+
+    verify(repository, times(1)).findOwnedProject(any(), any());
+    assertThat(first).isEqualTo(project);
+    assertThat(second.getId()).isEqualTo(PROJECT_ID);
+    assertThat(second.getUserAccountId()).isEqualTo(USER_ID);
+    assertThat(second.getProjectCaption()).isNull();
+  }
+
+  // キャッシュを利用したタスク存在確認＆所有検証：異常系：403
+  @Test
+  void タスク所有検証のキャッシュ利用で所有者が異なる場合にrepositoryを呼び出さず適切な例外がThrowされること() {
+    Task task = Task.builder()
+        .id(TASK_ID)
+        .userAccountId(USER_ID)
+        .projectId(PROJECT_ID)
+        .build();
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, true));
+    sut.getAuthorizedTaskReference(TASK_PUBLIC_ID, USER_ID);
+
+    assertThatThrownBy(() -> sut.getAuthorizedTaskReference(TASK_PUBLIC_ID, 1000))
+        .isInstanceOf(InvalidOwnerAccessException.class);
+    verify(repository, never()).findOwnedTask(TASK_PUBLIC_ID, 1000);
+  }
+
+  // キャッシュを利用したタスク存在確認＆所有検証：削除時の破棄
+  @Test
+  void タスク削除処理で所属プロジェクトのタスクの所有検証キャッシュが破棄され再度repositoryが呼び出されること() {
+    Task task = Task.builder()
+        .id(TASK_ID)
+        .userAccountId(USER_ID)
+        .projectId(PROJECT_ID)
+        .build();
+    when(repository.findOwnedTask(TASK_PUBLIC_ID, USER_ID))
+        .thenReturn(new OwnershipResult<>(task, true));
+    sut.getAuthorizedTaskReference(TASK_PUBLIC_ID, USER_ID);
+    when(repository.deleteTask(TASK_PUBLIC_ID)).thenReturn(1);
+
+    sut.deleteTask(TASK_PUBLIC_ID, USER_ID);
+    sut.getAuthorizedTaskReference(TASK_PUBLIC_ID, USER_ID);
+
+    // キャッシュ登録時・削除時の所有者検証(キャッシュを使用しない)・キャッシュ破棄後の再検索の3回
+    verify(repository, times(3)).findOwnedTask(TASK_PUBLIC_ID, USER_ID);
+  }
 }
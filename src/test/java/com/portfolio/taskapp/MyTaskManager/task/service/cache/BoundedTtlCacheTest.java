@@ -0,0 +1,103 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoundedTtlCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+  private static final Instant NOW = Instant.parse("2025-08-01T00:00:00Z");
+  private static final int MAX_SIZE = 2;
+
+  private MutableClock clock;
+  private BoundedTtlCache<String, Integer> sut;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(NOW);
+    sut = new BoundedTtlCache<>(MAX_SIZE, TTL, clock);
+  }
+
+  @Test
+  void 有効期間内の値のみが取得でき有効期間が経過した値は参照時に破棄されること() {
+    sut.put("k1", 1);
+
+    clock.instant = NOW.plus(TTL).minusMillis(1);
+    assertThat(sut.get("k1")).contains(1);
+
+    clock.instant = NOW.plus(TTL);
+    assertThat(sut.get("k1")).isEmpty();
+    assertThat(sut.size()).isZero();
+  }
+
+  @Test
+  void 有効期限を指定しない場合は時間が経過しても値が破棄されないこと() {
+    BoundedTtlCache<String, Integer> noTtlCache = new BoundedTtlCache<>(MAX_SIZE);
+    noTtlCache.put("k1", 1);
+
+    assertThat(noTtlCache.get("k1")).contains(1);
+  }
+
+  @Test
+  void 保持件数が上限を超えた場合は最も長く参照されていない値から破棄され破棄件数が加算されること() {
+    sut.put("k1", 1);
+    sut.put("k2", 2);
+    sut.get("k1");
+
+    sut.put("k3", 3);
+
+    assertThat(sut.get("k1")).contains(1);
+    assertThat(sut.get("k2")).isEmpty();
+    assertThat(sut.get("k3")).contains(3);
+    assertThat(sut.evictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void 指定したキーと条件に一致する値のみが破棄されること() {
+    sut.put("k1", 1);
+    sut.put("k2", 2);
+
+    sut.remove("k1");
+    sut.removeIf(value -> value == 3);
+
+    assertThat(sut.get("k1")).isEmpty();
+    assertThat(sut.get("k2")).contains(2);
+
+    sut.removeIf(value -> value == 2);
+
+    assertThat(sut.size()).isZero();
+    assertThat(sut.evictionCount()).isZero();
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+
+}
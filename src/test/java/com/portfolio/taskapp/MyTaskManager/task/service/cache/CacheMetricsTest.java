@@ -0,0 +1,31 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class CacheMetricsTest {
+
+  @Test
+  void 参照件数と破棄件数と保持件数がキャッシュ名のタグ付きで公開されること() {
+    CacheMetrics sut = new CacheMetrics("test", "テストキャッシュ", "保持件数", () -> 3, () -> 2L);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    sut.bindTo(registry);
+
+    sut.recordHit();
+    sut.recordHit();
+    sut.recordMiss();
+
+    assertThat(registry.get("cache.gets").tags("cache", "test", "result", "hit")
+        .functionCounter().count()).isEqualTo(2);
+    assertThat(registry.get("cache.gets").tags("cache", "test", "result", "miss")
+        .functionCounter().count()).isEqualTo(1);
+    assertThat(registry.get("cache.evictions").tags("cache", "test")
+        .functionCounter().count()).isEqualTo(2);
+    assertThat(registry.get("cache.size").tags("cache", "test").gauge().value()).isEqualTo(3);
+    assertThat(sut.hitCount()).isEqualTo(2);
+    assertThat(sut.missCount()).isEqualTo(1);
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.taskapp.MyTaskManager.common.datasource.ReplicaRoutingPolicy;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MissingIdCacheTest {
+
+  private static final Duration TTL = Duration.ofSeconds(30);
+  private static final int MAX_SIZE = 2;
+
+  private static final String PROJECT_PUBLIC_ID = "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee";
+
+  private MissingIdCache sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new MissingIdCache(MAX_SIZE, TTL);
+  }
+
+  @Test
+  void 記録したプロジェクトの公開IDのみが大文字小文字を区別せず判定されタスクの公開IDとは区別されること() {
+    sut.putProject(PROJECT_PUBLIC_ID);
+
+    assertThat(sut.containsProject(PROJECT_PUBLIC_ID.toUpperCase())).isTrue();
+    assertThat(sut.containsTask(PROJECT_PUBLIC_ID)).isFalse();
+    assertThat(sut.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void レプリカへ振り分けられた参照での不在は記録されないこと() {
+    ReplicaRoutingPolicy routingPolicy = mock(ReplicaRoutingPolicy.class);
+    MissingIdCache replicaSut = new MissingIdCache(MAX_SIZE, TTL, routingPolicy);
+
+    when(routingPolicy.isCurrentReadRoutedToReplica()).thenReturn(true);
+    replicaSut.putProject(PROJECT_PUBLIC_ID);
+    assertThat(replicaSut.containsProject(PROJECT_PUBLIC_ID)).isFalse();
+
+    when(routingPolicy.isCurrentReadRoutedToReplica()).thenReturn(false);
+    replicaSut.putProject(PROJECT_PUBLIC_ID);
+    assertThat(replicaSut.containsProject(PROJECT_PUBLIC_ID)).isTrue();
+  }
+
+}
@@ -0,0 +1,82 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OwnershipCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+  private static final int MAX_SIZE = 2;
+
+  private static final String PROJECT_PUBLIC_ID = "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee";
+  private static final String TASK_PUBLIC_ID = "11111111-aaaa-bbbb-cccc-1234567890ab";
+
+  private OwnershipCache sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new OwnershipCache(MAX_SIZE, TTL);
+  }
+
+  @Test
+  void 登録したタスクの識別情報のみが公開IDの大文字小文字を区別せず取得でき参照成功件数が加算されること() {
+    sut.putTask(TASK_PUBLIC_ID, task(1, 10, TASK_PUBLIC_ID), sut.currentGeneration());
+
+    Task actual = sut.findTask(TASK_PUBLIC_ID.toUpperCase()).orElseThrow();
+
+    assertThat(actual.getId()).isEqualTo(1);
+    assertThat(actual.getProjectId()).isEqualTo(10);
+    assertThat(actual.getTaskCaption()).isNull();
+    assertThat(sut.hitCount()).isEqualTo(1);
+    assertThat(sut.missCount()).isZero();
+  }
+
+  @Test
+  void プロジェクトの破棄で対象プロジェクトとそのタスクのみが破棄されること() {
+    long generation = sut.currentGeneration();
+    sut.putProject(PROJECT_PUBLIC_ID, project(10), generation);
+    sut.putTask("t1", task(1, 10, "t1"), generation);
+    sut.putTask("t2", task(2, 20, "t2"), generation);
+
+    sut.evictProject(10);
+
+    assertThat(sut.findProject(PROJECT_PUBLIC_ID)).isEmpty();
+    assertThat(sut.findTask("t1")).isEmpty();
+    assertThat(sut.findTask("t2")).isPresent();
+  }
+
+  @Test
+  void 読み込み後に破棄が行われた場合は読み込んだ識別情報が登録されないこと() {
+    long generation = sut.currentGeneration();
+
+    sut.evictProject(10);
+    sut.putTask(TASK_PUBLIC_ID, task(1, 10, TASK_PUBLIC_ID), generation);
+
+    assertThat(sut.findTask(TASK_PUBLIC_ID)).isEmpty();
+  }
+
+  private Project project(Integer id) {
+    return Project.builder()
+        .id(id)
+        .userAccountId(1)
+        .publicId(PROJECT_PUBLIC_ID)
+        .projectCaption("caption")
+        .build();
+  }
+
+  private Task task(Integer id, Integer projectId, String publicId) {
+    return Task.builder()
+        .id(id)
+        .userAccountId(1)
+        .projectId(projectId)
+        .publicId(publicId)
+        .taskCaption("caption")
+        .build();
+  }
+
+}
@@ -0,0 +1,140 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.ProjectChange;
+import com.portfolio.taskapp.MyTaskManager.task.repository.ProjectChangeLogRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectChangeLogPollerTest {
+
+  @Mock
+  private ProjectChangeLogRepository repository;
+
+  @Mock
+  private Clock clock;
+
+  private OwnershipCache ownershipCache;
+
+  private ProjectChangeLogPoller sut;
+
+  private static final String PROJECT_PUBLIC_ID = "00000000-0000-0000-0000-000000000001";
+  private static final String OTHER_PROJECT_PUBLIC_ID = "00000000-0000-0000-0000-000000000002";
+  private static final Duration GAP_TIMEOUT = Duration.ofMinutes(1);
+
+  @BeforeEach
+  void setUp() {
+    ownershipCache = new OwnershipCache(100, Duration.ofMinutes(5));
+    sut = new ProjectChangeLogPoller(repository, ownershipCache, new TaskTreeCache(100), 1000,
+        GAP_TIMEOUT, clock);
+  }
+
+  @Test
+  void 起動時の末尾より後ろの変更履歴のプロジェクトのみがキャッシュから破棄されること() {
+    cacheProject(PROJECT_PUBLIC_ID, 1);
+    cacheProject(OTHER_PROJECT_PUBLIC_ID, 2);
+    when(repository.findLatestSeq()).thenReturn(500L);
+    when(repository.findChangesAfter(500, ProjectChangeLogPoller.POLL_BATCH_SIZE))
+        .thenReturn(List.of(), List.of(change(501, 1)));
+
+    sut.poll();
+    sut.poll();
+
+    assertThat(ownershipCache.findProject(PROJECT_PUBLIC_ID)).isEmpty();
+    assertThat(ownershipCache.findProject(OTHER_PROJECT_PUBLIC_ID)).isPresent();
+  }
+
+  @Test
+  void 欠番に後からコミットされた変更履歴も破棄され処理済みの変更履歴は再度破棄されないこと() {
+    when(clock.millis()).thenReturn(0L, GAP_TIMEOUT.toMillis() - 1);
+    when(repository.findLatestSeq()).thenReturn(0L);
+    when(repository.findChangesAfter(0, ProjectChangeLogPoller.POLL_BATCH_SIZE))
+        .thenReturn(List.of(change(1, 1), change(3, 1)));
+    when(repository.findChangesBySeqs(List.of(2L))).thenReturn(List.of(change(2, 2)));
+    when(repository.findChangesAfter(3, ProjectChangeLogPoller.POLL_BATCH_SIZE))
+        .thenReturn(List.of());
+
+    sut.poll();
+    cacheProject(PROJECT_PUBLIC_ID, 1);
+    cacheProject(OTHER_PROJECT_PUBLIC_ID, 2);
+    sut.poll();
+
+    assertThat(ownershipCache.findProject(PROJECT_PUBLIC_ID)).isPresent();
+    assertThat(ownershipCache.findProject(OTHER_PROJECT_PUBLIC_ID)).isEmpty();
+  }
+
+  @Test
+  void 検出から期間が経過した欠番は再度読み取られないこと() {
+    when(clock.millis()).thenReturn(0L, GAP_TIMEOUT.toMillis());
+    when(repository.findLatestSeq()).thenReturn(0L);
+    when(repository.findChangesAfter(0, ProjectChangeLogPoller.POLL_BATCH_SIZE))
+        .thenReturn(List.of(change(2, 1)));
+    when(repository.findChangesAfter(2, ProjectChangeLogPoller.POLL_BATCH_SIZE))
+        .thenReturn(List.of());
+
+    sut.poll();
+    sut.poll();
+
+    verify(repository, never()).findChangesBySeqs(anyList());
+  }
+
+  @Test
+  void 古い変更履歴の削除で読み取り済みの末尾から保持件数より前の変更履歴のみが削除されること() {
+    when(repository.findLatestSeq()).thenReturn(1500L);
+    sut.poll();
+
+    sut.purge();
+
+    verify(repository).deleteChangesUpTo(500L);
+  }
+
+  @Test
+  void 古い変更履歴の削除で再度読み取る欠番より前の変更履歴のみが削除されること() {
+    when(repository.findLatestSeq()).thenReturn(100L);
+    when(repository.findChangesAfter(100, ProjectChangeLogPoller.POLL_BATCH_SIZE))
+        .thenReturn(List.of(change(1102, 1)));
+    sut.poll();
+
+    sut.purge();
+
+    verify(repository).deleteChangesUpTo(100L);
+  }
+
+  @Test
+  void 読み取り前の古い変更履歴の削除では変更履歴が削除されないこと() {
+    sut.purge();
+
+    verify(repository, never()).deleteChangesUpTo(anyLong());
+  }
+
+  private void cacheProject(String publicId, Integer projectId) {
+    Project project = Project.builder()
+        .id(projectId)
+        .userAccountId(1)
+        .publicId(publicId)
+        .build();
+    ownershipCache.putProject(publicId, project, ownershipCache.currentGeneration());
+  }
+
+  private ProjectChange change(long seq, Integer projectId) {
+    return ProjectChange.builder()
+        .seq(seq)
+        .projectId(projectId)
+        .build();
+  }
+
+}
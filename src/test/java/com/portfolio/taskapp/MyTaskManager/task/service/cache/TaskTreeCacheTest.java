@@ -0,0 +1,63 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.taskapp.MyTaskManager.task.dto.CursorPage;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskTree;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskTreeCacheTest {
+
+  private static final int MAX_PROJECTS = 2;
+
+  private TaskTreeCache sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new TaskTreeCache(MAX_PROJECTS);
+  }
+
+  @Test
+  void 登録時と同じバージョンとページ条件の場合のみページが取得でき参照成功件数が加算されること() {
+    CursorPage<TaskTree> page = page();
+    sut.put(1, 5L, null, 50, false, page);
+
+    assertThat(sut.find(1, 5L, null, 50, false)).containsSame(page);
+    assertThat(sut.find(1, 5L, null, 50, true)).isEmpty();
+    assertThat(sut.find(1, 5L, 10, 50, false)).isEmpty();
+    assertThat(sut.find(1, 6L, null, 50, false)).isEmpty();
+    assertThat(sut.hitCount()).isEqualTo(1);
+    assertThat(sut.missCount()).isEqualTo(3);
+  }
+
+  @Test
+  void 異なるバージョンのページを登録した場合は保持済みの他のページも破棄されること() {
+    sut.put(1, 5L, null, 50, false, page());
+    sut.put(1, 5L, 10, 50, false, page());
+
+    sut.put(1, 6L, null, 50, false, page());
+
+    assertThat(sut.find(1, 6L, null, 50, false)).isPresent();
+    assertThat(sut.find(1, 6L, 10, 50, false)).isEmpty();
+    assertThat(sut.find(1, 5L, 10, 50, false)).isEmpty();
+  }
+
+  @Test
+  void プロジェクトの破棄で対象プロジェクトのページのみが破棄されること() {
+    sut.put(1, 1L, null, 50, false, page());
+    sut.put(2, 1L, null, 50, false, page());
+
+    sut.evictProject(1);
+
+    assertThat(sut.find(1, 1L, null, 50, false)).isEmpty();
+    assertThat(sut.find(2, 1L, null, 50, false)).isPresent();
+    assertThat(sut.size()).isEqualTo(1);
+  }
+
+  private CursorPage<TaskTree> page() {
+    return new CursorPage<>(List.of(new TaskTree()), null);
+  }
+
+}
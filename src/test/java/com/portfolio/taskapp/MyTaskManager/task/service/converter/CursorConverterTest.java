@@ -0,0 +1,66 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidCursorException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CursorConverterTest {
+
+  private CursorConverter sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new CursorConverter();
+  }
+
+  @Test
+  void 複数のキー値をエンコードしたカーソルをデコードすると元のキー値に戻ること() {
+    String cursor = sut.encode("2025-08-01", 12, "区切り.文字");
+
+    List<String> actual = sut.decode(cursor, 3);
+
+    assertThat(actual).containsExactly("2025-08-01", "12", "区切り.文字");
+  }
+
+  @Test
+  void 内部IDのカーソルを内部IDに変換できること() {
+    String cursor = sut.encode(12);
+
+    Integer actual = sut.decodeId(cursor);
+
+    assertThat(actual).isEqualTo(12);
+  }
+
+  @Test
+  void キー値の数が一致しないカーソルの場合に例外がThrowされること() {
+    String cursor = sut.encode("2025-08-01", 12);
+
+    assertThatThrownBy(() -> sut.decode(cursor, 1))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+  @Test
+  void Base64URL形式でないカーソルの場合に例外がThrowされること() {
+    assertThatThrownBy(() -> sut.decode("@@@", 1))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+  @Test
+  void 内部IDとして解釈できないカーソルの場合に例外がThrowされること() {
+    String cursor = sut.encode("abc");
+
+    assertThatThrownBy(() -> sut.decodeId(cursor))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+  @Test
+  void 空のカーソルの場合に例外がThrowされること() {
+    assertThatThrownBy(() -> sut.decode("", 1))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+}
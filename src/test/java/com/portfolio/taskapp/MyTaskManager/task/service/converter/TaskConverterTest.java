@@ -24,9 +24,7 @@ class TaskConverterTest {
     Task parentTask900 = Task.builder().id(900).parentTaskId(null).build();
     Task subtask801 = Task.builder().id(801).parentTaskId(800).build();
     Task subtask802 = Task.builder().id(802).parentTaskId(800).build();
-    Task subtaskDummy = Task.builder().id(9999).parentTaskId(999).build();
-    List<Task> taskList = List.of(parentTask800, subtask801, parentTask900, subtask802,
-        subtaskDummy);
+    List<Task> taskList = List.of(parentTask800, subtask801, parentTask900, subtask802);
 
     // 実行
     List<TaskTree> actual = sut.convertToTaskTreeList(taskList);
@@ -34,21 +32,47 @@ class TaskConverterTest {
     // 検証
     assertThat(actual).hasSize(2);
 
-    assertThat(actual.getFirst().getParentTask()).isEqualTo(parentTask800);
-    assertThat(actual.getFirst().getSubtaskList()).isEqualTo(List.of(subtask801, subtask802));
+    assertThat(actual.getFirst().getTask()).isEqualTo(parentTask800);
+    assertThat(actual.getFirst().getSubtaskList()).extracting(TaskTree::getTask)
+        .containsExactly(subtask801, subtask802);
+    assertThat(actual.getFirst().getSubtaskList())
+        .allSatisfy(subtaskTree -> assertThat(subtaskTree.getSubtaskList()).isEmpty());
 
-    assertThat(actual.get(1).getParentTask()).isEqualTo(parentTask900);
+    assertThat(actual.get(1).getTask()).isEqualTo(parentTask900);
     assertThat(actual.get(1).getSubtaskList()).isEmpty();
   }
 
   @Test
-  void 引数のタスクリストが子タスクのみの場合に空リストを返すこと() {
+  void 3階層以上のタスク一覧が子タスクの入れ子のTaskTreeに変換できていること() {
+    Task parentTask = Task.builder().id(800).parentTaskId(null).build();
     Task subtask = Task.builder().id(801).parentTaskId(800).build();
-    List<Task> taskList = List.of(subtask);
+    Task grandchildTask = Task.builder().id(802).parentTaskId(801).build();
+    Task greatGrandchildTask = Task.builder().id(803).parentTaskId(802).build();
+    List<Task> taskList = List.of(parentTask, subtask, grandchildTask, greatGrandchildTask);
 
     List<TaskTree> actual = sut.convertToTaskTreeList(taskList);
 
-    assertThat(actual).isEmpty();
+    assertThat(actual).hasSize(1);
+    TaskTree subtaskTree = actual.getFirst().getSubtaskList().getFirst();
+    assertThat(subtaskTree.getTask()).isEqualTo(subtask);
+    TaskTree grandchildTree = subtaskTree.getSubtaskList().getFirst();
+    assertThat(grandchildTree.getTask()).isEqualTo(grandchildTask);
+    assertThat(grandchildTree.getSubtaskList()).extracting(TaskTree::getTask)
+        .containsExactly(greatGrandchildTask);
+  }
+
+  @Test
+  void 親タスクがタスクリストに含まれない子タスクは最上位のTaskTreeとして変換されること() {
+    Task subtask = Task.builder().id(801).parentTaskId(800).build();
+    Task grandchildTask = Task.builder().id(802).parentTaskId(801).build();
+    List<Task> taskList = List.of(subtask, grandchildTask);
+
+    List<TaskTree> actual = sut.convertToTaskTreeList(taskList);
+
+    assertThat(actual).hasSize(1);
+    assertThat(actual.getFirst().getTask()).isEqualTo(subtask);
+    assertThat(actual.getFirst().getSubtaskList()).extracting(TaskTree::getTask)
+        .containsExactly(grandchildTask);
   }
 
   @Test
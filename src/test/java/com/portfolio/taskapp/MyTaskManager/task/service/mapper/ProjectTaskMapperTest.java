@@ -0,0 +1,56 @@
+package com.portfolio.taskapp.MyTaskManager.task.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Project;
+import com.portfolio.taskapp.MyTaskManager.domain.entity.Task;
+import com.portfolio.taskapp.MyTaskManager.domain.enums.ProjectStatus;
+import com.portfolio.taskapp.MyTaskManager.task.dto.ProjectRequest;
+import com.portfolio.taskapp.MyTaskManager.task.dto.TaskPatchRequest;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class ProjectTaskMapperTest {
+
+  private static final Instant NOW = Instant.parse("2025-09-01T10:30:15.987654321Z");
+  private static final LocalDateTime NOW_SECONDS = LocalDateTime.of(2025, 9, 1, 10, 30, 15);
+
+  private final ProjectTaskMapper sut = new ProjectTaskMapper(Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  void プロジェクト登録用のエンティティに秒未満を切り捨てた登録日時と更新日時とバージョンの初期値が設定されること() {
+    ProjectRequest request = new ProjectRequest("caption", "description", ProjectStatus.ACTIVE);
+
+    Project actual = sut.toProject(request, 1, "a1111111-bbbb-cccc-dddd-eeeeeeeeeeee");
+
+    assertThat(actual.getCreatedAt()).isEqualTo(NOW_SECONDS);
+    assertThat(actual.getUpdatedAt()).isEqualTo(NOW_SECONDS);
+    assertThat(actual.getVersion()).isZero();
+  }
+
+  @Test
+  void 部分更新用のタスクのエンティティで登録日時は引き継がれ更新日時に現在日時が設定されること() {
+    LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+    Task currentTask = Task.builder()
+        .id(1)
+        .taskCaption("caption")
+        .progress(10)
+        .version(2)
+        .createdAt(createdAt)
+        .updatedAt(createdAt)
+        .build();
+    TaskPatchRequest request = new TaskPatchRequest(null, null, null, null, null, 90, null);
+
+    Task actual = sut.toPatchedTask(request, currentTask);
+
+    assertThat(actual.getTaskCaption()).isEqualTo("caption");
+    assertThat(actual.getProgress()).isEqualTo(90);
+    assertThat(actual.getVersion()).isEqualTo(2);
+    assertThat(actual.getCreatedAt()).isEqualTo(createdAt);
+    assertThat(actual.getUpdatedAt()).isEqualTo(NOW_SECONDS);
+  }
+
+}
@@ -19,6 +19,7 @@ class UserRepositoryTest {
 
     UserAccount actual = sut.findAccountByEmail(email);
 
+    assertThat(actual.getId()).isNotNull();
     assertThat(actual.getEmail()).isEqualTo(email);
     assertThat(actual.getPassword()).isNotNull();
     assertThat(actual.getPublicId()).isNotNull();
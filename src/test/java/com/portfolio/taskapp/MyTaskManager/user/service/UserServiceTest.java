@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.portfolio.taskapp.MyTaskManager.auth.details.UserAccountDetails;
+import com.portfolio.taskapp.MyTaskManager.common.id.PublicIdGenerator;
 import com.portfolio.taskapp.MyTaskManager.domain.entity.UserAccount;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.InvalidPasswordChangeException;
 import com.portfolio.taskapp.MyTaskManager.exception.custom.NotUniqueException;
@@ -41,8 +42,11 @@ class UserServiceTest {
   @Mock
   private UserAccountMapper mapper;
 
+  private final PublicIdGenerator publicIdGenerator = new PublicIdGenerator();
+
   private UserService sut;
 
+  private static final Integer USER_ID = 999;
   private static final String PUBLIC_ID = "00000000-0000-0000-0000-000000000000";
   private static final String EMAIL = "user@example.com";
   private static final String NEW_EMAIL = "new@example.com";
@@ -53,7 +57,7 @@ class UserServiceTest {
 
   @BeforeEach
   void setUp() {
-    sut = new UserService(repository, passwordEncoder, mapper);
+    sut = new UserService(repository, passwordEncoder, mapper, publicIdGenerator);
     SecurityContextHolder.clearContext();
   }
 
@@ -237,6 +241,7 @@ class UserServiceTest {
   void 認証情報の更新処理でパスワードとemailが更新されていること() {
     // 準備
     UserAccount authAccount = UserAccount.builder()
+        .id(USER_ID)
         .publicId(PUBLIC_ID)
         .email(EMAIL)
         .password(PASSWORD_HASHED)
@@ -251,6 +256,7 @@ class UserServiceTest {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     UserAccountDetails actual = (UserAccountDetails) authentication.getPrincipal();
 
+    assertThat(actual.getAccount().getId()).isEqualTo(USER_ID);
     assertThat(actual.getAccount().getPublicId()).isEqualTo(PUBLIC_ID);
     assertThat(actual.getUsername()).isEqualTo(NEW_EMAIL);
     assertThat(actual.getPassword()).isEqualTo(NEW_PASSWORD_HASHED);
@@ -262,6 +268,7 @@ class UserServiceTest {
   void 認証情報の更新処理で更新情報がnullの場合は元の認証情報が維持されていること() {
     // 準備
     UserAccount authAccount = UserAccount.builder()
+        .id(USER_ID)
         .publicId(PUBLIC_ID)
         .email(EMAIL)
         .password(PASSWORD_HASHED)
@@ -276,6 +283,7 @@ class UserServiceTest {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     UserAccountDetails actual = (UserAccountDetails) authentication.getPrincipal();
 
+    assertThat(actual.getAccount().getId()).isEqualTo(USER_ID);
     assertThat(actual.getAccount().getPublicId()).isEqualTo(PUBLIC_ID);
     assertThat(actual.getUsername()).isEqualTo(EMAIL);
     assertThat(actual.getPassword()).isEqualTo(PASSWORD_HASHED);
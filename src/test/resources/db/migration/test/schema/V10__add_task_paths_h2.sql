@@ -0,0 +1,24 @@
+-- タスクの階層の閉包テーブル(祖先・子孫の全ての組と階層の深さ、自身との組は深さ0)
+CREATE TABLE task_paths (
+  ancestor_id INT NOT NULL,
+  descendant_id INT NOT NULL,
+  depth INT NOT NULL,
+  PRIMARY KEY (ancestor_id, descendant_id),
+  CONSTRAINT fk_task_paths_ancestor FOREIGN KEY (ancestor_id) REFERENCES tasks (id),
+  CONSTRAINT fk_task_paths_descendant FOREIGN KEY (descendant_id) REFERENCES tasks (id)
+);
+
+CREATE INDEX idx_task_paths_descendant ON task_paths (descendant_id, depth);
+
+-- 既存タスクの祖先・子孫の組を作成
+INSERT INTO task_paths (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+  SELECT id, id, 0
+  FROM tasks
+  UNION ALL
+  SELECT p.ancestor_id, t.id, p.depth + 1
+  FROM paths p
+  JOIN tasks t ON t.parent_task_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth
+FROM paths;
@@ -0,0 +1,2 @@
+-- ユーザー単位の期限日によるタスク一覧(キーセット方式ページ取得)用の複合インデックス追加
+CREATE INDEX idx_user_deleted_due_id ON tasks (user_account_id, is_deleted, due_date, id);
@@ -0,0 +1,2 @@
+-- H2 は ngram パーサーによる FULLTEXT インデックスに対応していないため、本番とバージョン番号を揃えるのみ
+-- テストでは全文検索の代わりに LIKE 検索(databaseId 未指定のステートメント)を使用する
@@ -0,0 +1,2 @@
+-- プロジェクトのタスクツリーのバージョン追加(タスクの登録・更新・削除時に同一トランザクション内で加算)
+ALTER TABLE project_stats ADD COLUMN tree_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- キャッシュ無効化のためのプロジェクト単位の変更履歴(追記専用、変更と同一トランザクション内で登録)
+-- 各アプリノードが seq の昇順に読み取り、自ノードのプロセス内キャッシュから該当プロジェクトの情報を破棄する
+CREATE TABLE project_change_log (
+  seq BIGINT NOT NULL AUTO_INCREMENT,
+  project_id INT NOT NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (seq)
+);
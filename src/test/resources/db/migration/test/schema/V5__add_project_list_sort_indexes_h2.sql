@@ -0,0 +1,4 @@
+-- プロジェクト一覧の並び順ごとのキーセット方式ページ取得用の複合インデックス追加
+CREATE INDEX idx_user_deleted_updated_id ON projects (user_account_id, is_deleted, updated_at, id);
+CREATE INDEX idx_user_deleted_caption_id ON projects (user_account_id, is_deleted, project_caption, id);
+CREATE INDEX idx_user_deleted_status_id ON projects (user_account_id, is_deleted, status, id);
@@ -0,0 +1,2 @@
+-- 子タスク一覧取得用の複合インデックス追加
+CREATE INDEX idx_parent_deleted_id ON tasks (parent_task_id, is_deleted, id);
@@ -0,0 +1,2 @@
+-- プロジェクト削除時に未削除タスクを分割して論理削除するための複合インデックス追加
+CREATE INDEX idx_project_deleted_id ON tasks (project_id, is_deleted, id);
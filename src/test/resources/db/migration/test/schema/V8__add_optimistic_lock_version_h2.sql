@@ -0,0 +1,3 @@
+-- 楽観的排他制御用のバージョン番号(更新のたびに加算)を追加
+ALTER TABLE projects ADD COLUMN version INT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version INT NOT NULL DEFAULT 0;
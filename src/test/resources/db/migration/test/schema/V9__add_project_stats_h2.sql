@@ -0,0 +1,27 @@
+-- プロジェクトごとのタスク集計(タスクの登録・更新・削除時に同一トランザクション内で差分更新)
+CREATE TABLE project_stats (
+  project_id INT NOT NULL,
+  task_count INT NOT NULL DEFAULT 0,
+  completed_task_count INT NOT NULL DEFAULT 0,
+  total_estimated_time BIGINT NOT NULL DEFAULT 0,
+  total_actual_time BIGINT NOT NULL DEFAULT 0,
+  progress_sum BIGINT NOT NULL DEFAULT 0,
+  weighted_progress_sum BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (project_id),
+  CONSTRAINT fk_project_stats_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+-- 既存の未削除プロジェクトの集計を作成
+INSERT INTO project_stats (project_id, task_count, completed_task_count, total_estimated_time,
+  total_actual_time, progress_sum, weighted_progress_sum)
+SELECT p.id, COUNT(t.id),
+  COALESCE(SUM(CASE WHEN t.progress = 100 THEN 1 ELSE 0 END), 0),
+  COALESCE(SUM(t.estimated_time), 0), COALESCE(SUM(t.actual_time), 0),
+  COALESCE(SUM(t.progress), 0), COALESCE(SUM(t.progress * t.estimated_time), 0)
+FROM projects p
+LEFT JOIN tasks t ON t.project_id = p.id AND t.is_deleted = false
+WHERE p.is_deleted = false
+GROUP BY p.id;
+
+-- 期限切れ件数・直近の期限日の取得用の複合インデックス追加
+CREATE INDEX idx_project_deleted_due ON tasks (project_id, is_deleted, due_date);